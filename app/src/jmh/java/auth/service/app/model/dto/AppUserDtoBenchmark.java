@@ -0,0 +1,37 @@
+package auth.service.app.model.dto;
+
+import auth.service.app.model.token.AuthToken;
+import helper.BenchmarkData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppUserDtoBenchmark {
+
+  @Param({"1", "10"})
+  private int roleCount;
+
+  @Param({"5", "50"})
+  private int permissionsPerRole;
+
+  private AppUserDto appUserDto;
+
+  @Setup
+  public void setUp() {
+    appUserDto = BenchmarkData.getAppUserDto(1, roleCount, permissionsPerRole);
+  }
+
+  @Benchmark
+  public AuthToken toAuthToken() {
+    return appUserDto.toAuthToken();
+  }
+}
@@ -0,0 +1,140 @@
+package auth.service.app.model.mapper;
+
+import auth.service.app.model.dto.AppUserAddressDto;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AppUserRequest;
+import auth.service.app.model.entity.AppUserAddressEntity;
+import auth.service.app.model.entity.AppUserEntity;
+import helper.BenchmarkData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+
+// generated mapper against the BeanUtils.copyProperties calls it replaced, same exclusions
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppUserMapperBenchmark {
+
+  @Param({"10000"})
+  private int userCount;
+
+  @Param({"2"})
+  private int addressesPerUser;
+
+  private final AppUserMapper appUserMapper = new AppUserMapperImpl();
+  private List<AppUserEntity> appUserEntities;
+  private List<AppUserRequest> appUserRequests;
+
+  @Setup
+  public void setUp() {
+    appUserEntities = BenchmarkData.getAppUserEntities(userCount);
+    appUserEntities.forEach(
+        appUserEntity ->
+            appUserEntity.setAddresses(
+                BenchmarkData.getAppUserAddressEntities(appUserEntity, addressesPerUser)));
+    appUserRequests =
+        convertEntitiesToDtosMapper().stream()
+            .map(
+                appUserDto ->
+                    new AppUserRequest(
+                        appUserDto.getFirstName(),
+                        appUserDto.getLastName(),
+                        appUserDto.getEmail(),
+                        appUserDto.getPhone(),
+                        "password",
+                        appUserDto.getStatus(),
+                        false,
+                        appUserDto.getAddresses()))
+            .toList();
+  }
+
+  @Benchmark
+  public List<AppUserDto> convertEntitiesToDtosBeanUtils() {
+    return appUserEntities.stream()
+        .map(
+            appUserEntity -> {
+              final AppUserDto appUserDto = new AppUserDto();
+              BeanUtils.copyProperties(appUserEntity, appUserDto, "password");
+              appUserDto.setAddresses(
+                  appUserEntity.getAddresses().stream()
+                      .map(
+                          appUserAddressEntity -> {
+                            final AppUserAddressDto appUserAddressDto = new AppUserAddressDto();
+                            BeanUtils.copyProperties(
+                                appUserAddressEntity, appUserAddressDto, "appUser");
+                            return appUserAddressDto;
+                          })
+                      .toList());
+              return appUserDto;
+            })
+        .toList();
+  }
+
+  @Benchmark
+  public List<AppUserDto> convertEntitiesToDtosMapper() {
+    return appUserEntities.stream()
+        .map(
+            appUserEntity -> {
+              final AppUserDto appUserDto = appUserMapper.toAppUserDto(appUserEntity);
+              appUserDto.setAddresses(
+                  appUserEntity.getAddresses().stream()
+                      .map(appUserMapper::toAppUserAddressDto)
+                      .toList());
+              return appUserDto;
+            })
+        .toList();
+  }
+
+  @Benchmark
+  public List<AppUserEntity> convertRequestsToEntitiesBeanUtils() {
+    return appUserRequests.stream()
+        .map(
+            appUserRequest -> {
+              final AppUserEntity appUserEntity = new AppUserEntity();
+              BeanUtils.copyProperties(appUserRequest, appUserEntity, "password", "addresses");
+              appUserEntity.setAddresses(
+                  appUserRequest.getAddresses().stream()
+                      .map(
+                          appUserAddressDto -> {
+                            final AppUserAddressEntity appUserAddressEntity =
+                                new AppUserAddressEntity();
+                            BeanUtils.copyProperties(appUserAddressDto, appUserAddressEntity);
+                            appUserAddressEntity.setAppUser(appUserEntity);
+                            return appUserAddressEntity;
+                          })
+                      .toList());
+              return appUserEntity;
+            })
+        .toList();
+  }
+
+  @Benchmark
+  public List<AppUserEntity> convertRequestsToEntitiesMapper() {
+    return appUserRequests.stream()
+        .map(
+            appUserRequest -> {
+              final AppUserEntity appUserEntity = appUserMapper.toAppUserEntity(appUserRequest);
+              appUserEntity.setAddresses(
+                  appUserRequest.getAddresses().stream()
+                      .map(
+                          appUserAddressDto -> {
+                            final AppUserAddressEntity appUserAddressEntity =
+                                appUserMapper.toAppUserAddressEntity(appUserAddressDto);
+                            appUserAddressEntity.setAppUser(appUserEntity);
+                            return appUserAddressEntity;
+                          })
+                      .toList());
+              return appUserEntity;
+            })
+        .toList();
+  }
+}
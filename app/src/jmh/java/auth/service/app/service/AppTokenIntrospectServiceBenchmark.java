@@ -0,0 +1,97 @@
+package auth.service.app.service;
+
+import auth.service.app.model.dto.AppUserStatusDto;
+import auth.service.app.model.dto.TokenIntrospectResult;
+import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.util.JwtUtils;
+import helper.BenchmarkData;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppTokenIntrospectServiceBenchmark {
+
+  @Param({"1", "16", "256"})
+  private int batchSize;
+
+  // each param combination runs in its own fork, so JwtUtils picks up the algorithm
+  @Param({"HS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  // roughly the round trip of one local database query, tens of microseconds
+  private static final long LOOKUP_CPU_TOKENS = 25_000;
+
+  private Map<String, AppUserStatusDto> appUserStatuses;
+  // users from memory at the cost of one query per lookup, so batching them shows
+  private final AppTokenIntrospectService appTokenIntrospectService =
+      new AppTokenIntrospectService(
+          new AppUserService(null, null, null, null, null, null, null, null, null) {
+            @Override
+            public List<AppUserStatusDto> readAppUserStatuses(
+                final Collection<String> emailsNormalized) {
+              Blackhole.consumeCPU(LOOKUP_CPU_TOKENS);
+              return emailsNormalized.stream()
+                  .map(appUserStatuses::get)
+                  .filter(Objects::nonNull)
+                  .toList();
+            }
+          });
+  private List<String> tokens;
+  private List<String> requiredPermissions;
+
+  @Setup
+  public void setUp() {
+    BenchmarkData.setSystemProperties(algorithm);
+
+    appUserStatuses =
+        BenchmarkData.getAppUserEntities(batchSize).stream()
+            .collect(
+                Collectors.toMap(
+                    AppUserEntity::getEmailNormalized,
+                    appUserEntity ->
+                        new AppUserStatusDto(
+                            appUserEntity.getId(),
+                            appUserEntity.getEmailNormalized(),
+                            appUserEntity.getStatus(),
+                            appUserEntity.getIsValidated(),
+                            appUserEntity.getDeletedDate())));
+    tokens =
+        IntStream.rangeClosed(1, batchSize)
+            .mapToObj(
+                i ->
+                    JwtUtils.encodeAuthCredentials(
+                        BenchmarkData.APP_ID, BenchmarkData.getAppUserDto(i, 1, 2), 3600000L))
+            .toList();
+    requiredPermissions = List.of("PERMISSION_NONE", "PERMISSION_1");
+  }
+
+  // one user lookup for the batch
+  @Benchmark
+  public List<TokenIntrospectResult> introspectTokens() {
+    return appTokenIntrospectService.introspectTokens(tokens, requiredPermissions);
+  }
+
+  // one user lookup per token, as a client calling the single token endpoint for each
+  @Benchmark
+  public List<TokenIntrospectResult> introspectTokensLookupEach() {
+    return tokens.stream()
+        .map(token -> appTokenIntrospectService.introspectToken(token, requiredPermissions))
+        .toList();
+  }
+}
@@ -0,0 +1,27 @@
+package auth.service.app.util;
+
+import auth.service.app.model.dto.ResponseStatusInfo;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommonUtilsBenchmark {
+
+  private final ResponseStatusInfo responseStatusInfo =
+      ResponseStatusInfo.builder()
+          .message("User Not Authorized...")
+          .errMsg("Invalid \"token\" provided\nPlease login again")
+          .build();
+
+  @Benchmark
+  public String convertResponseStatusInfoToJson() {
+    return CommonUtils.convertResponseStatusInfoToJson(responseStatusInfo);
+  }
+}
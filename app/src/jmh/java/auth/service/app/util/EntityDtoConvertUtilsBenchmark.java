@@ -0,0 +1,79 @@
+package auth.service.app.util;
+
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.entity.AppRoleEntity;
+import auth.service.app.model.entity.AppRolePermissionEntity;
+import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.entity.AppUserRoleEntity;
+import auth.service.app.model.mapper.AppUserMapperImpl;
+import auth.service.app.service.AppRolePermissionService;
+import auth.service.app.service.AppUserRoleService;
+import helper.BenchmarkData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityDtoConvertUtilsBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int userCount;
+
+  @Param({"1", "5"})
+  private int roleCount;
+
+  @Param({"10"})
+  private int permissionsPerRole;
+
+  private EntityDtoConvertUtils entityDtoConvertUtils;
+  private List<AppUserEntity> appUserEntities;
+
+  @Setup
+  public void setUp() {
+    appUserEntities = BenchmarkData.getAppUserEntities(userCount);
+    final List<AppRoleEntity> appRoleEntities = BenchmarkData.getAppRoleEntities(roleCount);
+    final List<AppUserRoleEntity> appUserRoleEntities =
+        BenchmarkData.getAppUserRoleEntities(appUserEntities, appRoleEntities);
+    final List<AppRolePermissionEntity> appRolePermissionEntities =
+        BenchmarkData.getAppRolePermissionEntities(appRoleEntities, permissionsPerRole);
+
+    // services return the in memory graph, so only the conversion is measured
+    final AppUserRoleService appUserRoleService =
+        new AppUserRoleService(null, null, null) {
+          @Override
+          public List<AppUserRoleEntity> readAppUserRoles(final List<Integer> appUserIds) {
+            return appUserRoleEntities;
+          }
+        };
+    final AppRolePermissionService appRolePermissionService =
+        new AppRolePermissionService(null, null, null) {
+          @Override
+          public List<AppRolePermissionEntity> readAppRolePermissions(
+              final String appId, final List<Integer> appRoleIds) {
+            return appRolePermissionEntities;
+          }
+        };
+    entityDtoConvertUtils =
+        new EntityDtoConvertUtils(
+            appUserRoleService, appRolePermissionService, new AppUserMapperImpl());
+  }
+
+  @Benchmark
+  public List<AppUserDto> convertEntitiesToDtosAppUser() {
+    return entityDtoConvertUtils.convertEntitiesToDtosAppUser(appUserEntities, true);
+  }
+
+  @Benchmark
+  public List<AppUserDto> convertEntitiesToDtosAppUserNoRoles() {
+    return entityDtoConvertUtils.convertEntitiesToDtosAppUser(appUserEntities, false);
+  }
+}
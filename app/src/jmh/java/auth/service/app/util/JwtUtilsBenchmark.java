@@ -0,0 +1,48 @@
+package auth.service.app.util;
+
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.token.AuthToken;
+import helper.BenchmarkData;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilsBenchmark {
+
+  // each param combination runs in its own fork, so JwtUtils picks up the algorithm
+  @Param({"HS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  @Param({"1", "10"})
+  private int roleCount;
+
+  private AppUserDto appUserDto;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    BenchmarkData.setSystemProperties(algorithm);
+    appUserDto = BenchmarkData.getAppUserDto(1, roleCount, 10);
+    token = JwtUtils.encodeAuthCredentials(BenchmarkData.APP_ID, appUserDto, 3600000L);
+  }
+
+  @Benchmark
+  public String encodeAuthCredentials() {
+    return JwtUtils.encodeAuthCredentials(BenchmarkData.APP_ID, appUserDto, 3600000L);
+  }
+
+  @Benchmark
+  public Map<String, AuthToken> decodeAuthCredentials() {
+    return JwtUtils.decodeAuthCredentials(token);
+  }
+}
@@ -0,0 +1,43 @@
+package auth.service.app.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordUtilsBenchmark {
+
+  private static final String PLAIN_PASSWORD = "benchmark-password-1";
+
+  // 10 is the BCryptPasswordEncoder default
+  @Param({"4", "10", "12"})
+  private int cost;
+
+  private PasswordUtils passwordUtils;
+  private String hashedPassword;
+
+  @Setup
+  public void setUp() {
+    passwordUtils = new PasswordUtils(new BCryptPasswordEncoder(cost));
+    hashedPassword = passwordUtils.hashPassword(PLAIN_PASSWORD);
+  }
+
+  @Benchmark
+  public String hashPassword() {
+    return passwordUtils.hashPassword(PLAIN_PASSWORD);
+  }
+
+  @Benchmark
+  public boolean verifyPassword() {
+    return passwordUtils.verifyPassword(PLAIN_PASSWORD, hashedPassword);
+  }
+}
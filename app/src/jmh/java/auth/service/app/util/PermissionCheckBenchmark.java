@@ -0,0 +1,62 @@
+package auth.service.app.util;
+
+import auth.service.app.model.annotation.CheckPermission;
+import auth.service.app.model.token.AuthToken;
+import helper.BenchmarkData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// thread scope, setup runs on the benchmark thread that owns the security context
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionCheckBenchmark {
+
+  @Param({"SUPERUSER", "STANDARD"})
+  private String roleName;
+
+  @Param({"5", "50"})
+  private int permissionCount;
+
+  private final PermissionCheck permissionCheck = new PermissionCheck();
+  private CheckPermission checkPermission;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    final AuthToken authToken = BenchmarkData.getAppUserDto(1, 1, permissionCount).toAuthToken();
+    authToken.getRoles().getFirst().setName(roleName);
+    // required permission is the last one granted, worst case for the standard role scan
+    authToken.getPermissions().getLast().setName("PERMISSION_REQUIRED");
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(
+                authToken.getUser().getEmail(), authToken, null));
+    checkPermission =
+        PermissionCheckBenchmark.class
+            .getDeclaredMethod("annotated")
+            .getAnnotation(CheckPermission.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @CheckPermission({"PERMISSION_NONE", "PERMISSION_REQUIRED"})
+  private void annotated() {}
+
+  @Benchmark
+  public void checkPermission() {
+    permissionCheck.checkPermission(checkPermission);
+  }
+}
@@ -0,0 +1,155 @@
+package helper;
+
+import auth.service.app.model.dto.AppPermissionDto;
+import auth.service.app.model.dto.AppRoleDto;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.entity.AppPermissionEntity;
+import auth.service.app.model.entity.AppRoleEntity;
+import auth.service.app.model.entity.AppRolePermissionEntity;
+import auth.service.app.model.entity.AppUserAddressEntity;
+import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.entity.AppUserRoleEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// synthetic graphs for benchmarks, ids are 1 based
+public class BenchmarkData {
+
+  public static final String APP_ID = "app-1";
+  public static final String SECRET_KEY = "benchmark_secret_key_for_jwt_purposes_only";
+
+  public static void setSystemProperties(final String algorithm) {
+    System.setProperty("SECRET_KEY", SECRET_KEY);
+    System.setProperty("JWT_SIGNING_ALG", algorithm);
+  }
+
+  public static AppUserDto getAppUserDto(
+      final int id, final int roleCount, final int permissionsPerRole) {
+    final AppUserDto appUserDto =
+        new AppUserDto(
+            id,
+            "First",
+            "Last",
+            "user" + id + "@benchmark.com",
+            null,
+            "ACTIVE",
+            true,
+            LocalDateTime.now(),
+            null,
+            null);
+    appUserDto.setRoles(
+        IntStream.rangeClosed(1, roleCount)
+            .mapToObj(roleId -> getAppRoleDto(roleId, permissionsPerRole))
+            .toList());
+    return appUserDto;
+  }
+
+  public static AppRoleDto getAppRoleDto(final int roleId, final int permissionCount) {
+    final AppRoleDto appRoleDto = new AppRoleDto(roleId, "ROLE_" + roleId, "ROLE_" + roleId);
+    appRoleDto.setPermissions(
+        IntStream.rangeClosed(1, permissionCount)
+            .mapToObj(
+                i -> {
+                  final int permissionId = (roleId - 1) * permissionCount + i;
+                  return new AppPermissionDto(
+                      permissionId,
+                      APP_ID,
+                      "PERMISSION_" + permissionId,
+                      "PERMISSION_" + permissionId);
+                })
+            .toList());
+    return appRoleDto;
+  }
+
+  public static List<AppUserEntity> getAppUserEntities(final int userCount) {
+    return IntStream.rangeClosed(1, userCount)
+        .mapToObj(
+            id -> {
+              final AppUserEntity appUserEntity = new AppUserEntity();
+              appUserEntity.setId(id);
+              appUserEntity.setFirstName("First" + id);
+              appUserEntity.setLastName("Last" + id);
+              appUserEntity.setEmail("user" + id + "@benchmark.com");
+              appUserEntity.setPassword("password-hash");
+              appUserEntity.setStatus("ACTIVE");
+              appUserEntity.setIsValidated(true);
+              appUserEntity.setCreatedDate(LocalDateTime.now());
+              return appUserEntity;
+            })
+        .toList();
+  }
+
+  public static List<AppUserAddressEntity> getAppUserAddressEntities(
+      final AppUserEntity appUserEntity, final int addressCount) {
+    return IntStream.rangeClosed(1, addressCount)
+        .mapToObj(
+            id -> {
+              final AppUserAddressEntity appUserAddressEntity = new AppUserAddressEntity();
+              appUserAddressEntity.setId(appUserEntity.getId() * addressCount + id);
+              appUserAddressEntity.setAppUser(appUserEntity);
+              appUserAddressEntity.setAddressType(id == 1 ? "HOME" : "WORK");
+              appUserAddressEntity.setStreet(id + " Benchmark Street");
+              appUserAddressEntity.setCity("City");
+              appUserAddressEntity.setState("ST");
+              appUserAddressEntity.setCountry("US");
+              appUserAddressEntity.setPostalCode("12345");
+              return appUserAddressEntity;
+            })
+        .toList();
+  }
+
+  public static List<AppRoleEntity> getAppRoleEntities(final int roleCount) {
+    return IntStream.rangeClosed(1, roleCount)
+        .mapToObj(
+            id -> {
+              final AppRoleEntity appRoleEntity = new AppRoleEntity();
+              appRoleEntity.setId(id);
+              appRoleEntity.setName("ROLE_" + id);
+              appRoleEntity.setDescription("ROLE_" + id);
+              appRoleEntity.setCreatedDate(LocalDateTime.now());
+              return appRoleEntity;
+            })
+        .toList();
+  }
+
+  // every user gets every role
+  public static List<AppUserRoleEntity> getAppUserRoleEntities(
+      final List<AppUserEntity> appUserEntities, final List<AppRoleEntity> appRoleEntities) {
+    final List<AppUserRoleEntity> appUserRoleEntities = new ArrayList<>();
+    for (final AppUserEntity appUserEntity : appUserEntities) {
+      for (final AppRoleEntity appRoleEntity : appRoleEntities) {
+        final AppUserRoleEntity appUserRoleEntity = new AppUserRoleEntity();
+        appUserRoleEntity.setAppUser(appUserEntity);
+        appUserRoleEntity.setAppRole(appRoleEntity);
+        appUserRoleEntity.setAssignedDate(LocalDateTime.now());
+        appUserRoleEntities.add(appUserRoleEntity);
+      }
+    }
+    return appUserRoleEntities;
+  }
+
+  public static List<AppRolePermissionEntity> getAppRolePermissionEntities(
+      final List<AppRoleEntity> appRoleEntities, final int permissionsPerRole) {
+    final List<AppRolePermissionEntity> appRolePermissionEntities = new ArrayList<>();
+    for (final AppRoleEntity appRoleEntity : appRoleEntities) {
+      for (int i = 1; i <= permissionsPerRole; i++) {
+        final int permissionId = (appRoleEntity.getId() - 1) * permissionsPerRole + i;
+        final AppPermissionEntity appPermissionEntity = new AppPermissionEntity();
+        appPermissionEntity.setId(permissionId);
+        appPermissionEntity.setAppId(APP_ID);
+        appPermissionEntity.setName("PERMISSION_" + permissionId);
+        appPermissionEntity.setDescription("PERMISSION_" + permissionId);
+        appPermissionEntity.setCreatedDate(LocalDateTime.now());
+
+        final AppRolePermissionEntity appRolePermissionEntity = new AppRolePermissionEntity();
+        appRolePermissionEntity.setAppRole(appRoleEntity);
+        appRolePermissionEntity.setAppPermission(appPermissionEntity);
+        appRolePermissionEntity.setAssignedDate(LocalDateTime.now());
+        appRolePermissionEntities.add(appRolePermissionEntity);
+      }
+    }
+    return appRolePermissionEntities;
+  }
+}
@@ -0,0 +1,435 @@
+package auth.service.loadtest;
+
+import auth.service.app.model.enums.AuditEnums.AuditUsers;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Populates apps, roles, permissions, users, their app and role assignments, tokens and user audit
+ * rows at production scale. Postgres is written with COPY, anything else with JDBC batches. Rows
+ * are prefixed with gen so they do not collide with {@link LoadTestSeeder} data, and the
+ * distributions are skewed: a few apps hold most users, most users have one role, and a few users
+ * produce most of the audit trail. Generated users log in with {@link LoadTestSeeder#PASSWORD}.
+ *
+ * <pre>
+ * ./gradlew generateLoadTestData -PloadTest.args="--db-url=jdbc:postgresql://localhost:5432/postgres
+ *   --db-username=postgres --db-password= --users=1000000 --audit-per-user=20"
+ * --apps=50 --roles=200 --permissions=20 (per app) --token-ratio=0.3 --audit-days=90 --seed=42
+ * </pre>
+ */
+public class LoadTestDataGenerator {
+
+  private static final int CHUNK_SIZE = 10_000;
+  private static final String PREFIX = "gen";
+  private static final List<AuditUsers> AUDIT_EVENTS =
+      List.of(
+          AuditUsers.USER_LOGIN,
+          AuditUsers.TOKEN_REFRESH,
+          AuditUsers.USER_LOGOUT,
+          AuditUsers.USER_LOGIN_ERROR,
+          AuditUsers.UPDATE_USER,
+          AuditUsers.ASSIGN_ROLE,
+          AuditUsers.USER_RESET);
+  private static final double[] AUDIT_EVENT_WEIGHTS = {60, 20, 10, 5, 3, 1, 1};
+
+  private final DataSource dataSource;
+  private final SplittableRandom random;
+  private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+  public LoadTestDataGenerator(final DataSource dataSource, final long seed) {
+    this.dataSource = dataSource;
+    this.random = new SplittableRandom(seed);
+  }
+
+  public record Options(
+      int apps,
+      int roles,
+      int permissionsPerApp,
+      int users,
+      double tokenRatio,
+      int auditPerUser,
+      int auditDays) {
+
+    static Options from(final Map<String, String> options) {
+      return new Options(
+          Integer.parseInt(options.getOrDefault("apps", "50")),
+          Integer.parseInt(options.getOrDefault("roles", "200")),
+          Integer.parseInt(options.getOrDefault("permissions", "20")),
+          Integer.parseInt(options.getOrDefault("users", "100000")),
+          Double.parseDouble(options.getOrDefault("token-ratio", "0.3")),
+          Integer.parseInt(options.getOrDefault("audit-per-user", "10")),
+          Integer.parseInt(options.getOrDefault("audit-days", "90")));
+    }
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final Map<String, String> options = VirtualThreadLoadTest.parseOptions(args);
+    if (!options.containsKey("db-url")) {
+      throw new IllegalArgumentException("--db-url is required, the schema must already exist");
+    }
+    final DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            options.get("db-url"),
+            options.getOrDefault("db-username", "postgres"),
+            options.getOrDefault("db-password", ""));
+    new LoadTestDataGenerator(dataSource, Long.parseLong(options.getOrDefault("seed", "42")))
+        .generate(Options.from(options));
+  }
+
+  public void generate(final Options options) throws SQLException {
+    final long startNanos = System.nanoTime();
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      final boolean isPostgres =
+          connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+      final RowWriter rowWriter =
+          isPostgres ? new CopyRowWriter(connection) : new BatchRowWriter(connection);
+
+      final List<String> appIds =
+          IntStream.range(0, options.apps()).mapToObj(i -> PREFIX + "-app-" + i).toList();
+      rowWriter.write(
+          "apps",
+          List.of("id", "name", "description", "created_date", "updated_date"),
+          appIds.stream().map(appId -> new Object[] {appId, appId, appId, now, now}));
+
+      rowWriter.write(
+          "app_role",
+          List.of("name", "description", "created_date", "updated_date"),
+          IntStream.range(0, options.roles())
+              .mapToObj(i -> new Object[] {getRoleName(i), getRoleName(i), now, now}));
+      final int[] roleIds = readIds(connection, "app_role", "name", PREFIX + "_ROLE_%");
+
+      rowWriter.write(
+          "app_permission",
+          List.of("app_id", "name", "description", "created_date", "updated_date"),
+          appIds.stream()
+              .flatMap(
+                  appId ->
+                      IntStream.range(0, options.permissionsPerApp())
+                          .mapToObj(
+                              i -> {
+                                final String name = PREFIX + "_PERMISSION_" + i;
+                                return new Object[] {appId, name, name, now, now};
+                              })));
+      final int[] permissionIds =
+          readIds(connection, "app_permission", "name", PREFIX + "_PERMISSION_%");
+
+      // 1 to 8 permissions per role, kept small as tokens embed them
+      rowWriter.write(
+          "app_role_permission",
+          List.of("app_role_id", "app_permission_id", "assigned_date"),
+          streamOf(
+              roleIds.length,
+              i ->
+                  pickDistinct(1 + random.nextInt(8), permissionIds.length, 1.0).stream()
+                      .map(index -> new Object[] {roleIds[i], permissionIds[index], now})));
+
+      final String passwordHash = new BCryptPasswordEncoder().encode(LoadTestSeeder.PASSWORD);
+      rowWriter.write(
+          "app_user",
+          List.of(
+              "first_name",
+              "last_name",
+              "email",
+              "password",
+              "status",
+              "is_validated",
+              "created_date",
+              "updated_date",
+              "deleted_date"),
+          IntStream.range(0, options.users())
+              .mapToObj(
+                  i ->
+                      new Object[] {
+                        "First" + i,
+                        "Last" + i,
+                        getEmail(i),
+                        passwordHash,
+                        random.nextDouble() < 0.05 ? "PENDING" : "ACTIVE",
+                        random.nextDouble() < 0.9,
+                        getPastTimestamp(365),
+                        now,
+                        random.nextDouble() < 0.02 ? now : null
+                      }));
+      final int[] userIds = readIds(connection, "app_user", "email", PREFIX + "-user-%");
+
+      // a power law over apps and roles, most users in 1 app with 1 role
+      rowWriter.write(
+          "app_user_app",
+          List.of("app_id", "app_user_id", "assigned_date"),
+          streamOf(
+              userIds.length,
+              i ->
+                  pickDistinct(getSkewedCount(), appIds.size(), 3.0).stream()
+                      .map(index -> new Object[] {appIds.get(index), userIds[i], now})));
+      rowWriter.write(
+          "app_user_role",
+          List.of("app_user_id", "app_role_id", "assigned_date"),
+          streamOf(
+              userIds.length,
+              i ->
+                  pickDistinct(getSkewedCount(), roleIds.length, 2.0).stream()
+                      .map(index -> new Object[] {userIds[i], roleIds[index], now})));
+
+      rowWriter.write(
+          "app_token",
+          List.of(
+              "app_user_id",
+              "access_token",
+              "refresh_token",
+              "created_date",
+              "updated_date",
+              "deleted_date"),
+          streamOf(
+              userIds.length,
+              i ->
+                  random.nextDouble() < options.tokenRatio()
+                      ? IntStream.range(0, getSkewedCount())
+                          .mapToObj(
+                              t ->
+                                  new Object[] {
+                                    userIds[i],
+                                    getToken(i, t, "a"),
+                                    getToken(i, t, "r"),
+                                    now,
+                                    now,
+                                    t == 0 ? null : now
+                                  })
+                      : Stream.empty()));
+
+      rowWriter.write(
+          "audit_app_user",
+          List.of(
+              "app_user_id",
+              "event_type",
+              "event_desc",
+              "event_data",
+              "created_at",
+              "created_by",
+              "ip_address",
+              "user_agent"),
+          streamOf(
+              userIds.length,
+              i ->
+                  IntStream.range(0, getParetoCount(options.auditPerUser()))
+                      .mapToObj(
+                          a -> {
+                            final AuditUsers event = pickAuditEvent();
+                            return new Object[] {
+                              userIds[i],
+                              event.name(),
+                              event.name() + " User [" + userIds[i] + "]",
+                              isPostgres ? getEventData(userIds[i], i) : null,
+                              getPastTimestamp(options.auditDays()),
+                              userIds[i],
+                              "10.0." + random.nextInt(256) + "." + random.nextInt(256),
+                              "loadtest-generator/1.0"
+                            };
+                          })));
+    }
+    System.out.printf(
+        "Generated in [%s]%n", Duration.ofNanos(System.nanoTime() - startNanos).withNanos(0));
+  }
+
+  private static String getRoleName(final int index) {
+    return PREFIX + "_ROLE_" + index;
+  }
+
+  private static String getEmail(final int index) {
+    return PREFIX + "-user-" + index + "@loadtest.local";
+  }
+
+  // unique, and roughly as long as a signed jwt with a few permissions
+  private String getToken(final int userIndex, final int tokenIndex, final String type) {
+    final byte[] bytes = new byte[300];
+    random.nextBytes(bytes);
+    return type + userIndex + "." + tokenIndex + "." + Base64.getUrlEncoder().encodeToString(bytes);
+  }
+
+  private static String getEventData(final int userId, final int index) {
+    return "{\"id\": "
+        + userId
+        + ", \"email\": \""
+        + getEmail(index)
+        + "\", \"status\": \"ACTIVE\"}";
+  }
+
+  private Timestamp getPastTimestamp(final int days) {
+    return new Timestamp(now.getTime() - random.nextLong(Duration.ofDays(days).toMillis()));
+  }
+
+  // 1 at ~70%, 2 at ~20%, 3 to 5 otherwise
+  private int getSkewedCount() {
+    final double value = random.nextDouble();
+    return value < 0.7 ? 1 : value < 0.9 ? 2 : 3 + random.nextInt(3);
+  }
+
+  // pareto with alpha 2 so the mean is preserved, capped so one user cannot dominate
+  private int getParetoCount(final int mean) {
+    if (mean <= 0) {
+      return 0;
+    }
+    final double value = (mean / 2.0) / Math.sqrt(1.0 - random.nextDouble());
+    return (int) Math.min(value, mean * 100.0);
+  }
+
+  private AuditUsers pickAuditEvent() {
+    double value = random.nextDouble() * 100;
+    for (int i = 0; i < AUDIT_EVENT_WEIGHTS.length; i++) {
+      value -= AUDIT_EVENT_WEIGHTS[i];
+      if (value < 0) {
+        return AUDIT_EVENTS.get(i);
+      }
+    }
+    return AUDIT_EVENTS.getFirst();
+  }
+
+  // skew 1 is uniform, higher values favour the lower indexes
+  private Set<Integer> pickDistinct(final int count, final int bound, final double skew) {
+    final Set<Integer> indexes = new LinkedHashSet<>();
+    final int target = Math.min(count, bound);
+    while (indexes.size() < target) {
+      indexes.add((int) (bound * Math.pow(random.nextDouble(), skew)));
+    }
+    return indexes;
+  }
+
+  private static Stream<Object[]> streamOf(
+      final int count, final IntFunction<Stream<Object[]>> rowsFunction) {
+    return IntStream.range(0, count).boxed().flatMap(rowsFunction::apply);
+  }
+
+  private static int[] readIds(
+      final Connection connection, final String table, final String column, final String pattern)
+      throws SQLException {
+    try (PreparedStatement preparedStatement =
+        connection.prepareStatement(
+            "SELECT id FROM " + table + " WHERE " + column + " LIKE ? ORDER BY id")) {
+      preparedStatement.setString(1, pattern);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        final List<Integer> ids = new ArrayList<>();
+        while (resultSet.next()) {
+          ids.add(resultSet.getInt(1));
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+  }
+
+  private abstract static class RowWriter {
+    protected final Connection connection;
+
+    RowWriter(final Connection connection) {
+      this.connection = connection;
+    }
+
+    void write(final String table, final List<String> columns, final Stream<Object[]> rows)
+        throws SQLException {
+      final long startNanos = System.nanoTime();
+      long count = 0;
+      final List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+      final Iterator<Object[]> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+          writeChunk(table, columns, chunk);
+          connection.commit();
+          count += chunk.size();
+          chunk.clear();
+        }
+      }
+      final double seconds = Math.max(0.001, (System.nanoTime() - startNanos) / 1_000_000_000.0);
+      System.out.printf("%-20s %,12d rows %,12.0f rows/s%n", table, count, count / seconds);
+    }
+
+    abstract void writeChunk(String table, List<String> columns, List<Object[]> chunk)
+        throws SQLException;
+  }
+
+  private static class BatchRowWriter extends RowWriter {
+    BatchRowWriter(final Connection connection) {
+      super(connection);
+    }
+
+    @Override
+    void writeChunk(final String table, final List<String> columns, final List<Object[]> chunk)
+        throws SQLException {
+      final String sql =
+          "INSERT INTO "
+              + table
+              + " ("
+              + String.join(", ", columns)
+              + ") VALUES ("
+              + String.join(", ", columns.stream().map(column -> "?").toList())
+              + ")";
+      try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+        for (final Object[] row : chunk) {
+          for (int i = 0; i < row.length; i++) {
+            preparedStatement.setObject(i + 1, row[i]);
+          }
+          preparedStatement.addBatch();
+        }
+        preparedStatement.executeBatch();
+      }
+    }
+  }
+
+  private static class CopyRowWriter extends RowWriter {
+    CopyRowWriter(final Connection connection) {
+      super(connection);
+    }
+
+    @Override
+    void writeChunk(final String table, final List<String> columns, final List<Object[]> chunk)
+        throws SQLException {
+      final StringBuilder csv = new StringBuilder(chunk.size() * 128);
+      for (final Object[] row : chunk) {
+        for (int i = 0; i < row.length; i++) {
+          if (i > 0) {
+            csv.append(',');
+          }
+          // an unquoted empty field is NULL in csv mode
+          if (row[i] != null) {
+            csv.append('"').append(row[i].toString().replace("\"", "\"\"")).append('"');
+          }
+        }
+        csv.append('\n');
+      }
+      final byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+      final CopyIn copyIn =
+          connection
+              .unwrap(PGConnection.class)
+              .getCopyAPI()
+              .copyIn(
+                  "COPY "
+                      + table
+                      + " ("
+                      + String.join(", ", columns)
+                      + ") FROM STDIN WITH (FORMAT csv)");
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      copyIn.endCopy();
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package auth.service.loadtest;
+
+import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES;
+import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES_OPTIONAL;
+import static auth.service.app.util.ConstantUtils.ENV_SECRET_KEY;
+import static auth.service.app.util.ConstantUtils.ENV_SELF_PASSWORD;
+import static auth.service.app.util.ConstantUtils.ENV_SELF_USERNAME;
+import static auth.service.app.util.SystemEnvPropertyUtils.getSystemEnvProperty;
+
+import auth.service.App;
+import auth.service.loadtest.LoadTestReport.EndpointResult;
+import auth.service.loadtest.LoadTestSeeder.SeededUser;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Boots the app against in memory H2 (default) or a local Postgres, seeds it, then runs {@link
+ * LoadTestWorkload} and reports per endpoint latency. With --baseline, exits 1 when any endpoint
+ * regressed by more than --threshold percent.
+ *
+ * <pre>
+ * --db=h2|postgres --db-url= --db-username= --db-password=
+ * --apps=5 --users=1000 --permissions=10
+ * --concurrency=50 --warmup=10 --duration=60 (seconds) --mix=login=10,validate=40,...
+ * --output=build/results/loadtest --baseline=path/to/results.json --threshold=10
+ * --generate-users=100000 --generate-audit-per-user=10 ... (background data, see {@link
+ *   LoadTestDataGenerator})
+ * --spring.some.property=value (passed on to the app)
+ * </pre>
+ */
+public class LoadTestHarness {
+
+  public static void main(final String[] args) throws Exception {
+    final Map<String, String> options = VirtualThreadLoadTest.parseOptions(args);
+    setSystemEnvProperties();
+
+    final ConfigurableApplicationContext applicationContext = startApplication(options);
+    int exitCode = 0;
+    try {
+      exitCode = run(applicationContext, options);
+    } finally {
+      applicationContext.close();
+    }
+    System.exit(exitCode);
+  }
+
+  private static int run(
+      final ConfigurableApplicationContext applicationContext, final Map<String, String> options)
+      throws Exception {
+    final int appCount = Integer.parseInt(options.getOrDefault("apps", "5"));
+    final int userCount = Integer.parseInt(options.getOrDefault("users", "1000"));
+    final int permissionCount = Integer.parseInt(options.getOrDefault("permissions", "10"));
+    final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+    final Duration warmup =
+        Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+    final Duration duration =
+        Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+
+    if (options.containsKey("generate-users")) {
+      final Map<String, String> generateOptions = new HashMap<>();
+      options.forEach(
+          (key, value) -> {
+            if (key.startsWith("generate-")) {
+              generateOptions.put(key.substring("generate-".length()), value);
+            }
+          });
+      new LoadTestDataGenerator(
+              applicationContext.getBean(DataSource.class),
+              Long.parseLong(options.getOrDefault("seed", "42")))
+          .generate(LoadTestDataGenerator.Options.from(generateOptions));
+    }
+
+    final String passwordHash =
+        applicationContext.getBean(BCryptPasswordEncoder.class).encode(LoadTestSeeder.PASSWORD);
+    final List<SeededUser> seededUsers =
+        new LoadTestSeeder(applicationContext.getBean(DataSource.class))
+            .seed(appCount, userCount, permissionCount, passwordHash);
+    System.out.printf("Seeded [%d] apps, [%d] users%n", appCount, seededUsers.size());
+
+    final int port =
+        ((ServletWebServerApplicationContext) applicationContext).getWebServer().getPort();
+    final String contextPath =
+        applicationContext.getEnvironment().getProperty("server.servlet.context-path", "");
+    final LoadTestReport loadTestReport = new LoadTestReport();
+    final LoadTestWorkload loadTestWorkload =
+        new LoadTestWorkload(
+            "http://localhost:" + port + contextPath,
+            getSystemEnvProperty(ENV_SELF_USERNAME),
+            getSystemEnvProperty(ENV_SELF_PASSWORD),
+            seededUsers,
+            options.getOrDefault("mix", LoadTestWorkload.DEFAULT_MIX),
+            loadTestReport);
+
+    System.out.printf(
+        "Running [%d] clients, warmup [%s], duration [%s]%n", concurrency, warmup, duration);
+    final List<Thread> workers = loadTestWorkload.start(concurrency);
+    Thread.sleep(warmup.toMillis());
+    loadTestReport.reset();
+    final long startNanos = System.nanoTime();
+    Thread.sleep(duration.toMillis());
+    final double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    loadTestWorkload.stop(workers);
+
+    final List<EndpointResult> results = loadTestReport.getResults(elapsedSeconds);
+    loadTestReport.print(results, System.out);
+    final Path outputDir = Path.of(options.getOrDefault("output", "build/results/loadtest"));
+    loadTestReport.write(outputDir, results);
+    System.out.printf("Results written to [%s]%n", outputDir.toAbsolutePath());
+
+    if (options.containsKey("baseline")) {
+      final double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+      final List<String> regressions =
+          LoadTestReport.compare(
+              results, LoadTestReport.readResults(Path.of(options.get("baseline"))), threshold);
+      if (!regressions.isEmpty()) {
+        System.out.printf("Regressions over [%s%%] threshold:%n", threshold);
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+      }
+      System.out.printf("No regressions over [%s%%] threshold%n", threshold);
+    }
+    return 0;
+  }
+
+  private static ConfigurableApplicationContext startApplication(
+      final Map<String, String> options) {
+    final Map<String, String> properties = new HashMap<>();
+    properties.put("server.port", options.getOrDefault("port", "0"));
+    if ("postgres".equals(options.getOrDefault("db", "h2"))) {
+      properties.put(
+          "spring.datasource.url",
+          options.getOrDefault("db-url", "jdbc:postgresql://localhost:5432/postgres"));
+      properties.put("spring.datasource.username", options.getOrDefault("db-username", "postgres"));
+      properties.put("spring.datasource.password", options.getOrDefault("db-password", ""));
+      properties.put("spring.flyway.locations", "classpath:db/migration");
+    } else {
+      properties.put(
+          "spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+      properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+      properties.put("spring.datasource.username", "sa");
+      properties.put("spring.datasource.password", "");
+      properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+      properties.put("spring.flyway.locations", "classpath:db/test_migration");
+    }
+    options.forEach(
+        (key, value) -> {
+          if (key.startsWith("spring.") || key.startsWith("server.")) {
+            properties.put(key, value);
+          }
+        });
+
+    // as command line args, so they take precedence over application.yml
+    return new SpringApplication(App.class)
+        .run(
+            properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new));
+  }
+
+  // same placeholders the tests use, values already in the environment win
+  private static void setSystemEnvProperties() {
+    ENV_KEY_NAMES.stream()
+        .filter(key -> !ENV_KEY_NAMES_OPTIONAL.contains(key))
+        .filter(key -> System.getenv(key) == null && System.getProperty(key) == null)
+        .forEach(key -> System.setProperty(key, key));
+    if (System.getenv(ENV_SECRET_KEY) == null) {
+      System.setProperty(ENV_SECRET_KEY, UUID.randomUUID() + UUID.randomUUID().toString());
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package auth.service.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per endpoint latency (HdrHistogram, microseconds) and error counts. Results are written as JSON
+ * plus one .hgrm percentile distribution per endpoint, and can be compared against a baseline.
+ */
+public class LoadTestReport {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+  private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+  public record EndpointResult(
+      String endpoint,
+      long count,
+      long errors,
+      double throughput,
+      double p50Ms,
+      double p95Ms,
+      double p99Ms,
+      double p999Ms,
+      double maxMs) {}
+
+  public void record(final String endpoint, final long elapsedNanos, final boolean success) {
+    if (!success) {
+      errors.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+      return;
+    }
+    histograms
+        .computeIfAbsent(endpoint, k -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+        .recordValue(Math.min(elapsedNanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+  }
+
+  public void reset() {
+    histograms.values().forEach(Histogram::reset);
+    errors.values().forEach(LongAdder::reset);
+  }
+
+  public List<EndpointResult> getResults(final double elapsedSeconds) {
+    final List<EndpointResult> results = new ArrayList<>();
+    histograms.forEach(
+        (endpoint, histogram) ->
+            results.add(
+                new EndpointResult(
+                    endpoint,
+                    histogram.getTotalCount(),
+                    errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0,
+                    histogram.getTotalCount() / elapsedSeconds,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()))));
+    return results;
+  }
+
+  public void print(final List<EndpointResult> results, final PrintStream out) {
+    out.printf(
+        "%-12s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+        "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+    results.forEach(
+        result ->
+            out.printf(
+                "%-12s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                result.endpoint(),
+                result.count(),
+                result.errors(),
+                result.throughput(),
+                result.p50Ms(),
+                result.p95Ms(),
+                result.p99Ms(),
+                result.p999Ms(),
+                result.maxMs()));
+  }
+
+  public void write(final Path outputDir, final List<EndpointResult> results) throws IOException {
+    Files.createDirectories(outputDir);
+    OBJECT_MAPPER.writeValue(outputDir.resolve("results.json").toFile(), results);
+    for (final Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+      try (PrintStream out =
+          new PrintStream(Files.newOutputStream(outputDir.resolve(entry.getKey() + ".hgrm")))) {
+        // values are recorded in micros, scaled to millis in the distribution
+        entry.getValue().outputPercentileDistribution(out, 1_000.0);
+      }
+    }
+  }
+
+  public static List<EndpointResult> readResults(final Path resultsFile) throws IOException {
+    return OBJECT_MAPPER.readValue(resultsFile.toFile(), new TypeReference<>() {});
+  }
+
+  // p99 slower or throughput lower than baseline by more than threshold percent is a regression
+  public static List<String> compare(
+      final List<EndpointResult> results,
+      final List<EndpointResult> baseline,
+      final double thresholdPercent) {
+    final double factor = thresholdPercent / 100.0;
+    final List<String> regressions = new ArrayList<>();
+    for (final EndpointResult result : results) {
+      baseline.stream()
+          .filter(baselineResult -> baselineResult.endpoint().equals(result.endpoint()))
+          .findFirst()
+          .ifPresent(
+              baselineResult -> {
+                if (result.p99Ms() > baselineResult.p99Ms() * (1 + factor)) {
+                  regressions.add(
+                      String.format(
+                          "%s p99 %.2f ms vs baseline %.2f ms",
+                          result.endpoint(), result.p99Ms(), baselineResult.p99Ms()));
+                }
+                if (result.throughput() < baselineResult.throughput() * (1 - factor)) {
+                  regressions.add(
+                      String.format(
+                          "%s throughput %.1f req/s vs baseline %.1f req/s",
+                          result.endpoint(), result.throughput(), baselineResult.throughput()));
+                }
+              });
+    }
+    return regressions;
+  }
+
+  private static double toMillis(final long micros) {
+    return micros / 1_000.0;
+  }
+}
@@ -0,0 +1,155 @@
+package auth.service.loadtest;
+
+import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_STANDARD;
+import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_SUPERUSER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds apps, roles, permissions and validated active users with JDBC batches. Rows are prefixed
+ * with loadtest so they can be told apart, user 0 is the superuser used for admin listings.
+ */
+public class LoadTestSeeder {
+
+  public static final String PASSWORD = "loadtest-password";
+
+  private static final int BATCH_SIZE = 500;
+  private static final int ROLE_PERMISSIONS = 3;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public LoadTestSeeder(final DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  public record SeededUser(int id, String email, String appId) {}
+
+  public List<SeededUser> seed(
+      final int appCount,
+      final int userCount,
+      final int permissionsPerApp,
+      final String passwordHash) {
+    final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    final List<String> appIds =
+        IntStream.range(0, appCount).mapToObj(i -> "loadtest-app-" + i).toList();
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO apps (id, name, description, created_date, updated_date) VALUES (?, ?, ?, ?, ?)",
+        appIds.stream().map(appId -> new Object[] {appId, appId, appId, now, now}).toList());
+
+    insertRoleIfMissing(APP_ROLE_NAME_SUPERUSER, now);
+    insertRoleIfMissing(APP_ROLE_NAME_STANDARD, now);
+    final int superuserRoleId = getRoleId(APP_ROLE_NAME_SUPERUSER);
+    final int standardRoleId = getRoleId(APP_ROLE_NAME_STANDARD);
+
+    final List<Object[]> permissionRows = new ArrayList<>();
+    appIds.forEach(
+        appId ->
+            IntStream.range(0, permissionsPerApp)
+                .forEach(
+                    i ->
+                        permissionRows.add(
+                            new Object[] {appId, "LOADTEST_PERMISSION_" + i, appId, now, now})));
+    batchInsert(
+        "INSERT INTO app_permission (app_id, name, description, created_date, updated_date) VALUES (?, ?, ?, ?, ?)",
+        permissionRows);
+    // tokens embed every permission of the user's roles, and app_token columns are varchar(1000)
+    batchInsert(
+        "INSERT INTO app_role_permission (app_role_id, app_permission_id, assigned_date) "
+            + "SELECT ?, id, ? FROM app_permission WHERE app_id = ? AND name = ?",
+        IntStream.range(0, Math.min(permissionsPerApp, ROLE_PERMISSIONS))
+            .mapToObj(
+                i ->
+                    new Object[] {
+                      standardRoleId, now, appIds.getFirst(), "LOADTEST_PERMISSION_" + i
+                    })
+            .toList());
+
+    batchInsert(
+        "INSERT INTO app_user (first_name, last_name, email, email_normalized, password, status, is_validated, created_date, updated_date) "
+            + "VALUES (?, ?, ?, ?, ?, 'ACTIVE', TRUE, ?, ?)",
+        IntStream.range(0, userCount)
+            .mapToObj(
+                i ->
+                    new Object[] {
+                      "Load" + i, "Test" + i, getEmail(i), getEmail(i), passwordHash, now, now
+                    })
+            .toList());
+    final Map<String, Integer> userIds =
+        jdbcTemplate
+            .queryForList("SELECT id, email FROM app_user WHERE email LIKE 'loadtest-user-%'")
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    row -> (String) row.get("email"), row -> ((Number) row.get("id")).intValue()));
+
+    final List<SeededUser> seededUsers =
+        IntStream.range(0, userCount)
+            .mapToObj(
+                i ->
+                    new SeededUser(
+                        userIds.get(getEmail(i)), getEmail(i), appIds.get(i % appIds.size())))
+            .toList();
+    batchInsert(
+        "INSERT INTO app_user_app (app_id, app_user_id, assigned_date) VALUES (?, ?, ?)",
+        seededUsers.stream()
+            .map(seededUser -> new Object[] {seededUser.appId(), seededUser.id(), now})
+            .toList());
+    batchInsert(
+        "INSERT INTO app_user_role (app_user_id, app_role_id, assigned_date) VALUES (?, ?, ?)",
+        seededUsers.stream()
+            .map(
+                seededUser ->
+                    new Object[] {
+                      seededUser.id(),
+                      seededUser.id() == seededUsers.getFirst().id()
+                          ? superuserRoleId
+                          : standardRoleId,
+                      now
+                    })
+            .toList());
+    return seededUsers;
+  }
+
+  private static String getEmail(final int index) {
+    return "loadtest-user-" + index + "@loadtest.local";
+  }
+
+  private void insertRoleIfMissing(final String roleName, final Timestamp now) {
+    final Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM app_role WHERE name = ?", Integer.class, roleName);
+    if (count == null || count == 0) {
+      jdbcTemplate.update(
+          "INSERT INTO app_role (name, description, created_date, updated_date) VALUES (?, ?, ?, ?)",
+          roleName,
+          roleName,
+          now,
+          now);
+    }
+  }
+
+  private int getRoleId(final String roleName) {
+    final Integer roleId =
+        jdbcTemplate.queryForObject(
+            "SELECT id FROM app_role WHERE name = ?", Integer.class, roleName);
+    if (roleId == null) {
+      throw new IllegalStateException("Role not seeded: " + roleName);
+    }
+    return roleId;
+  }
+
+  private void batchInsert(final String sql, final List<Object[]> rows) {
+    for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+      jdbcTemplate.batchUpdate(sql, rows.subList(i, Math.min(rows.size(), i + BATCH_SIZE)));
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package auth.service.loadtest;
+
+import auth.service.app.model.dto.UserLoginResponse;
+import auth.service.loadtest.LoadTestSeeder.SeededUser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed loop mix of login, refresh, validate, logout, user read and admin listing, one virtual
+ * thread per simulated client. Every request goes through the real security chains.
+ */
+public class LoadTestWorkload {
+
+  public static final String LOGIN = "login";
+  public static final String REFRESH = "refresh";
+  public static final String VALIDATE = "validate";
+  public static final String LOGOUT = "logout";
+  public static final String USER_READ = "user-read";
+  public static final String ADMIN_LIST = "admin-list";
+  public static final String DEFAULT_MIX =
+      "login=10,refresh=10,validate=40,logout=5,user-read=25,admin-list=10";
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      JsonMapper.builder()
+          .findAndAddModules()
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .build();
+
+  private final String baseUrl;
+  private final String basicAuthorization;
+  private final List<SeededUser> seededUsers;
+  private final LoadTestReport loadTestReport;
+  private final Map<String, Integer> mix;
+  private final int totalWeight;
+  private final HttpClient httpClient;
+  private volatile String adminAccessToken;
+  private volatile boolean running = true;
+
+  public LoadTestWorkload(
+      final String baseUrl,
+      final String basicUsername,
+      final String basicPassword,
+      final List<SeededUser> seededUsers,
+      final String mix,
+      final LoadTestReport loadTestReport) {
+    this.baseUrl = baseUrl;
+    this.basicAuthorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString(
+                    (basicUsername + ":" + basicPassword).getBytes(StandardCharsets.UTF_8));
+    this.seededUsers = seededUsers;
+    this.loadTestReport = loadTestReport;
+    this.mix = parseMix(mix);
+    this.totalWeight = this.mix.values().stream().mapToInt(Integer::intValue).sum();
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+  }
+
+  public List<Thread> start(final int concurrency) {
+    // first seeded user is the superuser
+    adminAccessToken = login(seededUsers.getFirst()).getAToken();
+    final List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      final SeededUser seededUser = seededUsers.get(1 + i % (seededUsers.size() - 1));
+      workers.add(Thread.ofVirtual().name("loadtest-", i).start(() -> runClient(seededUser)));
+    }
+    return workers;
+  }
+
+  public void stop(final List<Thread> workers) throws InterruptedException {
+    running = false;
+    for (final Thread worker : workers) {
+      worker.join();
+    }
+  }
+
+  private void runClient(final SeededUser seededUser) {
+    UserLoginResponse session = null;
+    while (running) {
+      final String operation = nextOperation();
+      try {
+        if (session == null || LOGIN.equals(operation)) {
+          session = login(seededUser);
+          continue;
+        }
+        switch (operation) {
+          case REFRESH -> session = refresh(seededUser, session);
+          case VALIDATE ->
+              send(VALIDATE, get("/token/" + seededUser.appId(), "Bearer " + session.getAToken()));
+          case LOGOUT -> {
+            logout(seededUser, session);
+            session = null;
+          }
+          case USER_READ ->
+              send(
+                  USER_READ,
+                  get(
+                      "/api/v1/app_users/user/" + seededUser.id(),
+                      "Bearer " + session.getAToken()));
+          case ADMIN_LIST ->
+              send(ADMIN_LIST, get("/api/v1/app_users", "Bearer " + adminAccessToken));
+          default -> throw new IllegalStateException("Unknown operation: " + operation);
+        }
+      } catch (Exception ex) {
+        // failed login, refresh or logout, start over with a fresh session
+        session = null;
+      }
+    }
+  }
+
+  private UserLoginResponse login(final SeededUser seededUser) {
+    final Map<String, Object> body =
+        Map.of("email", seededUser.email(), "password", LoadTestSeeder.PASSWORD);
+    return readLoginResponse(
+        send(LOGIN, post("/api/v1/basic_app_users/user/" + seededUser.appId() + "/login", body)));
+  }
+
+  private UserLoginResponse refresh(final SeededUser seededUser, final UserLoginResponse session) {
+    final Map<String, Object> body =
+        Map.of("appUserId", seededUser.id(), "refreshToken", session.getRToken());
+    return readLoginResponse(
+        send(
+            REFRESH,
+            post("/api/v1/basic_app_users/user/" + seededUser.appId() + "/refresh", body)));
+  }
+
+  private void logout(final SeededUser seededUser, final UserLoginResponse session) {
+    final Map<String, Object> body =
+        Map.of(
+            "appUserId",
+            seededUser.id(),
+            "accessToken",
+            session.getAToken(),
+            "refreshToken",
+            session.getRToken());
+    send(LOGOUT, post("/api/v1/basic_app_users/user/" + seededUser.appId() + "/logout", body));
+  }
+
+  private HttpRequest get(final String path, final String authorization) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Authorization", authorization)
+        .timeout(Duration.ofSeconds(30))
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(final String path, final Map<String, Object> body) {
+    try {
+      return HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .header("Authorization", basicAuthorization)
+          .header("Content-Type", "application/json")
+          .timeout(Duration.ofSeconds(30))
+          .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+          .build();
+    } catch (Exception ex) {
+      throw new IllegalStateException("Unable to Serialize Request", ex);
+    }
+  }
+
+  // records latency, throws on non 2xx so the client starts a fresh session
+  private String send(final String endpoint, final HttpRequest request) {
+    final long start = System.nanoTime();
+    try {
+      final HttpResponse<String> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      final boolean success = response.statusCode() >= 200 && response.statusCode() < 300;
+      loadTestReport.record(endpoint, System.nanoTime() - start, success);
+      if (!success) {
+        throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+      }
+      return response.body();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      loadTestReport.record(endpoint, System.nanoTime() - start, false);
+      throw new IllegalStateException(ex);
+    } catch (IOException ex) {
+      loadTestReport.record(endpoint, System.nanoTime() - start, false);
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private UserLoginResponse readLoginResponse(final String body) {
+    try {
+      return OBJECT_MAPPER.readValue(body, UserLoginResponse.class);
+    } catch (Exception ex) {
+      throw new IllegalStateException("Unable to Read Login Response", ex);
+    }
+  }
+
+  private String nextOperation() {
+    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (final Map.Entry<String, Integer> entry : mix.entrySet()) {
+      pick -= entry.getValue();
+      if (pick < 0) {
+        return entry.getKey();
+      }
+    }
+    return VALIDATE;
+  }
+
+  private static Map<String, Integer> parseMix(final String mix) {
+    final List<String> operations =
+        List.of(LOGIN, REFRESH, VALIDATE, LOGOUT, USER_READ, ADMIN_LIST);
+    final Map<String, Integer> weights = new LinkedHashMap<>();
+    for (final String entry : mix.split(",")) {
+      final String[] operationWeight = entry.trim().split("=");
+      if (!operations.contains(operationWeight[0])) {
+        throw new IllegalArgumentException("Unknown operation in mix: " + operationWeight[0]);
+      }
+      weights.put(operationWeight[0], Integer.parseInt(operationWeight[1]));
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,200 @@
+package auth.service.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed loop load driver against a running instance, one virtual thread per connection. Run it
+ * once with spring.threads.virtual.enabled=false and once with true to compare the two modes.
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTest.args="--concurrency=1000 --duration=60 --basic-auth=user:pass"
+ * </pre>
+ */
+public class VirtualThreadLoadTest {
+
+  // 100 micros buckets up to 30 seconds
+  private static final long BUCKET_MICROS = 100;
+  private static final int BUCKETS = 300_000;
+  private static final List<String> SERVER_METRICS =
+      List.of("jvm.threads.live", "jvm.threads.peak", "jvm.memory.used", "process.cpu.usage");
+  private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+  private final String baseUrl;
+  private final String path;
+  private final int concurrency;
+  private final Duration duration;
+  private final String basicAuth;
+  private final HttpClient httpClient;
+
+  private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS + 1);
+  private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+  private final LongAdder errors = new LongAdder();
+  private final Map<String, Double> peakServerMetrics = new ConcurrentHashMap<>();
+
+  public VirtualThreadLoadTest(final Map<String, String> options) {
+    this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080/ums");
+    this.path = options.getOrDefault("path", "/.well-known/jwks.json");
+    this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+    this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+    this.basicAuth = options.get("basic-auth");
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+  }
+
+  public static void main(final String[] args) throws Exception {
+    new VirtualThreadLoadTest(parseOptions(args)).run();
+  }
+
+  // --key=value pairs, a bare --key is true
+  static Map<String, String> parseOptions(final String[] args) {
+    final Map<String, String> options = new HashMap<>();
+    for (final String arg : args) {
+      final String[] keyValue = arg.replaceFirst("^--", "").split("=", 2);
+      options.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "true");
+    }
+    return options;
+  }
+
+  public void run() throws Exception {
+    System.out.printf(
+        "Load test: [%s%s], concurrency: [%d], duration: [%s]%n",
+        baseUrl, path, concurrency, duration);
+    final Map<String, Double> serverMetricsBefore = readServerMetrics();
+
+    final long deadline = System.nanoTime() + duration.toNanos();
+    final long startNanos = System.nanoTime();
+    final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    sampler.scheduleAtFixedRate(this::samplePeakServerMetrics, 1, 1, TimeUnit.SECONDS);
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        workers.submit(() -> runWorker(deadline));
+      }
+    } finally {
+      sampler.shutdownNow();
+    }
+    final double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+    printReport(elapsedSeconds, serverMetricsBefore, readServerMetrics());
+  }
+
+  private void runWorker(final long deadline) {
+    final HttpRequest request =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+    while (System.nanoTime() < deadline) {
+      final long start = System.nanoTime();
+      try {
+        final HttpResponse<Void> response =
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        statusCounts.computeIfAbsent(response.statusCode(), k -> new LongAdder()).increment();
+      } catch (Exception ex) {
+        errors.increment();
+        if (ex instanceof InterruptedException) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+      final long micros = (System.nanoTime() - start) / 1_000;
+      latencyBuckets.incrementAndGet((int) Math.min(micros / BUCKET_MICROS, BUCKETS));
+    }
+  }
+
+  private void samplePeakServerMetrics() {
+    readServerMetrics().forEach((name, value) -> peakServerMetrics.merge(name, value, Math::max));
+  }
+
+  private Map<String, Double> readServerMetrics() {
+    final Map<String, Double> serverMetrics = new HashMap<>();
+    if (basicAuth == null) {
+      return serverMetrics;
+    }
+    final String authorization =
+        "Basic " + Base64.getEncoder().encodeToString(basicAuth.getBytes(StandardCharsets.UTF_8));
+    for (final String metric : SERVER_METRICS) {
+      try {
+        final HttpRequest request =
+            HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        final HttpResponse<String> response =
+            httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        final Matcher matcher = METRIC_VALUE.matcher(response.body());
+        if (response.statusCode() == 200 && matcher.find()) {
+          serverMetrics.put(metric, Double.parseDouble(matcher.group(1)));
+        }
+      } catch (Exception ex) {
+        // server metrics are best effort, the server may be shedding load
+      }
+    }
+    return serverMetrics;
+  }
+
+  private void printReport(
+      final double elapsedSeconds,
+      final Map<String, Double> serverMetricsBefore,
+      final Map<String, Double> serverMetricsAfter) {
+    long total = 0;
+    for (int i = 0; i <= BUCKETS; i++) {
+      total += latencyBuckets.get(i);
+    }
+
+    System.out.printf("Requests: [%d], errors: [%d]%n", total, errors.sum());
+    System.out.printf("Throughput: [%.1f] req/s%n", total / elapsedSeconds);
+    final List<String> statuses = new ArrayList<>();
+    statusCounts.forEach((status, count) -> statuses.add(status + "=" + count.sum()));
+    System.out.printf("Statuses: %s%n", statuses);
+    System.out.printf(
+        "Latency p50: [%.1f] ms, p95: [%.1f] ms, p99: [%.1f] ms, p999: [%.1f] ms%n",
+        percentileMillis(total, 50),
+        percentileMillis(total, 95),
+        percentileMillis(total, 99),
+        percentileMillis(total, 99.9));
+    for (final String metric : SERVER_METRICS) {
+      System.out.printf(
+          "Server %s: before [%s], peak [%s], after [%s]%n",
+          metric,
+          serverMetricsBefore.get(metric),
+          peakServerMetrics.get(metric),
+          serverMetricsAfter.get(metric));
+    }
+  }
+
+  private double percentileMillis(final long total, final double percentile) {
+    final long rank = (long) Math.ceil(total * percentile / 100.0);
+    long seen = 0;
+    for (int i = 0; i <= BUCKETS; i++) {
+      seen += latencyBuckets.get(i);
+      if (seen >= rank && seen > 0) {
+        return (i + 1) * BUCKET_MICROS / 1_000.0;
+      }
+    }
+    return 0;
+  }
+}
@@ -4,6 +4,7 @@
 package auth.service;
 
 import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES;
+import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES_OPTIONAL;
 import static auth.service.app.util.ConstantUtils.ENV_SERVER_PORT;
 import static auth.service.app.util.SystemEnvPropertyUtils.getAllSystemEnvProperties;
 import static auth.service.app.util.SystemEnvPropertyUtils.getSystemEnvProperty;
@@ -36,7 +37,7 @@ public class App {
   private static void validateInitArgs() {
     final Map<String, String> properties = getAllSystemEnvProperties();
     final List<String> requiredEnvProperties =
-        ENV_KEY_NAMES.stream().filter(key -> !ENV_SERVER_PORT.equals(key)).toList();
+        ENV_KEY_NAMES.stream().filter(key -> !ENV_KEY_NAMES_OPTIONAL.contains(key)).toList();
     final List<String> errors =
         requiredEnvProperties.stream().filter(key -> properties.get(key) == null).toList();
     if (!errors.isEmpty()) {
@@ -0,0 +1,14 @@
+package auth.service.app.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+  private boolean enabled = true;
+  // share of successful requests logged, errors and slow requests are always logged
+  private double sampleRate = 1.0;
+  private Duration slowThreshold = Duration.ofSeconds(1);
+}
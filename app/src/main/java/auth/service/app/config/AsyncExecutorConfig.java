@@ -0,0 +1,23 @@
+package auth.service.app.config;
+
+import auth.service.app.util.AsyncExecutorRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncExecutorConfig {
+
+  @Bean
+  public AsyncExecutorRegistry asyncExecutorRegistry(
+      final AsyncExecutorProperties asyncExecutorProperties,
+      final MeterRegistry meterRegistry,
+      final Environment environment) {
+    return new AsyncExecutorRegistry(
+        asyncExecutorProperties, meterRegistry, Threading.VIRTUAL.isActive(environment));
+  }
+}
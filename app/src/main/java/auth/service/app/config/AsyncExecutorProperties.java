@@ -0,0 +1,23 @@
+package auth.service.app.config;
+
+import auth.service.app.model.enums.AsyncEnums.ExecutorName;
+import auth.service.app.model.enums.AsyncEnums.RejectionPolicy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "async-executors")
+public class AsyncExecutorProperties {
+  private Map<ExecutorName, ExecutorPool> pools = new EnumMap<>(ExecutorName.class);
+
+  @Data
+  public static class ExecutorPool {
+    private int poolSize = 2;
+    private int queueCapacity = 100;
+    private Duration keepAlive = Duration.ofSeconds(60);
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+  }
+}
@@ -0,0 +1,16 @@
+package auth.service.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "audit-partitions")
+public class AuditPartitionProperties {
+  private boolean enabled = true;
+  // month partitions kept created ahead of the current month
+  private int monthsAhead = 3;
+  // month partitions older than this many months before the current month are removed
+  private int retentionMonths = 12;
+  // removed partitions are detached into this schema instead of dropped when set
+  private String archiveSchema;
+}
@@ -0,0 +1,19 @@
+package auth.service.app.config;
+
+import auth.service.app.model.enums.AuditEnums.AuditPolicy;
+import auth.service.app.model.enums.AuditEnums.AuditUsers;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "audit-policy")
+public class AuditPolicyProperties {
+  // every event gets its full row when disabled
+  private boolean enabled = true;
+  // policy of the high volume success events, see AuditRollupService for which ones can be tiered
+  private Map<AuditUsers, AuditPolicy> events = new EnumMap<>(AuditUsers.class);
+  // share of the sampled events that still get their full row
+  private double sampleRate = 0.05;
+}
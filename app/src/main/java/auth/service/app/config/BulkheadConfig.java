@@ -0,0 +1,64 @@
+package auth.service.app.config;
+
+import auth.service.app.util.BulkheadDataSource;
+import auth.service.app.util.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(
+    prefix = "bulkhead",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class BulkheadConfig {
+
+  @Bean
+  public BulkheadRegistry bulkheadRegistry(
+      final BulkheadProperties bulkheadProperties,
+      final MeterRegistry meterRegistry,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int maximumPoolSize) {
+    // callers outside a lane still need connections when every lane is at its budget
+    final int laneDbConnections =
+        bulkheadProperties.getLanes().values().stream()
+            .mapToInt(BulkheadProperties.LaneBulkhead::getMaxDbConnections)
+            .sum();
+    if (laneDbConnections >= maximumPoolSize) {
+      log.warn(
+          "Lane DB Connections Leave No Headroom: [{}], [{}]", laneDbConnections, maximumPoolSize);
+    }
+    return new BulkheadRegistry(bulkheadProperties, meterRegistry);
+  }
+
+  @Bean
+  public BulkheadEndpoint bulkheadEndpoint(final BulkheadRegistry bulkheadRegistry) {
+    return new BulkheadEndpoint(bulkheadRegistry);
+  }
+
+  // static, and registry resolved lazily, so the data source is not created too early
+  @Bean
+  public static BeanPostProcessor bulkheadDataSourcePostProcessor(
+      final ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(
+          @NotNull final Object bean, @NotNull final String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+          return new BulkheadDataSource(dataSource, bulkheadRegistryProvider::getObject);
+        }
+        return bean;
+      }
+    };
+  }
+}
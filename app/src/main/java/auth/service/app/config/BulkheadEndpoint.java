@@ -0,0 +1,36 @@
+package auth.service.app.config;
+
+import auth.service.app.util.BulkheadRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+@Endpoint(id = "bulkheads")
+@RequiredArgsConstructor
+public class BulkheadEndpoint {
+
+  private final BulkheadRegistry bulkheadRegistry;
+
+  @ReadOperation
+  public Map<String, Map<String, Object>> bulkheads() {
+    final Map<String, Map<String, Object>> bulkheads = new LinkedHashMap<>();
+    bulkheadRegistry
+        .getLaneBulkheads()
+        .forEach(
+            (requestLane, laneBulkhead) -> {
+              final Map<String, Object> details = new LinkedHashMap<>();
+              details.put("maxConcurrent", laneBulkhead.getMaxConcurrent());
+              details.put("active", laneBulkhead.getActive());
+              details.put("waiting", laneBulkhead.getExecutionPermits().getQueueLength());
+              details.put("rejected", (long) laneBulkhead.getRejectedCounter().count());
+              details.put("maxDbConnections", laneBulkhead.getMaxDbConnections());
+              details.put("dbActive", laneBulkhead.getDbActive());
+              details.put("dbWaiting", laneBulkhead.getDbPermits().getQueueLength());
+              details.put("dbRejected", (long) laneBulkhead.getDbRejectedCounter().count());
+              bulkheads.put(requestLane.name().toLowerCase(), details);
+            });
+    return bulkheads;
+  }
+}
@@ -0,0 +1,24 @@
+package auth.service.app.config;
+
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+  private boolean enabled = true;
+  private int retryAfterSeconds = 1;
+  private Map<RequestLane, LaneBulkhead> lanes = new EnumMap<>(RequestLane.class);
+
+  @Data
+  public static class LaneBulkhead {
+    private int maxConcurrent = 20;
+    private Duration maxWait = Duration.ZERO;
+    private int maxDbConnections = 2;
+    private Duration dbMaxWait = Duration.ofSeconds(5);
+  }
+}
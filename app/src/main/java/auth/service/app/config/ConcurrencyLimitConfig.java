@@ -0,0 +1,32 @@
+package auth.service.app.config;
+
+import auth.service.app.filter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "concurrency-limit",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+      final ConcurrencyLimitProperties concurrencyLimitProperties,
+      final MeterRegistry meterRegistry) {
+    final FilterRegistrationBean<ConcurrencyLimitFilter> filterRegistrationBean =
+        new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(concurrencyLimitProperties, meterRegistry));
+    // shed load before any of the security filter chains run
+    filterRegistrationBean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+    return filterRegistrationBean;
+  }
+}
@@ -0,0 +1,26 @@
+package auth.service.app.config;
+
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+  private boolean enabled = true;
+  private int retryAfterSeconds = 1;
+  private Map<RequestLane, LaneLimit> lanes = new EnumMap<>(RequestLane.class);
+
+  @Data
+  public static class LaneLimit {
+    private int initialLimit = 20;
+    private int minLimit = 2;
+    private int maxLimit = 200;
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+    private double backoffRatio = 0.9;
+    private int rejectStatus = 503;
+  }
+}
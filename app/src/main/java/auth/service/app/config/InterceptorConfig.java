@@ -1,15 +1,48 @@
 package auth.service.app.config;
 
+import auth.service.app.util.BulkheadInterceptor;
+import auth.service.app.util.BulkheadRegistry;
 import auth.service.app.util.InterceptorLoggingUtilsIncoming;
+import auth.service.app.util.SqlStatementInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
 public class InterceptorConfig implements WebMvcConfigurer {
 
+  private final AccessLogProperties accessLogProperties;
+  private final ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider;
+  private final ObjectProvider<SqlStatementInterceptor> sqlStatementInterceptorProvider;
+
+  public InterceptorConfig(
+      final AccessLogProperties accessLogProperties,
+      final ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider,
+      final ObjectProvider<SqlStatementInterceptor> sqlStatementInterceptorProvider) {
+    this.accessLogProperties = accessLogProperties;
+    this.bulkheadRegistryProvider = bulkheadRegistryProvider;
+    this.sqlStatementInterceptorProvider = sqlStatementInterceptorProvider;
+  }
+
+  @Bean
+  public FilterRegistrationBean<InterceptorLoggingUtilsIncoming> interceptorLoggingUtilsIncoming() {
+    final FilterRegistrationBean<InterceptorLoggingUtilsIncoming> filterRegistrationBean =
+        new FilterRegistrationBean<>(new InterceptorLoggingUtilsIncoming(accessLogProperties));
+    // ahead of load shedding, so its rejections are logged and its logs carry the trace id
+    filterRegistrationBean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+    return filterRegistrationBean;
+  }
+
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
-    registry.addInterceptor(new InterceptorLoggingUtilsIncoming());
+    bulkheadRegistryProvider.ifAvailable(
+        bulkheadRegistry -> registry.addInterceptor(new BulkheadInterceptor(bulkheadRegistry)));
+    sqlStatementInterceptorProvider.ifAvailable(registry::addInterceptor);
   }
 }
@@ -0,0 +1,19 @@
+package auth.service.app.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+  // @JsonFilter classes serialize everything unless a response sets its own filters
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer filterProviderCustomizer() {
+    return builder ->
+        builder.filters(
+            new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+  }
+}
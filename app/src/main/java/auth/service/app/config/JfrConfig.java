@@ -0,0 +1,13 @@
+package auth.service.app.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JfrConfig {
+
+  @Bean
+  public JfrEndpoint jfrEndpoint() {
+    return new JfrEndpoint();
+  }
+}
@@ -0,0 +1,170 @@
+package auth.service.app.config;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Starts, stops and downloads flight recordings on demand. Recordings use the jdk settings given
+ * (default unless profile is asked for) plus the auth.service.* events, and are kept on the jfr
+ * repository, bounded by max age and size, until they are deleted.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+  private static final String DEFAULT_SETTINGS = "default";
+  // a forgotten recording must not fill the disk
+  private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+  private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024;
+  private static final List<String> AUTH_SERVICE_EVENTS =
+      List.of("auth.service.HotPath", "auth.service.Login", "auth.service.JwtAuth");
+
+  @ReadOperation
+  public List<Map<String, Object>> recordings() {
+    return FlightRecorder.getFlightRecorder().getRecordings().stream()
+        .map(this::getRecordingDetails)
+        .toList();
+  }
+
+  @WriteOperation
+  public WebEndpointResponse<Map<String, Object>> start(
+      @Nullable final String name,
+      @Nullable final String settings,
+      @Nullable final Long durationSeconds,
+      @Nullable final Long maxAgeSeconds,
+      @Nullable final Long maxSizeBytes) {
+    final Configuration configuration;
+    try {
+      configuration =
+          Configuration.getConfiguration(settings == null ? DEFAULT_SETTINGS : settings);
+    } catch (IOException | ParseException ex) {
+      return new WebEndpointResponse<>(
+          Map.of("error", "Invalid Settings: " + settings), WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+
+    final Recording recording = new Recording(configuration);
+    recording.setName(name == null ? "ums-" + System.currentTimeMillis() : name);
+    recording.setToDisk(true);
+    AUTH_SERVICE_EVENTS.forEach(eventName -> recording.enable(eventName));
+    if (durationSeconds != null) {
+      recording.setDuration(Duration.ofSeconds(durationSeconds));
+    }
+    recording.setMaxAge(
+        maxAgeSeconds == null ? DEFAULT_MAX_AGE : Duration.ofSeconds(maxAgeSeconds));
+    recording.setMaxSize(maxSizeBytes == null ? DEFAULT_MAX_SIZE_BYTES : maxSizeBytes);
+    recording.start();
+    return new WebEndpointResponse<>(getRecordingDetails(recording));
+  }
+
+  @WriteOperation
+  public WebEndpointResponse<Map<String, Object>> stop(@Selector final long id) {
+    final Recording recording = getRecording(id);
+    if (recording == null) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    if (recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+    }
+    return new WebEndpointResponse<>(getRecordingDetails(recording));
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> download(@Selector final long id) {
+    final Recording recording = getRecording(id);
+    if (recording == null || recording.getState() == RecordingState.NEW) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    // a running recording is dumped up to now, so it can be downloaded without stopping it
+    // the dump is streamed from disk and deleted once sent, recordings can be large
+    try {
+      final Path path = Files.createTempFile("ums-" + id + "-", ".jfr");
+      try {
+        recording.dump(path);
+      } catch (IOException | RuntimeException ex) {
+        Files.deleteIfExists(path);
+        throw ex;
+      }
+      path.toFile().deleteOnExit();
+      return new WebEndpointResponse<>(new DeletingFileSystemResource(path));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @DeleteOperation
+  public WebEndpointResponse<Void> delete(@Selector final long id) {
+    final Recording recording = getRecording(id);
+    if (recording == null) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    recording.close();
+    return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+  }
+
+  private Recording getRecording(final long id) {
+    return FlightRecorder.getFlightRecorder().getRecordings().stream()
+        .filter(recording -> recording.getId() == id)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Map<String, Object> getRecordingDetails(final Recording recording) {
+    final Map<String, Object> details = new LinkedHashMap<>();
+    details.put("id", recording.getId());
+    details.put("name", recording.getName());
+    details.put("state", recording.getState().name().toLowerCase());
+    details.put("startTime", recording.getStartTime());
+    details.put("stopTime", recording.getStopTime());
+    details.put("duration", recording.getDuration());
+    details.put("size", recording.getSize());
+    details.put("maxAge", recording.getMaxAge());
+    details.put("maxSize", recording.getMaxSize());
+    return details;
+  }
+
+  private static class DeletingFileSystemResource extends FileSystemResource {
+
+    private final Path path;
+
+    DeletingFileSystemResource(final Path path) {
+      super(path);
+      this.path = path;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(path);
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package auth.service.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+  private boolean enabled = true;
+  // distinct urls kept, new urls are served uncached once it is full
+  private int maxEntries = 500;
+  // smaller bodies are not worth a gzip copy
+  private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+}
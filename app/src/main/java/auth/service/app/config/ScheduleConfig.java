@@ -1,20 +1,30 @@
 package auth.service.app.config;
 
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.CACHE_REFRESH;
+
 import auth.service.app.connector.EnvServiceConnector;
 import auth.service.app.service.AppRoleService;
 import auth.service.app.service.AppsService;
-import java.util.concurrent.CompletableFuture;
+import auth.service.app.service.AuditPartitionService;
+import auth.service.app.service.AuditRollupService;
+import auth.service.app.service.JwtSigningKeyService;
+import auth.service.app.util.AsyncExecutorRegistry;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @Slf4j
 @Configuration
 @EnableScheduling
+@EnableConfigurationProperties({AuditPartitionProperties.class, AuditPolicyProperties.class})
 @RequiredArgsConstructor
 public class ScheduleConfig {
 
@@ -22,6 +32,16 @@ public class ScheduleConfig {
   private final EnvServiceConnector envServiceConnector;
   private final AppsService appsService;
   private final AppRoleService appRoleService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
+  private final AuditPartitionService auditPartitionService;
+  private final AuditRollupService auditRollupService;
+  private final JwtSigningKeyService jwtSigningKeyService;
+
+  // the apps also give MetricsUtils the app ids allowed as metric tags
+  @EventListener(ApplicationReadyEvent.class)
+  protected void loadAppCaches() {
+    asyncExecutorRegistry.runAsync(CACHE_REFRESH, appsService::readApps);
+  }
 
   @Scheduled(cron = "0 3 0 * * *")
   protected void recreateAppCaches() throws InterruptedException {
@@ -38,8 +58,34 @@ public class ScheduleConfig {
 
     Thread.sleep(5000);
 
-    CompletableFuture.runAsync(envServiceConnector::getRedirectUrls);
-    CompletableFuture.runAsync(appsService::readApps);
-    CompletableFuture.runAsync(appRoleService::readAppRoles);
+    asyncExecutorRegistry.runAsync(CACHE_REFRESH, envServiceConnector::getRedirectUrls);
+    asyncExecutorRegistry.runAsync(CACHE_REFRESH, appsService::readApps);
+    asyncExecutorRegistry.runAsync(CACHE_REFRESH, appRoleService::readAppRoles);
+  }
+
+  @Scheduled(cron = "0 0 1 * * *")
+  protected void rotateJwtSigningKeys() {
+    log.info("Rotating JWT signing keys...");
+    jwtSigningKeyService.rotateSigningKeys();
+  }
+
+  // keys rotated by other instances
+  @Scheduled(fixedDelay = 5, initialDelay = 5, timeUnit = TimeUnit.MINUTES)
+  protected void reloadJwtSigningKeys() {
+    jwtSigningKeyService.reloadSigningKeys();
+  }
+
+  @Scheduled(cron = "0 30 0 * * *")
+  protected void manageAuditPartitions() {
+    log.info("Managing audit partitions...");
+    auditPartitionService.managePartitions();
+    auditRollupService.deleteExpiredRollups();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${audit-policy.flush-interval:PT1M}",
+      initialDelayString = "${audit-policy.flush-interval:PT1M}")
+  protected void flushAuditRollups() {
+    auditRollupService.flushRollups();
   }
 }
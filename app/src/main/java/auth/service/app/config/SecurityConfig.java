@@ -16,12 +16,9 @@ import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 @EnableWebSecurity
 public class SecurityConfig extends SecurityConfigBase {
 
-  private final BCryptPasswordEncoder bCryptPasswordEncoder;
-
   public SecurityConfig(
       final BCryptPasswordEncoder bCryptPasswordEncoder, final AppUserService appUserService) {
-    super(appUserService);
-    this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+    super(appUserService, bCryptPasswordEncoder);
   }
 
   @Override
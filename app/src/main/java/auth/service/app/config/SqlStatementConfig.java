@@ -0,0 +1,55 @@
+package auth.service.app.config;
+
+import auth.service.app.filter.SqlStatementFilter;
+import auth.service.app.util.SqlStatementDataSource;
+import auth.service.app.util.SqlStatementInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatementProperties.class)
+@ConditionalOnProperty(
+    prefix = "sql-statements",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SqlStatementConfig {
+
+  @Bean
+  public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+      final MeterRegistry meterRegistry) {
+    final FilterRegistrationBean<SqlStatementFilter> filterRegistrationBean =
+        new FilterRegistrationBean<>(new SqlStatementFilter(meterRegistry));
+    // after load shedding, before security so the user lookup of the auth filters is counted
+    filterRegistrationBean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 5);
+    return filterRegistrationBean;
+  }
+
+  @Bean
+  public SqlStatementInterceptor sqlStatementInterceptor(
+      final SqlStatementProperties sqlStatementProperties) {
+    return new SqlStatementInterceptor(sqlStatementProperties.isFailOnBudgetExceeded());
+  }
+
+  @Bean
+  public static BeanPostProcessor sqlStatementDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(
+          @NotNull final Object bean, @NotNull final String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementDataSource)) {
+          return new SqlStatementDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,12 @@
+package auth.service.app.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sql-statements")
+public class SqlStatementProperties {
+  private boolean enabled = true;
+  private boolean responseHeader = false;
+  private boolean failOnBudgetExceeded = false;
+}
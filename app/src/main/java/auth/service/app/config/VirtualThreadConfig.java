@@ -0,0 +1,22 @@
+package auth.service.app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// spring.threads.virtual.enabled moves tomcat, @Async and @Scheduled onto virtual threads
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  @Bean
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      final MeterRegistry meterRegistry,
+      @Value("${virtual-threads.pinned-threshold:20ms}") final Duration pinnedThreshold) {
+    return new VirtualThreadPinningMonitor(meterRegistry, pinnedThreshold);
+  }
+}
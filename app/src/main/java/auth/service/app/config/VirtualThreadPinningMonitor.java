@@ -0,0 +1,86 @@
+package auth.service.app.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams jdk.VirtualThreadPinned JFR events when running on virtual threads, logs the first frame
+ * in our code (e.g. blocking inside synchronized) and counts them as ums.virtual.pinned.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APP_PACKAGE = "auth.service.";
+  private static final String UNKNOWN_FRAME = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry, final Duration threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (recordingStream != null) {
+      return;
+    }
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+    log.info("Virtual thread pinning monitor started, threshold: [{}]", threshold);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+      recordingStream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return recordingStream != null;
+  }
+
+  void onPinned(final RecordedEvent recordedEvent) {
+    final String frame = findAppFrame(recordedEvent.getStackTrace());
+    log.warn(
+        "Virtual thread pinned for [{}] ms at [{}]", recordedEvent.getDuration().toMillis(), frame);
+    Counter.builder("ums.virtual.pinned")
+        .description("Virtual threads pinned to their carrier longer than threshold")
+        .tag("frame", frame)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private String findAppFrame(final RecordedStackTrace recordedStackTrace) {
+    if (recordedStackTrace == null) {
+      return UNKNOWN_FRAME;
+    }
+    return recordedStackTrace.getFrames().stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+        .findFirst()
+        .map(
+            frame ->
+                frame.getMethod().getType().getName()
+                    + "."
+                    + frame.getMethod().getName()
+                    + ":"
+                    + frame.getLineNumber())
+        .orElse(UNKNOWN_FRAME);
+  }
+}
@@ -0,0 +1,32 @@
+package auth.service.app.controller;
+
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import auth.service.app.util.JwtUtils;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@Bulkhead(RequestLane.TOKEN)
+public class AppJwksController {
+
+  @CrossOrigin
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> getJwks() {
+    try {
+      return ResponseEntity.ok()
+          .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+          .body(JwtUtils.getJwksJson());
+    } catch (Exception ex) {
+      log.error("Get JWKS Error", ex);
+      return ResponseEntity.internalServerError().build();
+    }
+  }
+}
@@ -1,14 +1,21 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppPermissionRequest;
 import auth.service.app.model.dto.AppPermissionResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppPermissionEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppPermissionService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
+import auth.service.app.util.DataVersionRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
+import auth.service.app.util.ResponseBodyCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -25,17 +32,22 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/app_permissions")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppPermissionController {
 
   private final AppPermissionService appPermissionService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
+  private final DataVersionRegistry dataVersionRegistry;
+  private final ResponseBodyCache responseBodyCache;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("PERMISSION_CREATE")
   @PostMapping("/{appId}/permission")
@@ -46,7 +58,10 @@ public class AppPermissionController {
     try {
       final AppPermissionEntity appPermissionEntity =
           appPermissionService.createAppPermission(appId, appPermissionRequest);
-      runAsync(() -> auditService.auditAppPermissionCreate(request, appId, appPermissionEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () -> auditService.auditAppPermissionCreate(auditContext, appId, appPermissionEntity));
       return entityDtoConvertUtils.getResponseSingleAppPermission(appPermissionEntity);
     } catch (Exception ex) {
       log.error("Create App Permission: [{}] | [{}]", appId, appPermissionRequest, ex);
@@ -56,11 +71,21 @@ public class AppPermissionController {
 
   @CheckPermission("PERMISSION_READ")
   @GetMapping
-  public ResponseEntity<AppPermissionResponse> readAppPermissions() {
+  public ResponseEntity<AppPermissionResponse> readAppPermissions(
+      final ServletWebRequest webRequest) {
     try {
-      final List<AppPermissionEntity> appPermissionEntities =
-          appPermissionService.readAppPermissions();
-      return entityDtoConvertUtils.getResponseMultipleAppPermission(appPermissionEntities);
+      final String eTag = dataVersionRegistry.getETag(PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppPermissionEntity> appPermissionEntities =
+                appPermissionService.readAppPermissions();
+            return entityDtoConvertUtils.getResponseMultipleAppPermission(appPermissionEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Permissions...", ex);
       return entityDtoConvertUtils.getResponseErrorAppPermission(ex);
@@ -82,11 +107,20 @@ public class AppPermissionController {
   @CheckPermission("PERMISSION_READ")
   @GetMapping("/app/{appId}")
   public ResponseEntity<AppPermissionResponse> readAppPermissionsByAppId(
-      @PathVariable final String appId) {
+      @PathVariable final String appId, final ServletWebRequest webRequest) {
     try {
-      final List<AppPermissionEntity> appPermissionEntities =
-          appPermissionService.readAppPermissions(appId);
-      return entityDtoConvertUtils.getResponseMultipleAppPermission(appPermissionEntities);
+      final String eTag = dataVersionRegistry.getETag(PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppPermissionEntity> appPermissionEntities =
+                appPermissionService.readAppPermissions(appId);
+            return entityDtoConvertUtils.getResponseMultipleAppPermission(appPermissionEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Permissions By App ID: [{}]", appId, ex);
       return entityDtoConvertUtils.getResponseErrorAppPermission(ex);
@@ -102,7 +136,9 @@ public class AppPermissionController {
     try {
       final AppPermissionEntity appPermissionEntity =
           appPermissionService.updateAppPermission(id, appPermissionRequest);
-      runAsync(() -> auditService.auditAppPermissionUpdate(request, appPermissionEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppPermissionUpdate(auditContext, appPermissionEntity));
       return entityDtoConvertUtils.getResponseSingleAppPermission(appPermissionEntity);
     } catch (Exception ex) {
       log.error("Update App Permission: [{}] | [{}]", id, appPermissionRequest, ex);
@@ -116,7 +152,9 @@ public class AppPermissionController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appPermissionService.softDeleteAppPermission(id);
-      runAsync(() -> auditService.auditAppPermissionDeleteSoft(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppPermissionDeleteSoft(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppPermission();
     } catch (Exception ex) {
       log.error("Soft Delete App Permission: [{}]", id, ex);
@@ -130,7 +168,9 @@ public class AppPermissionController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appPermissionService.hardDeleteAppPermission(id);
-      runAsync(() -> auditService.auditAppPermissionDeleteHard(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppPermissionDeleteHard(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppPermission();
     } catch (Exception ex) {
       log.error("Hard Delete App Permission: [{}]", id, ex);
@@ -145,7 +185,9 @@ public class AppPermissionController {
     try {
       final AppPermissionEntity appPermissionEntity =
           appPermissionService.restoreSoftDeletedAppPermission(id);
-      runAsync(() -> auditService.auditAppPermissionRestore(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppPermissionRestore(auditContext, id));
       return entityDtoConvertUtils.getResponseSingleAppPermission(appPermissionEntity);
     } catch (Exception ex) {
       log.error("Restore App Permission: [{}]", id, ex);
@@ -1,14 +1,23 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLES;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppRoleRequest;
 import auth.service.app.model.dto.AppRoleResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppRoleEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppRoleService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
+import auth.service.app.util.DataVersionRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
+import auth.service.app.util.ResponseBodyCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -25,17 +34,22 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/app_roles")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppRoleController {
 
   private final AppRoleService appRoleService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
+  private final DataVersionRegistry dataVersionRegistry;
+  private final ResponseBodyCache responseBodyCache;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("ROLE_CREATE")
   @PostMapping("/role")
@@ -43,7 +57,9 @@ public class AppRoleController {
       @Valid @RequestBody final AppRoleRequest appRoleRequest, final HttpServletRequest request) {
     try {
       final AppRoleEntity appRoleEntity = appRoleService.createAppRole(appRoleRequest);
-      runAsync(() -> auditService.auditAppRoleCreate(request, appRoleEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppRoleCreate(auditContext, appRoleEntity));
       return entityDtoConvertUtils.getResponseSingleAppRole(appRoleEntity);
     } catch (Exception ex) {
       log.error("Create App Role: [{}]", appRoleRequest, ex);
@@ -53,10 +69,19 @@ public class AppRoleController {
 
   @CheckPermission("ROLE_READ")
   @GetMapping
-  public ResponseEntity<AppRoleResponse> readAppRoles() {
+  public ResponseEntity<AppRoleResponse> readAppRoles(final ServletWebRequest webRequest) {
     try {
-      final List<AppRoleEntity> appRoleEntities = appRoleService.readAppRoles();
-      return entityDtoConvertUtils.getResponseMultipleAppRole(appRoleEntities);
+      final String eTag = dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppRoleEntity> appRoleEntities = appRoleService.readAppRoles();
+            return entityDtoConvertUtils.getResponseMultipleAppRole(appRoleEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Roles...", ex);
       return entityDtoConvertUtils.getResponseErrorAppRole(ex);
@@ -83,7 +108,9 @@ public class AppRoleController {
       final HttpServletRequest request) {
     try {
       final AppRoleEntity appRoleEntity = appRoleService.updateAppRole(id, appRoleRequest);
-      runAsync(() -> auditService.auditAppRoleUpdate(request, appRoleEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppRoleUpdate(auditContext, appRoleEntity));
       return entityDtoConvertUtils.getResponseSingleAppRole(appRoleEntity);
     } catch (Exception ex) {
       log.error("Update App Role: [{}] | [{}]", id, appRoleRequest, ex);
@@ -97,7 +124,9 @@ public class AppRoleController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appRoleService.softDeleteAppRole(id);
-      runAsync(() -> auditService.auditAppRoleDeleteSoft(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppRoleDeleteSoft(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppRole();
     } catch (Exception ex) {
       log.error("Soft Delete App Role: [{}]", id, ex);
@@ -111,7 +140,9 @@ public class AppRoleController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appRoleService.hardDeleteAppRole(id);
-      runAsync(() -> auditService.auditAppRoleDeleteHard(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppRoleDeleteHard(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppRole();
     } catch (Exception ex) {
       log.error("Hard Delete App Role: [{}]", id, ex);
@@ -125,7 +156,9 @@ public class AppRoleController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       final AppRoleEntity appRoleEntity = appRoleService.restoreSoftDeletedAppRole(id);
-      runAsync(() -> auditService.auditAppRoleRestore(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppRoleRestore(auditContext, id));
       return entityDtoConvertUtils.getResponseSingleAppRole(appRoleEntity);
     } catch (Exception ex) {
       log.error("Restore App Role: [{}]", id, ex);
@@ -1,14 +1,23 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLES;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppRolePermissionRequest;
 import auth.service.app.model.dto.AppRolePermissionResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppRolePermissionEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppRolePermissionService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
+import auth.service.app.util.DataVersionRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
+import auth.service.app.util.ResponseBodyCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -23,17 +32,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/app_roles_permissions")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppRolePermissionController {
 
   private final AppRolePermissionService appRolePermissionService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
+  private final DataVersionRegistry dataVersionRegistry;
+  private final ResponseBodyCache responseBodyCache;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("ROLE_PERMISSION_ASSIGN")
   @PostMapping("/role_permission")
@@ -43,7 +57,10 @@ public class AppRolePermissionController {
     try {
       final AppRolePermissionEntity appRolePermissionEntity =
           appRolePermissionService.createAppRolePermission(appRolePermissionRequest);
-      runAsync(() -> auditService.auditAppRoleAssignPermission(request, appRolePermissionEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () -> auditService.auditAppRoleAssignPermission(auditContext, appRolePermissionEntity));
       return entityDtoConvertUtils.getResponseSingleAppRolePermission(appRolePermissionEntity);
     } catch (Exception ex) {
       log.error("Create App Role Permission: [{}]", appRolePermissionRequest, ex);
@@ -53,11 +70,22 @@ public class AppRolePermissionController {
 
   @CheckPermission({"ROLE_READ", "PERMISSION_READ"})
   @GetMapping
-  public ResponseEntity<AppRolePermissionResponse> readAppRolePermissions() {
+  public ResponseEntity<AppRolePermissionResponse> readAppRolePermissions(
+      final ServletWebRequest webRequest) {
     try {
-      final List<AppRolePermissionEntity> appRolePermissionEntities =
-          appRolePermissionService.readAppRolePermissions();
-      return entityDtoConvertUtils.getResponseMultipleAppRolePermission(appRolePermissionEntities);
+      final String eTag = dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppRolePermissionEntity> appRolePermissionEntities =
+                appRolePermissionService.readAppRolePermissions();
+            return entityDtoConvertUtils.getResponseMultipleAppRolePermission(
+                appRolePermissionEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Role Permissions...", ex);
       return entityDtoConvertUtils.getResponseErrorAppRolePermission(ex);
@@ -67,11 +95,21 @@ public class AppRolePermissionController {
   @CheckPermission({"ROLE_READ", "PERMISSION_READ"})
   @GetMapping("/role/{roleId}")
   public ResponseEntity<AppRolePermissionResponse> readAppRolePermissionsByRoleId(
-      @PathVariable final int roleId) {
+      @PathVariable final int roleId, final ServletWebRequest webRequest) {
     try {
-      final List<AppRolePermissionEntity> appRolePermissionEntities =
-          appRolePermissionService.readAppRolePermissions(roleId);
-      return entityDtoConvertUtils.getResponseMultipleAppRolePermission(appRolePermissionEntities);
+      final String eTag = dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppRolePermissionEntity> appRolePermissionEntities =
+                appRolePermissionService.readAppRolePermissions(roleId);
+            return entityDtoConvertUtils.getResponseMultipleAppRolePermission(
+                appRolePermissionEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Role Permissions By Role Id: [{}]", roleId, ex);
       return entityDtoConvertUtils.getResponseErrorAppRolePermission(ex);
@@ -81,11 +119,23 @@ public class AppRolePermissionController {
   @CheckPermission({"ROLE_READ", "PERMISSION_READ"})
   @GetMapping("/app/{appId}/roles/{roleIds}")
   public ResponseEntity<AppRolePermissionResponse> readAppRolePermissionsByAppIdAndRoleIds(
-      @PathVariable final String appId, @PathVariable final List<Integer> roleIds) {
+      @PathVariable final String appId,
+      @PathVariable final List<Integer> roleIds,
+      final ServletWebRequest webRequest) {
     try {
-      final List<AppRolePermissionEntity> appRolePermissionEntities =
-          appRolePermissionService.readAppRolePermissions(appId, roleIds);
-      return entityDtoConvertUtils.getResponseMultipleAppRolePermission(appRolePermissionEntities);
+      final String eTag = dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS);
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppRolePermissionEntity> appRolePermissionEntities =
+                appRolePermissionService.readAppRolePermissions(appId, roleIds);
+            return entityDtoConvertUtils.getResponseMultipleAppRolePermission(
+                appRolePermissionEntities);
+          });
     } catch (Exception ex) {
       log.error("Read App Role Permissions By Role Ids: [{}], [{}]", appId, roleIds, ex);
       return entityDtoConvertUtils.getResponseErrorAppRolePermission(ex);
@@ -114,7 +164,10 @@ public class AppRolePermissionController {
       final HttpServletRequest request) {
     try {
       appRolePermissionService.deleteAppRolePermission(roleId, permissionId);
-      runAsync(() -> auditService.auditAppRoleUnassignPermission(request, roleId, permissionId));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () -> auditService.auditAppRoleUnassignPermission(auditContext, roleId, permissionId));
       return entityDtoConvertUtils.getResponseDeleteAppRolePermission();
     } catch (Exception ex) {
       log.error("Delete App Role Permission: [{}], [{}]", roleId, permissionId, ex);
@@ -0,0 +1,51 @@
+package auth.service.app.controller;
+
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.annotation.SqlBudget;
+import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.model.dto.TokenIntrospectRequest;
+import auth.service.app.model.dto.TokenIntrospectResponse;
+import auth.service.app.model.dto.TokenIntrospectResult;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import auth.service.app.service.AppTokenIntrospectService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/basic_app_users/token")
+@Validated
+@Bulkhead(RequestLane.TOKEN)
+public class AppTokenIntrospectController {
+
+  private final AppTokenIntrospectService appTokenIntrospectService;
+
+  @SqlBudget(statements = 1)
+  @PostMapping(value = "/introspect", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<TokenIntrospectResponse> introspectTokens(
+      @Valid @RequestBody final TokenIntrospectRequest tokenIntrospectRequest) {
+    try {
+      final List<TokenIntrospectResult> results =
+          appTokenIntrospectService.introspectTokens(
+              tokenIntrospectRequest.getTokens(), tokenIntrospectRequest.getPermissions());
+      return ResponseEntity.ok(TokenIntrospectResponse.builder().results(results).build());
+    } catch (Exception ex) {
+      log.error("Introspect Tokens: [{}]", tokenIntrospectRequest, ex);
+      return ResponseEntity.internalServerError()
+          .body(
+              TokenIntrospectResponse.builder()
+                  .responseStatusInfo(ResponseStatusInfo.builder().errMsg(ex.getMessage()).build())
+                  .build());
+    }
+  }
+}
@@ -1,14 +1,18 @@
 package auth.service.app.controller;
 
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.util.CommonUtils.getAppUserIncludes;
 import static auth.service.app.util.CommonUtils.getBaseUrlForLinkInEmail;
 import static auth.service.app.util.JwtUtils.decodeAuthCredentials;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
 import auth.service.app.exception.ElementMissingException;
 import auth.service.app.exception.JwtInvalidException;
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.annotation.SqlBudget;
 import auth.service.app.model.dto.AppTokenRequest;
 import auth.service.app.model.dto.AppUserRequest;
 import auth.service.app.model.dto.AppUserResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserLoginResponse;
@@ -16,6 +20,7 @@ import auth.service.app.model.entity.AppTokenEntity;
 import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppsAppUserEntity;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.model.token.AuthToken;
 import auth.service.app.service.AppTokenService;
 import auth.service.app.service.AppUserPasswordService;
@@ -24,6 +29,7 @@ import auth.service.app.service.AppsAppUserService;
 import auth.service.app.service.AppsService;
 import auth.service.app.service.AuditService;
 import auth.service.app.service.EmailService;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -48,6 +54,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/basic_app_users/user")
 @Validated
+@Bulkhead(RequestLane.AUTH)
 public class AppUserBasicAuthController {
 
   private final AppUserService appUserService;
@@ -58,55 +65,74 @@ public class AppUserBasicAuthController {
   private final EmailService emailService;
   private final AppTokenService appTokenService;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @PostMapping("/{appId}/create")
   public ResponseEntity<AppUserResponse> createAppUser(
       @PathVariable final String appId,
       @Valid @RequestBody final AppUserRequest appUserRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       final String baseUrl = getBaseUrlForLinkInEmail(request);
       final AppsEntity appsEntity = appsService.readApp(appId);
       final AppUserEntity appUserEntity =
           appUserService.createAppUser(appsEntity, appUserRequest, baseUrl);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserCreate(
-                  request, appId, appUserEntity, appUserRequest.isGuestUser()));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+                  auditContext, appId, appUserEntity, appUserRequest.isGuestUser()));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Create App User: [{}] | [{}]", appId, appUserRequest, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
     }
   }
 
+  @SqlBudget(statements = 5)
   @PostMapping("/{appId}/login")
   public ResponseEntity<UserLoginResponse> loginAppUser(
       @PathVariable final String appId,
       @Valid @RequestBody final UserLoginRequest userLoginRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       final UserLoginResponse userLoginResponse =
           appUserPasswordService.loginUser(appId, userLoginRequest);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserLoginSuccess(
-                  request, appId, userLoginResponse.getUser().getId()));
+                  auditContext, appId, userLoginResponse.getUser().getId()));
+      // lean mode, the token already carries roles and permissions
+      entityDtoConvertUtils.filterAppUserDto(
+          userLoginResponse.getUser(), getAppUserIncludes(include, fields));
       return ResponseEntity.ok(userLoginResponse);
     } catch (Exception ex) {
       log.error("Login App User: [{}] | [{}]", appId, userLoginRequest, ex);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserLoginFailure(
-                  request, appId, userLoginRequest.getEmail(), ex));
+                  auditContext, appId, userLoginRequest.getEmail(), ex));
       return entityDtoConvertUtils.getResponseErrorAppUserLogin(ex);
     }
   }
 
+  @SqlBudget(statements = 5)
   @PostMapping("/{appId}/refresh")
   public ResponseEntity<UserLoginResponse> refreshToken(
       @PathVariable final String appId,
       @Valid @RequestBody final AppTokenRequest appTokenRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       if (!StringUtils.hasText(appTokenRequest.getRefreshToken())) {
@@ -122,21 +148,29 @@ public class AppUserBasicAuthController {
 
       final UserLoginResponse userLoginResponse =
           appTokenService.saveToken(appTokenEntity.getId(), null, appTokenEntity.getUser(), appId);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserTokenRefreshSuccess(
-                  request, appId, appTokenEntity.getUser()));
+                  auditContext, appId, appTokenEntity.getUser()));
+      // lean mode, the token already carries roles and permissions
+      entityDtoConvertUtils.filterAppUserDto(
+          userLoginResponse.getUser(), getAppUserIncludes(include, fields));
       return ResponseEntity.ok(userLoginResponse);
     } catch (Exception ex) {
       log.error("Refresh Token: [{}] | [{}]", appId, appTokenRequest, ex);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserTokenRefreshFailure(
-                  request, appId, appTokenRequest.getAppUserId(), ex));
+                  auditContext, appId, appTokenRequest.getAppUserId(), ex));
       return entityDtoConvertUtils.getResponseErrorAppUserLogin(ex);
     }
   }
 
+  @SqlBudget(statements = 5)
   @PostMapping("/{appId}/logout")
   public ResponseEntity<ResponseStatusInfo> logout(
       @PathVariable final String appId,
@@ -157,15 +191,21 @@ public class AppUserBasicAuthController {
       appTokenService.saveToken(
           appTokenEntity.getId(), LocalDateTime.now(), appTokenEntity.getUser(), appId);
 
-      runAsync(
-          () -> auditService.auditAppUserLogoutSuccess(request, appId, appTokenEntity.getUser()));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () ->
+              auditService.auditAppUserLogoutSuccess(
+                  auditContext, appId, appTokenEntity.getUser()));
       return ResponseEntity.noContent().build();
     } catch (Exception ex) {
       log.error("Logout: [{}] | [{}]", appId, appTokenRequest, ex);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserLogoutFailure(
-                  request, appId, appTokenRequest.getAppUserId(), ex));
+                  auditContext, appId, appTokenRequest.getAppUserId(), ex));
       return entityDtoConvertUtils.getResponseErrorResponseStatusInfo(ex);
     }
   }
@@ -177,14 +217,18 @@ public class AppUserBasicAuthController {
       final HttpServletRequest request) {
     try {
       final AppUserEntity appUserEntity = appUserPasswordService.resetUser(appId, userLoginRequest);
-      runAsync(() -> auditService.auditAppUserResetSuccess(request, appId, appUserEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserResetSuccess(auditContext, appId, appUserEntity));
       return ResponseEntity.noContent().build();
     } catch (Exception ex) {
       log.error("Reset App User: [{}] | [{}]", appId, userLoginRequest, ex);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserResetFailure(
-                  request, appId, userLoginRequest.getEmail(), ex));
+                  auditContext, appId, userLoginRequest.getEmail(), ex));
       return entityDtoConvertUtils.getResponseErrorResponseStatusInfo(ex);
     }
   }
@@ -199,14 +243,18 @@ public class AppUserBasicAuthController {
       final String baseUrl = getBaseUrlForLinkInEmail(request);
       emailService.sendUserValidationEmail(
           appsAppUserEntity.getApp(), appsAppUserEntity.getAppUser(), baseUrl);
-      runAsync(
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
           () ->
               auditService.auditAppUserValidateInit(
-                  request, appId, appsAppUserEntity.getAppUser()));
+                  auditContext, appId, appsAppUserEntity.getAppUser()));
       return ResponseEntity.noContent().build();
     } catch (Exception ex) {
       log.error("Validate App User Init: [{}], [{}]", appId, email, ex);
-      runAsync(() -> auditService.auditAppUserValidateFailure(request, appId, email, ex));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserValidateFailure(auditContext, appId, email, ex));
       return entityDtoConvertUtils.getResponseErrorResponseStatusInfo(ex);
     }
   }
@@ -221,12 +269,18 @@ public class AppUserBasicAuthController {
       final String baseUrl = getBaseUrlForLinkInEmail(request);
       emailService.sendUserResetEmail(
           appsAppUserEntity.getApp(), appsAppUserEntity.getAppUser(), baseUrl);
-      runAsync(
-          () -> auditService.auditAppUserResetInit(request, appId, appsAppUserEntity.getAppUser()));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () ->
+              auditService.auditAppUserResetInit(
+                  auditContext, appId, appsAppUserEntity.getAppUser()));
       return ResponseEntity.noContent().build();
     } catch (Exception ex) {
       log.error("Reset App User Init: [{}], [{}]", appId, email, ex);
-      runAsync(() -> auditService.auditAppUserResetFailure(request, appId, email, ex));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserResetFailure(auditContext, appId, email, ex));
       return entityDtoConvertUtils.getResponseErrorResponseStatusInfo(ex);
     }
   }
@@ -1,18 +1,28 @@
 package auth.service.app.controller;
 
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.util.CommonUtils.getAppUserIncludes;
 import static auth.service.app.util.CommonUtils.getBaseUrlForLinkInEmail;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
+import auth.service.app.model.annotation.SqlBudget;
+import auth.service.app.model.dto.AppUserMultiGetRequest;
 import auth.service.app.model.dto.AppUserRequest;
 import auth.service.app.model.dto.AppUserResponse;
+import auth.service.app.model.dto.AppUserSearchRequest;
+import auth.service.app.model.dto.AuditContext;
+import auth.service.app.model.dto.ResponsePageInfo;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserUpdateEmailRequest;
 import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppsAppUserEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppUserService;
+import auth.service.app.service.AppUserService.AppUserSearchResult;
 import auth.service.app.service.AppsAppUserService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
 import auth.service.app.util.PermissionCheck;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,9 +37,11 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -37,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/app_users")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppUserController {
 
   private final AppUserService appUserService;
@@ -44,14 +57,18 @@ public class AppUserController {
   private final EntityDtoConvertUtils entityDtoConvertUtils;
   private final PermissionCheck permissionCheck;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @GetMapping
-  public ResponseEntity<AppUserResponse> readAppUsers() {
+  public ResponseEntity<AppUserResponse> readAppUsers(
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
     try {
       final List<AppUserEntity> appUserEntities = appUserService.readAppUsers();
       final List<AppUserEntity> filteredAppUserEntities =
           permissionCheck.filterAppUserListByAccess(appUserEntities);
-      return entityDtoConvertUtils.getResponseMultipleAppUser(filteredAppUserEntities);
+      return entityDtoConvertUtils.getResponseMultipleAppUser(
+          filteredAppUserEntities, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Read App Users...", ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -59,7 +76,10 @@ public class AppUserController {
   }
 
   @GetMapping("/app/{appId}")
-  public ResponseEntity<AppUserResponse> readAppUsersByAppId(@PathVariable final String appId) {
+  public ResponseEntity<AppUserResponse> readAppUsersByAppId(
+      @PathVariable final String appId,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
     try {
       final List<AppsAppUserEntity> appsAppUserEntities =
           appsAppUserService.readAppsAppUsersByAppId(appId);
@@ -67,19 +87,68 @@ public class AppUserController {
           appsAppUserEntities.stream().map(AppsAppUserEntity::getAppUser).toList();
       final List<AppUserEntity> filteredAppUserEntities =
           permissionCheck.filterAppUserListByAccess(appUserEntities);
-      return entityDtoConvertUtils.getResponseMultipleAppUser(filteredAppUserEntities);
+      return entityDtoConvertUtils.getResponseMultipleAppUser(
+          filteredAppUserEntities, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Read App Users By App Id: [{}]", appId, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
     }
   }
 
+  @SqlBudget(statements = 9)
+  @GetMapping("/users")
+  public ResponseEntity<AppUserResponse> readAppUsersMultiGet(
+      @Valid final AppUserMultiGetRequest appUserMultiGetRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
+    return readAppUsersByIdsOrEmails(appUserMultiGetRequest, include, fields);
+  }
+
+  @SqlBudget(statements = 9)
+  @PostMapping("/users")
+  public ResponseEntity<AppUserResponse> readAppUsersMultiGetPost(
+      @Valid @RequestBody final AppUserMultiGetRequest appUserMultiGetRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
+    return readAppUsersByIdsOrEmails(appUserMultiGetRequest, include, fields);
+  }
+
+  @SqlBudget(statements = 9)
+  @GetMapping("/search")
+  public ResponseEntity<AppUserResponse> searchAppUsers(
+      @Valid final AppUserSearchRequest appUserSearchRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
+    try {
+      final AppUserSearchResult appUserSearchResult =
+          appUserService.searchAppUsers(appUserSearchRequest);
+      // cursor comes from the unfiltered page so filtering does not shift the pages
+      final List<AppUserEntity> filteredAppUserEntities =
+          permissionCheck.filterAppUserListByAccess(appUserSearchResult.appUsers());
+      return entityDtoConvertUtils.getResponseMultipleAppUser(
+          filteredAppUserEntities,
+          getAppUserIncludes(include, fields),
+          ResponsePageInfo.builder()
+              .perPage(appUserSearchRequest.getLimit())
+              .nextCursor(appUserSearchResult.nextCursor())
+              .build());
+    } catch (Exception ex) {
+      log.error("Search App Users: [{}]", appUserSearchRequest, ex);
+      return entityDtoConvertUtils.getResponseErrorAppUser(ex);
+    }
+  }
+
+  @SqlBudget(statements = 9)
   @GetMapping("/user/{id}")
-  public ResponseEntity<AppUserResponse> readAppUser(@PathVariable final int id) {
+  public ResponseEntity<AppUserResponse> readAppUser(
+      @PathVariable final int id,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
     try {
       permissionCheck.canUserAccessAppUser("", id);
       final AppUserEntity appUserEntity = appUserService.readAppUser(id);
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Read App User: [{}]", id, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -87,11 +156,15 @@ public class AppUserController {
   }
 
   @GetMapping("/user/email/{email}")
-  public ResponseEntity<AppUserResponse> readAppUserByEmail(@PathVariable final String email) {
+  public ResponseEntity<AppUserResponse> readAppUserByEmail(
+      @PathVariable final String email,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields) {
     try {
       permissionCheck.canUserAccessAppUser(email, 0);
       final AppUserEntity appUserEntity = appUserService.readAppUser(email);
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Read App User By Email: [{}]", email, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -102,6 +175,8 @@ public class AppUserController {
   public ResponseEntity<AppUserResponse> updateAppUser(
       @PathVariable final int id,
       @Valid @RequestBody final AppUserRequest appUserRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       permissionCheck.canUserAccessAppUser("", id);
@@ -110,8 +185,11 @@ public class AppUserController {
         appUserEntity = appUserService.readAppUser(appUserEntity.getId());
       }
       final AppUserEntity finalAppUserEntity = appUserEntity;
-      runAsync(() -> auditService.auditAppUserUpdate(request, finalAppUserEntity));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserUpdate(auditContext, finalAppUserEntity));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Update App User: [{}] | [{}]", id, appUserRequest, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -123,6 +201,8 @@ public class AppUserController {
       @PathVariable final String appId,
       @PathVariable final int id,
       @Valid @RequestBody final UserUpdateEmailRequest userUpdateEmailRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       permissionCheck.canUserAccessAppUser("", id);
@@ -132,8 +212,11 @@ public class AppUserController {
       final AppUserEntity appUserEntity =
           appUserService.updateAppUserEmail(
               id, userUpdateEmailRequest, appsAppUserEntity.getApp(), baseUrl);
-      runAsync(() -> auditService.auditAppUserUpdateEmail(request, appUserEntity, appId));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserUpdateEmail(auditContext, appUserEntity, appId));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Update App User Email: [{}] | [{}]", id, userUpdateEmailRequest, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -144,13 +227,18 @@ public class AppUserController {
   public ResponseEntity<AppUserResponse> updateAppUserPassword(
       @PathVariable final int id,
       @Valid @RequestBody final UserLoginRequest userLoginRequest,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       permissionCheck.canUserAccessAppUser("", id);
       final AppUserEntity appUserEntity =
           appUserService.updateAppUserPassword(id, userLoginRequest);
-      runAsync(() -> auditService.auditAppUserUpdatePassword(request, appUserEntity));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserUpdatePassword(auditContext, appUserEntity));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Update App User Password: [{}] | [{}]", id, userLoginRequest, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -161,12 +249,17 @@ public class AppUserController {
   public ResponseEntity<AppUserResponse> deleteAppUserAddress(
       @PathVariable final int userId,
       @PathVariable final int addressId,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
       final HttpServletRequest request) {
     try {
       permissionCheck.canUserAccessAppUser("", userId);
       final AppUserEntity appUserEntity = appUserService.deleteAppUserAddress(userId, addressId);
-      runAsync(() -> auditService.auditAppUserDeleteAddress(request, appUserEntity));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserDeleteAddress(auditContext, appUserEntity));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Delete App User Address: [{}] | [{}]", userId, addressId, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
@@ -179,7 +272,9 @@ public class AppUserController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appUserService.softDeleteAppUser(id);
-      runAsync(() -> auditService.auditAppUserDeleteSoft(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserDeleteSoft(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppUser();
     } catch (Exception ex) {
       log.error("Soft Delete App User: [{}]", id, ex);
@@ -193,7 +288,9 @@ public class AppUserController {
       @PathVariable final int id, final HttpServletRequest request) {
     try {
       appUserService.hardDeleteAppUser(id);
-      runAsync(() -> auditService.auditAppUserDeleteHard(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserDeleteHard(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteAppUser();
     } catch (Exception ex) {
       log.error("Hard Delete App User: [{}]", id, ex);
@@ -204,14 +301,38 @@ public class AppUserController {
   @CheckPermission("ONLY SUPERUSER CAN RESTORE")
   @PatchMapping("/user/{id}/restore")
   public ResponseEntity<AppUserResponse> restoreAppUser(
-      @PathVariable final int id, final HttpServletRequest request) {
+      @PathVariable final int id,
+      @RequestParam(required = false) final String include,
+      @RequestParam(required = false) final String fields,
+      final HttpServletRequest request) {
     try {
       final AppUserEntity appUserEntity = appUserService.restoreSoftDeletedAppUser(id);
-      runAsync(() -> auditService.auditAppUserRestore(request, id));
-      return entityDtoConvertUtils.getResponseSingleAppUser(appUserEntity);
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserRestore(auditContext, id));
+      return entityDtoConvertUtils.getResponseSingleAppUser(
+          appUserEntity, getAppUserIncludes(include, fields));
     } catch (Exception ex) {
       log.error("Restore App User: [{}]", id, ex);
       return entityDtoConvertUtils.getResponseErrorAppUser(ex);
     }
   }
+
+  private ResponseEntity<AppUserResponse> readAppUsersByIdsOrEmails(
+      final AppUserMultiGetRequest appUserMultiGetRequest,
+      final String include,
+      final String fields) {
+    try {
+      final List<AppUserEntity> appUserEntities =
+          appUserService.readAppUsers(
+              appUserMultiGetRequest.getIds(), appUserMultiGetRequest.getEmails());
+      final List<AppUserEntity> filteredAppUserEntities =
+          permissionCheck.filterAppUserListByAccess(appUserEntities);
+      return entityDtoConvertUtils.getResponseMultipleAppUser(
+          filteredAppUserEntities, getAppUserIncludes(include, fields));
+    } catch (Exception ex) {
+      log.error("Read App Users Multi Get: [{}]", appUserMultiGetRequest, ex);
+      return entityDtoConvertUtils.getResponseErrorAppUser(ex);
+    }
+  }
 }
@@ -1,12 +1,16 @@
 package auth.service.app.controller;
 
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
 import static auth.service.app.util.JwtUtils.decodeEmailAddressNoException;
-import static java.util.concurrent.CompletableFuture.runAsync;
 
 import auth.service.app.connector.EnvServiceConnector;
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppUserPasswordService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,12 +28,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/na_app_users/user")
+@Bulkhead(RequestLane.NO_AUTH)
 public class AppUserNoAuthController {
 
   private final AppUserPasswordService appUserPasswordService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
   private final EnvServiceConnector envServiceConnector;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @GetMapping("/{appId}/validate_exit")
   public ResponseEntity<Void> validateAppUserExit(
@@ -40,12 +46,17 @@ public class AppUserNoAuthController {
     try {
       final AppUserEntity appUserEntity =
           appUserPasswordService.validateAndResetUser(appId, toValidate, true);
-      runAsync(() -> auditService.auditAppUserValidateExit(request, appId, appUserEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserValidateExit(auditContext, appId, appUserEntity));
       return entityDtoConvertUtils.getResponseValidateUser(redirectUrl, true);
     } catch (Exception ex) {
       final String decodedEmail = decodeEmailAddressNoException(toValidate);
       log.error("Validate App User Exit: [{}], [{}]", appId, decodedEmail, ex);
-      runAsync(() -> auditService.auditAppUserValidateFailure(request, appId, decodedEmail, ex));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () -> auditService.auditAppUserValidateFailure(auditContext, appId, decodedEmail, ex));
       return entityDtoConvertUtils.getResponseValidateUser(redirectUrl, false);
     }
   }
@@ -59,13 +70,18 @@ public class AppUserNoAuthController {
     try {
       final AppUserEntity appUserEntity =
           appUserPasswordService.validateAndResetUser(appId, toReset, false);
-      runAsync(() -> auditService.auditAppUserResetExit(request, appId, appUserEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserResetExit(auditContext, appId, appUserEntity));
       return entityDtoConvertUtils.getResponseResetUser(
           redirectUrl, true, appUserEntity.getEmail());
     } catch (Exception ex) {
       final String decodedEmail = decodeEmailAddressNoException(toReset);
       log.error("Reset App User Exit: [{}], [{}]", appId, decodedEmail, ex);
-      runAsync(() -> auditService.auditAppUserResetFailure(request, appId, decodedEmail, ex));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT,
+          () -> auditService.auditAppUserResetFailure(auditContext, appId, decodedEmail, ex));
       return entityDtoConvertUtils.getResponseResetUser(redirectUrl, false, "");
     }
   }
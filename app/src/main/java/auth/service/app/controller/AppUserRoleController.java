@@ -1,13 +1,17 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppUserRoleRequest;
 import auth.service.app.model.dto.AppUserRoleResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppUserRoleEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppUserRoleService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -29,11 +33,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/app_users_roles")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppUserRoleController {
 
   private final AppUserRoleService appUserRoleService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("USER_ROLE_ASSIGN")
   @PostMapping("/user_role")
@@ -43,7 +49,9 @@ public class AppUserRoleController {
     try {
       final AppUserRoleEntity appUserRoleEntity =
           appUserRoleService.createAppUserRole(appUserRoleRequest);
-      runAsync(() -> auditService.auditAppUserAssignRole(request, appUserRoleEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserAssignRole(auditContext, appUserRoleEntity));
       return entityDtoConvertUtils.getResponseSingleAppUserRole(appUserRoleEntity);
     } catch (Exception ex) {
       log.error("Create App User Role: [{}}", appUserRoleRequest, ex);
@@ -113,7 +121,9 @@ public class AppUserRoleController {
       final HttpServletRequest request) {
     try {
       appUserRoleService.deleteAppUserRole(userId, roleId);
-      runAsync(() -> auditService.auditAppUserUnassignRole(request, userId, roleId));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserUnassignRole(auditContext, userId, roleId));
       return entityDtoConvertUtils.getResponseDeleteAppUserRole();
     } catch (Exception ex) {
       log.error("Delete App User Role: [{}], [{}]", userId, roleId, ex);
@@ -1,5 +1,7 @@
 package auth.service.app.controller;
 
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.model.token.AuthToken;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
 @RestController("/api/v1/validate")
+@Bulkhead(RequestLane.TOKEN)
 public class AppValidateTokenController {
 
   @GetMapping(value = "/token/{appId}", produces = MediaType.APPLICATION_JSON_VALUE)
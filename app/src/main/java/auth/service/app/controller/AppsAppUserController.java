@@ -1,13 +1,17 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppsAppUserRequest;
 import auth.service.app.model.dto.AppsAppUserResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppsAppUserEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppsAppUserService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -29,11 +33,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/apps_app_user")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppsAppUserController {
 
   private final AppsAppUserService appsAppUserService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("ONLY SUPERUSER CAN ASSIGN USER TO APPS")
   @PostMapping("/apps_user")
@@ -43,7 +49,9 @@ public class AppsAppUserController {
     try {
       final AppsAppUserEntity appsAppUserEntity =
           appsAppUserService.createAppsAppUser(appsAppUserRequest);
-      runAsync(() -> auditService.auditAppUserAssignApp(request, appsAppUserEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserAssignApp(auditContext, appsAppUserEntity));
       return entityDtoConvertUtils.getResponseSingleAppsAppUser(appsAppUserEntity);
     } catch (Exception ex) {
       log.error("Create Apps App User: [{}]", appsAppUserRequest, ex);
@@ -114,7 +122,9 @@ public class AppsAppUserController {
       final HttpServletRequest request) {
     try {
       appsAppUserService.deleteAppsAppUser(appId, appUserEmail);
-      runAsync(() -> auditService.auditAppUserUnassignApp(request, appUserEmail, appId));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppUserUnassignApp(auditContext, appUserEmail, appId));
       return entityDtoConvertUtils.getResponseDeleteAppsAppUser();
     } catch (Exception ex) {
       log.error("Delete Apps App User: [{}], [{}]", appId, appUserEmail, ex);
@@ -1,14 +1,21 @@
 package auth.service.app.controller;
 
-import static java.util.concurrent.CompletableFuture.runAsync;
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.AUDIT;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.APPS;
 
+import auth.service.app.model.annotation.Bulkhead;
 import auth.service.app.model.annotation.CheckPermission;
 import auth.service.app.model.dto.AppsRequest;
 import auth.service.app.model.dto.AppsResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
 import auth.service.app.service.AppsService;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.AsyncExecutorRegistry;
+import auth.service.app.util.DataVersionRegistry;
 import auth.service.app.util.EntityDtoConvertUtils;
+import auth.service.app.util.ResponseBodyCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -25,17 +32,22 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/apps")
 @Validated
+@Bulkhead(RequestLane.ADMIN)
 public class AppsController {
 
   private final AppsService appsService;
   private final EntityDtoConvertUtils entityDtoConvertUtils;
+  private final DataVersionRegistry dataVersionRegistry;
+  private final ResponseBodyCache responseBodyCache;
   private final AuditService auditService;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   @CheckPermission("ONLY SUPERUSER CAN CREATE APP")
   @PostMapping("/app")
@@ -43,7 +55,9 @@ public class AppsController {
       @Valid @RequestBody final AppsRequest appsRequest, final HttpServletRequest request) {
     try {
       final AppsEntity appsEntity = appsService.createApp(appsRequest);
-      runAsync(() -> auditService.auditAppsCreate(request, appsEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppsCreate(auditContext, appsEntity));
       return entityDtoConvertUtils.getResponseSingleApps(appsEntity);
     } catch (Exception ex) {
       log.error("Create App: [{}]", appsRequest, ex);
@@ -53,10 +67,20 @@ public class AppsController {
 
   @CheckPermission("ONLY SUPERUSER CAN READ APP")
   @GetMapping
-  public ResponseEntity<AppsResponse> readApps() {
+  public ResponseEntity<AppsResponse> readApps(final ServletWebRequest webRequest) {
     try {
-      final List<AppsEntity> appsEntities = appsService.readApps();
-      return entityDtoConvertUtils.getResponseMultipleApps(appsEntities);
+      final String eTag = dataVersionRegistry.getETag(APPS);
+      // unchanged since the client's copy, 304 without reading or serializing anything
+      if (responseBodyCache.checkNotModified(webRequest, eTag)) {
+        return null;
+      }
+      return responseBodyCache.respond(
+          webRequest,
+          eTag,
+          () -> {
+            final List<AppsEntity> appsEntities = appsService.readApps();
+            return entityDtoConvertUtils.getResponseMultipleApps(appsEntities);
+          });
     } catch (Exception ex) {
       log.error("Read Apps...", ex);
       return entityDtoConvertUtils.getResponseErrorApps(ex);
@@ -83,7 +107,9 @@ public class AppsController {
       final HttpServletRequest request) {
     try {
       final AppsEntity appsEntity = appsService.updateApps(id, appsRequest);
-      runAsync(() -> auditService.auditAppsUpdate(request, appsEntity));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppsUpdate(auditContext, appsEntity));
       return entityDtoConvertUtils.getResponseSingleApps(appsEntity);
     } catch (Exception ex) {
       log.error("Update App: [{}] | [{}]", id, appsRequest, ex);
@@ -97,7 +123,9 @@ public class AppsController {
       @PathVariable final String id, final HttpServletRequest request) {
     try {
       appsService.softDeleteApps(id);
-      runAsync(() -> auditService.auditAppsDeleteSoft(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppsDeleteSoft(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteApps();
     } catch (Exception ex) {
       log.error("Soft Delete App: [{}]", id, ex);
@@ -111,7 +139,9 @@ public class AppsController {
       @PathVariable final String id, final HttpServletRequest request) {
     try {
       appsService.hardDeleteApps(id);
-      runAsync(() -> auditService.auditAppsDeleteHard(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(
+          AUDIT, () -> auditService.auditAppsDeleteHard(auditContext, id));
       return entityDtoConvertUtils.getResponseDeleteApps();
     } catch (Exception ex) {
       log.error("Hard Delete App: [{}]", id, ex);
@@ -125,7 +155,8 @@ public class AppsController {
       @PathVariable final String id, final HttpServletRequest request) {
     try {
       final AppsEntity appsEntity = appsService.restoreSoftDeletedApps(id);
-      runAsync(() -> auditService.auditAppsRestore(request, id));
+      final AuditContext auditContext = AuditContext.of(request);
+      asyncExecutorRegistry.runAsync(AUDIT, () -> auditService.auditAppsRestore(auditContext, id));
       return entityDtoConvertUtils.getResponseSingleApps(appsEntity);
     } catch (Exception ex) {
       log.error("Restore App: [{}]", id, ex);
@@ -0,0 +1,123 @@
+package auth.service.app.controller;
+
+import auth.service.app.exception.ElementNotFoundException;
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.annotation.CheckPermission;
+import auth.service.app.model.dto.AuditDto;
+import auth.service.app.model.dto.AuditRequest;
+import auth.service.app.model.dto.AuditResponse;
+import auth.service.app.model.dto.ResponsePageInfo;
+import auth.service.app.model.enums.AuditEnums.AuditType;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import auth.service.app.service.AuditService;
+import auth.service.app.service.AuditService.AuditPage;
+import auth.service.app.util.BulkheadRegistry;
+import auth.service.app.util.EntityDtoConvertUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/audits")
+@Validated
+@Bulkhead(RequestLane.ADMIN)
+public class AuditController {
+
+  private final AuditService auditService;
+  private final EntityDtoConvertUtils entityDtoConvertUtils;
+  private final ObjectMapper objectMapper;
+
+  @CheckPermission("AUDIT_READ")
+  @GetMapping("/{auditType}")
+  public ResponseEntity<AuditResponse> readAudits(
+      @PathVariable final String auditType, @Valid final AuditRequest auditRequest) {
+    try {
+      final AuditPage auditPage = auditService.readAudits(getAuditType(auditType), auditRequest);
+      return entityDtoConvertUtils.getResponseMultipleAudit(
+          auditPage.audits(),
+          ResponsePageInfo.builder()
+              .perPage(auditRequest.getLimit())
+              .nextPageKey(auditPage.nextPageKey())
+              .build());
+    } catch (Exception ex) {
+      log.error("Read Audits: [{}], [{}]", auditType, auditRequest, ex);
+      return entityDtoConvertUtils.getResponseErrorAudit(ex);
+    }
+  }
+
+  // every matching row as a json line, limit is the page size of the queries behind it
+  // the first page is read here so request errors still get the error response, as json
+  @CheckPermission("AUDIT_READ")
+  @GetMapping("/{auditType}/stream")
+  public ResponseEntity<StreamingResponseBody> streamAudits(
+      @PathVariable final String auditType, @Valid final AuditRequest auditRequest) {
+    try {
+      final AuditType type = getAuditType(auditType);
+      final AuditPage auditPage = auditService.readAudits(type, auditRequest);
+      // the rest is read on the async thread, within the db connections of this lane
+      final RequestLane requestLane = BulkheadRegistry.getCurrentLane();
+      final StreamingResponseBody streamingResponseBody =
+          outputStream -> {
+            BulkheadRegistry.setCurrentLane(requestLane);
+            try {
+              writeAudits(auditPage.audits(), outputStream);
+              auditService.streamAudits(
+                  type,
+                  auditRequest,
+                  auditPage.nextPageKey(),
+                  auditDtos -> writeAudits(auditDtos, outputStream));
+            } finally {
+              BulkheadRegistry.clearCurrentLane();
+            }
+          };
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .body(streamingResponseBody);
+    } catch (Exception ex) {
+      log.error("Stream Audits: [{}], [{}]", auditType, auditRequest, ex);
+      final ResponseEntity<AuditResponse> responseEntity =
+          entityDtoConvertUtils.getResponseErrorAudit(ex);
+      return ResponseEntity.status(responseEntity.getStatusCode())
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(
+              outputStream ->
+                  outputStream.write(objectMapper.writeValueAsBytes(responseEntity.getBody())));
+    }
+  }
+
+  private AuditType getAuditType(final String auditType) {
+    try {
+      return AuditType.valueOf(auditType.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new ElementNotFoundException("Audit Type", auditType);
+    }
+  }
+
+  private void writeAudits(final List<AuditDto> auditDtos, final OutputStream outputStream) {
+    try {
+      for (final AuditDto auditDto : auditDtos) {
+        outputStream.write(objectMapper.writeValueAsBytes(auditDto));
+        outputStream.write('\n');
+      }
+      outputStream.flush();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package auth.service.app.filter;
+
+import auth.service.app.config.ConcurrencyLimitProperties.LaneLimit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit: grows by one per window of successful requests while the limit is in use,
+ * backs off by ratio (at most once per latency threshold) when a request is slow or fails.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+  private final AtomicInteger inflight = new AtomicInteger();
+
+  private double limit;
+  private long lastBackoffNanos;
+  private volatile int currentLimit;
+
+  public AdaptiveConcurrencyLimit(final LaneLimit laneLimit) {
+    this.minLimit = laneLimit.getMinLimit();
+    this.maxLimit = laneLimit.getMaxLimit();
+    this.latencyThresholdNanos = laneLimit.getLatencyThreshold().toNanos();
+    this.backoffRatio = laneLimit.getBackoffRatio();
+    this.limit = Math.clamp(laneLimit.getInitialLimit(), minLimit, maxLimit);
+    this.lastBackoffNanos = System.nanoTime() - latencyThresholdNanos;
+    this.currentLimit = (int) limit;
+  }
+
+  public boolean tryAcquire() {
+    while (true) {
+      final int current = inflight.get();
+      if (current >= currentLimit) {
+        return false;
+      }
+      if (inflight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void release(final long latencyNanos, final boolean isDropped) {
+    final int inflightBeforeRelease = inflight.getAndDecrement();
+    final long nowNanos = System.nanoTime();
+
+    synchronized (this) {
+      if (isDropped || latencyNanos > latencyThresholdNanos) {
+        if (nowNanos - lastBackoffNanos >= latencyThresholdNanos) {
+          limit = Math.max(minLimit, limit * backoffRatio);
+          lastBackoffNanos = nowNanos;
+        }
+      } else if (inflightBeforeRelease * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+      currentLimit = (int) limit;
+    }
+  }
+
+  public int getLimit() {
+    return currentLimit;
+  }
+
+  public int getInflight() {
+    return inflight.get();
+  }
+}
@@ -0,0 +1,108 @@
+package auth.service.app.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Verifies basic auth credentials with the password encoder once, then accepts the same credentials
+ * for a TTL by comparing their keyed HMAC (per process random key) in constant time.
+ */
+public class BasicAuthCachingProvider implements AuthenticationProvider {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(10);
+  private static final int CACHE_MAX_SIZE = 64;
+
+  private final DaoAuthenticationProvider daoAuthenticationProvider;
+  private final SecretKeySpec hmacKey;
+  private final Duration cacheTtl;
+  private final Map<String, CachedCredentials> cachedCredentials = new ConcurrentHashMap<>();
+
+  public BasicAuthCachingProvider(
+      final UserDetailsService userDetailsService, final PasswordEncoder passwordEncoder) {
+    this(userDetailsService, passwordEncoder, DEFAULT_CACHE_TTL);
+  }
+
+  public BasicAuthCachingProvider(
+      final UserDetailsService userDetailsService,
+      final PasswordEncoder passwordEncoder,
+      final Duration cacheTtl) {
+    this.daoAuthenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+    this.daoAuthenticationProvider.setUserDetailsService(userDetailsService);
+    this.cacheTtl = cacheTtl;
+
+    final byte[] keyBytes = new byte[32];
+    new SecureRandom().nextBytes(keyBytes);
+    this.hmacKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+  }
+
+  @Override
+  public Authentication authenticate(final Authentication authentication)
+      throws AuthenticationException {
+    final String username = authentication.getName();
+    final Object credentials = authentication.getCredentials();
+    if (username == null || credentials == null) {
+      return daoAuthenticationProvider.authenticate(authentication);
+    }
+
+    final byte[] digest = hmac(username, credentials.toString());
+    final CachedCredentials cached = cachedCredentials.get(username);
+    if (cached != null
+        && Instant.now().isBefore(cached.expiresAt())
+        && MessageDigest.isEqual(cached.digest(), digest)) {
+      return UsernamePasswordAuthenticationToken.authenticated(
+          cached.principal(), null, cached.authorities());
+    }
+
+    final Authentication result = daoAuthenticationProvider.authenticate(authentication);
+    if (cachedCredentials.size() >= CACHE_MAX_SIZE) {
+      cachedCredentials.clear();
+    }
+    cachedCredentials.put(
+        username,
+        new CachedCredentials(
+            digest, Instant.now().plus(cacheTtl), result.getPrincipal(), result.getAuthorities()));
+    return result;
+  }
+
+  @Override
+  public boolean supports(final Class<?> authentication) {
+    return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+  }
+
+  private byte[] hmac(final String username, final String password) {
+    try {
+      final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(hmacKey);
+      mac.update(username.getBytes(StandardCharsets.UTF_8));
+      mac.update((byte) 0);
+      return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException ex) {
+      throw new AuthenticationServiceException("Basic Auth Credentials Digest Error", ex);
+    }
+  }
+
+  private record CachedCredentials(
+      byte[] digest,
+      Instant expiresAt,
+      Object principal,
+      Collection<? extends GrantedAuthority> authorities) {}
+}
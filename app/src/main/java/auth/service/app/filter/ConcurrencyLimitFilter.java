@@ -0,0 +1,138 @@
+package auth.service.app.filter;
+
+import static auth.service.app.util.CommonUtils.convertResponseStatusInfoToJson;
+
+import auth.service.app.config.ConcurrencyLimitProperties;
+import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private static final Pattern TOKEN_PATTERN =
+      Pattern.compile("^.*(?:/validate/|/token/|/\\.well-known/).*");
+  private static final Pattern AUTH_PATTERN = Pattern.compile("^.*/basic_app_users/.*");
+  private static final Pattern NO_AUTH_PATTERN = Pattern.compile("^.*/na_app_users/.*");
+  private static final Pattern ADMIN_PATTERN = Pattern.compile("^.*/api/v1/.*");
+
+  private final Map<RequestLane, AdaptiveConcurrencyLimit> concurrencyLimits =
+      new EnumMap<>(RequestLane.class);
+  private final Map<RequestLane, Integer> rejectStatuses = new EnumMap<>(RequestLane.class);
+  private final Map<RequestLane, Counter> rejectedCounters = new EnumMap<>(RequestLane.class);
+  private final String retryAfterSeconds;
+
+  public ConcurrencyLimitFilter(
+      final ConcurrencyLimitProperties concurrencyLimitProperties,
+      final MeterRegistry meterRegistry) {
+    this.retryAfterSeconds = String.valueOf(concurrencyLimitProperties.getRetryAfterSeconds());
+
+    concurrencyLimitProperties
+        .getLanes()
+        .forEach(
+            (requestLane, laneLimit) -> {
+              if (requestLane == RequestLane.OTHER) {
+                return;
+              }
+              final AdaptiveConcurrencyLimit concurrencyLimit =
+                  new AdaptiveConcurrencyLimit(laneLimit);
+              final String lane = requestLane.name().toLowerCase();
+              concurrencyLimits.put(requestLane, concurrencyLimit);
+              rejectStatuses.put(requestLane, laneLimit.getRejectStatus());
+              rejectedCounters.put(
+                  requestLane,
+                  Counter.builder("ums.concurrency.rejected")
+                      .tag("lane", lane)
+                      .register(meterRegistry));
+              Gauge.builder(
+                      "ums.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                  .tag("lane", lane)
+                  .register(meterRegistry);
+              Gauge.builder(
+                      "ums.concurrency.inflight",
+                      concurrencyLimit,
+                      AdaptiveConcurrencyLimit::getInflight)
+                  .tag("lane", lane)
+                  .register(meterRegistry);
+            });
+  }
+
+  public static RequestLane getRequestLane(final String requestUri) {
+    if (TOKEN_PATTERN.matcher(requestUri).matches()) {
+      return RequestLane.TOKEN;
+    } else if (AUTH_PATTERN.matcher(requestUri).matches()) {
+      return RequestLane.AUTH;
+    } else if (NO_AUTH_PATTERN.matcher(requestUri).matches()) {
+      return RequestLane.NO_AUTH;
+    } else if (ADMIN_PATTERN.matcher(requestUri).matches()) {
+      return RequestLane.ADMIN;
+    }
+    return RequestLane.OTHER;
+  }
+
+  public AdaptiveConcurrencyLimit getConcurrencyLimit(final RequestLane requestLane) {
+    return concurrencyLimits.get(requestLane);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final FilterChain filterChain)
+      throws ServletException, IOException {
+    final RequestLane requestLane = getRequestLane(request.getRequestURI());
+    final AdaptiveConcurrencyLimit concurrencyLimit = concurrencyLimits.get(requestLane);
+
+    if (concurrencyLimit == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    if (!concurrencyLimit.tryAcquire()) {
+      rejectedCounters.get(requestLane).increment();
+      log.debug(
+          "Rejecting [{}] URL [{}] Lane [{}] Limit [{}]",
+          request.getMethod(),
+          request.getRequestURI(),
+          requestLane,
+          concurrencyLimit.getLimit());
+      sendRejectedResponse(response, rejectStatuses.get(requestLane));
+      return;
+    }
+
+    final long startNanos = System.nanoTime();
+    boolean isDropped = true;
+    try {
+      filterChain.doFilter(request, response);
+      isDropped = false;
+    } finally {
+      concurrencyLimit.release(System.nanoTime() - startNanos, isDropped);
+    }
+  }
+
+  private void sendRejectedResponse(final HttpServletResponse response, final int status)
+      throws IOException {
+    final ResponseStatusInfo responseStatusInfo =
+        ResponseStatusInfo.builder().errMsg("Server busy, please retry later!").build();
+
+    response.setStatus(status);
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(convertResponseStatusInfoToJson(responseStatusInfo));
+  }
+}
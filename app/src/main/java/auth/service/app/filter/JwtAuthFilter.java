@@ -1,20 +1,24 @@
 package auth.service.app.filter;
 
 import static auth.service.app.util.CommonUtils.convertResponseStatusInfoToJson;
-import static auth.service.app.util.JwtUtils.decodeAuthCredentials;
+import static auth.service.app.util.CommonUtils.normalizeEmail;
+import static auth.service.app.util.JwtUtils.decodeAuthClaims;
+import static auth.service.app.util.JwtUtils.getAuthToken;
+import static auth.service.app.util.JwtUtils.isAccessToken;
 
 import auth.service.app.exception.JwtInvalidException;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.events.jfr.JwtAuthJfrEvent;
 import auth.service.app.model.token.AuthToken;
 import auth.service.app.service.AppUserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
@@ -39,20 +43,35 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
       final String token = authorizationHeader.substring(7);
+      final JwtAuthJfrEvent jwtAuthJfrEvent = new JwtAuthJfrEvent();
+      jwtAuthJfrEvent.begin();
+      jwtAuthJfrEvent.uri = request.getRequestURI();
 
       try {
-        final Map<String, AuthToken> emailAuthToken = decodeAuthCredentials(token);
-
-        if (emailAuthToken.size() != 1) {
+        long phaseStartNanos = System.nanoTime();
+        final Claims claims = decodeAuthClaims(token);
+        jwtAuthJfrEvent.decodeDuration = System.nanoTime() - phaseStartNanos;
+
+        final String email = claims.getSubject();
+        final AuthToken authToken = getAuthToken(claims);
+        if (email == null || authToken == null || authToken.getUser() == null) {
+          jwtAuthJfrEvent.outcome = "malformed";
           sendUnauthorizedResponse(response, "Malformed Auth Token");
           return;
         }
+        // refresh tokens only go to the refresh and logout endpoints, in the request body
+        if (!isAccessToken(claims)) {
+          jwtAuthJfrEvent.outcome = "incorrect";
+          sendUnauthorizedResponse(response, "Incorrect Auth Token");
+          return;
+        }
+        jwtAuthJfrEvent.appId = authToken.getAppId();
 
-        final Map.Entry<String, AuthToken> firstEntry = emailAuthToken.entrySet().iterator().next();
-        final String email = firstEntry.getKey();
-        final AuthToken authToken = firstEntry.getValue();
-
-        if (!validateUserEntity(email, authToken)) {
+        phaseStartNanos = System.nanoTime();
+        final boolean isValidUser = validateUserEntity(email, authToken);
+        jwtAuthJfrEvent.userLookupDuration = System.nanoTime() - phaseStartNanos;
+        if (!isValidUser) {
+          jwtAuthJfrEvent.outcome = "incorrect";
           sendUnauthorizedResponse(response, "Incorrect Auth Token");
           return;
         }
@@ -60,9 +79,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         final UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(email, authToken, Collections.emptyList());
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        jwtAuthJfrEvent.outcome = "success";
       } catch (JwtInvalidException ex) {
+        jwtAuthJfrEvent.outcome = "invalid";
         sendUnauthorizedResponse(response, ex.getMessage());
         return;
+      } finally {
+        if (jwtAuthJfrEvent.outcome == null) {
+          jwtAuthJfrEvent.outcome = "error";
+        }
+        jwtAuthJfrEvent.commit();
       }
     }
 
@@ -83,6 +109,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
   private boolean validateUserEntity(final String email, final AuthToken authToken) {
     final AppUserEntity appUserEntity = appUserService.readAppUser(email);
-    return Objects.equals(appUserEntity.getEmail(), authToken.getUser().getEmail());
+    return Objects.equals(
+        appUserEntity.getEmailNormalized(), normalizeEmail(authToken.getUser().getEmail()));
   }
 }
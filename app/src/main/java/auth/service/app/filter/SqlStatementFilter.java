@@ -0,0 +1,73 @@
+package auth.service.app.filter;
+
+import auth.service.app.util.SqlStatementTracker;
+import auth.service.app.util.SqlStatementTracker.SqlStatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final FilterChain filterChain)
+      throws ServletException, IOException {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      SqlStatementTracker.stop();
+      record(request, sqlStatementStats);
+    }
+  }
+
+  private void record(final HttpServletRequest request, final SqlStatementStats sqlStatementStats) {
+    final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    final String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    final String method = request.getMethod();
+
+    DistributionSummary.builder("ums.sql.statements")
+        .tags("method", method, "uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(sqlStatementStats.getStatements());
+    DistributionSummary.builder("ums.sql.rows")
+        .tags("method", method, "uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(sqlStatementStats.getRows());
+    Timer.builder("ums.sql.time")
+        .tags("method", method, "uri", uri)
+        .register(meterRegistry)
+        .record(sqlStatementStats.getNanos(), TimeUnit.NANOSECONDS);
+
+    if (sqlStatementStats.isBudgetExceeded()) {
+      log.warn(
+          "SQL Budget Exceeded [{}] URL [{}] Budget [{}] Stats [{}]",
+          method,
+          uri,
+          sqlStatementStats.getBudget(),
+          sqlStatementStats.toHeaderValue());
+    } else {
+      log.debug(
+          "SQL Stats [{}] URL [{}] Stats [{}]", method, uri, sqlStatementStats.toHeaderValue());
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package auth.service.app.model.annotation;
+
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Bulkhead {
+  RequestLane value();
+}
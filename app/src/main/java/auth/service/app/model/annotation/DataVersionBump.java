@@ -0,0 +1,13 @@
+package auth.service.app.model.annotation;
+
+import auth.service.app.model.enums.DataVersionEnums.DataCollection;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DataVersionBump {
+  DataCollection[] value();
+}
@@ -4,6 +4,7 @@ import auth.service.app.model.token.AuthToken;
 import auth.service.app.model.token.AuthTokenPermission;
 import auth.service.app.model.token.AuthTokenRole;
 import auth.service.app.model.token.AuthTokenUser;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -12,7 +13,11 @@ import java.util.Objects;
 import java.util.stream.Stream;
 import org.springframework.util.CollectionUtils;
 
+// fields= on user endpoints narrows this filter, see AppUserFieldsResponseAdvice
+@JsonFilter(AppUserDto.FIELDS_FILTER)
 public class AppUserDto extends AppUserRequest {
+  public static final String FIELDS_FILTER = "appUserFields";
+
   private Integer id;
   private boolean isValidated;
   private LocalDateTime createdDate;
@@ -0,0 +1,18 @@
+package auth.service.app.model.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppUserMultiGetRequest {
+  @Size(max = 100, message = "Maximum 100 ids allowed")
+  private List<Integer> ids;
+
+  @Size(max = 100, message = "Maximum 100 emails allowed")
+  private List<String> emails;
+}
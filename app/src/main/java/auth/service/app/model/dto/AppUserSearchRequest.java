@@ -0,0 +1,29 @@
+package auth.service.app.model.dto;
+
+import auth.service.app.model.enums.RequestEnums.SearchMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppUserSearchRequest {
+  @NotBlank(message = "Search text is required")
+  @Size(max = 100, message = "Maximum 100 characters allowed")
+  private String q;
+
+  private String appId;
+  private SearchMode mode = SearchMode.PREFIX;
+
+  // id of the last user of the previous page
+  private Integer cursor;
+
+  @Min(value = 1, message = "Limit must be at least 1")
+  @Max(value = 100, message = "Maximum limit is 100")
+  private int limit = 25;
+}
@@ -0,0 +1,11 @@
+package auth.service.app.model.dto;
+
+import java.time.LocalDateTime;
+
+// what the active user check reads, without loading the user and its addresses
+public record AppUserStatusDto(
+    Integer id,
+    String emailNormalized,
+    String status,
+    Boolean isValidated,
+    LocalDateTime deletedDate) {}
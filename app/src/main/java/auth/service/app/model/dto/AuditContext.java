@@ -0,0 +1,38 @@
+package auth.service.app.model.dto;
+
+import auth.service.app.model.token.AuthToken;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * What an audit row needs from the request, read on the request thread. Audits run on the audit
+ * executor after the response is sent, when the servlet request may already be recycled, so they
+ * get this instead of the request.
+ *
+ * @param appUserId the authenticated user, null for requests without a user token
+ */
+public record AuditContext(String ipAddress, String userAgent, Integer appUserId) {
+
+  public static AuditContext of(final HttpServletRequest request) {
+    return new AuditContext(getIpAddress(request), request.getHeader("User-Agent"), getAppUserId());
+  }
+
+  private static String getIpAddress(final HttpServletRequest request) {
+    String ipAddress = request.getHeader("X-Forwarded-For");
+    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
+      ipAddress = request.getRemoteAddr();
+    }
+    return ipAddress;
+  }
+
+  private static Integer getAppUserId() {
+    final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getCredentials() instanceof AuthToken authToken
+        && authToken.getUser() != null) {
+      return authToken.getUser().getId();
+    }
+    return null;
+  }
+}
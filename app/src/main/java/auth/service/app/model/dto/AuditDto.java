@@ -0,0 +1,23 @@
+package auth.service.app.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditDto {
+  private Integer id;
+  private String entityId;
+  private String eventType;
+  private String eventDesc;
+  // the audited entity as it was stored, json
+  @JsonRawValue private String eventData;
+  private LocalDateTime createdAt;
+  private Integer createdBy;
+  private String ipAddress;
+  private String userAgent;
+}
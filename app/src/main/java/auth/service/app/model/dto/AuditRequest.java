@@ -0,0 +1,43 @@
+package auth.service.app.model.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRequest {
+  // id of the audited user, app, role or permission
+  @Size(max = 50, message = "Maximum 50 characters allowed")
+  private String entityId;
+
+  // id of the user who made the change
+  private Integer createdBy;
+
+  @Size(max = 50, message = "Maximum 50 characters allowed")
+  private String eventType;
+
+  @Size(max = 50, message = "Maximum 50 characters allowed")
+  private String appId;
+
+  // the last 30 days when not given
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime from;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime to;
+
+  // nextPageKey of the previous page
+  @Size(max = 50, message = "Maximum 50 characters allowed")
+  private String after;
+
+  @Min(value = 1, message = "Limit must be at least 1")
+  @Max(value = 500, message = "Maximum limit is 500")
+  private int limit = 100;
+}
@@ -0,0 +1,24 @@
+package auth.service.app.model.dto;
+
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class AuditResponse extends ResponseMetadata {
+  private List<AuditDto> audits;
+
+  public AuditResponse(
+      final List<AuditDto> audits,
+      final ResponseCrudInfo responseCrudInfo,
+      final ResponsePageInfo responsePageInfo,
+      final ResponseStatusInfo responseStatusInfo) {
+    super(responseCrudInfo, responsePageInfo, responseStatusInfo);
+    this.audits = audits;
+  }
+}
@@ -14,4 +14,8 @@ public class ResponsePageInfo {
   private int totalPages;
   private int pageNumber;
   private int perPage;
+  // keyset pages, pass back as cursor for the next page, null on the last page
+  private Integer nextCursor;
+  // same for pages keyed by more than an id, pass back as after
+  private String nextPageKey;
 }
@@ -0,0 +1,21 @@
+package auth.service.app.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectRequest {
+  @NotEmpty(message = "Tokens are required")
+  @Size(max = 256, message = "Maximum 256 tokens allowed")
+  @ToString.Exclude
+  private List<String> tokens;
+
+  private List<String> permissions;
+}
@@ -0,0 +1,16 @@
+package auth.service.app.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectResponse {
+  private List<TokenIntrospectResult> results;
+  private ResponseStatusInfo responseStatusInfo;
+}
@@ -0,0 +1,22 @@
+package auth.service.app.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectResult {
+  private boolean active;
+  private Integer userId;
+  private String appId;
+  private Set<String> permissions;
+  private Long exp;
+  private Boolean permitted;
+}
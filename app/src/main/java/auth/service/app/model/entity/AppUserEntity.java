@@ -1,5 +1,7 @@
 package auth.service.app.model.entity;
 
+import static auth.service.app.util.CommonUtils.normalizeEmail;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -10,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -35,6 +38,11 @@ public class AppUserEntity extends EntityBaseDates {
   @Column(name = "email", nullable = false)
   private String email;
 
+  // lookups go through this column, kept in sync by setEmail
+  @Setter(AccessLevel.NONE)
+  @Column(name = "email_normalized", nullable = false)
+  private String emailNormalized;
+
   @Column(name = "phone")
   private String phone;
 
@@ -51,4 +59,9 @@ public class AppUserEntity extends EntityBaseDates {
   @OneToMany(mappedBy = "appUser", cascade = CascadeType.ALL, orphanRemoval = true)
   @Fetch(FetchMode.JOIN)
   private List<AppUserAddressEntity> addresses;
+
+  public void setEmail(final String email) {
+    this.email = email;
+    this.emailNormalized = normalizeEmail(email);
+  }
 }
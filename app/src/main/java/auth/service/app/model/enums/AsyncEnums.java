@@ -0,0 +1,15 @@
+package auth.service.app.model.enums;
+
+public class AsyncEnums {
+  public enum ExecutorName {
+    AUDIT,
+    EMAIL,
+    CACHE_REFRESH
+  }
+
+  public enum RejectionPolicy {
+    CALLER_RUNS,
+    DISCARD,
+    ABORT
+  }
+}
@@ -1,6 +1,32 @@
 package auth.service.app.model.enums;
 
+import lombok.Getter;
+
 public class AuditEnums {
+  // audit table of each audit query path, with the column of the audited entity
+  @Getter
+  public enum AuditType {
+    USERS("audit_app_user", "app_user_id"),
+    APPS("audit_apps", "app_id"),
+    ROLES("audit_app_role", "app_role_id"),
+    PERMISSIONS("audit_app_permission", "app_permission_id");
+
+    private final String tableName;
+    private final String entityColumn;
+
+    AuditType(final String tableName, final String entityColumn) {
+      this.tableName = tableName;
+      this.entityColumn = entityColumn;
+    }
+  }
+
+  // full row, full row for a share of the events, or only counted in the rollups
+  public enum AuditPolicy {
+    FULL,
+    SAMPLED,
+    AGGREGATED
+  }
+
   public enum AuditUsers {
     CREATE_USER,
     UPDATE_USER,
@@ -0,0 +1,10 @@
+package auth.service.app.model.enums;
+
+public class DataVersionEnums {
+  public enum DataCollection {
+    APPS,
+    ROLES,
+    PERMISSIONS,
+    ROLE_PERMISSIONS
+  }
+}
@@ -22,4 +22,25 @@ public class RequestEnums {
       this.operation = operation;
     }
   }
+
+  // nested parts of user responses, permissions come with their roles
+  public enum AppUserInclude {
+    ROLES,
+    PERMISSIONS,
+    ADDRESSES
+  }
+
+  // prefix is name, email or phone starting with q, fuzzy adds contains and trigram similarity
+  public enum SearchMode {
+    PREFIX,
+    FUZZY
+  }
+
+  public enum RequestLane {
+    AUTH,
+    TOKEN,
+    ADMIN,
+    NO_AUTH,
+    OTHER
+  }
 }
@@ -0,0 +1,9 @@
+package auth.service.app.model.enums;
+
+public class TokenEnums {
+  // tokenType claim, tokens issued before it was added have none and count as access tokens
+  public enum TokenType {
+    ACCESS,
+    REFRESH
+  }
+}
@@ -0,0 +1,30 @@
+package auth.service.app.model.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("auth.service.HotPath")
+@Label("Hot Path Call")
+@Description("A timed repository, service, jwt, password, permission, audit or email call")
+@Category({"Auth Service"})
+@StackTrace(false)
+public class HotPathJfrEvent extends Event {
+  @Label("Component")
+  public String component;
+
+  @Label("Method")
+  public String method;
+
+  @Label("Endpoint")
+  public String endpoint;
+
+  @Label("App Id")
+  public String appId;
+
+  @Label("Outcome")
+  public String outcome;
+}
@@ -0,0 +1,33 @@
+package auth.service.app.model.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("auth.service.JwtAuth")
+@Label("Bearer Token Authentication")
+@Description("JwtAuthFilter decoding the bearer token and checking its user")
+@Category({"Auth Service"})
+@StackTrace(false)
+public class JwtAuthJfrEvent extends Event {
+  @Label("Uri")
+  public String uri;
+
+  @Label("App Id")
+  public String appId;
+
+  @Label("Outcome")
+  public String outcome;
+
+  @Label("Token Decode")
+  @Timespan(Timespan.NANOSECONDS)
+  public long decodeDuration;
+
+  @Label("User Lookup")
+  @Timespan(Timespan.NANOSECONDS)
+  public long userLookupDuration;
+}
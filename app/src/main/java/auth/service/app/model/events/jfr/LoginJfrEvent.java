@@ -0,0 +1,37 @@
+package auth.service.app.model.events.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("auth.service.Login")
+@Label("Login")
+@Description("A login, split into user lookup, password verify and token save")
+@Category({"Auth Service"})
+@StackTrace(false)
+public class LoginJfrEvent extends Event {
+  @Label("App Id")
+  public String appId;
+
+  @Label("User Id")
+  public int userId;
+
+  @Label("Outcome")
+  public String outcome;
+
+  @Label("User Lookup")
+  @Timespan(Timespan.NANOSECONDS)
+  public long lookupDuration;
+
+  @Label("Password Verify")
+  @Timespan(Timespan.NANOSECONDS)
+  public long passwordVerifyDuration;
+
+  @Label("Token Save")
+  @Timespan(Timespan.NANOSECONDS)
+  public long tokenSaveDuration;
+}
@@ -0,0 +1,19 @@
+package auth.service.app.model.mapper;
+
+import auth.service.app.model.dto.AppPermissionRequest;
+import auth.service.app.model.entity.AppPermissionEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperConfiguration.class)
+public interface AppPermissionMapper {
+
+  @Mapping(target = "id", ignore = true)
+  AppPermissionEntity toAppPermissionEntity(AppPermissionRequest appPermissionRequest);
+
+  @Mapping(target = "id", ignore = true)
+  void updateAppPermissionEntity(
+      AppPermissionRequest appPermissionRequest,
+      @MappingTarget AppPermissionEntity appPermissionEntity);
+}
@@ -0,0 +1,18 @@
+package auth.service.app.model.mapper;
+
+import auth.service.app.model.dto.AppRoleRequest;
+import auth.service.app.model.entity.AppRoleEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperConfiguration.class)
+public interface AppRoleMapper {
+
+  @Mapping(target = "id", ignore = true)
+  AppRoleEntity toAppRoleEntity(AppRoleRequest appRoleRequest);
+
+  @Mapping(target = "id", ignore = true)
+  void updateAppRoleEntity(
+      AppRoleRequest appRoleRequest, @MappingTarget AppRoleEntity appRoleEntity);
+}
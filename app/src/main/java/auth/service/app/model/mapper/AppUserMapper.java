@@ -0,0 +1,34 @@
+package auth.service.app.model.mapper;
+
+import auth.service.app.model.dto.AppUserAddressDto;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AppUserRequest;
+import auth.service.app.model.entity.AppUserAddressEntity;
+import auth.service.app.model.entity.AppUserEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+// password has no setter in AppUserDto, so it is never copied to the dto
+@Mapper(config = MapperConfiguration.class)
+public interface AppUserMapper {
+
+  @Mapping(target = "addresses", ignore = true)
+  @Mapping(target = "roles", ignore = true)
+  AppUserDto toAppUserDto(AppUserEntity appUserEntity);
+
+  @Mapping(target = "password", ignore = true)
+  @Mapping(target = "addresses", ignore = true)
+  AppUserEntity toAppUserEntity(AppUserRequest appUserRequest);
+
+  @Mapping(target = "email", ignore = true)
+  @Mapping(target = "password", ignore = true)
+  @Mapping(target = "addresses", ignore = true)
+  void updateAppUserEntity(
+      AppUserRequest appUserRequest, @MappingTarget AppUserEntity appUserEntity);
+
+  AppUserAddressDto toAppUserAddressDto(AppUserAddressEntity appUserAddressEntity);
+
+  @Mapping(target = "appUser", ignore = true)
+  AppUserAddressEntity toAppUserAddressEntity(AppUserAddressDto appUserAddressDto);
+}
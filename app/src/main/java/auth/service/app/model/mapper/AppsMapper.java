@@ -0,0 +1,17 @@
+package auth.service.app.model.mapper;
+
+import auth.service.app.model.dto.AppsRequest;
+import auth.service.app.model.entity.AppsEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperConfiguration.class)
+public interface AppsMapper {
+
+  @Mapping(target = "id", ignore = true)
+  AppsEntity toAppsEntity(AppsRequest appsRequest);
+
+  @Mapping(target = "id", ignore = true)
+  void updateAppsEntity(AppsRequest appsRequest, @MappingTarget AppsEntity appsEntity);
+}
@@ -0,0 +1,15 @@
+package auth.service.app.model.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared by the generated mappers. Like BeanUtils.copyProperties, properties without a matching
+ * name on the other side are left alone, and update methods copy null values too.
+ */
+@MapperConfig(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    unmappedSourcePolicy = ReportingPolicy.IGNORE,
+    unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface MapperConfiguration {}
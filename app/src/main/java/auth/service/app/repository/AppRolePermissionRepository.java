@@ -3,6 +3,7 @@ package auth.service.app.repository;
 import auth.service.app.model.entity.AppRolePermissionEntity;
 import auth.service.app.model.entity.AppRolePermissionId;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +14,8 @@ public interface AppRolePermissionRepository
   List<AppRolePermissionEntity> findByAppRoleIdOrderByAppPermissionNameAsc(
       @Param("roleId") final int roleId);
 
+  // role and permission in the same query, they are eager and would load row by row
+  @EntityGraph(attributePaths = {"appRole", "appPermission"})
   List<AppRolePermissionEntity> findByAppRoleIdInOrderByAppPermissionNameAsc(
       @Param("roleIds") final List<Integer> roleIds);
 
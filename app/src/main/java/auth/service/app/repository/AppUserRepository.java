@@ -1,11 +1,28 @@
 package auth.service.app.repository;
 
+import auth.service.app.model.dto.AppUserStatusDto;
 import auth.service.app.model.entity.AppUserEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AppUserRepository extends JpaRepository<AppUserEntity, Integer> {
-  Optional<AppUserEntity> findByEmail(final String email);
+  Optional<AppUserEntity> findByEmailNormalized(final String emailNormalized);
+
+  // addresses in the same query, otherwise each user loads them separately
+  @Query(
+      "SELECT aue FROM AppUserEntity aue LEFT JOIN FETCH aue.addresses WHERE aue.id IN (:ids) OR aue.emailNormalized IN (:emails) ORDER BY aue.id ASC")
+  List<AppUserEntity> findByIdInOrEmailIn(
+      @Param("ids") final Collection<Integer> ids,
+      @Param("emails") final Collection<String> emails);
+
+  @Query(
+      "SELECT new auth.service.app.model.dto.AppUserStatusDto(aue.id, aue.emailNormalized, aue.status, aue.isValidated, aue.deletedDate) FROM AppUserEntity aue WHERE aue.emailNormalized IN (:emails)")
+  List<AppUserStatusDto> findStatusByEmailNormalizedIn(
+      @Param("emails") final Collection<String> emails);
 }
@@ -14,8 +14,9 @@ public interface AppUserRoleRepository extends JpaRepository<AppUserRoleEntity,
       "SELECT aure FROM AppUserRoleEntity aure JOIN aure.appRole ar WHERE aure.id.appUserId = :userId ORDER BY ar.name ASC")
   List<AppUserRoleEntity> findByIdAppUserIdOrderByAppRoleNameAsc(@Param("userId") int userId);
 
+  // fetched together so the eager user, its addresses and role are not loaded row by row
   @Query(
-      "SELECT aure FROM AppUserRoleEntity aure JOIN aure.appRole ar WHERE aure.id.appUserId in (:userIds) ORDER BY ar.name ASC")
+      "SELECT aure FROM AppUserRoleEntity aure JOIN FETCH aure.appRole ar JOIN FETCH aure.appUser au LEFT JOIN FETCH au.addresses WHERE aure.id.appUserId in (:userIds) ORDER BY ar.name ASC")
   List<AppUserRoleEntity> findByIdAppUserIdInOrderByAppRoleNameAsc(
       @Param("userIds") List<Integer> userIds);
 }
@@ -0,0 +1,81 @@
+package auth.service.app.repository;
+
+import auth.service.app.model.enums.RequestEnums.SearchMode;
+import auth.service.app.util.DatabaseProduct;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * Searches app_user by name, email and phone, returning ids in keyset order. On PostgreSQL the
+ * conditions are served by the pg_trgm GIN indexes of V1_2, fuzzy also matches on trigram
+ * similarity there. Other databases only get the LIKE conditions.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AppUserSearchRepository {
+
+  // below this trigrams do not narrow anything down, fuzzy searches fall back to contains
+  private static final int TRIGRAM_MIN_LENGTH = 3;
+
+  private static final String PREFIX_CONDITION =
+      "(LOWER(u.first_name) LIKE :prefix ESCAPE '\\' OR LOWER(u.last_name) LIKE :prefix ESCAPE '\\' "
+          + "OR LOWER(u.email) LIKE :prefix ESCAPE '\\' OR u.phone LIKE :prefix ESCAPE '\\')";
+  private static final String CONTAINS_CONDITION =
+      "(LOWER(u.first_name) LIKE :contains ESCAPE '\\' OR LOWER(u.last_name) LIKE :contains ESCAPE '\\' "
+          + "OR LOWER(u.email) LIKE :contains ESCAPE '\\' OR u.phone LIKE :contains ESCAPE '\\')";
+  private static final String SIMILARITY_CONDITION =
+      "(LOWER(u.first_name) % :q OR LOWER(u.last_name) % :q OR LOWER(u.email) % :q)";
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final DatabaseProduct databaseProduct;
+
+  /**
+   * @param q search text, matched case-insensitively
+   * @param appId only users of this app when given
+   * @param cursor only users with a greater id when given
+   * @param limit at most this many ids, ascending
+   */
+  public List<Integer> searchAppUserIds(
+      final String q,
+      final String appId,
+      final SearchMode mode,
+      final Integer cursor,
+      final int limit) {
+    final String text = q.trim().toLowerCase(Locale.ROOT);
+    final String escaped = text.replaceAll("([\\\\%_])", "\\\\$1");
+    final MapSqlParameterSource parameters =
+        new MapSqlParameterSource()
+            .addValue("q", text)
+            .addValue("prefix", escaped + "%")
+            .addValue("contains", "%" + escaped + "%")
+            .addValue("appId", appId)
+            .addValue("cursor", cursor)
+            .addValue("limit", limit);
+
+    final StringBuilder sql = new StringBuilder("SELECT u.id FROM app_user u WHERE ");
+    if (mode == SearchMode.FUZZY) {
+      sql.append("(").append(CONTAINS_CONDITION);
+      if (text.length() >= TRIGRAM_MIN_LENGTH && databaseProduct.isPostgres()) {
+        sql.append(" OR ").append(SIMILARITY_CONDITION);
+      }
+      sql.append(")");
+    } else {
+      sql.append(PREFIX_CONDITION);
+    }
+    if (StringUtils.hasText(appId)) {
+      sql.append(
+          " AND EXISTS (SELECT 1 FROM app_user_app aua WHERE aua.app_id = :appId AND aua.app_user_id = u.id)");
+    }
+    if (cursor != null) {
+      sql.append(" AND u.id > :cursor");
+    }
+    sql.append(" ORDER BY u.id ASC LIMIT :limit");
+
+    return namedParameterJdbcTemplate.queryForList(sql.toString(), parameters, Integer.class);
+  }
+}
@@ -11,9 +11,10 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AppsAppUserRepository extends JpaRepository<AppsAppUserEntity, AppsAppUserId> {
-  @Query("SELECT a FROM AppsAppUserEntity a WHERE a.app.id=:appId AND a.appUser.email = :email")
-  Optional<AppsAppUserEntity> findByAppIdAndAppUserEmail(
-      @Param("appId") String appId, @Param("email") String email);
+  @Query(
+      "SELECT a FROM AppsAppUserEntity a WHERE a.app.id=:appId AND a.appUser.emailNormalized = :emailNormalized")
+  Optional<AppsAppUserEntity> findByAppIdAndAppUserEmailNormalized(
+      @Param("appId") String appId, @Param("emailNormalized") String emailNormalized);
 
   @Query("SELECT a FROM AppsAppUserEntity a WHERE a.app.id=:appId ORDER BY a.appUser.lastName DESC")
   List<AppsAppUserEntity> findAllByAppIdOrderByAppUserLastNameDesc(@Param("appId") String appId);
@@ -0,0 +1,118 @@
+package auth.service.app.repository;
+
+import auth.service.app.model.dto.AuditDto;
+import auth.service.app.model.enums.AuditEnums.AuditType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reads audit rows newest first, in (created_at, id) keyset pages. Every query is bounded by a
+ * created_at range so it is pruned to the month partitions, the pages are read in order from the
+ * (created_at, id) and (entity, created_at, id) B-tree indexes (V1_10), actor filters from their
+ * (created_by, created_at) ones (V1_5).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditQueryRepository {
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /**
+   * @param entityId Integer id, or the String id of apps, when given
+   * @param from only rows created at or after this
+   * @param afterCreatedAt with afterId, only rows after this row in the page order when given
+   * @param limit at most this many rows
+   */
+  public List<AuditDto> readAudits(
+      final AuditType auditType,
+      final Object entityId,
+      final Integer createdBy,
+      final String eventType,
+      final String appId,
+      final LocalDateTime from,
+      final LocalDateTime to,
+      final LocalDateTime afterCreatedAt,
+      final Integer afterId,
+      final int limit) {
+    final String entityColumn = "a." + auditType.getEntityColumn();
+    final MapSqlParameterSource parameters =
+        new MapSqlParameterSource()
+            .addValue("entityId", entityId)
+            .addValue("createdBy", createdBy)
+            .addValue("eventType", eventType)
+            .addValue("appId", appId)
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("to", to == null ? null : Timestamp.valueOf(to))
+            .addValue(
+                "afterCreatedAt", afterCreatedAt == null ? null : Timestamp.valueOf(afterCreatedAt))
+            .addValue("afterId", afterId)
+            .addValue("limit", limit);
+
+    final StringBuilder sql =
+        new StringBuilder("SELECT a.id, ")
+            .append(entityColumn)
+            .append(
+                " AS entity_id, a.event_type, a.event_desc, a.event_data, a.created_at, a.created_by, a.ip_address, a.user_agent FROM ")
+            .append(auditType.getTableName())
+            .append(" a WHERE a.created_at >= :from");
+    if (to != null) {
+      sql.append(" AND a.created_at < :to");
+    }
+    if (entityId != null) {
+      sql.append(" AND ").append(entityColumn).append(" = :entityId");
+    }
+    if (createdBy != null) {
+      sql.append(" AND a.created_by = :createdBy");
+    }
+    if (StringUtils.hasText(eventType)) {
+      sql.append(" AND a.event_type = :eventType");
+    }
+    if (StringUtils.hasText(appId)) {
+      sql.append(" AND ").append(getAppCondition(auditType));
+    }
+    if (afterCreatedAt != null) {
+      // the plain upper bound keeps the range usable for pruning and as the index start
+      sql.append(
+          " AND a.created_at <= :afterCreatedAt AND (a.created_at < :afterCreatedAt OR a.id < :afterId)");
+    }
+    sql.append(" ORDER BY a.created_at DESC, a.id DESC LIMIT :limit");
+
+    return namedParameterJdbcTemplate.query(
+        sql.toString(), parameters, (resultSet, rowNum) -> getAuditDto(resultSet));
+  }
+
+  // users through their app links, roles through the app permissions they hold
+  private static String getAppCondition(final AuditType auditType) {
+    return switch (auditType) {
+      case APPS -> "a.app_id = :appId";
+      case USERS ->
+          "EXISTS (SELECT 1 FROM app_user_app aua WHERE aua.app_user_id = a.app_user_id AND aua.app_id = :appId)";
+      case PERMISSIONS ->
+          "EXISTS (SELECT 1 FROM app_permission ap WHERE ap.id = a.app_permission_id AND ap.app_id = :appId)";
+      case ROLES ->
+          "EXISTS (SELECT 1 FROM app_role_permission arp JOIN app_permission ap ON ap.id = arp.app_permission_id "
+              + "WHERE arp.app_role_id = a.app_role_id AND ap.app_id = :appId)";
+    };
+  }
+
+  private static AuditDto getAuditDto(final ResultSet resultSet) throws SQLException {
+    return new AuditDto(
+        resultSet.getInt("id"),
+        resultSet.getString("entity_id"),
+        resultSet.getString("event_type"),
+        resultSet.getString("event_desc"),
+        resultSet.getString("event_data"),
+        resultSet.getTimestamp("created_at").toLocalDateTime(),
+        resultSet.getObject("created_by", Integer.class),
+        resultSet.getString("ip_address"),
+        resultSet.getString("user_agent"));
+  }
+}
@@ -1,14 +1,17 @@
 package auth.service.app.service;
 
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
+
 import auth.service.app.exception.ElementNotFoundException;
+import auth.service.app.model.annotation.DataVersionBump;
 import auth.service.app.model.dto.AppPermissionRequest;
 import auth.service.app.model.entity.AppPermissionEntity;
+import auth.service.app.model.mapper.AppPermissionMapper;
 import auth.service.app.repository.AppPermissionRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,13 +22,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AppPermissionService {
 
   private final AppPermissionRepository appPermissionRepository;
+  private final AppPermissionMapper appPermissionMapper;
 
   // CREATE
+  @DataVersionBump(PERMISSIONS)
   public AppPermissionEntity createAppPermission(
       final String appId, final AppPermissionRequest appPermissionRequest) {
     log.debug("Create App Permission: [{}]", appPermissionRequest);
-    AppPermissionEntity appPermissionEntity = new AppPermissionEntity();
-    BeanUtils.copyProperties(appPermissionRequest, appPermissionEntity);
+    AppPermissionEntity appPermissionEntity =
+        appPermissionMapper.toAppPermissionEntity(appPermissionRequest);
     appPermissionEntity.setAppId(appId);
     return appPermissionRepository.save(appPermissionEntity);
   }
@@ -49,15 +54,17 @@ public class AppPermissionService {
   }
 
   // UPDATE
+  @DataVersionBump(PERMISSIONS)
   public AppPermissionEntity updateAppPermission(
       final int id, final AppPermissionRequest appPermissionRequest) {
     log.debug("Update App Permission: [{}], [{}]", id, appPermissionRequest);
     final AppPermissionEntity appPermissionEntity = readAppPermission(id);
-    BeanUtils.copyProperties(appPermissionRequest, appPermissionEntity);
+    appPermissionMapper.updateAppPermissionEntity(appPermissionRequest, appPermissionEntity);
     return appPermissionRepository.save(appPermissionEntity);
   }
 
   // DELETE
+  @DataVersionBump(PERMISSIONS)
   public AppPermissionEntity softDeleteAppPermission(final int id) {
     log.info("Soft Delete App Permission: [{}]", id);
     final AppPermissionEntity appPermissionEntity = readAppPermission(id);
@@ -66,6 +73,7 @@ public class AppPermissionService {
   }
 
   @Transactional
+  @DataVersionBump(PERMISSIONS)
   public void hardDeleteAppPermission(final int id) {
     log.info("Hard Delete App Permission: [{}]", id);
     final AppPermissionEntity appPermissionEntity = readAppPermission(id);
@@ -73,6 +81,7 @@ public class AppPermissionService {
   }
 
   // RESTORE
+  @DataVersionBump(PERMISSIONS)
   public AppPermissionEntity restoreSoftDeletedAppPermission(final int id) {
     log.info("Restore Soft Deleted App Permission: [{}]", id);
     final AppPermissionEntity appPermissionEntity = readAppPermission(id);
@@ -1,6 +1,9 @@
 package auth.service.app.service;
 
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
+
 import auth.service.app.exception.ElementNotFoundException;
+import auth.service.app.model.annotation.DataVersionBump;
 import auth.service.app.model.dto.AppRolePermissionRequest;
 import auth.service.app.model.entity.AppPermissionEntity;
 import auth.service.app.model.entity.AppRoleEntity;
@@ -26,6 +29,7 @@ public class AppRolePermissionService {
   private final AppPermissionService appPermissionService;
 
   // CREATE
+  @DataVersionBump(ROLE_PERMISSIONS)
   public AppRolePermissionEntity createAppRolePermission(
       final AppRolePermissionRequest appRolePermissionRequest) {
     log.debug("Create App Role Permission: [{}]", appRolePermissionRequest);
@@ -79,6 +83,7 @@ public class AppRolePermissionService {
 
   // DELETE
   @Transactional
+  @DataVersionBump(ROLE_PERMISSIONS)
   public void deleteAppRolePermission(final int appRoleId, final int appPermissionId) {
     log.info("Delete App Role Permission: [{}], [{}]", appRoleId, appPermissionId);
     final AppRolePermissionEntity appRolePermissionEntity =
@@ -1,14 +1,17 @@
 package auth.service.app.service;
 
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLES;
+
 import auth.service.app.exception.ElementNotFoundException;
+import auth.service.app.model.annotation.DataVersionBump;
 import auth.service.app.model.dto.AppRoleRequest;
 import auth.service.app.model.entity.AppRoleEntity;
+import auth.service.app.model.mapper.AppRoleMapper;
 import auth.service.app.repository.AppRoleRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
@@ -21,13 +24,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class AppRoleService {
 
   private final AppRoleRepository appRoleRepository;
+  private final AppRoleMapper appRoleMapper;
 
   // CREATE
   @CacheEvict(value = "roles", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(ROLES)
   public AppRoleEntity createAppRole(final AppRoleRequest appRoleRequest) {
     log.debug("Create App Role: [{}]", appRoleRequest);
-    AppRoleEntity appRoleEntity = new AppRoleEntity();
-    BeanUtils.copyProperties(appRoleRequest, appRoleEntity);
+    AppRoleEntity appRoleEntity = appRoleMapper.toAppRoleEntity(appRoleRequest);
     return appRoleRepository.save(appRoleEntity);
   }
 
@@ -47,15 +51,17 @@ public class AppRoleService {
 
   // UPDATE
   @CacheEvict(value = "roles", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(ROLES)
   public AppRoleEntity updateAppRole(final int id, final AppRoleRequest appRoleRequest) {
     log.debug("Update App Role: [{}], [{}]", id, appRoleRequest);
     final AppRoleEntity appRoleEntity = readAppRole(id);
-    BeanUtils.copyProperties(appRoleRequest, appRoleEntity);
+    appRoleMapper.updateAppRoleEntity(appRoleRequest, appRoleEntity);
     return appRoleRepository.save(appRoleEntity);
   }
 
   // DELETE
   @CacheEvict(value = "roles", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(ROLES)
   public AppRoleEntity softDeleteAppRole(final int id) {
     log.info("Soft Delete App Role: [{}]", id);
     final AppRoleEntity appRoleEntity = readAppRole(id);
@@ -65,6 +71,7 @@ public class AppRoleService {
 
   @CacheEvict(value = "roles", allEntries = true, beforeInvocation = true)
   @Transactional
+  @DataVersionBump(ROLES)
   public void hardDeleteAppRole(final int id) {
     log.info("Hard Delete App Role: [{}]", id);
     final AppRoleEntity appRoleEntity = readAppRole(id);
@@ -73,6 +80,7 @@ public class AppRoleService {
 
   // RESTORE
   @CacheEvict(value = "roles", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(ROLES)
   public AppRoleEntity restoreSoftDeletedAppRole(final int id) {
     log.info("Restore Soft Deleted App Role: [{}]", id);
     final AppRoleEntity appRoleEntity = readAppRole(id);
@@ -0,0 +1,135 @@
+package auth.service.app.service;
+
+import static auth.service.app.util.CommonUtils.normalizeEmail;
+import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_SUPERUSER;
+import static auth.service.app.util.JwtUtils.decodeAuthClaims;
+import static auth.service.app.util.JwtUtils.getAuthToken;
+import static auth.service.app.util.JwtUtils.isAccessToken;
+
+import auth.service.app.model.dto.AppUserStatusDto;
+import auth.service.app.model.dto.TokenIntrospectResult;
+import auth.service.app.model.token.AuthToken;
+import auth.service.app.model.token.AuthTokenPermission;
+import io.jsonwebtoken.Claims;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppTokenIntrospectService {
+
+  private final AppUserService appUserService;
+
+  // signatures are verified in the request thread, then one lookup for the status of the users of
+  // all tokens
+  public List<TokenIntrospectResult> introspectTokens(
+      final List<String> tokens, final List<String> requiredPermissions) {
+    final List<Claims> claimsList = tokens.stream().map(this::decodeAccessClaims).toList();
+    final List<String> emails =
+        claimsList.stream()
+            .filter(Objects::nonNull)
+            .map(claims -> normalizeEmail(claims.getSubject()))
+            .distinct()
+            .toList();
+    final Map<String, AppUserStatusDto> appUsers =
+        emails.isEmpty()
+            ? Map.of()
+            : appUserService.readAppUserStatuses(emails).stream()
+                .collect(
+                    Collectors.toMap(
+                        AppUserStatusDto::emailNormalized,
+                        Function.identity(),
+                        (first, second) -> first));
+    return claimsList.stream()
+        .map(claims -> introspectToken(claims, appUsers, requiredPermissions))
+        .toList();
+  }
+
+  public TokenIntrospectResult introspectToken(
+      final String token, final List<String> requiredPermissions) {
+    return introspectTokens(List.of(token), requiredPermissions).getFirst();
+  }
+
+  // null when not a valid access token
+  private Claims decodeAccessClaims(final String token) {
+    try {
+      final Claims claims = decodeAuthClaims(token);
+      if (claims.getSubject() == null || !isAccessToken(claims)) {
+        log.debug("Introspect Token Inactive: [Not an Access Token]");
+        return null;
+      }
+      return claims;
+    } catch (Exception ex) {
+      log.debug("Introspect Token Inactive: [{}]", ex.getMessage());
+      return null;
+    }
+  }
+
+  // the token user must still be the user of that email, as in JwtAuthFilter, and able to log in
+  private TokenIntrospectResult introspectToken(
+      final Claims claims,
+      final Map<String, AppUserStatusDto> appUsers,
+      final List<String> requiredPermissions) {
+    try {
+      if (claims == null) {
+        return TokenIntrospectResult.builder().active(false).build();
+      }
+      final AuthToken authToken = getAuthToken(claims);
+      final AppUserStatusDto appUserStatusDto = appUsers.get(normalizeEmail(claims.getSubject()));
+      if (authToken == null
+          || authToken.getUser() == null
+          || appUserStatusDto == null
+          || !Objects.equals(
+              appUserStatusDto.emailNormalized(), normalizeEmail(authToken.getUser().getEmail()))
+          || !appUserService.isActiveAppUser(appUserStatusDto)) {
+        log.debug("Introspect Token Inactive: [Incorrect User]");
+        return TokenIntrospectResult.builder().active(false).build();
+      }
+
+      final Set<String> permissions =
+          authToken.getPermissions() == null
+              ? Set.of()
+              : authToken.getPermissions().stream()
+                  .map(AuthTokenPermission::getName)
+                  .collect(Collectors.toSet());
+
+      return TokenIntrospectResult.builder()
+          .active(true)
+          .userId(authToken.getUser().getId())
+          .appId(authToken.getAppId())
+          .permissions(permissions)
+          .exp(claims.getExpiration() == null ? null : claims.getExpiration().getTime() / 1000)
+          .permitted(
+              CollectionUtils.isEmpty(requiredPermissions)
+                  ? null
+                  : isPermitted(authToken, permissions, requiredPermissions))
+          .build();
+    } catch (Exception ex) {
+      log.debug("Introspect Token Inactive: [{}]", ex.getMessage());
+      return TokenIntrospectResult.builder().active(false).build();
+    }
+  }
+
+  // same rule as PermissionCheck: superuser, or any one of the required permissions
+  private boolean isPermitted(
+      final AuthToken authToken,
+      final Set<String> permissions,
+      final List<String> requiredPermissions) {
+    final boolean isSuperUser =
+        authToken.getRoles() != null
+            && authToken.getRoles().stream()
+                .anyMatch(
+                    authTokenRole ->
+                        Objects.equals(authTokenRole.getName(), APP_ROLE_NAME_SUPERUSER));
+    return isSuperUser || requiredPermissions.stream().anyMatch(permissions::contains);
+  }
+}
@@ -7,6 +7,7 @@ import auth.service.app.model.dto.AppUserDto;
 import auth.service.app.model.dto.UserLoginResponse;
 import auth.service.app.model.entity.AppTokenEntity;
 import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.enums.TokenEnums.TokenType;
 import auth.service.app.repository.AppTokenRepository;
 import auth.service.app.util.EntityDtoConvertUtils;
 import java.time.LocalDateTime;
@@ -88,11 +89,11 @@ public class AppTokenService {
 
   // 15 minutes
   private String getNewAccessToken(final String appId, final AppUserDto appUserDto) {
-    return encodeAuthCredentials(appId, appUserDto, 1000 * 60 * 15);
+    return encodeAuthCredentials(appId, appUserDto, 1000 * 60 * 15, TokenType.ACCESS);
   }
 
   // 24 hours
   private String getNewRefreshToken(final String appId, final AppUserDto appUserDto) {
-    return encodeAuthCredentials(appId, appUserDto, 1000 * 60 * 60 * 24);
+    return encodeAuthCredentials(appId, appUserDto, 1000 * 60 * 60 * 24, TokenType.REFRESH);
   }
 }
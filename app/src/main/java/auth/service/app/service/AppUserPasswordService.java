@@ -12,6 +12,7 @@ import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppsAppUserEntity;
 import auth.service.app.model.entity.AppsEntity;
 import auth.service.app.model.enums.StatusEnums;
+import auth.service.app.model.events.jfr.LoginJfrEvent;
 import auth.service.app.util.PasswordUtils;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -31,10 +32,32 @@ public class AppUserPasswordService {
 
   @Transactional
   public UserLoginResponse loginUser(final String appId, final UserLoginRequest userLoginRequest) {
+    final LoginJfrEvent loginJfrEvent = new LoginJfrEvent();
+    loginJfrEvent.begin();
+    loginJfrEvent.appId = appId;
+    try {
+      final UserLoginResponse userLoginResponse = loginUser(appId, userLoginRequest, loginJfrEvent);
+      loginJfrEvent.outcome = "success";
+      return userLoginResponse;
+    } catch (RuntimeException ex) {
+      loginJfrEvent.outcome = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      loginJfrEvent.commit();
+    }
+  }
+
+  private UserLoginResponse loginUser(
+      final String appId,
+      final UserLoginRequest userLoginRequest,
+      final LoginJfrEvent loginJfrEvent) {
+    long phaseStartNanos = System.nanoTime();
     final AppsAppUserEntity appsAppUserEntity =
         appsAppUserService.readAppsAppUser(appId, userLoginRequest.getEmail());
     final AppsEntity appsEntity = appsAppUserEntity.getApp();
     final AppUserEntity appUserEntity = appsAppUserEntity.getAppUser();
+    loginJfrEvent.lookupDuration = System.nanoTime() - phaseStartNanos;
+    loginJfrEvent.userId = appUserEntity.getId();
 
     if (appsEntity.getDeletedDate() != null) {
       throw new ElementNotActiveException("App", appId);
@@ -52,14 +75,20 @@ public class AppUserPasswordService {
       throw new UserNotActiveException();
     }
 
+    phaseStartNanos = System.nanoTime();
     final boolean isLoginSuccess =
         passwordUtils.verifyPassword(userLoginRequest.getPassword(), appUserEntity.getPassword());
+    loginJfrEvent.passwordVerifyDuration = System.nanoTime() - phaseStartNanos;
 
     if (!isLoginSuccess) {
       throw new UserNotAuthorizedException();
     }
 
-    return appTokenService.saveToken(null, null, appUserEntity, appId);
+    phaseStartNanos = System.nanoTime();
+    final UserLoginResponse userLoginResponse =
+        appTokenService.saveToken(null, null, appUserEntity, appId);
+    loginJfrEvent.tokenSaveDuration = System.nanoTime() - phaseStartNanos;
+    return userLoginResponse;
   }
 
   public AppUserEntity resetUser(final String appId, final UserLoginRequest userLoginRequest) {
@@ -1,5 +1,6 @@
 package auth.service.app.service;
 
+import static auth.service.app.util.CommonUtils.normalizeEmail;
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_GUEST;
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_STANDARD;
 
@@ -7,6 +8,8 @@ import auth.service.app.exception.ElementMissingException;
 import auth.service.app.exception.ElementNotFoundException;
 import auth.service.app.model.dto.AppUserAddressDto;
 import auth.service.app.model.dto.AppUserRequest;
+import auth.service.app.model.dto.AppUserSearchRequest;
+import auth.service.app.model.dto.AppUserStatusDto;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserUpdateEmailRequest;
 import auth.service.app.model.entity.AppRoleEntity;
@@ -17,19 +20,24 @@ import auth.service.app.model.entity.AppUserRoleId;
 import auth.service.app.model.entity.AppsAppUserEntity;
 import auth.service.app.model.entity.AppsAppUserId;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.enums.StatusEnums;
 import auth.service.app.model.events.AppUserCreatedEvent;
 import auth.service.app.model.events.AppUserUpdatedEvent;
+import auth.service.app.model.mapper.AppUserMapper;
 import auth.service.app.repository.AppRoleRepository;
 import auth.service.app.repository.AppUserAddressRepository;
 import auth.service.app.repository.AppUserRepository;
 import auth.service.app.repository.AppUserRoleRepository;
+import auth.service.app.repository.AppUserSearchRepository;
 import auth.service.app.repository.AppsAppUserRepository;
+import auth.service.app.util.CommonUtils;
 import auth.service.app.util.PasswordUtils;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -47,7 +55,9 @@ public class AppUserService {
   private final AppsAppUserRepository appsAppUserRepository;
   private final AppRoleRepository appRoleRepository;
   private final AppUserRoleRepository appUserRoleRepository;
+  private final AppUserSearchRepository appUserSearchRepository;
   private final PasswordUtils passwordUtils;
+  private final AppUserMapper appUserMapper;
   private final ApplicationEventPublisher applicationEventPublisher;
 
   // CREATE
@@ -59,8 +69,7 @@ public class AppUserService {
     log.debug("Create App User: [{}], [{}]", appUserRequest, baseUrlForEmail);
     validateCreateAppUser(appUserRequest);
 
-    AppUserEntity appUserEntity = new AppUserEntity();
-    BeanUtils.copyProperties(appUserRequest, appUserEntity, "password", "addresses");
+    AppUserEntity appUserEntity = appUserMapper.toAppUserEntity(appUserRequest);
     appUserEntity.setPassword(passwordUtils.hashPassword(appUserRequest.getPassword()));
     appUserEntity.setIsValidated(false);
     appUserEntity = appUserRepository.save(appUserEntity);
@@ -115,6 +124,42 @@ public class AppUserService {
     return appUserRepository.findAll(Sort.by(Sort.Direction.ASC, "lastName"));
   }
 
+  public List<AppUserEntity> readAppUsers(final List<Integer> ids, final List<String> emails) {
+    log.debug("Read App Users: [{}], [{}]", ids, emails);
+    if (CollectionUtils.isEmpty(ids) && CollectionUtils.isEmpty(emails)) {
+      throw new ElementMissingException("Users", "ids or emails");
+    }
+    // the addresses fetch join repeats a user once per address, the instances are the same
+    return appUserRepository
+        .findByIdInOrEmailIn(
+            ids == null ? List.of() : ids,
+            emails == null ? List.of() : emails.stream().map(CommonUtils::normalizeEmail).toList())
+        .stream()
+        .distinct()
+        .toList();
+  }
+
+  public record AppUserSearchResult(List<AppUserEntity> appUsers, Integer nextCursor) {}
+
+  // one row past the limit tells if there is a next page
+  public AppUserSearchResult searchAppUsers(final AppUserSearchRequest appUserSearchRequest) {
+    log.debug("Search App Users: [{}]", appUserSearchRequest);
+    final int limit = appUserSearchRequest.getLimit();
+    final List<Integer> ids =
+        appUserSearchRepository.searchAppUserIds(
+            appUserSearchRequest.getQ(),
+            appUserSearchRequest.getAppId(),
+            appUserSearchRequest.getMode(),
+            appUserSearchRequest.getCursor(),
+            limit + 1);
+    if (ids.isEmpty()) {
+      return new AppUserSearchResult(List.of(), null);
+    }
+    final List<Integer> pageIds = ids.subList(0, Math.min(limit, ids.size()));
+    return new AppUserSearchResult(
+        readAppUsers(pageIds, null), ids.size() > limit ? pageIds.getLast() : null);
+  }
+
   public AppUserEntity readAppUser(final int id) {
     log.debug("Read App User: [{}]", id);
     return appUserRepository
@@ -125,16 +170,45 @@ public class AppUserService {
   public AppUserEntity readAppUser(final String email) {
     log.debug("Read App User: [{}]", email);
     return appUserRepository
-        .findByEmail(email)
+        .findByEmailNormalized(normalizeEmail(email))
         .orElseThrow(() -> new ElementNotFoundException("User", email));
   }
 
+  public List<AppUserStatusDto> readAppUserStatuses(final Collection<String> emailsNormalized) {
+    log.debug("Read App User Statuses: [{}]", emailsNormalized);
+    return appUserRepository.findStatusByEmailNormalizedIn(emailsNormalized);
+  }
+
+  // same rules as login
+  public boolean isActiveAppUser(final AppUserEntity appUserEntity) {
+    return appUserEntity != null
+        && isActiveAppUser(
+            appUserEntity.getDeletedDate(),
+            appUserEntity.getIsValidated(),
+            appUserEntity.getStatus());
+  }
+
+  public boolean isActiveAppUser(final AppUserStatusDto appUserStatusDto) {
+    return appUserStatusDto != null
+        && isActiveAppUser(
+            appUserStatusDto.deletedDate(),
+            appUserStatusDto.isValidated(),
+            appUserStatusDto.status());
+  }
+
+  private boolean isActiveAppUser(
+      final LocalDateTime deletedDate, final Boolean isValidated, final String status) {
+    return deletedDate == null
+        && Boolean.TRUE.equals(isValidated)
+        && Objects.equals(status, StatusEnums.AppUserStatus.ACTIVE.toString());
+  }
+
   // UPDATE
   @Transactional
   public AppUserEntity updateAppUser(final int id, final AppUserRequest appUserRequest) {
     log.debug("Update App User: [{}], [{}]", id, appUserRequest);
     AppUserEntity appUserEntity = readAppUser(id);
-    BeanUtils.copyProperties(appUserRequest, appUserEntity, "email", "password", "addresses");
+    appUserMapper.updateAppUserEntity(appUserRequest, appUserEntity);
     appUserEntity = updateAppUser(appUserEntity);
 
     // save addresses
@@ -218,8 +292,7 @@ public class AppUserService {
     return requests.stream()
         .map(
             request -> {
-              AppUserAddressEntity entity = new AppUserAddressEntity();
-              BeanUtils.copyProperties(request, entity);
+              AppUserAddressEntity entity = appUserMapper.toAppUserAddressEntity(request);
               entity.setAppUser(appUser);
               return entity;
             })
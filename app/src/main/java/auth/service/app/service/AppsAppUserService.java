@@ -1,5 +1,7 @@
 package auth.service.app.service;
 
+import static auth.service.app.util.CommonUtils.normalizeEmail;
+
 import auth.service.app.exception.ElementNotFoundException;
 import auth.service.app.model.dto.AppsAppUserRequest;
 import auth.service.app.model.entity.AppUserEntity;
@@ -57,7 +59,7 @@ public class AppsAppUserService {
   public AppsAppUserEntity readAppsAppUser(final String appId, final String appUserEmail) {
     log.debug("Read Apps App User: [{}], [{}]", appId, appUserEmail);
     return appsAppUserRepository
-        .findByAppIdAndAppUserEmail(appId, appUserEmail)
+        .findByAppIdAndAppUserEmailNormalized(appId, normalizeEmail(appUserEmail))
         .orElseThrow(
             () ->
                 new ElementNotFoundException(
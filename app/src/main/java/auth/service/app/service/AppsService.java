@@ -1,16 +1,20 @@
 package auth.service.app.service;
 
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.APPS;
+
 import auth.service.app.exception.ElementNotFoundException;
+import auth.service.app.model.annotation.DataVersionBump;
 import auth.service.app.model.dto.AppsRequest;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.mapper.AppsMapper;
 import auth.service.app.repository.AppsRepository;
+import auth.service.app.util.MetricsUtils;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
@@ -23,13 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class AppsService {
 
   private final AppsRepository appsRepository;
+  private final AppsMapper appsMapper;
 
   // CREATE
   @CacheEvict(value = "apps", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(APPS)
   public AppsEntity createApp(final AppsRequest appsRequest) {
     log.debug("Create Apps: [{}]", appsRequest);
-    AppsEntity appEntity = new AppsEntity();
-    BeanUtils.copyProperties(appsRequest, appEntity);
+    AppsEntity appEntity = appsMapper.toAppsEntity(appsRequest);
     appEntity.setId(getRandomId());
     return appsRepository.save(appEntity);
   }
@@ -38,7 +43,10 @@ public class AppsService {
   @Cacheable(value = "apps")
   public List<AppsEntity> readApps() {
     log.debug("Read Apps...");
-    return appsRepository.findAll(Sort.by(Sort.Direction.ASC, "name"));
+    final List<AppsEntity> appsEntities =
+        appsRepository.findAll(Sort.by(Sort.Direction.ASC, "name"));
+    MetricsUtils.setKnownAppIds(appsEntities.stream().map(AppsEntity::getId).toList());
+    return appsEntities;
   }
 
   public AppsEntity readApp(final String id) {
@@ -48,15 +56,17 @@ public class AppsService {
 
   // UPDATE
   @CacheEvict(value = "apps", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(APPS)
   public AppsEntity updateApps(final String id, final AppsRequest appsRequest) {
     log.debug("Update Apps: [{}], [{}]", id, appsRequest);
     final AppsEntity appEntity = readApp(id);
-    BeanUtils.copyProperties(appsRequest, appEntity);
+    appsMapper.updateAppsEntity(appsRequest, appEntity);
     return appsRepository.save(appEntity);
   }
 
   // DELETE
   @CacheEvict(value = "apps", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(APPS)
   public AppsEntity softDeleteApps(final String id) {
     log.info("Soft Delete Apps: [{}]", id);
     final AppsEntity appEntity = readApp(id);
@@ -66,6 +76,7 @@ public class AppsService {
 
   @CacheEvict(value = "apps", allEntries = true, beforeInvocation = true)
   @Transactional
+  @DataVersionBump(APPS)
   public void hardDeleteApps(final String id) {
     log.info("Hard Delete Apps: [{}]", id);
     final AppsEntity appEntity = readApp(id);
@@ -74,6 +85,7 @@ public class AppsService {
 
   // RESTORE
   @CacheEvict(value = "apps", allEntries = true, beforeInvocation = true)
+  @DataVersionBump(APPS)
   public AppsEntity restoreSoftDeletedApps(final String id) {
     log.info("Restore Soft Deleted Apps: [{}]", id);
     final AppsEntity appEntity = readApp(id);
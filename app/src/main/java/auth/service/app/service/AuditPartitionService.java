@@ -0,0 +1,218 @@
+package auth.service.app.service;
+
+import auth.service.app.config.AuditPartitionProperties;
+import auth.service.app.util.DatabaseProduct;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Keeps the month partitions of the audit tables (V1_5): creates the months ahead, moving any rows
+ * of them out of the default partition, builds the keyset indexes (V1_10) of each partition, and
+ * drops, or detaches into the archive schema, the months past the retention. Only PostgreSQL has
+ * the partitioned tables, elsewhere this does nothing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditPartitionService {
+
+  public static final List<String> AUDIT_TABLES =
+      List.of("audit_apps", "audit_app_permission", "audit_app_role", "audit_app_user");
+
+  private static final Pattern PARTITION_MONTH = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+  private static final String PARTITIONS_SQL =
+      "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+          + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? ORDER BY c.relname";
+  // partitions without their own index attached to the parent index
+  private static final String UNINDEXED_PARTITIONS_SQL =
+      "SELECT c.relname FROM pg_class pi JOIN pg_index x ON x.indexrelid = pi.oid "
+          + "JOIN pg_inherits i ON i.inhparent = x.indrelid JOIN pg_class c ON c.oid = i.inhrelid "
+          + "WHERE pi.relname = ? AND NOT EXISTS (SELECT 1 FROM pg_inherits ii "
+          + "JOIN pg_index xi ON xi.indexrelid = ii.inhrelid "
+          + "WHERE ii.inhparent = pi.oid AND xi.indrelid = c.oid) ORDER BY c.relname";
+  // the column leading the entity keyset index of each table, see V1_10
+  private static final Map<String, String> ENTITY_COLUMNS =
+      Map.of(
+          "audit_apps", "app_id",
+          "audit_app_permission", "app_permission_id",
+          "audit_app_role", "app_role_id",
+          "audit_app_user", "app_user_id");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AuditPartitionProperties auditPartitionProperties;
+  private final TransactionTemplate transactionTemplate;
+  private final DatabaseProduct databaseProduct;
+
+  public void managePartitions() {
+    managePartitions(LocalDate.now());
+  }
+
+  public void managePartitions(final LocalDate today) {
+    if (!auditPartitionProperties.isEnabled() || !databaseProduct.isPostgres()) {
+      return;
+    }
+    final YearMonth currentMonth = YearMonth.from(today);
+    AUDIT_TABLES.forEach(
+        auditTable -> {
+          try {
+            createPartitions(auditTable, currentMonth);
+          } catch (Exception ex) {
+            log.error("Create Audit Partitions Error: [{}]", auditTable, ex);
+          }
+          try {
+            createPartitionIndexes(auditTable);
+          } catch (Exception ex) {
+            log.error("Create Audit Partition Indexes Error: [{}]", auditTable, ex);
+          }
+          try {
+            removeExpiredPartitions(auditTable, currentMonth);
+          } catch (Exception ex) {
+            log.error("Remove Expired Audit Partitions Error: [{}]", auditTable, ex);
+          }
+        });
+  }
+
+  private void createPartitions(final String auditTable, final YearMonth currentMonth) {
+    for (int i = 0; i <= auditPartitionProperties.getMonthsAhead(); i++) {
+      final YearMonth month = currentMonth.plusMonths(i);
+      final String createSql =
+          String.format(
+              "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+              getPartitionName(auditTable, month),
+              auditTable,
+              month.atDay(1),
+              month.plusMonths(1).atDay(1));
+      if (hasDefaultRows(auditTable, month)) {
+        createPartitionFromDefault(auditTable, month, createSql);
+      } else {
+        jdbcTemplate.execute(createSql);
+      }
+    }
+  }
+
+  // a month cannot be created while the default partition holds rows of it, those are moved into
+  // the new month with the default detached, writes to the table wait until this commits
+  private void createPartitionFromDefault(
+      final String auditTable, final YearMonth month, final String createSql) {
+    log.info("Moving Default Audit Partition Rows: [{}], [{}]", auditTable, month);
+    final String defaultPartition = getDefaultPartitionName(auditTable);
+    final String monthCondition =
+        String.format(
+            "created_at >= '%s' AND created_at < '%s'",
+            month.atDay(1), month.plusMonths(1).atDay(1));
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jdbcTemplate.execute(
+              String.format("ALTER TABLE %s DETACH PARTITION %s", auditTable, defaultPartition));
+          jdbcTemplate.execute(createSql);
+          jdbcTemplate.execute(
+              String.format(
+                  "INSERT INTO %s SELECT * FROM %s WHERE %s",
+                  auditTable, defaultPartition, monthCondition));
+          jdbcTemplate.execute(
+              String.format("DELETE FROM %s WHERE %s", defaultPartition, monthCondition));
+          jdbcTemplate.execute(
+              String.format(
+                  "ALTER TABLE %s ATTACH PARTITION %s DEFAULT", auditTable, defaultPartition));
+        });
+  }
+
+  // V1_10 creates the keyset indexes only on the parents, each partition builds its own
+  // concurrently, writes continue meanwhile, and the parent index is valid once all are attached
+  // a build that failed before leaves an invalid index behind, so it is dropped and built again
+  private void createPartitionIndexes(final String auditTable) {
+    createPartitionIndexes(
+        "idx_" + auditTable + "_created_at_id", "_created_at_id_idx", "created_at, id");
+    final String entityColumn = ENTITY_COLUMNS.get(auditTable);
+    createPartitionIndexes(
+        "idx_" + auditTable + "_" + entityColumn + "_created_at_id",
+        "_entity_created_at_id_idx",
+        entityColumn + ", created_at, id");
+  }
+
+  private void createPartitionIndexes(
+      final String parentIndex, final String suffix, final String columns) {
+    jdbcTemplate
+        .queryForList(UNINDEXED_PARTITIONS_SQL, String.class, parentIndex)
+        .forEach(
+            partition -> {
+              final String partitionIndex = partition + suffix;
+              log.info("Creating Audit Partition Index: [{}]", partitionIndex);
+              jdbcTemplate.execute(
+                  String.format("DROP INDEX CONCURRENTLY IF EXISTS %s", partitionIndex));
+              jdbcTemplate.execute(
+                  String.format(
+                      "CREATE INDEX CONCURRENTLY %s ON %s (%s)",
+                      partitionIndex, partition, columns));
+              jdbcTemplate.execute(
+                  String.format("ALTER INDEX %s ATTACH PARTITION %s", parentIndex, partitionIndex));
+            });
+  }
+
+  private boolean hasDefaultRows(final String auditTable, final YearMonth month) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            String.format(
+                "SELECT EXISTS (SELECT 1 FROM %s WHERE created_at >= ? AND created_at < ?)",
+                getDefaultPartitionName(auditTable)),
+            Boolean.class,
+            Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+            Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay())));
+  }
+
+  private void removeExpiredPartitions(final String auditTable, final YearMonth currentMonth) {
+    final YearMonth oldestKept =
+        currentMonth.minusMonths(auditPartitionProperties.getRetentionMonths());
+    final String archiveSchema = auditPartitionProperties.getArchiveSchema();
+    jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, auditTable).stream()
+        .filter(
+            partition -> {
+              final YearMonth month = getPartitionMonth(auditTable, partition);
+              return month != null && month.isBefore(oldestKept);
+            })
+        .forEach(
+            partition -> {
+              if (StringUtils.hasText(archiveSchema)) {
+                log.info("Archiving Audit Partition: [{}], [{}]", partition, archiveSchema);
+                jdbcTemplate.execute(
+                    String.format("ALTER TABLE %s DETACH PARTITION %s", auditTable, partition));
+                jdbcTemplate.execute(
+                    String.format("ALTER TABLE %s SET SCHEMA %s", partition, archiveSchema));
+              } else {
+                log.info("Dropping Audit Partition: [{}]", partition);
+                jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+              }
+            });
+  }
+
+  static String getDefaultPartitionName(final String auditTable) {
+    return auditTable + "_default";
+  }
+
+  static String getPartitionName(final String auditTable, final YearMonth month) {
+    return String.format("%s_p%d_%02d", auditTable, month.getYear(), month.getMonthValue());
+  }
+
+  // null for the default partition and anything not named by getPartitionName
+  static YearMonth getPartitionMonth(final String auditTable, final String partition) {
+    if (!partition.startsWith(auditTable + "_p")) {
+      return null;
+    }
+    final Matcher matcher = PARTITION_MONTH.matcher(partition);
+    if (!matcher.find() || matcher.start() != auditTable.length()) {
+      return null;
+    }
+    return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+  }
+}
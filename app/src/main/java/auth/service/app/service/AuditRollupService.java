@@ -0,0 +1,174 @@
+package auth.service.app.service;
+
+import auth.service.app.config.AuditPartitionProperties;
+import auth.service.app.config.AuditPolicyProperties;
+import auth.service.app.model.enums.AuditEnums.AuditPolicy;
+import auth.service.app.model.enums.AuditEnums.AuditUsers;
+import auth.service.app.util.DatabaseProduct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts the high volume success events per app, user, event and minute, instead of, or besides,
+ * their full audit rows (see {@link AuditPolicyProperties}). The counts are kept in striped
+ * counters and flushed into audit_app_user_rollup (V1_7) once their minute has passed, upserting
+ * onto the rows already there so several instances can flush the same minute.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditRollupService {
+
+  // failures and admin mutations always get their full rows
+  static final Set<AuditUsers> TIERED_EVENTS =
+      EnumSet.of(AuditUsers.USER_LOGIN, AuditUsers.USER_LOGOUT, AuditUsers.TOKEN_REFRESH);
+
+  private static final String UPDATE_SQL =
+      "UPDATE audit_app_user_rollup SET event_count = event_count + ? "
+          + "WHERE bucket_start = ? AND app_id = ? AND app_user_id = ? AND event_type = ?";
+  private static final String INSERT_SQL =
+      "INSERT INTO audit_app_user_rollup (event_count, bucket_start, app_id, app_user_id, event_type) "
+          + "VALUES (?, ?, ?, ?, ?)";
+  static final String UPSERT_SQL =
+      INSERT_SQL
+          + " ON CONFLICT (bucket_start, app_id, app_user_id, event_type) "
+          + "DO UPDATE SET event_count = audit_app_user_rollup.event_count + EXCLUDED.event_count";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final AuditPolicyProperties auditPolicyProperties;
+  private final AuditPartitionProperties auditPartitionProperties;
+  private final DatabaseProduct databaseProduct;
+
+  private final Map<RollupKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+  record RollupKey(LocalDateTime bucketStart, String appId, int appUserId, AuditUsers eventType) {}
+
+  public AuditPolicy getAuditPolicy(final AuditUsers eventType) {
+    if (!auditPolicyProperties.isEnabled() || !TIERED_EVENTS.contains(eventType)) {
+      return AuditPolicy.FULL;
+    }
+    return auditPolicyProperties.getEvents().getOrDefault(eventType, AuditPolicy.FULL);
+  }
+
+  /**
+   * Counts the event when its policy is not full
+   *
+   * @return true when the event still gets its full row
+   */
+  public boolean isFullAudit(final AuditUsers eventType, final String appId, final int appUserId) {
+    final AuditPolicy auditPolicy = getAuditPolicy(eventType);
+    if (auditPolicy == AuditPolicy.FULL) {
+      return true;
+    }
+
+    final RollupKey rollupKey =
+        new RollupKey(
+            LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES), appId, appUserId, eventType);
+    LongAdder counter = counters.get(rollupKey);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(rollupKey, key -> new LongAdder());
+    }
+    counter.increment();
+
+    return auditPolicy == AuditPolicy.SAMPLED
+        && ThreadLocalRandom.current().nextDouble() < auditPolicyProperties.getSampleRate();
+  }
+
+  public void flushRollups() {
+    flushRollups(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+  }
+
+  // the current minute too, nothing is counted after this
+  @PreDestroy
+  public void flushAllRollups() {
+    flushRollups(LocalDateTime.MAX);
+  }
+
+  // counters are reset rather than removed, so an increment racing the flush is kept for the next
+  // one, and only removed once they stay empty for a flush
+  void flushRollups(final LocalDateTime before) {
+    final List<Object[]> rollups = new ArrayList<>();
+    final List<LongAdder> flushedCounters = new ArrayList<>();
+    counters.forEach(
+        (rollupKey, counter) -> {
+          if (!rollupKey.bucketStart().isBefore(before)) {
+            return;
+          }
+          final long count = counter.sumThenReset();
+          if (count == 0) {
+            counters.remove(rollupKey, counter);
+            return;
+          }
+          rollups.add(
+              new Object[] {
+                count,
+                Timestamp.valueOf(rollupKey.bucketStart()),
+                rollupKey.appId(),
+                rollupKey.appUserId(),
+                rollupKey.eventType().name()
+              });
+          flushedCounters.add(counter);
+        });
+    if (rollups.isEmpty()) {
+      return;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> writeRollups(rollups));
+    } catch (Exception ex) {
+      log.error("Flush Audit Rollups Error: [{}]", rollups.size(), ex);
+      // rolled back, counted again for the next flush
+      for (int i = 0; i < rollups.size(); i++) {
+        flushedCounters.get(i).add((long) rollups.get(i)[0]);
+      }
+    }
+  }
+
+  public void deleteExpiredRollups() {
+    final LocalDateTime oldestKept =
+        LocalDateTime.now()
+            .truncatedTo(ChronoUnit.DAYS)
+            .withDayOfMonth(1)
+            .minusMonths(auditPartitionProperties.getRetentionMonths());
+    final int deleted =
+        jdbcTemplate.update(
+            "DELETE FROM audit_app_user_rollup WHERE bucket_start < ?",
+            Timestamp.valueOf(oldestKept));
+    log.info("Deleted Expired Audit Rollups: [{}], [{}]", oldestKept, deleted);
+  }
+
+  // rows of other instances get added to, the rest are inserted, in one statement on PostgreSQL
+  // elsewhere (H2) an insert can still lose to another instance flushing the same minute
+  private void writeRollups(final List<Object[]> rollups) {
+    if (databaseProduct.isPostgres()) {
+      jdbcTemplate.batchUpdate(UPSERT_SQL, rollups);
+      return;
+    }
+    final int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rollups);
+    final List<Object[]> inserts = new ArrayList<>();
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] == 0) {
+        inserts.add(rollups.get(i));
+      }
+    }
+    if (!inserts.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package auth.service.app.service;
 
+import static auth.service.app.util.CommonUtils.normalizeEmail;
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_GUEST;
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_STANDARD;
 
+import auth.service.app.exception.ElementMissingException;
+import auth.service.app.model.dto.AuditContext;
+import auth.service.app.model.dto.AuditDto;
+import auth.service.app.model.dto.AuditRequest;
 import auth.service.app.model.entity.AppPermissionEntity;
 import auth.service.app.model.entity.AppRoleEntity;
 import auth.service.app.model.entity.AppRolePermissionEntity;
@@ -17,7 +22,7 @@ import auth.service.app.model.entity.AuditAppRoleEntity;
 import auth.service.app.model.entity.AuditAppUserEntity;
 import auth.service.app.model.entity.AuditAppsEntity;
 import auth.service.app.model.enums.AuditEnums;
-import auth.service.app.model.token.AuthToken;
+import auth.service.app.model.enums.AuditEnums.AuditType;
 import auth.service.app.repository.AppPermissionRepository;
 import auth.service.app.repository.AppRoleRepository;
 import auth.service.app.repository.AppUserRepository;
@@ -26,12 +31,12 @@ import auth.service.app.repository.AuditAppPermissionRepository;
 import auth.service.app.repository.AuditAppRoleRepository;
 import auth.service.app.repository.AuditAppUserRepository;
 import auth.service.app.repository.AuditAppsRepository;
-import jakarta.servlet.http.HttpServletRequest;
+import auth.service.app.repository.AuditQueryRepository;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -47,33 +52,21 @@ public class AuditService {
   private final AppRoleRepository appRoleRepository;
   private final AppsRepository appsRepository;
   private final AppUserRepository appUserRepository;
+  private final AuditQueryRepository auditQueryRepository;
+  private final AuditRollupService auditRollupService;
 
-  private String getIpAddress(final HttpServletRequest request) {
-    String ipAddress = request.getHeader("X-Forwarded-For");
-    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-      ipAddress = request.getRemoteAddr();
-    }
-    return ipAddress;
-  }
+  private static final int AUDIT_DEFAULT_DAYS = 30;
 
-  private String getUserAgent(final HttpServletRequest request) {
-    return request.getHeader("User-Agent");
-  }
+  public record AuditPage(List<AuditDto> audits, String nextPageKey) {}
 
-  private AppUserEntity getAppUserEntityById(int appUserId) {
-    if (appUserId == 0) {
-      final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-      if (authentication != null
-          && authentication.getCredentials() != null
-          && authentication.getCredentials() instanceof AuthToken authToken) {
-        appUserId = authToken.getUser().getId();
-      }
-    }
-    return appUserRepository.findById(appUserId).orElse(null);
+  private AppUserEntity getAppUserEntityById(final Integer appUserId) {
+    return appUserId == null ? null : appUserRepository.findById(appUserId).orElse(null);
   }
 
   private AppUserEntity getAppUserEntityByEmail(final String email) {
-    return appUserRepository.findByEmail(email).orElse(new AppUserEntity());
+    return appUserRepository
+        .findByEmailNormalized(normalizeEmail(email))
+        .orElse(new AppUserEntity());
   }
 
   private AppPermissionEntity getAppPermissionEntity(final int appPermissionId) {
@@ -94,7 +87,7 @@ public class AuditService {
   }
 
   private void auditAppPermission(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       AppPermissionEntity appPermissionEntity,
       final int appPermissionId,
       final AuditEnums.AuditPermissions eventType,
@@ -109,10 +102,10 @@ public class AuditService {
       auditAppPermissionEntity.setEventData(appPermissionEntity);
       auditAppPermissionEntity.setEventType(eventType.name());
       auditAppPermissionEntity.setEventDesc(eventDesc);
-      auditAppPermissionEntity.setCreatedBy(getAppUserEntityById(0));
+      auditAppPermissionEntity.setCreatedBy(getAppUserEntityById(auditContext.appUserId()));
       auditAppPermissionEntity.setCreatedAt(LocalDateTime.now());
-      auditAppPermissionEntity.setIpAddress(getIpAddress(request));
-      auditAppPermissionEntity.setUserAgent(getUserAgent(request));
+      auditAppPermissionEntity.setIpAddress(auditContext.ipAddress());
+      auditAppPermissionEntity.setUserAgent(auditContext.userAgent());
 
       auditAppPermissionRepository.save(auditAppPermissionEntity);
     } catch (Exception ex) {
@@ -126,7 +119,7 @@ public class AuditService {
   }
 
   private void auditApps(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       AppsEntity appsEntity,
       final String appId,
       final AuditEnums.AuditApps eventType,
@@ -141,10 +134,10 @@ public class AuditService {
       auditAppsEntity.setEventData(appsEntity);
       auditAppsEntity.setEventType(eventType.name());
       auditAppsEntity.setEventDesc(eventDesc);
-      auditAppsEntity.setCreatedBy(getAppUserEntityById(0));
+      auditAppsEntity.setCreatedBy(getAppUserEntityById(auditContext.appUserId()));
       auditAppsEntity.setCreatedAt(LocalDateTime.now());
-      auditAppsEntity.setIpAddress(getIpAddress(request));
-      auditAppsEntity.setUserAgent(getUserAgent(request));
+      auditAppsEntity.setIpAddress(auditContext.ipAddress());
+      auditAppsEntity.setUserAgent(auditContext.userAgent());
 
       auditAppsRepository.save(auditAppsEntity);
     } catch (Exception ex) {
@@ -158,7 +151,7 @@ public class AuditService {
   }
 
   private void auditAppRole(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       AppRoleEntity appRoleEntity,
       final int appRoleId,
       final AuditEnums.AuditRoles eventType,
@@ -173,10 +166,10 @@ public class AuditService {
       auditAppRoleEntity.setEventData(appRoleEntity);
       auditAppRoleEntity.setEventType(eventType.name());
       auditAppRoleEntity.setEventDesc(eventDesc);
-      auditAppRoleEntity.setCreatedBy(getAppUserEntityById(0));
+      auditAppRoleEntity.setCreatedBy(getAppUserEntityById(auditContext.appUserId()));
       auditAppRoleEntity.setCreatedAt(LocalDateTime.now());
-      auditAppRoleEntity.setIpAddress(getIpAddress(request));
-      auditAppRoleEntity.setUserAgent(getUserAgent(request));
+      auditAppRoleEntity.setIpAddress(auditContext.ipAddress());
+      auditAppRoleEntity.setUserAgent(auditContext.userAgent());
 
       auditAppRoleRepository.save(auditAppRoleEntity);
     } catch (Exception ex) {
@@ -190,7 +183,7 @@ public class AuditService {
   }
 
   private void auditAppUser(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       AppUserEntity appUserEntity,
       final int appUserId,
       final AuditEnums.AuditUsers eventType,
@@ -200,7 +193,7 @@ public class AuditService {
         appUserEntity = getAppUserEntityById(appUserId);
       }
 
-      AppUserEntity createdBy = getAppUserEntityById(0);
+      AppUserEntity createdBy = getAppUserEntityById(auditContext.appUserId());
       if (createdBy == null) {
         createdBy = appUserEntity;
       }
@@ -212,8 +205,8 @@ public class AuditService {
       auditAppUserEntity.setEventDesc(eventDesc);
       auditAppUserEntity.setCreatedBy(createdBy);
       auditAppUserEntity.setCreatedAt(LocalDateTime.now());
-      auditAppUserEntity.setIpAddress(getIpAddress(request));
-      auditAppUserEntity.setUserAgent(getUserAgent(request));
+      auditAppUserEntity.setIpAddress(auditContext.ipAddress());
+      auditAppUserEntity.setUserAgent(auditContext.userAgent());
 
       auditAppUserRepository.save(auditAppUserEntity);
     } catch (Exception ex) {
@@ -227,76 +220,84 @@ public class AuditService {
   }
 
   public void auditAppPermissionCreate(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       final String appId,
       final AppPermissionEntity appPermissionEntity) {
     final String eventDesc =
         String.format("Create Permission [%s] for app [%s]", appPermissionEntity.getId(), appId);
     auditAppPermission(
-        request, appPermissionEntity, 0, AuditEnums.AuditPermissions.CREATE_PERMISSION, eventDesc);
+        auditContext,
+        appPermissionEntity,
+        0,
+        AuditEnums.AuditPermissions.CREATE_PERMISSION,
+        eventDesc);
   }
 
   public void auditAppPermissionUpdate(
-      final HttpServletRequest request, final AppPermissionEntity appPermissionEntity) {
+      final AuditContext auditContext, final AppPermissionEntity appPermissionEntity) {
     final String eventDesc = String.format("Update Permission [%s]", appPermissionEntity.getId());
     auditAppPermission(
-        request, appPermissionEntity, 0, AuditEnums.AuditPermissions.UPDATE_PERMISSION, eventDesc);
+        auditContext,
+        appPermissionEntity,
+        0,
+        AuditEnums.AuditPermissions.UPDATE_PERMISSION,
+        eventDesc);
   }
 
-  public void auditAppPermissionDeleteSoft(final HttpServletRequest request, final int id) {
+  public void auditAppPermissionDeleteSoft(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Soft Delete Permission [%s]", id);
     auditAppPermission(
-        request, null, id, AuditEnums.AuditPermissions.SOFT_DELETE_PERMISSION, eventDesc);
+        auditContext, null, id, AuditEnums.AuditPermissions.SOFT_DELETE_PERMISSION, eventDesc);
   }
 
-  public void auditAppPermissionDeleteHard(final HttpServletRequest request, final int id) {
+  public void auditAppPermissionDeleteHard(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Hard Delete Permission [%s]", id);
     auditAppPermission(
-        request, null, id, AuditEnums.AuditPermissions.HARD_DELETE_PERMISSION, eventDesc);
+        auditContext, null, id, AuditEnums.AuditPermissions.HARD_DELETE_PERMISSION, eventDesc);
   }
 
-  public void auditAppPermissionRestore(final HttpServletRequest request, final int id) {
+  public void auditAppPermissionRestore(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Restore Permission [%s]", id);
     auditAppPermission(
-        request, null, id, AuditEnums.AuditPermissions.RESTORE_PERMISSION, eventDesc);
+        auditContext, null, id, AuditEnums.AuditPermissions.RESTORE_PERMISSION, eventDesc);
   }
 
   public void auditAppRoleCreate(
-      final HttpServletRequest request, final AppRoleEntity appRoleEntity) {
+      final AuditContext auditContext, final AppRoleEntity appRoleEntity) {
     final String eventDesc = String.format("Create App Role [%s]", appRoleEntity.getId());
-    auditAppRole(request, appRoleEntity, 0, AuditEnums.AuditRoles.CREATE_ROLE, eventDesc);
+    auditAppRole(auditContext, appRoleEntity, 0, AuditEnums.AuditRoles.CREATE_ROLE, eventDesc);
   }
 
   public void auditAppRoleUpdate(
-      final HttpServletRequest request, final AppRoleEntity appRoleEntity) {
+      final AuditContext auditContext, final AppRoleEntity appRoleEntity) {
     final String eventDesc = String.format("Update App Role [%s]", appRoleEntity.getId());
-    auditAppRole(request, appRoleEntity, 0, AuditEnums.AuditRoles.UPDATE_ROLE, eventDesc);
+    auditAppRole(auditContext, appRoleEntity, 0, AuditEnums.AuditRoles.UPDATE_ROLE, eventDesc);
   }
 
-  public void auditAppRoleDeleteSoft(final HttpServletRequest request, final int id) {
+  public void auditAppRoleDeleteSoft(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Soft Delete App Role [%s]", id);
-    auditAppRole(request, null, id, AuditEnums.AuditRoles.SOFT_DELETE_ROLE, eventDesc);
+    auditAppRole(auditContext, null, id, AuditEnums.AuditRoles.SOFT_DELETE_ROLE, eventDesc);
   }
 
-  public void auditAppRoleDeleteHard(final HttpServletRequest request, final int id) {
+  public void auditAppRoleDeleteHard(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Hard Delete App Role [%s]", id);
-    auditAppRole(request, null, id, AuditEnums.AuditRoles.HARD_DELETE_ROLE, eventDesc);
+    auditAppRole(auditContext, null, id, AuditEnums.AuditRoles.HARD_DELETE_ROLE, eventDesc);
   }
 
-  public void auditAppRoleRestore(final HttpServletRequest request, final int id) {
+  public void auditAppRoleRestore(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Restore App Role [%s]", id);
-    auditAppRole(request, null, id, AuditEnums.AuditRoles.RESTORE_ROLE, eventDesc);
+    auditAppRole(auditContext, null, id, AuditEnums.AuditRoles.RESTORE_ROLE, eventDesc);
   }
 
   public void auditAppRoleAssignPermission(
-      final HttpServletRequest request, final AppRolePermissionEntity appRolePermissionEntity) {
+      final AuditContext auditContext, final AppRolePermissionEntity appRolePermissionEntity) {
     final String eventDesc =
         String.format(
             "Assign Permission [%s] to Role [%s]",
             appRolePermissionEntity.getAppPermission().getId(),
             appRolePermissionEntity.getAppRole().getId());
     auditAppRole(
-        request,
+        auditContext,
         appRolePermissionEntity.getAppRole(),
         0,
         AuditEnums.AuditRoles.ASSIGN_PERMISSION,
@@ -304,123 +305,134 @@ public class AuditService {
   }
 
   public void auditAppRoleUnassignPermission(
-      final HttpServletRequest request, final int appRoleId, final int appPermissionId) {
+      final AuditContext auditContext, final int appRoleId, final int appPermissionId) {
     final String eventDesc =
         String.format("Unassign Permission [%s] from Role [%s]", appPermissionId, appRoleId);
-    auditAppRole(request, null, appRoleId, AuditEnums.AuditRoles.UNASSIGN_PERMISSION, eventDesc);
+    auditAppRole(
+        auditContext, null, appRoleId, AuditEnums.AuditRoles.UNASSIGN_PERMISSION, eventDesc);
   }
 
-  public void auditAppsCreate(final HttpServletRequest request, final AppsEntity appsEntity) {
+  public void auditAppsCreate(final AuditContext auditContext, final AppsEntity appsEntity) {
     final String eventDesc = String.format("Create App [%s]", appsEntity.getId());
-    auditApps(request, appsEntity, "", AuditEnums.AuditApps.CREATE_APP, eventDesc);
+    auditApps(auditContext, appsEntity, "", AuditEnums.AuditApps.CREATE_APP, eventDesc);
   }
 
-  public void auditAppsUpdate(final HttpServletRequest request, final AppsEntity appsEntity) {
+  public void auditAppsUpdate(final AuditContext auditContext, final AppsEntity appsEntity) {
     final String eventDesc = String.format("Update App [%s]", appsEntity.getId());
-    auditApps(request, appsEntity, "", AuditEnums.AuditApps.UPDATE_APP, eventDesc);
+    auditApps(auditContext, appsEntity, "", AuditEnums.AuditApps.UPDATE_APP, eventDesc);
   }
 
-  public void auditAppsDeleteSoft(final HttpServletRequest request, final String id) {
+  public void auditAppsDeleteSoft(final AuditContext auditContext, final String id) {
     final String eventDesc = String.format("Soft Delete App [%s]", id);
-    auditApps(request, null, id, AuditEnums.AuditApps.SOFT_DELETE_APP, eventDesc);
+    auditApps(auditContext, null, id, AuditEnums.AuditApps.SOFT_DELETE_APP, eventDesc);
   }
 
-  public void auditAppsDeleteHard(final HttpServletRequest request, final String id) {
+  public void auditAppsDeleteHard(final AuditContext auditContext, final String id) {
     final String eventDesc = String.format("Hard Delete App [%s]", id);
-    auditApps(request, null, id, AuditEnums.AuditApps.HARD_DELETE_APP, eventDesc);
+    auditApps(auditContext, null, id, AuditEnums.AuditApps.HARD_DELETE_APP, eventDesc);
   }
 
-  public void auditAppsRestore(final HttpServletRequest request, final String id) {
+  public void auditAppsRestore(final AuditContext auditContext, final String id) {
     final String eventDesc = String.format("Restore App [%s]", id);
-    auditApps(request, null, id, AuditEnums.AuditApps.RESTORE_APP, eventDesc);
+    auditApps(auditContext, null, id, AuditEnums.AuditApps.RESTORE_APP, eventDesc);
   }
 
   public void auditAppUserCreate(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       final String appId,
       final AppUserEntity appUserEntity,
       final boolean isGuestUser) {
     final String eventDesc =
         String.format("Create User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.CREATE_USER, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.CREATE_USER, eventDesc);
 
     // others
-    auditAppUserAssignApp(request, appId, appUserEntity);
-    auditAppUserAssignRole(request, appUserEntity, isGuestUser);
-    auditAppUserValidateInit(request, appId, appUserEntity);
+    auditAppUserAssignApp(auditContext, appId, appUserEntity);
+    auditAppUserAssignRole(auditContext, appUserEntity, isGuestUser);
+    auditAppUserValidateInit(auditContext, appId, appUserEntity);
   }
 
   public void auditAppUserUpdate(
-      final HttpServletRequest request, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final AppUserEntity appUserEntity) {
     final String eventDesc = String.format("Update User [%s]", appUserEntity.getId());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER, eventDesc);
   }
 
   public void auditAppUserUpdateEmail(
-      final HttpServletRequest request, final AppUserEntity appUserEntity, final String appId) {
+      final AuditContext auditContext, final AppUserEntity appUserEntity, final String appId) {
     final String eventDesc = String.format("Update User [%s] email", appUserEntity.getId());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER_EMAIL, eventDesc);
-    auditAppUserValidateInit(request, appId, appUserEntity);
+    auditAppUser(
+        auditContext, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER_EMAIL, eventDesc);
+    auditAppUserValidateInit(auditContext, appId, appUserEntity);
   }
 
   public void auditAppUserUpdatePassword(
-      final HttpServletRequest request, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final AppUserEntity appUserEntity) {
     final String eventDesc = String.format("Update User [%s] password", appUserEntity.getId());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER_PASSWORD, eventDesc);
+    auditAppUser(
+        auditContext, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER_PASSWORD, eventDesc);
   }
 
   public void auditAppUserDeleteAddress(
-      final HttpServletRequest request, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Update User [%s] deleted an address", appUserEntity.getId());
     auditAppUser(
-        request, appUserEntity, 0, AuditEnums.AuditUsers.UPDATE_USER_DELETE_ADDRESS, eventDesc);
+        auditContext,
+        appUserEntity,
+        0,
+        AuditEnums.AuditUsers.UPDATE_USER_DELETE_ADDRESS,
+        eventDesc);
   }
 
-  public void auditAppUserDeleteSoft(final HttpServletRequest request, final int id) {
+  public void auditAppUserDeleteSoft(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Soft Delete User [%s]", id);
-    auditAppUser(request, null, id, AuditEnums.AuditUsers.SOFT_DELETE_USER, eventDesc);
+    auditAppUser(auditContext, null, id, AuditEnums.AuditUsers.SOFT_DELETE_USER, eventDesc);
   }
 
-  public void auditAppUserDeleteHard(final HttpServletRequest request, final int id) {
+  public void auditAppUserDeleteHard(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Hard Delete User [%s]", id);
-    auditAppUser(request, null, id, AuditEnums.AuditUsers.HARD_DELETE_USER, eventDesc);
+    auditAppUser(auditContext, null, id, AuditEnums.AuditUsers.HARD_DELETE_USER, eventDesc);
   }
 
-  public void auditAppUserRestore(final HttpServletRequest request, final int id) {
+  public void auditAppUserRestore(final AuditContext auditContext, final int id) {
     final String eventDesc = String.format("Restore User [%s]", id);
-    auditAppUser(request, null, id, AuditEnums.AuditUsers.RESTORE_USER, eventDesc);
+    auditAppUser(auditContext, null, id, AuditEnums.AuditUsers.RESTORE_USER, eventDesc);
   }
 
   public void auditAppUserLoginSuccess(
-      final HttpServletRequest request, final String appId, final int appUserId) {
+      final AuditContext auditContext, final String appId, final int appUserId) {
+    if (!auditRollupService.isFullAudit(AuditEnums.AuditUsers.USER_LOGIN, appId, appUserId)) {
+      return;
+    }
     final String eventDesc =
         String.format("Login Success User [%s] for app [%s]", appUserId, appId);
-    auditAppUser(request, null, appUserId, AuditEnums.AuditUsers.USER_LOGIN, eventDesc);
+    auditAppUser(auditContext, null, appUserId, AuditEnums.AuditUsers.USER_LOGIN, eventDesc);
   }
 
   public void auditAppUserLoginFailure(
-      final HttpServletRequest request,
-      final String appId,
-      final String email,
-      final Exception ex) {
+      final AuditContext auditContext, final String appId, final String email, final Exception ex) {
     final AppUserEntity appUserEntity = getAppUserEntityByEmail(email);
     final String eventDesc =
         String.format(
             "Login Failed User [%s]-[%s] for app [%s] because [%s]",
             appUserEntity.getId(), email, appId, ex.getMessage());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_LOGIN_ERROR, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_LOGIN_ERROR, eventDesc);
   }
 
   public void auditAppUserTokenRefreshSuccess(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
+    if (!auditRollupService.isFullAudit(
+        AuditEnums.AuditUsers.TOKEN_REFRESH, appId, appUserEntity.getId())) {
+      return;
+    }
     final String eventDesc =
         String.format("Token Refresh Success User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.TOKEN_REFRESH, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.TOKEN_REFRESH, eventDesc);
   }
 
   public void auditAppUserTokenRefreshFailure(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       final String appId,
       final int appUserId,
       final Exception ex) {
@@ -428,90 +440,92 @@ public class AuditService {
         String.format(
             "Token Refresh Failed User [%s] for app [%s] because [%s]",
             appUserId, appId, ex.getMessage());
-    auditAppUser(request, null, appUserId, AuditEnums.AuditUsers.TOKEN_REFRESH_ERROR, eventDesc);
+    auditAppUser(
+        auditContext, null, appUserId, AuditEnums.AuditUsers.TOKEN_REFRESH_ERROR, eventDesc);
   }
 
   public void auditAppUserLogoutSuccess(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
+    if (!auditRollupService.isFullAudit(
+        AuditEnums.AuditUsers.USER_LOGOUT, appId, appUserEntity.getId())) {
+      return;
+    }
     final String eventDesc =
         String.format("Logout Success User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_LOGOUT, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_LOGOUT, eventDesc);
   }
 
   public void auditAppUserLogoutFailure(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       final String appId,
       final int appUserId,
       final Exception ex) {
     final String eventDesc =
         String.format(
             "Logout Failed User [%s] for app [%s] because [%s]", appUserId, appId, ex.getMessage());
-    auditAppUser(request, null, appUserId, AuditEnums.AuditUsers.USER_LOGOUT_ERROR, eventDesc);
+    auditAppUser(auditContext, null, appUserId, AuditEnums.AuditUsers.USER_LOGOUT_ERROR, eventDesc);
   }
 
   public void auditAppUserResetInit(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Reset Init User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_INIT, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_INIT, eventDesc);
   }
 
   public void auditAppUserResetExit(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Reset Init User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_EXIT, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_EXIT, eventDesc);
   }
 
   public void auditAppUserResetSuccess(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Reset Success User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET, eventDesc);
   }
 
   public void auditAppUserResetFailure(
-      final HttpServletRequest request,
-      final String appId,
-      final String email,
-      final Exception ex) {
+      final AuditContext auditContext, final String appId, final String email, final Exception ex) {
     final AppUserEntity appUserEntity = getAppUserEntityByEmail(email);
     final String eventDesc =
         String.format(
             "Reset Failed User [%s]-[%s] for app [%s] for [%s]",
             appUserEntity.getId(), email, appId, ex.getMessage());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_ERROR, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_RESET_ERROR, eventDesc);
   }
 
   public void auditAppUserValidateInit(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Validate Init User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_INIT, eventDesc);
+    auditAppUser(
+        auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_INIT, eventDesc);
   }
 
   public void auditAppUserValidateExit(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     final String eventDesc =
         String.format("Validate Exit User [%s] for app [%s]", appUserEntity.getId(), appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_EXIT, eventDesc);
+    auditAppUser(
+        auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_EXIT, eventDesc);
   }
 
   public void auditAppUserValidateFailure(
-      final HttpServletRequest request,
-      final String appId,
-      final String email,
-      final Exception ex) {
+      final AuditContext auditContext, final String appId, final String email, final Exception ex) {
     final AppUserEntity appUserEntity = getAppUserEntityByEmail(email);
     final String eventDesc =
         String.format(
             "Validation Failed User [%s]-[%s] for app [%s] for [%s]",
             appUserEntity.getId(), email, appId, ex.getMessage());
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_ERROR, eventDesc);
+    auditAppUser(
+        auditContext, appUserEntity, 0, AuditEnums.AuditUsers.USER_VALIDATE_ERROR, eventDesc);
   }
 
   private void auditAppUserAssignRole(
-      final HttpServletRequest request,
+      final AuditContext auditContext,
       final AppUserEntity appUserEntity,
       final boolean isGuestUser) {
     final AppRoleEntity appRoleEntity = getAppRoleEntity(isGuestUser);
@@ -519,28 +533,32 @@ public class AuditService {
     appUserRoleEntity.setAppUser(appUserEntity);
     appUserRoleEntity.setAppRole(appRoleEntity);
     appUserRoleEntity.setId(new AppUserRoleId(appUserEntity.getId(), appRoleEntity.getId()));
-    auditAppUserAssignRole(request, appUserRoleEntity);
+    auditAppUserAssignRole(auditContext, appUserRoleEntity);
   }
 
   public void auditAppUserAssignRole(
-      final HttpServletRequest request, final AppUserRoleEntity appUserRoleEntity) {
+      final AuditContext auditContext, final AppUserRoleEntity appUserRoleEntity) {
     final String eventDesc =
         String.format(
             "Assign Role [%s] to User [%s]",
             appUserRoleEntity.getAppRole().getId(), appUserRoleEntity.getAppUser().getId());
     auditAppUser(
-        request, appUserRoleEntity.getAppUser(), 0, AuditEnums.AuditUsers.ASSIGN_ROLE, eventDesc);
+        auditContext,
+        appUserRoleEntity.getAppUser(),
+        0,
+        AuditEnums.AuditUsers.ASSIGN_ROLE,
+        eventDesc);
   }
 
   public void auditAppUserUnassignRole(
-      final HttpServletRequest request, final int appUserId, final int appRoleId) {
+      final AuditContext auditContext, final int appUserId, final int appRoleId) {
     final String eventDesc =
         String.format("Unassign Role [%s] from User [%s]", appRoleId, appUserId);
-    auditAppUser(request, null, appUserId, AuditEnums.AuditUsers.UNASSIGN_ROLE, eventDesc);
+    auditAppUser(auditContext, null, appUserId, AuditEnums.AuditUsers.UNASSIGN_ROLE, eventDesc);
   }
 
   private void auditAppUserAssignApp(
-      final HttpServletRequest request, final String appId, final AppUserEntity appUserEntity) {
+      final AuditContext auditContext, final String appId, final AppUserEntity appUserEntity) {
     AppsEntity appsEntity = new AppsEntity();
     appsEntity.setId(appId);
 
@@ -549,24 +567,103 @@ public class AuditService {
     appsAppUserEntity.setApp(appsEntity);
     appsAppUserEntity.setId(new AppsAppUserId(appId, appUserEntity.getId()));
 
-    auditAppUserAssignApp(request, appsAppUserEntity);
+    auditAppUserAssignApp(auditContext, appsAppUserEntity);
   }
 
   public void auditAppUserAssignApp(
-      final HttpServletRequest request, final AppsAppUserEntity appsAppUserEntity) {
+      final AuditContext auditContext, final AppsAppUserEntity appsAppUserEntity) {
     final String eventDesc =
         String.format(
             "Assign User [%s] to App [%s]",
             appsAppUserEntity.getAppUser().getId(), appsAppUserEntity.getApp().getId());
     auditAppUser(
-        request, appsAppUserEntity.getAppUser(), 0, AuditEnums.AuditUsers.ASSIGN_APP, eventDesc);
+        auditContext,
+        appsAppUserEntity.getAppUser(),
+        0,
+        AuditEnums.AuditUsers.ASSIGN_APP,
+        eventDesc);
   }
 
   public void auditAppUserUnassignApp(
-      final HttpServletRequest request, final String email, final String appId) {
+      final AuditContext auditContext, final String email, final String appId) {
     final AppUserEntity appUserEntity = getAppUserEntityByEmail(email);
     final String eventDesc =
         String.format("Unassign User [%s]-[%s] from app [%s]", appUserEntity.getId(), email, appId);
-    auditAppUser(request, appUserEntity, 0, AuditEnums.AuditUsers.UNASSIGN_APP, eventDesc);
+    auditAppUser(auditContext, appUserEntity, 0, AuditEnums.AuditUsers.UNASSIGN_APP, eventDesc);
+  }
+
+  public AuditPage readAudits(final AuditType auditType, final AuditRequest auditRequest) {
+    return readAudits(auditType, auditRequest, auditRequest.getAfter(), auditRequest.getLimit());
+  }
+
+  // the pages after the page key, one keyset query each so no cursor stays open while writing
+  public void streamAudits(
+      final AuditType auditType,
+      final AuditRequest auditRequest,
+      final String after,
+      final Consumer<List<AuditDto>> pageConsumer) {
+    String pageAfter = after;
+    while (pageAfter != null) {
+      final AuditPage auditPage =
+          readAudits(auditType, auditRequest, pageAfter, auditRequest.getLimit());
+      pageConsumer.accept(auditPage.audits());
+      pageAfter = auditPage.nextPageKey();
+    }
+  }
+
+  private AuditPage readAudits(
+      final AuditType auditType,
+      final AuditRequest auditRequest,
+      final String after,
+      final int limit) {
+    final LocalDateTime from =
+        auditRequest.getFrom() == null
+            ? LocalDateTime.now().minusDays(AUDIT_DEFAULT_DAYS)
+            : auditRequest.getFrom();
+    LocalDateTime afterCreatedAt = null;
+    Integer afterId = null;
+    if (after != null) {
+      try {
+        final int separator = after.lastIndexOf('_');
+        afterCreatedAt = LocalDateTime.parse(after.substring(0, separator));
+        afterId = Integer.valueOf(after.substring(separator + 1));
+      } catch (RuntimeException ex) {
+        throw new ElementMissingException("Audits", "after");
+      }
+    }
+
+    final List<AuditDto> auditDtos =
+        auditQueryRepository.readAudits(
+            auditType,
+            getAuditEntityId(auditType, auditRequest.getEntityId()),
+            auditRequest.getCreatedBy(),
+            auditRequest.getEventType(),
+            auditRequest.getAppId(),
+            from,
+            auditRequest.getTo(),
+            afterCreatedAt,
+            afterId,
+            limit + 1);
+    if (auditDtos.size() <= limit) {
+      return new AuditPage(auditDtos, null);
+    }
+    final List<AuditDto> pageAuditDtos = auditDtos.subList(0, limit);
+    final AuditDto lastAuditDto = pageAuditDtos.getLast();
+    return new AuditPage(pageAuditDtos, lastAuditDto.getCreatedAt() + "_" + lastAuditDto.getId());
+  }
+
+  // app ids are strings, the other audited entities have integer ids
+  private Object getAuditEntityId(final AuditType auditType, final String entityId) {
+    if (entityId == null || entityId.isBlank()) {
+      return null;
+    }
+    if (auditType == AuditType.APPS) {
+      return entityId;
+    }
+    try {
+      return Integer.valueOf(entityId.trim());
+    } catch (NumberFormatException ex) {
+      throw new ElementMissingException("Audits", "entityId");
+    }
   }
 }
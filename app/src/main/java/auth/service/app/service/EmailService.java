@@ -1,14 +1,19 @@
 package auth.service.app.service;
 
+import static auth.service.app.model.enums.AsyncEnums.ExecutorName.EMAIL;
 import static auth.service.app.util.ConstantUtils.ENV_MAILJET_EMAIL_ADDRESS;
 import static auth.service.app.util.JwtUtils.encodeEmailAddress;
+import static auth.service.app.util.MetricsUtils.TIMER_EMAIL;
 import static auth.service.app.util.SystemEnvPropertyUtils.getSystemEnvProperty;
 
 import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppsEntity;
 import auth.service.app.model.events.AppUserCreatedEvent;
 import auth.service.app.model.events.AppUserUpdatedEvent;
+import auth.service.app.util.AsyncExecutorRegistry;
 import auth.service.app.util.FileReaderUtils;
+import auth.service.app.util.MetricsUtils;
+import auth.service.app.util.MetricsUtils.HotPathTimer;
 import com.mailjet.client.MailjetClient;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.MailjetResponse;
@@ -29,6 +34,7 @@ public class EmailService {
 
   private final FileReaderUtils fileReaderUtils;
   private final MailjetClient mailjetClient;
+  private final AsyncExecutorRegistry asyncExecutorRegistry;
 
   public void sendEmail(
       final String appName,
@@ -79,15 +85,30 @@ public class EmailService {
           new MailjetRequest(Emailv31.resource)
               .property(Emailv31.MESSAGES, new JSONArray().put(message));
 
+      // mailjet call blocks, send it on the email executor
+      asyncExecutorRegistry.runAsync(EMAIL, () -> postEmail(request));
+    } catch (Exception ex) {
+      log.error("Send Email Error...", ex);
+    }
+  }
+
+  private void postEmail(final MailjetRequest request) {
+    final HotPathTimer hotPathTimer =
+        MetricsUtils.startTimer(TIMER_EMAIL, "EmailService.postEmail");
+    boolean isSuccess = false;
+    try {
       final MailjetResponse response = mailjetClient.post(request);
 
       if (response.getStatus() == 200) {
+        isSuccess = true;
         log.info("Send Email Response Success...");
       } else {
         log.info("Send Email Response Failure:  [ {} ]", response.getData());
       }
     } catch (Exception ex) {
       log.error("Send Email Error...", ex);
+    } finally {
+      hotPathTimer.stop(isSuccess);
     }
   }
 
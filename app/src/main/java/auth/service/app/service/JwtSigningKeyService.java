@@ -0,0 +1,167 @@
+package auth.service.app.service;
+
+import static auth.service.app.util.ConstantUtils.ENV_SECRET_KEY;
+import static auth.service.app.util.SystemEnvPropertyUtils.getSystemEnvProperty;
+
+import auth.service.app.util.JwtKeyRing;
+import auth.service.app.util.JwtKeyRing.EncodedSigningKey;
+import auth.service.app.util.JwtUtils;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the ES256/EdDSA key ring of {@link JwtUtils} in jwt_signing_key (V1_8), so every instance
+ * signs and verifies with the same keys and restarts keep them. A new key is added once a day,
+ * whichever instance rotates first, and is only published until the next rotation, the other
+ * instances pick it up on reload long before anything is signed with it. HS256 uses the shared
+ * secret key and skips all this.
+ */
+@Slf4j
+@Service
+public class JwtSigningKeyService {
+
+  private static final String SELECT_SQL =
+      "SELECT kid, private_key, public_key FROM jwt_signing_key WHERE algorithm = ? "
+          + "ORDER BY rotation_date DESC LIMIT ?";
+  private static final String INSERT_SQL =
+      "INSERT INTO jwt_signing_key (kid, algorithm, rotation_date, private_key, public_key) "
+          + "VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+  private static final int GCM_IV_LENGTH = 12;
+  private static final int GCM_TAG_LENGTH = 128;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JwtKeyRing jwtKeyRing;
+  private final SecretKeySpec encryptionKey;
+  private final SecureRandom secureRandom = new SecureRandom();
+
+  @Autowired
+  public JwtSigningKeyService(final JdbcTemplate jdbcTemplate) {
+    this(jdbcTemplate, JwtUtils.getJwtKeyRing(), getSystemEnvProperty(ENV_SECRET_KEY));
+  }
+
+  JwtSigningKeyService(
+      final JdbcTemplate jdbcTemplate, final JwtKeyRing jwtKeyRing, final String secretKey) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.jwtKeyRing = jwtKeyRing;
+    this.encryptionKey = new SecretKeySpec(sha256(secretKey), "AES");
+  }
+
+  // the first instance creates the active and the next key
+  @PostConstruct
+  public void loadSigningKeys() {
+    if (!jwtKeyRing.isAsymmetric()) {
+      return;
+    }
+    if (readSigningKeys().size() < 2) {
+      final LocalDate today = LocalDate.now();
+      insertSigningKey(today.minusDays(1));
+      insertSigningKey(today);
+    }
+    reloadSigningKeys();
+  }
+
+  public void reloadSigningKeys() {
+    if (!jwtKeyRing.isAsymmetric()) {
+      return;
+    }
+    jwtKeyRing.setSigningKeys(readSigningKeys());
+  }
+
+  public void rotateSigningKeys() {
+    rotateSigningKeys(LocalDate.now());
+  }
+
+  void rotateSigningKeys(final LocalDate today) {
+    if (!jwtKeyRing.isAsymmetric()) {
+      return;
+    }
+    if (insertSigningKey(today)) {
+      log.info("Rotated JWT signing keys: [{}]", today);
+    }
+    reloadSigningKeys();
+    // out of the ring, nothing signed with them verifies anymore
+    jdbcTemplate.update(
+        "DELETE FROM jwt_signing_key WHERE algorithm = ? AND kid NOT IN ("
+            + "SELECT kid FROM jwt_signing_key WHERE algorithm = ? ORDER BY rotation_date DESC LIMIT ?)",
+        jwtKeyRing.getAlgorithm(),
+        jwtKeyRing.getAlgorithm(),
+        JwtKeyRing.RING_SIZE);
+  }
+
+  private List<EncodedSigningKey> readSigningKeys() {
+    return jdbcTemplate.query(
+        SELECT_SQL,
+        (resultSet, rowNum) ->
+            new EncodedSigningKey(
+                resultSet.getString("kid"),
+                decrypt(resultSet.getString("private_key")),
+                Base64.getDecoder().decode(resultSet.getString("public_key"))),
+        jwtKeyRing.getAlgorithm(),
+        JwtKeyRing.RING_SIZE);
+  }
+
+  // false when another instance already added the key of that day
+  private boolean insertSigningKey(final LocalDate rotationDate) {
+    final EncodedSigningKey encodedSigningKey = jwtKeyRing.newEncodedSigningKey();
+    return jdbcTemplate.update(
+            INSERT_SQL,
+            encodedSigningKey.kid(),
+            jwtKeyRing.getAlgorithm(),
+            Date.valueOf(rotationDate),
+            encrypt(encodedSigningKey.privateKey()),
+            Base64.getEncoder().encodeToString(encodedSigningKey.publicKey()))
+        > 0;
+  }
+
+  private String encrypt(final byte[] value) {
+    try {
+      final byte[] iv = new byte[GCM_IV_LENGTH];
+      secureRandom.nextBytes(iv);
+      final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+      cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+      final byte[] encrypted = cipher.doFinal(value);
+      return Base64.getEncoder()
+          .encodeToString(
+              ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to Encrypt JWT Signing Key", ex);
+    }
+  }
+
+  private byte[] decrypt(final String value) {
+    try {
+      final byte[] decoded = Base64.getDecoder().decode(value);
+      final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+      cipher.init(
+          Cipher.DECRYPT_MODE,
+          encryptionKey,
+          new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH));
+      return cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to Decrypt JWT Signing Key", ex);
+    }
+  }
+
+  private static byte[] sha256(final String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to Derive JWT Signing Key Encryption Key", ex);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package auth.service.app.util;
+
+import static auth.service.app.util.CommonUtils.getAppUserIncludes;
+
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AppUserResponse;
+import auth.service.app.model.dto.UserLoginResponse;
+import auth.service.app.model.enums.RequestEnums.AppUserInclude;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Sparse fieldsets for users, fields=email,status keeps only those properties (and id) of each user
+ * in the response. Nested roles and addresses are still controlled by include=, which also decides
+ * what is queried, so the ones it selects are kept whatever fields= says. Without include=, only
+ * the roles, permissions and addresses named in fields= are queried and kept.
+ */
+@ControllerAdvice
+public class AppUserFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+  public static final String FIELDS_PARAM = "fields";
+
+  private static final Set<Class<?>> APP_USER_RESPONSES =
+      Set.of(AppUserResponse.class, UserLoginResponse.class);
+
+  @Override
+  public boolean supports(
+      @NotNull final MethodParameter returnType,
+      @NotNull final Class<? extends HttpMessageConverter<?>> converterType) {
+    if (!super.supports(returnType, converterType)) {
+      return false;
+    }
+    final ResolvableType resolvableType = ResolvableType.forMethodParameter(returnType);
+    final Class<?> bodyType =
+        ResponseEntity.class.isAssignableFrom(resolvableType.toClass())
+            ? resolvableType.getGeneric(0).toClass()
+            : resolvableType.toClass();
+    return APP_USER_RESPONSES.contains(bodyType);
+  }
+
+  @Override
+  protected void beforeBodyWriteInternal(
+      @NotNull final MappingJacksonValue bodyContainer,
+      @NotNull final MediaType contentType,
+      @NotNull final MethodParameter returnType,
+      @NotNull final ServerHttpRequest request,
+      @NotNull final ServerHttpResponse response) {
+    if (!(request instanceof ServletServerHttpRequest servletServerHttpRequest)) {
+      return;
+    }
+    final String fields = servletServerHttpRequest.getServletRequest().getParameter(FIELDS_PARAM);
+    if (!StringUtils.hasText(fields)) {
+      return;
+    }
+
+    final Set<String> fieldNames =
+        Stream.concat(Stream.of("id"), Arrays.stream(fields.split(",")).map(String::trim))
+            .filter(StringUtils::hasText)
+            .collect(Collectors.toCollection(HashSet::new));
+    final Set<AppUserInclude> appUserIncludes =
+        getAppUserIncludes(
+            servletServerHttpRequest.getServletRequest().getParameter("include"), fields);
+    if (appUserIncludes.contains(AppUserInclude.ROLES)) {
+      fieldNames.add("roles");
+    }
+    if (appUserIncludes.contains(AppUserInclude.ADDRESSES)) {
+      fieldNames.add("addresses");
+    }
+    bodyContainer.setFilters(
+        new SimpleFilterProvider()
+            .addFilter(
+                AppUserDto.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fieldNames)));
+  }
+}
@@ -0,0 +1,149 @@
+package auth.service.app.util;
+
+import auth.service.app.config.AsyncExecutorProperties;
+import auth.service.app.model.enums.AsyncEnums.ExecutorName;
+import auth.service.app.model.enums.AsyncEnums.RejectionPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Named, bounded executors for async side work (audit, email, cache refresh). Tasks carry the
+ * submitting thread's MDC (incl. traceId) and security context, and each executor publishes
+ * ums.executor.* metrics tagged by name.
+ */
+@Slf4j
+public class AsyncExecutorRegistry {
+
+  private static final String METRIC_PREFIX = "ums";
+
+  private final Map<ExecutorName, ExecutorService> executors = new EnumMap<>(ExecutorName.class);
+  private final Map<ExecutorName, ThreadPoolExecutor> threadPoolExecutors =
+      new EnumMap<>(ExecutorName.class);
+
+  public AsyncExecutorRegistry(
+      final AsyncExecutorProperties asyncExecutorProperties,
+      final MeterRegistry meterRegistry,
+      final boolean virtualThreads) {
+    for (final ExecutorName executorName : ExecutorName.values()) {
+      final AsyncExecutorProperties.ExecutorPool executorPool =
+          asyncExecutorProperties
+              .getPools()
+              .getOrDefault(executorName, new AsyncExecutorProperties.ExecutorPool());
+      final String name = getName(executorName);
+
+      final ThreadPoolExecutor threadPoolExecutor =
+          new ThreadPoolExecutor(
+              executorPool.getPoolSize(),
+              executorPool.getPoolSize(),
+              executorPool.getKeepAlive().toMillis(),
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(executorPool.getQueueCapacity()),
+              getThreadFactory(name, virtualThreads),
+              getRejectionHandler(name, executorPool.getRejectionPolicy(), meterRegistry));
+      threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+      threadPoolExecutors.put(executorName, threadPoolExecutor);
+      executors.put(
+          executorName,
+          ExecutorServiceMetrics.monitor(
+              meterRegistry, threadPoolExecutor, name, METRIC_PREFIX, Tags.empty()));
+    }
+  }
+
+  public Executor getExecutor(final ExecutorName executorName) {
+    final ExecutorService executorService = executors.get(executorName);
+    return task -> executorService.execute(withContext(task));
+  }
+
+  public CompletableFuture<Void> runAsync(final ExecutorName executorName, final Runnable task) {
+    try {
+      return CompletableFuture.runAsync(task, getExecutor(executorName));
+    } catch (RejectedExecutionException ex) {
+      log.error("Async Task Rejected: [{}]", getName(executorName), ex);
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  public ThreadPoolExecutor getThreadPoolExecutor(final ExecutorName executorName) {
+    return threadPoolExecutors.get(executorName);
+  }
+
+  public void shutdown() {
+    threadPoolExecutors.values().forEach(ThreadPoolExecutor::shutdown);
+  }
+
+  static Runnable withContext(final Runnable task) {
+    final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+    final SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+    securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+
+    return () -> {
+      final Map<String, String> previousMdcContext = MDC.getCopyOfContextMap();
+      final SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+      setMdcContext(mdcContext);
+      SecurityContextHolder.setContext(securityContext);
+      try {
+        task.run();
+      } finally {
+        setMdcContext(previousMdcContext);
+        SecurityContextHolder.setContext(previousSecurityContext);
+      }
+    };
+  }
+
+  private static void setMdcContext(final Map<String, String> mdcContext) {
+    if (mdcContext == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(mdcContext);
+    }
+  }
+
+  private static String getName(final ExecutorName executorName) {
+    return executorName.name().toLowerCase().replace('_', '-');
+  }
+
+  private ThreadFactory getThreadFactory(final String name, final boolean virtualThreads) {
+    final String prefix = "ums-" + name + "-";
+    return virtualThreads
+        ? Thread.ofVirtual().name(prefix, 1).factory()
+        : Thread.ofPlatform().name(prefix, 1).daemon(true).factory();
+  }
+
+  private RejectedExecutionHandler getRejectionHandler(
+      final String name, final RejectionPolicy rejectionPolicy, final MeterRegistry meterRegistry) {
+    final Counter rejectedCounter =
+        Counter.builder(METRIC_PREFIX + ".executor.rejected")
+            .description("Tasks rejected because executor queue is full")
+            .tag("name", name)
+            .register(meterRegistry);
+    final RejectedExecutionHandler rejectedExecutionHandler =
+        switch (rejectionPolicy) {
+          case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+          case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+          case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        };
+    return (runnable, threadPoolExecutor) -> {
+      rejectedCounter.increment();
+      log.warn("Executor [{}] Saturated, Rejection Policy: [{}]", name, rejectionPolicy);
+      rejectedExecutionHandler.rejectedExecution(runnable, threadPoolExecutor);
+    };
+  }
+}
@@ -0,0 +1,92 @@
+package auth.service.app.util;
+
+import auth.service.app.util.BulkheadRegistry.LaneBulkhead;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Limits how many pooled connections the request lane of the current thread can hold at once, so a
+ * busy lane cannot take every connection from the shared pool. Threads outside a lane are not
+ * limited.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+  private final Supplier<BulkheadRegistry> bulkheadRegistrySupplier;
+
+  public BulkheadDataSource(
+      final DataSource dataSource, final Supplier<BulkheadRegistry> bulkheadRegistrySupplier) {
+    super(dataSource);
+    this.bulkheadRegistrySupplier = bulkheadRegistrySupplier;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(super::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password)
+      throws SQLException {
+    return getConnection(() -> super.getConnection(username, password));
+  }
+
+  private Connection getConnection(final ConnectionSupplier connectionSupplier)
+      throws SQLException {
+    final LaneBulkhead laneBulkhead =
+        BulkheadRegistry.getCurrentLane() == null
+            ? null
+            : bulkheadRegistrySupplier.get().getLaneBulkhead(BulkheadRegistry.getCurrentLane());
+
+    if (laneBulkhead == null) {
+      return connectionSupplier.get();
+    }
+
+    if (!laneBulkhead.tryAcquireDbConnection()) {
+      throw new SQLTransientConnectionException(
+          "DB connection budget exhausted for lane: " + laneBulkhead.getRequestLane());
+    }
+
+    try {
+      return releasingConnection(connectionSupplier.get(), laneBulkhead);
+    } catch (SQLException | RuntimeException ex) {
+      laneBulkhead.releaseDbConnection();
+      throw ex;
+    }
+  }
+
+  private Connection releasingConnection(
+      final Connection connection, final LaneBulkhead laneBulkhead) {
+    final AtomicBoolean isReleased = new AtomicBoolean(false);
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if ("close".equals(method.getName()) && isReleased.compareAndSet(false, true)) {
+                try {
+                  connection.close();
+                } finally {
+                  laneBulkhead.releaseDbConnection();
+                }
+                return null;
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+              }
+            });
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+}
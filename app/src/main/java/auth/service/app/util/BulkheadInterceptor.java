@@ -0,0 +1,103 @@
+package auth.service.app.util;
+
+import static auth.service.app.util.CommonUtils.convertResponseStatusInfoToJson;
+
+import auth.service.app.model.annotation.Bulkhead;
+import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.util.BulkheadRegistry.LaneBulkhead;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Slf4j
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String LANE_BULKHEAD_ATTRIBUTE = "laneBulkhead";
+
+  private final BulkheadRegistry bulkheadRegistry;
+
+  @Override
+  public boolean preHandle(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final Object handler)
+      throws IOException {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    // async dispatch of a streamed response, the permit of the request dispatch is still held
+    if (request.getAttribute(LANE_BULKHEAD_ATTRIBUTE) instanceof LaneBulkhead laneBulkhead) {
+      BulkheadRegistry.setCurrentLane(laneBulkhead.getRequestLane());
+      return true;
+    }
+
+    Bulkhead bulkhead =
+        AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Bulkhead.class);
+    if (bulkhead == null) {
+      bulkhead =
+          AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+    }
+    final LaneBulkhead laneBulkhead =
+        bulkheadRegistry.getLaneBulkhead(bulkhead == null ? null : bulkhead.value());
+    if (laneBulkhead == null) {
+      return true;
+    }
+
+    if (!laneBulkhead.tryEnter()) {
+      log.debug(
+          "Bulkhead Full [{}] URL [{}] Lane [{}]",
+          request.getMethod(),
+          request.getRequestURI(),
+          laneBulkhead.getRequestLane());
+      sendRejectedResponse(response);
+      return false;
+    }
+
+    request.setAttribute(LANE_BULKHEAD_ATTRIBUTE, laneBulkhead);
+    BulkheadRegistry.setCurrentLane(laneBulkhead.getRequestLane());
+    return true;
+  }
+
+  // the permit is released in afterCompletion of the async dispatch
+  @Override
+  public void afterConcurrentHandlingStarted(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final Object handler) {
+    BulkheadRegistry.clearCurrentLane();
+  }
+
+  @Override
+  public void afterCompletion(
+      final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final Object handler,
+      final Exception ex) {
+    if (request.getAttribute(LANE_BULKHEAD_ATTRIBUTE) instanceof LaneBulkhead laneBulkhead) {
+      request.removeAttribute(LANE_BULKHEAD_ATTRIBUTE);
+      BulkheadRegistry.clearCurrentLane();
+      laneBulkhead.exit();
+    }
+  }
+
+  private void sendRejectedResponse(final HttpServletResponse response) throws IOException {
+    final ResponseStatusInfo responseStatusInfo =
+        ResponseStatusInfo.builder().errMsg("Server busy, please retry later!").build();
+
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(
+        HttpHeaders.RETRY_AFTER, String.valueOf(bulkheadRegistry.getRetryAfterSeconds()));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write(convertResponseStatusInfoToJson(responseStatusInfo));
+  }
+}
@@ -0,0 +1,151 @@
+package auth.service.app.util;
+
+import auth.service.app.config.BulkheadProperties;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+public class BulkheadRegistry {
+
+  // lane of the request being handled on this thread, set by BulkheadInterceptor
+  private static final ThreadLocal<RequestLane> CURRENT_LANE = new ThreadLocal<>();
+
+  private final Map<RequestLane, LaneBulkhead> laneBulkheads = new EnumMap<>(RequestLane.class);
+  @Getter private final int retryAfterSeconds;
+
+  public BulkheadRegistry(
+      final BulkheadProperties bulkheadProperties, final MeterRegistry meterRegistry) {
+    this.retryAfterSeconds = bulkheadProperties.getRetryAfterSeconds();
+    bulkheadProperties
+        .getLanes()
+        .forEach(
+            (requestLane, laneProperties) ->
+                laneBulkheads.put(
+                    requestLane, new LaneBulkhead(requestLane, laneProperties, meterRegistry)));
+  }
+
+  public static RequestLane getCurrentLane() {
+    return CURRENT_LANE.get();
+  }
+
+  public static void setCurrentLane(final RequestLane requestLane) {
+    CURRENT_LANE.set(requestLane);
+  }
+
+  public static void clearCurrentLane() {
+    CURRENT_LANE.remove();
+  }
+
+  public LaneBulkhead getLaneBulkhead(final RequestLane requestLane) {
+    return requestLane == null ? null : laneBulkheads.get(requestLane);
+  }
+
+  public Map<RequestLane, LaneBulkhead> getLaneBulkheads() {
+    return Collections.unmodifiableMap(laneBulkheads);
+  }
+
+  @Getter
+  public static class LaneBulkhead {
+    private final RequestLane requestLane;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final int maxDbConnections;
+    private final Duration dbMaxWait;
+    private final Semaphore executionPermits;
+    private final Semaphore dbPermits;
+    private final Counter rejectedCounter;
+    private final Counter dbRejectedCounter;
+
+    public LaneBulkhead(
+        final RequestLane requestLane,
+        final BulkheadProperties.LaneBulkhead laneProperties,
+        final MeterRegistry meterRegistry) {
+      this.requestLane = requestLane;
+      this.maxConcurrent = laneProperties.getMaxConcurrent();
+      this.maxWait = laneProperties.getMaxWait();
+      this.maxDbConnections = laneProperties.getMaxDbConnections();
+      this.dbMaxWait = laneProperties.getDbMaxWait();
+      this.executionPermits = new Semaphore(maxConcurrent, true);
+      this.dbPermits = new Semaphore(maxDbConnections, true);
+
+      final String lane = requestLane.name().toLowerCase();
+      this.rejectedCounter =
+          Counter.builder("ums.bulkhead.rejected")
+              .tag("lane", lane)
+              .tag("resource", "execution")
+              .register(meterRegistry);
+      this.dbRejectedCounter =
+          Counter.builder("ums.bulkhead.rejected")
+              .tag("lane", lane)
+              .tag("resource", "db")
+              .register(meterRegistry);
+      Gauge.builder("ums.bulkhead.active", this, LaneBulkhead::getActive)
+          .tag("lane", lane)
+          .tag("resource", "execution")
+          .register(meterRegistry);
+      Gauge.builder("ums.bulkhead.active", this, LaneBulkhead::getDbActive)
+          .tag("lane", lane)
+          .tag("resource", "db")
+          .register(meterRegistry);
+      Gauge.builder("ums.bulkhead.waiting", executionPermits, Semaphore::getQueueLength)
+          .tag("lane", lane)
+          .tag("resource", "execution")
+          .register(meterRegistry);
+      Gauge.builder("ums.bulkhead.waiting", dbPermits, Semaphore::getQueueLength)
+          .tag("lane", lane)
+          .tag("resource", "db")
+          .register(meterRegistry);
+    }
+
+    public boolean tryEnter() {
+      if (tryAcquire(executionPermits, maxWait)) {
+        return true;
+      }
+      rejectedCounter.increment();
+      return false;
+    }
+
+    public void exit() {
+      executionPermits.release();
+    }
+
+    public boolean tryAcquireDbConnection() {
+      if (tryAcquire(dbPermits, dbMaxWait)) {
+        return true;
+      }
+      dbRejectedCounter.increment();
+      return false;
+    }
+
+    public void releaseDbConnection() {
+      dbPermits.release();
+    }
+
+    public int getActive() {
+      return maxConcurrent - executionPermits.availablePermits();
+    }
+
+    public int getDbActive() {
+      return maxDbConnections - dbPermits.availablePermits();
+    }
+
+    private boolean tryAcquire(final Semaphore semaphore, final Duration wait) {
+      try {
+        return wait.isZero()
+            ? semaphore.tryAcquire()
+            : semaphore.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+}
@@ -18,11 +18,17 @@ import auth.service.app.exception.UserNotActiveException;
 import auth.service.app.exception.UserNotAuthorizedException;
 import auth.service.app.exception.UserNotValidatedException;
 import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.model.enums.RequestEnums.AppUserInclude;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommonUtils {
@@ -45,6 +51,11 @@ public class CommonUtils {
     return baseUrl.toString();
   }
 
+  // emails are looked up and compared by this form, see app_user.email_normalized
+  public static String normalizeEmail(final String email) {
+    return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+  }
+
   public static HttpStatus getHttpStatusForErrorResponse(final Exception exception) {
     if (exception instanceof ElementNotFoundException) {
       return NOT_FOUND;
@@ -64,6 +75,38 @@ public class CommonUtils {
     }
   }
 
+  /**
+   * @param include comma separated roles, permissions and addresses, unknown values are ignored
+   * @return everything when include is not given, as before include existed
+   */
+  public static Set<AppUserInclude> getAppUserIncludes(final String include) {
+    if (include == null) {
+      return EnumSet.allOf(AppUserInclude.class);
+    }
+    final Set<AppUserInclude> appUserIncludes = EnumSet.noneOf(AppUserInclude.class);
+    for (final String value : include.split(",")) {
+      Arrays.stream(AppUserInclude.values())
+          .filter(appUserInclude -> appUserInclude.name().equalsIgnoreCase(value.trim()))
+          .findFirst()
+          .ifPresent(appUserIncludes::add);
+    }
+    if (appUserIncludes.contains(AppUserInclude.PERMISSIONS)) {
+      appUserIncludes.add(AppUserInclude.ROLES);
+    }
+    return appUserIncludes;
+  }
+
+  /**
+   * @param fields sparse fieldset of the user, see AppUserFieldsResponseAdvice
+   * @return as getAppUserIncludes(include), but when only fields is given, only what it names
+   */
+  public static Set<AppUserInclude> getAppUserIncludes(final String include, final String fields) {
+    if (include == null && StringUtils.hasText(fields)) {
+      return getAppUserIncludes(fields);
+    }
+    return getAppUserIncludes(include);
+  }
+
   public static <T> HttpStatus getHttpStatusForSingleResponse(final T object) {
     return ObjectUtils.isEmpty(object) ? INTERNAL_SERVER_ERROR : OK;
   }
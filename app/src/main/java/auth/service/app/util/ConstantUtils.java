@@ -19,6 +19,7 @@ public class ConstantUtils {
   public static final String ENV_MAILJET_EMAIL_ADDRESS = "MJ_EMAIL";
   public static final String ENV_ENVSVC_USERNAME = "ENVSVC_USERNAME";
   public static final String ENV_ENVSVC_PASSWORD = "ENVSVC_PASSWORD";
+  public static final String ENV_JWT_SIGNING_ALGORITHM = "JWT_SIGNING_ALG";
   public static final List<String> ENV_KEY_NAMES =
       List.of(
           ENV_SERVER_PORT,
@@ -31,7 +32,10 @@ public class ConstantUtils {
           ENV_MAILJET_PRIVATE_KEY,
           ENV_MAILJET_EMAIL_ADDRESS,
           ENV_ENVSVC_USERNAME,
-          ENV_ENVSVC_PASSWORD);
+          ENV_ENVSVC_PASSWORD,
+          ENV_JWT_SIGNING_ALGORITHM);
+  public static final List<String> ENV_KEY_NAMES_OPTIONAL =
+      List.of(ENV_SERVER_PORT, ENV_JWT_SIGNING_ALGORITHM);
 
   // ROLE NAMES
   public static final String APP_ROLE_NAME_GUEST = "GUEST";
@@ -0,0 +1,27 @@
+package auth.service.app.util;
+
+import auth.service.app.model.annotation.DataVersionBump;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DataVersionAspect {
+
+  private final DataVersionRegistry dataVersionRegistry;
+
+  // bumped on failures too, a failed mutation may have changed rows, an extra bump only costs a 200
+  @Around("@annotation(dataVersionBump)")
+  public Object bumpDataVersion(
+      final ProceedingJoinPoint joinPoint, final DataVersionBump dataVersionBump) throws Throwable {
+    try {
+      return joinPoint.proceed();
+    } finally {
+      dataVersionRegistry.bump(dataVersionBump.value());
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package auth.service.app.util;
+
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.APPS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLES;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
+
+import auth.service.app.model.enums.DataVersionEnums.DataCollection;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versions of the reference data collections, bumped by every mutation and used as strong ETags by
+ * the list endpoints. They are kept in data_version (V1_9), so every instance tags the same data
+ * with the same ETag, and restarts keep them. A bump inside a transaction commits, or rolls back,
+ * with the mutation. An instance that reads a version it has not seen yet clears its own "apps" or
+ * "roles" cache, else it would build the new version from entities cached before the mutation of
+ * another instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataVersionRegistry {
+
+  private static final Map<DataCollection, String> ENTITY_CACHES =
+      Map.of(APPS, "apps", ROLES, "roles", PERMISSIONS, "roles", ROLE_PERMISSIONS, "roles");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final CacheManager cacheManager;
+  private final Map<DataCollection, Long> seenVersions = new ConcurrentHashMap<>();
+
+  public long getVersion(final DataCollection dataCollection) {
+    return getVersions().getOrDefault(dataCollection, 0L);
+  }
+
+  // one read for all the collections of the tag
+  public String getETag(final DataCollection... dataCollections) {
+    final Map<DataCollection, Long> versions = getVersions();
+    final StringBuilder eTag = new StringBuilder("\"v");
+    for (final DataCollection dataCollection : dataCollections) {
+      eTag.append('-').append(versions.getOrDefault(dataCollection, 0L));
+    }
+    return eTag.append('"').toString();
+  }
+
+  // a failed bump leaves the old tag on new data until the next bump, the mutation still goes on
+  public void bump(final DataCollection... dataCollections) {
+    try {
+      jdbcTemplate.batchUpdate(
+          "UPDATE data_version SET version = version + 1 WHERE data_collection = ?",
+          Arrays.stream(dataCollections)
+              .map(dataCollection -> new Object[] {dataCollection.name()})
+              .toList());
+    } catch (DataAccessException ex) {
+      log.error("Bump Data Version Error: [{}]", Arrays.toString(dataCollections), ex);
+    }
+  }
+
+  private Map<DataCollection, Long> getVersions() {
+    final Map<DataCollection, Long> versions = new EnumMap<>(DataCollection.class);
+    jdbcTemplate.query(
+        "SELECT data_collection, version FROM data_version",
+        resultSet -> {
+          versions.put(
+              DataCollection.valueOf(resultSet.getString("data_collection")),
+              resultSet.getLong("version"));
+        });
+    versions.forEach(
+        (dataCollection, version) -> {
+          final Long seenVersion = seenVersions.put(dataCollection, version);
+          if (seenVersion != null && seenVersion < version) {
+            clearEntityCache(dataCollection);
+          }
+        });
+    return versions;
+  }
+
+  private void clearEntityCache(final DataCollection dataCollection) {
+    final Cache cache = cacheManager.getCache(ENTITY_CACHES.get(dataCollection));
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
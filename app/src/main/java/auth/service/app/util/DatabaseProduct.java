@@ -0,0 +1,39 @@
+package auth.service.app.util;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * The database behind the data source, for the PostgreSQL only SQL (partitions, upserts, trigram
+ * search). Read once from the connection metadata, a failed read is not kept so the next use tries
+ * again instead of treating PostgreSQL as something else for good.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseProduct {
+
+  private final DataSource dataSource;
+
+  private volatile Boolean isPostgres;
+
+  public boolean isPostgres() {
+    if (isPostgres == null) {
+      try {
+        isPostgres =
+            "PostgreSQL"
+                .equals(
+                    JdbcUtils.extractDatabaseMetaData(
+                        dataSource, DatabaseMetaData::getDatabaseProductName));
+      } catch (Exception ex) {
+        log.warn("Database Product Not Read, Tried Again on Next Use", ex);
+        return false;
+      }
+    }
+    return isPostgres;
+  }
+}
@@ -19,7 +19,10 @@ import auth.service.app.model.dto.AppsAppUserDto;
 import auth.service.app.model.dto.AppsAppUserResponse;
 import auth.service.app.model.dto.AppsDto;
 import auth.service.app.model.dto.AppsResponse;
+import auth.service.app.model.dto.AuditDto;
+import auth.service.app.model.dto.AuditResponse;
 import auth.service.app.model.dto.ResponseCrudInfo;
+import auth.service.app.model.dto.ResponsePageInfo;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.dto.UserLoginResponse;
 import auth.service.app.model.entity.AppPermissionEntity;
@@ -30,15 +33,18 @@ import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppUserRoleEntity;
 import auth.service.app.model.entity.AppsAppUserEntity;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.enums.RequestEnums.AppUserInclude;
+import auth.service.app.model.mapper.AppUserMapper;
 import auth.service.app.service.AppRolePermissionService;
 import auth.service.app.service.AppUserRoleService;
 import java.net.URI;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +57,7 @@ import org.springframework.util.StringUtils;
 public class EntityDtoConvertUtils {
   private final AppUserRoleService appUserRoleService;
   private final AppRolePermissionService appRolePermissionService;
+  private final AppUserMapper appUserMapper;
 
   public ResponseEntity<AppsResponse> getResponseSingleApps(final AppsEntity appsEntity) {
     final HttpStatus httpStatus = getHttpStatusForSingleResponse(appsEntity);
@@ -259,21 +266,39 @@ public class EntityDtoConvertUtils {
 
   public ResponseEntity<AppUserResponse> getResponseSingleAppUser(
       final AppUserEntity appUserEntity) {
+    return getResponseSingleAppUser(appUserEntity, EnumSet.allOf(AppUserInclude.class));
+  }
+
+  public ResponseEntity<AppUserResponse> getResponseSingleAppUser(
+      final AppUserEntity appUserEntity, final Set<AppUserInclude> appUserIncludes) {
     final HttpStatus httpStatus = getHttpStatusForSingleResponse(appUserEntity);
     final ResponseStatusInfo responseStatusInfo =
         getResponseStatusInfoForSingleResponse(appUserEntity);
     final List<AppUserDto> appUserDtos =
         appUserEntity == null
             ? Collections.emptyList()
-            : List.of(convertEntityToDtoAppUser(appUserEntity, true));
+            : List.of(convertEntityToDtoAppUser(appUserEntity, appUserIncludes));
     return new ResponseEntity<>(
         new AppUserResponse(appUserDtos, null, null, responseStatusInfo), httpStatus);
   }
 
   public ResponseEntity<AppUserResponse> getResponseMultipleAppUser(
       final List<AppUserEntity> appUserEntities) {
-    final List<AppUserDto> appUserDtos = convertEntitiesToDtosAppUser(appUserEntities, true);
-    return ResponseEntity.ok(new AppUserResponse(appUserDtos, null, null, null));
+    return getResponseMultipleAppUser(appUserEntities, EnumSet.allOf(AppUserInclude.class));
+  }
+
+  public ResponseEntity<AppUserResponse> getResponseMultipleAppUser(
+      final List<AppUserEntity> appUserEntities, final Set<AppUserInclude> appUserIncludes) {
+    return getResponseMultipleAppUser(appUserEntities, appUserIncludes, null);
+  }
+
+  public ResponseEntity<AppUserResponse> getResponseMultipleAppUser(
+      final List<AppUserEntity> appUserEntities,
+      final Set<AppUserInclude> appUserIncludes,
+      final ResponsePageInfo responsePageInfo) {
+    final List<AppUserDto> appUserDtos =
+        convertEntitiesToDtosAppUser(appUserEntities, appUserIncludes);
+    return ResponseEntity.ok(new AppUserResponse(appUserDtos, null, responsePageInfo, null));
   }
 
   public ResponseEntity<AppUserResponse> getResponseDeleteAppUser() {
@@ -295,22 +320,29 @@ public class EntityDtoConvertUtils {
 
   public AppUserDto convertEntityToDtoAppUser(
       final AppUserEntity appUserEntity, final boolean isIncludeRoles) {
+    return convertEntityToDtoAppUser(appUserEntity, toAppUserIncludes(isIncludeRoles));
+  }
+
+  public AppUserDto convertEntityToDtoAppUser(
+      final AppUserEntity appUserEntity, final Set<AppUserInclude> appUserIncludes) {
     if (appUserEntity == null) {
       return null;
     }
-    AppUserDto appUserDto = new AppUserDto();
-    BeanUtils.copyProperties(appUserEntity, appUserDto, "password");
+    AppUserDto appUserDto = appUserMapper.toAppUserDto(appUserEntity);
 
-    if (isIncludeRoles) {
+    if (appUserIncludes.contains(AppUserInclude.ROLES)) {
       final List<AppUserRoleEntity> appUserRoleEntities =
           appUserRoleService.readAppUserRoles(appUserEntity.getId());
       final List<AppRoleEntity> appRoleEntities =
           appUserRoleEntities.stream().map(AppUserRoleEntity::getAppRole).toList();
-      final List<AppRoleDto> appRoleDtos = convertEntitiesToDtosAppRole(appRoleEntities, true);
+      final List<AppRoleDto> appRoleDtos =
+          convertEntitiesToDtosAppRole(
+              appRoleEntities, appUserIncludes.contains(AppUserInclude.PERMISSIONS));
       appUserDto.setRoles(appRoleDtos);
     }
 
-    if (!CollectionUtils.isEmpty(appUserEntity.getAddresses())) {
+    if (appUserIncludes.contains(AppUserInclude.ADDRESSES)
+        && !CollectionUtils.isEmpty(appUserEntity.getAddresses())) {
       final List<AppUserAddressDto> appUserAddressDtos =
           convertEntitiesToDtosAppUserAddress(appUserEntity.getAddresses());
       appUserDto.setAddresses(appUserAddressDtos);
@@ -321,12 +353,19 @@ public class EntityDtoConvertUtils {
 
   public List<AppUserDto> convertEntitiesToDtosAppUser(
       final List<AppUserEntity> appUserEntities, final boolean isIncludeRoles) {
+    return convertEntitiesToDtosAppUser(appUserEntities, toAppUserIncludes(isIncludeRoles));
+  }
+
+  public List<AppUserDto> convertEntitiesToDtosAppUser(
+      final List<AppUserEntity> appUserEntities, final Set<AppUserInclude> appUserIncludes) {
     if (CollectionUtils.isEmpty(appUserEntities)) {
       return Collections.emptyList();
     }
-    if (!isIncludeRoles) {
+    final Set<AppUserInclude> appUserIncludesNoRoles = EnumSet.copyOf(appUserIncludes);
+    appUserIncludesNoRoles.removeAll(EnumSet.of(AppUserInclude.ROLES, AppUserInclude.PERMISSIONS));
+    if (!appUserIncludes.contains(AppUserInclude.ROLES)) {
       return appUserEntities.stream()
-          .map(appUserEntity -> convertEntityToDtoAppUser(appUserEntity, false))
+          .map(appUserEntity -> convertEntityToDtoAppUser(appUserEntity, appUserIncludesNoRoles))
           .toList();
     }
 
@@ -338,7 +377,9 @@ public class EntityDtoConvertUtils {
             .map(appUserRoleEntity -> appUserRoleEntity.getAppRole().getId())
             .toList();
     final List<AppRolePermissionEntity> appRolePermissionEntities =
-        appRolePermissionService.readAppRolePermissions(null, appRoleIds);
+        appUserIncludes.contains(AppUserInclude.PERMISSIONS)
+            ? appRolePermissionService.readAppRolePermissions(null, appRoleIds)
+            : Collections.emptyList();
 
     final Map<Integer, List<AppUserRoleEntity>> userRolesMap =
         appUserRoleEntities.stream()
@@ -357,35 +398,64 @@ public class EntityDtoConvertUtils {
                               convertEntityToDtoAppRole(appUserRoleEntity.getAppRole(), false))
                       .toList();
 
-              appRoleDtos.forEach(
-                  roleDto -> {
-                    List<AppPermissionDto> appPermissionDtos =
-                        rolePermissionsMap
-                            .getOrDefault(roleDto.getId(), Collections.emptyList())
-                            .stream()
-                            .map(
-                                appRolePermissionEntity ->
-                                    convertEntityToDtoAppPermission(
-                                        appRolePermissionEntity.getAppPermission()))
-                            .toList();
-                    roleDto.setPermissions(appPermissionDtos);
-                  });
-
-              AppUserDto appUserDto = convertEntityToDtoAppUser(appUserEntity, false);
+              if (appUserIncludes.contains(AppUserInclude.PERMISSIONS)) {
+                appRoleDtos.forEach(
+                    roleDto -> {
+                      List<AppPermissionDto> appPermissionDtos =
+                          rolePermissionsMap
+                              .getOrDefault(roleDto.getId(), Collections.emptyList())
+                              .stream()
+                              .map(
+                                  appRolePermissionEntity ->
+                                      convertEntityToDtoAppPermission(
+                                          appRolePermissionEntity.getAppPermission()))
+                              .toList();
+                      roleDto.setPermissions(appPermissionDtos);
+                    });
+              }
+
+              AppUserDto appUserDto =
+                  convertEntityToDtoAppUser(appUserEntity, appUserIncludesNoRoles);
               appUserDto.setRoles(appRoleDtos);
               return appUserDto;
             })
         .toList();
   }
 
+  /**
+   * Trims a user built with everything, like the one in the login response whose roles and
+   * permissions are already in the token, down to the parts asked for.
+   */
+  public AppUserDto filterAppUserDto(
+      final AppUserDto appUserDto, final Set<AppUserInclude> appUserIncludes) {
+    if (appUserDto == null) {
+      return null;
+    }
+    if (!appUserIncludes.contains(AppUserInclude.ROLES)) {
+      appUserDto.setRoles(null);
+    } else if (!appUserIncludes.contains(AppUserInclude.PERMISSIONS)
+        && appUserDto.getRoles() != null) {
+      appUserDto.getRoles().forEach(appRoleDto -> appRoleDto.setPermissions(null));
+    }
+    if (!appUserIncludes.contains(AppUserInclude.ADDRESSES)) {
+      appUserDto.setAddresses(null);
+    }
+    return appUserDto;
+  }
+
+  // true is everything, false is everything but roles, as before includes
+  private static Set<AppUserInclude> toAppUserIncludes(final boolean isIncludeRoles) {
+    return isIncludeRoles
+        ? EnumSet.allOf(AppUserInclude.class)
+        : EnumSet.of(AppUserInclude.ADDRESSES);
+  }
+
   private AppUserAddressDto convertEntityToDtoAppUserAddress(
       final AppUserAddressEntity appUserAddressEntity) {
     if (appUserAddressEntity == null) {
       return null;
     }
-    final AppUserAddressDto appUserAddressDto = new AppUserAddressDto();
-    BeanUtils.copyProperties(appUserAddressEntity, appUserAddressDto, "appUser");
-    return appUserAddressDto;
+    return appUserMapper.toAppUserAddressDto(appUserAddressEntity);
   }
 
   private List<AppUserAddressDto> convertEntitiesToDtosAppUserAddress(
@@ -611,4 +681,17 @@ public class EntityDtoConvertUtils {
     headers.setLocation(URI.create(url));
     return new ResponseEntity<>(headers, HttpStatus.FOUND);
   }
+
+  public ResponseEntity<AuditResponse> getResponseMultipleAudit(
+      final List<AuditDto> auditDtos, final ResponsePageInfo responsePageInfo) {
+    return ResponseEntity.ok(new AuditResponse(auditDtos, null, responsePageInfo, null));
+  }
+
+  public ResponseEntity<AuditResponse> getResponseErrorAudit(final Exception exception) {
+    final HttpStatus httpStatus = getHttpStatusForErrorResponse(exception);
+    final ResponseStatusInfo responseStatusInfo =
+        ResponseStatusInfo.builder().errMsg(exception.getMessage()).build();
+    return new ResponseEntity<>(
+        new AuditResponse(Collections.emptyList(), null, null, responseStatusInfo), httpStatus);
+  }
 }
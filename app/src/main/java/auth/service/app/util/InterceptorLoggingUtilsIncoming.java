@@ -1,36 +1,171 @@
 package auth.service.app.util;
 
+import auth.service.app.config.AccessLogProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
+/**
+ * Sets the trace id, and writes one JSON access log line per request to the access-log logger,
+ * which logback sends through an async appender. Successful requests are sampled, errors and slow
+ * requests are always logged. A filter ahead of the load shedding and security filters, so requests
+ * they reject are logged too and their own logs carry the trace id.
+ */
 @Slf4j
-public class InterceptorLoggingUtilsIncoming implements HandlerInterceptor {
+public class InterceptorLoggingUtilsIncoming extends OncePerRequestFilter {
 
+  public static final String TRACE_ID_HEADER = "X-Trace-Id";
+  public static final String TRACE_ID_MDC_KEY = "traceId";
+  public static final String ACCESS_LOGGER_NAME = "access-log";
+
+  private static final Logger ACCESS_LOG = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+  private static final String START_NANOS_ATTRIBUTE = "startNanos";
+  private static final String TRACE_ID_ATTRIBUTE = "traceId";
+  private static final int MAX_BUFFER_SIZE = 4096;
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+  private final AccessLogProperties accessLogProperties;
+
+  public InterceptorLoggingUtilsIncoming(final AccessLogProperties accessLogProperties) {
+    this.accessLogProperties = accessLogProperties;
+  }
+
+  // streamed responses finish on the async dispatch, logged there
   @Override
-  public boolean preHandle(
-      final HttpServletRequest request,
-      @NotNull final HttpServletResponse response,
-      @NotNull final Object handler) {
-    request.setAttribute("startTime", System.currentTimeMillis());
-    log.info("Receiving [{}] URL [{}]", request.getMethod(), request.getRequestURI());
-    return true;
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
   }
 
   @Override
-  public void afterCompletion(
+  protected void doFilterInternal(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final FilterChain filterChain)
+      throws ServletException, IOException {
+    if (isAsyncDispatch(request)
+        && request.getAttribute(TRACE_ID_ATTRIBUTE) instanceof String asyncTraceId) {
+      MDC.put(TRACE_ID_MDC_KEY, asyncTraceId);
+    } else {
+      request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+      String traceId = request.getHeader(TRACE_ID_HEADER);
+      if (!StringUtils.hasText(traceId) || traceId.length() > 64) {
+        traceId = UUID.randomUUID().toString().replace("-", "");
+      }
+      request.setAttribute(TRACE_ID_ATTRIBUTE, traceId);
+      // propagated to async executors, see AsyncExecutorRegistry
+      MDC.put(TRACE_ID_MDC_KEY, traceId);
+      response.setHeader(TRACE_ID_HEADER, traceId);
+      log.debug("Receiving [{}] URL [{}]", request.getMethod(), request.getRequestURI());
+    }
+
+    Exception failure = null;
+    try {
+      filterChain.doFilter(request, response);
+    } catch (ServletException | IOException | RuntimeException ex) {
+      failure = ex;
+      throw ex;
+    } finally {
+      try {
+        if (!isAsyncStarted(request)) {
+          logAccess(request, response, failure);
+        }
+      } finally {
+        MDC.remove(TRACE_ID_MDC_KEY);
+      }
+    }
+  }
+
+  private void logAccess(
+      final HttpServletRequest request, final HttpServletResponse response, final Exception ex) {
+    if (accessLogProperties.isEnabled()
+        && ACCESS_LOG.isInfoEnabled()
+        && request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos) {
+      final long durationNanos = System.nanoTime() - startNanos;
+      final String reason = getLogReason(response.getStatus(), durationNanos, ex);
+      if (reason != null) {
+        ACCESS_LOG.info(buildAccessLog(request, response.getStatus(), durationNanos, reason));
+      }
+    }
+  }
+
+  String getLogReason(final int status, final long durationNanos, final Exception ex) {
+    if (status >= 400 || ex != null) {
+      return "error";
+    }
+    if (durationNanos >= accessLogProperties.getSlowThreshold().toNanos()) {
+      return "slow";
+    }
+    final double sampleRate = accessLogProperties.getSampleRate();
+    if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+      return "sampled";
+    }
+    return null;
+  }
+
+  String buildAccessLog(
       final HttpServletRequest request,
-      final HttpServletResponse response,
-      @NotNull final Object handler,
-      final Exception ex) {
-    final long duration = System.currentTimeMillis() - (Long) request.getAttribute("startTime");
-    log.info(
-        "Returning [{}] Status Code [{}] URL [{}] AFTER [{}ms]",
-        request.getMethod(),
-        response.getStatus(),
-        request.getRequestURI(),
-        duration);
+      final int status,
+      final long durationNanos,
+      final String reason) {
+    final StringBuilder buffer = BUFFER.get();
+    buffer.setLength(0);
+    buffer.append("{\"ts\":\"").append(Instant.now()).append('"');
+    appendField(buffer, "traceId", MDC.get(TRACE_ID_MDC_KEY));
+    appendField(buffer, "method", request.getMethod());
+    appendField(buffer, "uri", request.getRequestURI());
+    final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    appendField(buffer, "endpoint", pattern == null ? null : pattern.toString());
+    buffer.append(",\"status\":").append(status);
+    buffer.append(",\"durationMs\":").append(durationNanos / 1_000_000);
+    appendField(buffer, "ip", request.getRemoteAddr());
+    appendField(buffer, "reason", reason);
+    buffer.append('}');
+
+    final String accessLog = buffer.toString();
+    // do not keep a buffer grown by one huge uri
+    if (buffer.capacity() > MAX_BUFFER_SIZE) {
+      BUFFER.remove();
+    }
+    return accessLog;
+  }
+
+  private static void appendField(
+      final StringBuilder buffer, final String name, final String value) {
+    if (value == null) {
+      return;
+    }
+    buffer.append(",\"").append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"' -> buffer.append("\\\"");
+        case '\\' -> buffer.append("\\\\");
+        case '\n' -> buffer.append("\\n");
+        case '\r' -> buffer.append("\\r");
+        case '\t' -> buffer.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            buffer.append(String.format("\\u%04x", (int) c));
+          } else {
+            buffer.append(c);
+          }
+        }
+      }
+    }
+    buffer.append('"');
   }
 }
@@ -17,8 +17,26 @@ public class InterceptorLoggingUtilsOutgoing implements ExchangeFilterFunction {
   @Override
   public Mono<ClientResponse> filter(
       @NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
-    log.info("Request to [{}] [{}]", request.method(), request.url());
+    final long startNanos = System.nanoTime();
     return next.exchange(request)
-        .doOnNext(response -> log.info("Response from {}", response.statusCode()));
+        .doOnNext(
+            response -> {
+              final long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+              if (response.statusCode().isError()) {
+                log.warn(
+                    "Response [{}] [{}] Status Code [{}] AFTER [{}ms]",
+                    request.method(),
+                    request.url(),
+                    response.statusCode(),
+                    durationMs);
+              } else {
+                log.debug(
+                    "Response [{}] [{}] Status Code [{}] AFTER [{}ms]",
+                    request.method(),
+                    request.url(),
+                    response.statusCode(),
+                    durationMs);
+              }
+            });
   }
 }
@@ -0,0 +1,184 @@
+package auth.service.app.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HS256 (default) signs with the shared secret key. ES256/EdDSA sign with the active key pair, ring
+ * holds [next (published only), active, retired...] and public keys are served as JWKS. The keys
+ * generated here only live in this instance, JwtSigningKeyService replaces them with the ring
+ * shared through the database.
+ */
+@Slf4j
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+  public static final String ALGORITHM_HMAC = "HS256";
+  public static final String ALGORITHM_ES256 = "ES256";
+  public static final String ALGORITHM_EDDSA = "EdDSA";
+
+  private static final int RETIRED_KEYS_TO_KEEP = 2;
+  public static final int RING_SIZE = RETIRED_KEYS_TO_KEEP + 2;
+
+  private final String algorithm;
+  private final SecretKey secretKey;
+  private volatile List<SigningKey> signingKeys = List.of();
+  private volatile String jwksJson = "{\"keys\":[]}";
+
+  public JwtKeyRing(final SecretKey secretKey, final String algorithm) {
+    this.secretKey = secretKey;
+    this.algorithm = resolveAlgorithm(algorithm);
+
+    if (isAsymmetric()) {
+      signingKeys = List.of(generateSigningKey(), generateSigningKey());
+      jwksJson = buildJwksJson(signingKeys);
+    }
+  }
+
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  public boolean isAsymmetric() {
+    return !ALGORITHM_HMAC.equals(algorithm);
+  }
+
+  public JwtBuilder signWith(final JwtBuilder jwtBuilder) {
+    if (!isAsymmetric()) {
+      return jwtBuilder.signWith(secretKey);
+    }
+    final SigningKey activeKey = signingKeys.get(1);
+    return jwtBuilder
+        .header()
+        .keyId(activeKey.kid())
+        .and()
+        .signWith(activeKey.privateKey(), activeKey.signatureAlgorithm());
+  }
+
+  public EncodedSigningKey newEncodedSigningKey() {
+    final SigningKey signingKey = generateSigningKey();
+    return new EncodedSigningKey(
+        signingKey.kid(),
+        signingKey.privateKey().getEncoded(),
+        signingKey.publicKey().getEncoded());
+  }
+
+  // newest first, as [next, active, retired...]
+  public synchronized void setSigningKeys(final List<EncodedSigningKey> encodedSigningKeys) {
+    if (!isAsymmetric() || encodedSigningKeys.size() < 2) {
+      throw new IllegalStateException("Invalid JWT Signing Keys: " + encodedSigningKeys.size());
+    }
+    signingKeys = encodedSigningKeys.stream().limit(RING_SIZE).map(this::decodeSigningKey).toList();
+    jwksJson = buildJwksJson(signingKeys);
+  }
+
+  public String getJwksJson() {
+    return jwksJson;
+  }
+
+  @Override
+  protected Key locate(final JwsHeader header) {
+    final String kid = header.getKeyId();
+    // tokens without kid are signed with the shared secret key
+    if (kid == null) {
+      return secretKey;
+    }
+    return signingKeys.stream()
+        .filter(signingKey -> signingKey.kid().equals(kid))
+        .findFirst()
+        .map(SigningKey::publicKey)
+        .orElseThrow(() -> new JwtException("Unknown Signing Key"));
+  }
+
+  private String resolveAlgorithm(final String algorithm) {
+    if (algorithm == null || algorithm.isBlank() || ALGORITHM_HMAC.equalsIgnoreCase(algorithm)) {
+      return ALGORITHM_HMAC;
+    }
+    if (ALGORITHM_ES256.equalsIgnoreCase(algorithm)) {
+      return ALGORITHM_ES256;
+    }
+    if (ALGORITHM_EDDSA.equalsIgnoreCase(algorithm) || "Ed25519".equalsIgnoreCase(algorithm)) {
+      return ALGORITHM_EDDSA;
+    }
+    throw new IllegalStateException("Unsupported JWT Signing Algorithm: " + algorithm);
+  }
+
+  private SigningKey generateSigningKey() {
+    final KeyPair keyPair;
+    final SignatureAlgorithm signatureAlgorithm;
+    if (ALGORITHM_ES256.equals(algorithm)) {
+      keyPair = Jwts.SIG.ES256.keyPair().build();
+      signatureAlgorithm = Jwts.SIG.ES256;
+    } else {
+      keyPair = Jwks.CRV.Ed25519.keyPair().build();
+      signatureAlgorithm = Jwts.SIG.EdDSA;
+    }
+    return new SigningKey(
+        UUID.randomUUID().toString(),
+        keyPair.getPrivate(),
+        keyPair.getPublic(),
+        signatureAlgorithm);
+  }
+
+  private SigningKey decodeSigningKey(final EncodedSigningKey encodedSigningKey) {
+    try {
+      final KeyFactory keyFactory =
+          KeyFactory.getInstance(ALGORITHM_ES256.equals(algorithm) ? "EC" : "Ed25519");
+      return new SigningKey(
+          encodedSigningKey.kid(),
+          keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encodedSigningKey.privateKey())),
+          keyFactory.generatePublic(new X509EncodedKeySpec(encodedSigningKey.publicKey())),
+          ALGORITHM_ES256.equals(algorithm) ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Unable to Decode JWT Signing Key", ex);
+    }
+  }
+
+  private String buildJwksJson(final List<SigningKey> signingKeys) {
+    final List<PublicJwk<?>> publicJwks =
+        signingKeys.stream()
+            .<PublicJwk<?>>map(
+                signingKey ->
+                    Jwks.builder()
+                        .key(signingKey.publicKey())
+                        .id(signingKey.kid())
+                        .algorithm(algorithm)
+                        .publicKeyUse("sig")
+                        .build())
+            .toList();
+    try {
+      return new ObjectMapper().writeValueAsString(Map.of("keys", publicJwks));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Unable to Serialize JWKS", ex);
+    }
+  }
+
+  // PKCS#8 private and X.509 public key
+  public record EncodedSigningKey(String kid, byte[] privateKey, byte[] publicKey) {}
+
+  private record SigningKey(
+      String kid,
+      PrivateKey privateKey,
+      PublicKey publicKey,
+      SignatureAlgorithm signatureAlgorithm) {}
+}
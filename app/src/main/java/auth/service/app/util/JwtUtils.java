@@ -1,16 +1,21 @@
 package auth.service.app.util;
 
+import static auth.service.app.util.ConstantUtils.ENV_JWT_SIGNING_ALGORITHM;
 import static auth.service.app.util.ConstantUtils.ENV_SECRET_KEY;
+import static auth.service.app.util.MetricsUtils.TIMER_JWT;
+import static auth.service.app.util.MetricsUtils.recordTimer;
 import static auth.service.app.util.SystemEnvPropertyUtils.getSystemEnvProperty;
 
 import auth.service.app.exception.JwtInvalidException;
 import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.enums.TokenEnums.TokenType;
 import auth.service.app.model.token.AuthToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -26,10 +31,22 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class JwtUtils {
 
-  private static final String SECRET_KEY = getSystemEnvProperty(ENV_SECRET_KEY);
+  private static final SecretKey SECRET_KEY =
+      Keys.hmacShaKeyFor(getSystemEnvProperty(ENV_SECRET_KEY).getBytes(StandardCharsets.UTF_8));
+  private static final JwtKeyRing JWT_KEY_RING =
+      new JwtKeyRing(SECRET_KEY, getSystemEnvProperty(ENV_JWT_SIGNING_ALGORITHM));
+  private static final JwtParser EMAIL_PARSER = Jwts.parser().verifyWith(SECRET_KEY).build();
+  private static final JwtParser AUTH_PARSER = Jwts.parser().keyLocator(JWT_KEY_RING).build();
+  private static final String CLAIM_TOKEN_TYPE = "tokenType";
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-  private static SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+  public static JwtKeyRing getJwtKeyRing() {
+    return JWT_KEY_RING;
+  }
+
+  public static String getJwksJson() {
+    return JWT_KEY_RING.getJwksJson();
   }
 
   public static String encodeEmailAddress(final String email) {
@@ -38,19 +55,14 @@ public class JwtUtils {
         .issuer("auth-service")
         .issuedAt(Date.from(Instant.now()))
         .expiration(Date.from(Instant.now().plus(15, ChronoUnit.MINUTES)))
-        .signWith(getSigningKey())
+        .signWith(SECRET_KEY)
         .compact();
   }
 
   public static String decodeEmailAddress(final String encodedEmail) {
     try {
       final String emailToken =
-          Jwts.parser()
-              .verifyWith(getSigningKey())
-              .build()
-              .parseSignedClaims(encodedEmail)
-              .getPayload()
-              .get("emailToken", String.class);
+          EMAIL_PARSER.parseSignedClaims(encodedEmail).getPayload().get("emailToken", String.class);
 
       if (emailToken == null) {
         throw new IllegalArgumentException("Incorrect Email Credentials");
@@ -75,42 +87,61 @@ public class JwtUtils {
 
   public static String encodeAuthCredentials(
       final String appId, final AppUserDto appUserDto, final long expirationMillis) {
-    AuthToken authToken = appUserDto.toAuthToken();
-    authToken.setAppId(appId);
-    Map<String, Object> tokenClaim = new HashMap<>();
-    tokenClaim.put("authToken", authToken);
-    return Jwts.builder()
-        .claims(tokenClaim)
-        .subject(appUserDto.getEmail())
-        .issuer("auth-service")
-        .issuedAt(Date.from(Instant.now()))
-        .expiration(new Date(System.currentTimeMillis() + expirationMillis))
-        .signWith(getSigningKey())
-        .compact();
+    return encodeAuthCredentials(appId, appUserDto, expirationMillis, TokenType.ACCESS);
+  }
+
+  public static String encodeAuthCredentials(
+      final String appId,
+      final AppUserDto appUserDto,
+      final long expirationMillis,
+      final TokenType tokenType) {
+    return recordTimer(
+        TIMER_JWT,
+        "JwtUtils.encodeAuthCredentials",
+        () -> {
+          AuthToken authToken = appUserDto.toAuthToken();
+          authToken.setAppId(appId);
+          Map<String, Object> tokenClaim = new HashMap<>();
+          tokenClaim.put("authToken", authToken);
+          tokenClaim.put(CLAIM_TOKEN_TYPE, tokenType.name());
+          return JWT_KEY_RING
+              .signWith(
+                  Jwts.builder()
+                      .claims(tokenClaim)
+                      .subject(appUserDto.getEmail())
+                      .issuer("auth-service")
+                      .issuedAt(Date.from(Instant.now()))
+                      .expiration(new Date(System.currentTimeMillis() + expirationMillis)))
+              .compact();
+        });
   }
 
   public static Map<String, AuthToken> decodeAuthCredentials(final String token) {
-    try {
-      final String subject =
-          Jwts.parser()
-              .verifyWith(getSigningKey())
-              .build()
-              .parseSignedClaims(token)
-              .getPayload()
-              .getSubject();
-      final Claims claims =
-          Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
-
-      final AuthToken authToken =
-          new ObjectMapper()
-              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-              .convertValue(claims.get("authToken"), AuthToken.class);
-
-      return Map.of(subject, authToken);
-    } catch (ExpiredJwtException e) {
-      throw new JwtInvalidException("Expired Auth Credentials");
-    } catch (JwtException e) {
-      throw new JwtInvalidException("Invalid Auth Credentials");
-    }
+    final Claims claims = decodeAuthClaims(token);
+    return Map.of(claims.getSubject(), getAuthToken(claims));
+  }
+
+  public static Claims decodeAuthClaims(final String token) {
+    return recordTimer(
+        TIMER_JWT,
+        "JwtUtils.decodeAuthClaims",
+        () -> {
+          try {
+            return AUTH_PARSER.parseSignedClaims(token).getPayload();
+          } catch (ExpiredJwtException e) {
+            throw new JwtInvalidException("Expired Auth Credentials");
+          } catch (JwtException e) {
+            throw new JwtInvalidException("Invalid Auth Credentials");
+          }
+        });
+  }
+
+  public static boolean isAccessToken(final Claims claims) {
+    final Object tokenType = claims.get(CLAIM_TOKEN_TYPE);
+    return tokenType == null || TokenType.ACCESS.name().equals(tokenType);
+  }
+
+  public static AuthToken getAuthToken(final Claims claims) {
+    return OBJECT_MAPPER.convertValue(claims.get("authToken"), AuthToken.class);
   }
 }
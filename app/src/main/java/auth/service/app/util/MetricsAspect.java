@@ -0,0 +1,68 @@
+package auth.service.app.util;
+
+import static auth.service.app.util.MetricsUtils.TIMER_CONNECTOR;
+import static auth.service.app.util.MetricsUtils.TIMER_CONVERT;
+import static auth.service.app.util.MetricsUtils.TIMER_PASSWORD;
+import static auth.service.app.util.MetricsUtils.TIMER_REPOSITORY;
+import static auth.service.app.util.MetricsUtils.TIMER_SERVICE;
+
+import auth.service.app.util.MetricsUtils.HotPathTimer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public Object timeRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+    // repositories are proxies, name them by their interface, not JpaRepository
+    final Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+    final String repository =
+        interfaces.length > 0
+            ? interfaces[0].getSimpleName()
+            : joinPoint.getSignature().getDeclaringType().getSimpleName();
+    return time(TIMER_REPOSITORY, repository, joinPoint);
+  }
+
+  @Around("execution(public * auth.service.app.service.*.*(..))")
+  public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(TIMER_SERVICE, joinPoint);
+  }
+
+  @Around("execution(public * auth.service.app.connector.*.*(..))")
+  public Object timeConnector(final ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(TIMER_CONNECTOR, joinPoint);
+  }
+
+  @Around("execution(public * auth.service.app.util.EntityDtoConvertUtils.*(..))")
+  public Object timeConvert(final ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(TIMER_CONVERT, joinPoint);
+  }
+
+  @Around("execution(public * auth.service.app.util.PasswordUtils.*(..))")
+  public Object timePassword(final ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(TIMER_PASSWORD, joinPoint);
+  }
+
+  private Object time(final String name, final ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(name, joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+  }
+
+  private Object time(final String name, final String type, final ProceedingJoinPoint joinPoint)
+      throws Throwable {
+    final HotPathTimer hotPathTimer =
+        MetricsUtils.startTimer(name, type + "." + joinPoint.getSignature().getName());
+    boolean isSuccess = false;
+    try {
+      final Object result = joinPoint.proceed();
+      isSuccess = true;
+      return result;
+    } finally {
+      hotPathTimer.stop(isSuccess);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package auth.service.app.util;
+
+import auth.service.app.model.events.jfr.HotPathJfrEvent;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Timers for the auth pipeline, recorded to the global registry so static utils can use them too.
+ * Tags are kept low cardinality: endpoint is the matched uri pattern, app is the appId path
+ * variable for the first known apps seen and "other" after that or for ids that are not apps,
+ * outside a request both are "none". Each timed call is also a {@link HotPathJfrEvent}, committed
+ * only while a recording is running.
+ */
+public class MetricsUtils {
+
+  public static final String TIMER_REPOSITORY = "ums.repository";
+  public static final String TIMER_SERVICE = "ums.service";
+  public static final String TIMER_CONNECTOR = "ums.connector";
+  public static final String TIMER_CONVERT = "ums.convert";
+  public static final String TIMER_PASSWORD = "ums.password";
+  public static final String TIMER_JWT = "ums.jwt";
+  public static final String TIMER_PERMISSION = "ums.permission";
+  public static final String TIMER_EMAIL = "ums.email";
+
+  private static final String TAG_NONE = "none";
+  private static final String TAG_OTHER = "other";
+  private static final int MAX_APP_TAGS = 25;
+  private static final Set<String> APP_TAGS = ConcurrentHashMap.newKeySet();
+  // set by AppsService on every load of the apps, a made up appId must not take a tag
+  private static volatile Set<String> knownAppIds = Set.of();
+  // fixed buckets instead of the default ~70, there is a series per method and endpoint
+  private static final Duration[] BUCKETS =
+      DoubleStream.of(0.1, 0.5, 1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500)
+          .mapToObj(millis -> Duration.ofNanos((long) (millis * 1_000_000)))
+          .toArray(Duration[]::new);
+
+  public static <T> T recordTimer(
+      final String name, final String method, final Supplier<T> supplier) {
+    final HotPathTimer hotPathTimer = startTimer(name, method);
+    boolean isSuccess = false;
+    try {
+      final T result = supplier.get();
+      isSuccess = true;
+      return result;
+    } finally {
+      hotPathTimer.stop(isSuccess);
+    }
+  }
+
+  public static void recordTimer(final String name, final String method, final Runnable runnable) {
+    recordTimer(
+        name,
+        method,
+        () -> {
+          runnable.run();
+          return null;
+        });
+  }
+
+  public static void setKnownAppIds(final Collection<String> appIds) {
+    knownAppIds = Set.copyOf(appIds);
+    // frees the tags of deleted apps
+    APP_TAGS.retainAll(knownAppIds);
+  }
+
+  public static HotPathTimer startTimer(final String name, final String method) {
+    final HotPathJfrEvent hotPathJfrEvent = new HotPathJfrEvent();
+    hotPathJfrEvent.begin();
+    return new HotPathTimer(name, method, System.nanoTime(), hotPathJfrEvent);
+  }
+
+  /** A running timer, also a JFR event so recordings show the same calls as the metrics. */
+  public record HotPathTimer(
+      String name, String method, long startNanos, HotPathJfrEvent hotPathJfrEvent) {
+
+    public void stop(final boolean isSuccess) {
+      final long elapsedNanos = System.nanoTime() - startNanos;
+      hotPathJfrEvent.end();
+      final HttpServletRequest request = getCurrentRequest();
+      final String endpoint = getEndpointTag(request);
+      final String app = getAppTag(request);
+      final String outcome = isSuccess ? "success" : "error";
+
+      Timer.builder(name)
+          .tags("method", method, "endpoint", endpoint, "app", app, "outcome", outcome)
+          .serviceLevelObjectives(BUCKETS)
+          .register(Metrics.globalRegistry)
+          .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+      if (hotPathJfrEvent.shouldCommit()) {
+        hotPathJfrEvent.component = name;
+        hotPathJfrEvent.method = method;
+        hotPathJfrEvent.endpoint = endpoint;
+        hotPathJfrEvent.appId = app;
+        hotPathJfrEvent.outcome = outcome;
+        hotPathJfrEvent.commit();
+      }
+    }
+  }
+
+  private static HttpServletRequest getCurrentRequest() {
+    return RequestContextHolder.getRequestAttributes()
+            instanceof ServletRequestAttributes servletRequestAttributes
+        ? servletRequestAttributes.getRequest()
+        : null;
+  }
+
+  private static String getEndpointTag(final HttpServletRequest request) {
+    final Object pattern =
+        request == null
+            ? null
+            : request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? TAG_NONE : pattern.toString();
+  }
+
+  static String getAppTag(final HttpServletRequest request) {
+    final Object uriVariables =
+        request == null
+            ? null
+            : request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    if (!(uriVariables instanceof Map<?, ?> uriVariablesMap)
+        || !(uriVariablesMap.get("appId") instanceof String appId)) {
+      return TAG_NONE;
+    }
+    if (!knownAppIds.contains(appId)) {
+      return TAG_OTHER;
+    }
+    if (APP_TAGS.contains(appId)) {
+      return appId;
+    }
+    // racy by a few entries at most, which is fine for a cap
+    if (APP_TAGS.size() < MAX_APP_TAGS) {
+      APP_TAGS.add(appId);
+      return appId;
+    }
+    return TAG_OTHER;
+  }
+}
@@ -1,6 +1,9 @@
 package auth.service.app.util;
 
+import static auth.service.app.util.CommonUtils.normalizeEmail;
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_SUPERUSER;
+import static auth.service.app.util.MetricsUtils.TIMER_PERMISSION;
+import static auth.service.app.util.MetricsUtils.recordTimer;
 
 import auth.service.app.exception.CheckPermissionException;
 import auth.service.app.model.annotation.CheckPermission;
@@ -20,6 +23,27 @@ public class PermissionCheck {
 
   @Before("@annotation(checkPermission)")
   public void checkPermission(final CheckPermission checkPermission) {
+    recordTimer(
+        TIMER_PERMISSION,
+        "PermissionCheck.checkPermission",
+        () -> checkRequiredPermissions(checkPermission));
+  }
+
+  public void canUserAccessAppUser(final String email, final int id) {
+    recordTimer(
+        TIMER_PERMISSION,
+        "PermissionCheck.canUserAccessAppUser",
+        () -> checkUserAccessAppUser(email, id));
+  }
+
+  public List<AppUserEntity> filterAppUserListByAccess(final List<AppUserEntity> appUserEntities) {
+    return recordTimer(
+        TIMER_PERMISSION,
+        "PermissionCheck.filterAppUserListByAccess",
+        () -> filterAppUsersByAccess(appUserEntities));
+  }
+
+  private void checkRequiredPermissions(final CheckPermission checkPermission) {
     final String[] requiredPermissions = checkPermission.value();
 
     try {
@@ -37,7 +61,7 @@ public class PermissionCheck {
     }
   }
 
-  public void canUserAccessAppUser(final String email, final int id) {
+  private void checkUserAccessAppUser(final String email, final int id) {
     try {
       final AuthToken authToken = getAuthentication();
       final boolean isSuperUser = checkSuperUser(authToken);
@@ -55,7 +79,7 @@ public class PermissionCheck {
     }
   }
 
-  public List<AppUserEntity> filterAppUserListByAccess(final List<AppUserEntity> appUserEntities) {
+  private List<AppUserEntity> filterAppUsersByAccess(final List<AppUserEntity> appUserEntities) {
     try {
       final AuthToken authToken = getAuthentication();
       final boolean isSuperUser = checkSuperUser(authToken);
@@ -67,7 +91,9 @@ public class PermissionCheck {
       return appUserEntities.stream()
           .filter(
               appUserEntity ->
-                  Objects.equals(appUserEntity.getEmail(), authToken.getUser().getEmail())
+                  Objects.equals(
+                          appUserEntity.getEmailNormalized(),
+                          normalizeEmail(authToken.getUser().getEmail()))
                       || Objects.equals(appUserEntity.getId(), authToken.getUser().getId()))
           .toList();
     } catch (Exception ex) {
@@ -111,7 +137,7 @@ public class PermissionCheck {
   }
 
   private boolean checkUserIdEmail(final String email, final int id, final AuthToken authToken) {
-    return Objects.equals(email, authToken.getUser().getEmail())
+    return Objects.equals(normalizeEmail(email), normalizeEmail(authToken.getUser().getEmail()))
         || Objects.equals(id, authToken.getUser().getId());
   }
 }
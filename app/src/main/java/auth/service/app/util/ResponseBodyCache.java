@@ -0,0 +1,156 @@
+package auth.service.app.util;
+
+import auth.service.app.config.ResponseCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Serialized json, and a gzip copy of it, of successful reference data responses, per url. An entry
+ * is only served for the ETag it was built with, so it goes stale with the same version bump that
+ * evicts the entity caches. Hits are written straight to the response, and the controller returns
+ * null. The gzip copy is a representation of its own, with the ETag suffixed by -gzip.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+  private final ObjectMapper objectMapper;
+  private final ResponseCacheProperties responseCacheProperties;
+  private final Map<String, CachedBody> cachedBodies = new ConcurrentHashMap<>();
+
+  private record CachedBody(String eTag, byte[] body, byte[] gzipBody) {}
+
+  // in place of webRequest.checkNotModified, the tag of either representation is still current
+  public boolean checkNotModified(final ServletWebRequest webRequest, final String eTag) {
+    if (!responseCacheProperties.isEnabled()) {
+      return webRequest.checkNotModified(eTag);
+    }
+    final HttpServletResponse response = webRequest.getResponse();
+    if (response != null && !response.containsHeader(HttpHeaders.VARY)) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    final String gzipETag = getGzipETag(eTag);
+    final String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+    return webRequest.checkNotModified(
+        ifNoneMatch != null && ifNoneMatch.contains(gzipETag) ? gzipETag : eTag);
+  }
+
+  static String getGzipETag(final String eTag) {
+    return eTag.endsWith("\"") ? eTag.substring(0, eTag.length() - 1) + "-gzip\"" : eTag + "-gzip";
+  }
+
+  public <T> ResponseEntity<T> respond(
+      final ServletWebRequest webRequest,
+      final String eTag,
+      final Supplier<ResponseEntity<T>> responseSupplier)
+      throws IOException {
+    if (!responseCacheProperties.isEnabled()) {
+      return responseSupplier.get();
+    }
+
+    final HttpServletRequest request = webRequest.getRequest();
+    final String key =
+        request.getQueryString() == null
+            ? request.getRequestURI()
+            : request.getRequestURI() + "?" + request.getQueryString();
+    CachedBody cachedBody = cachedBodies.get(key);
+
+    if (cachedBody == null || !cachedBody.eTag().equals(eTag)) {
+      final ResponseEntity<T> responseEntity = responseSupplier.get();
+      if (responseEntity.getStatusCode() != HttpStatus.OK || responseEntity.getBody() == null) {
+        return responseEntity;
+      }
+      cachedBody = toCachedBody(eTag, objectMapper.writeValueAsBytes(responseEntity.getBody()));
+      if (cachedBodies.containsKey(key)
+          || cachedBodies.size() < responseCacheProperties.getMaxEntries()) {
+        cachedBodies.put(key, cachedBody);
+      }
+    }
+
+    write(request, webRequest.getResponse(), cachedBody);
+    return null;
+  }
+
+  private CachedBody toCachedBody(final String eTag, final byte[] body) throws IOException {
+    if (body.length < responseCacheProperties.getGzipMinSize().toBytes()) {
+      return new CachedBody(eTag, body, null);
+    }
+    final ByteArrayOutputStream gzipBody = new ByteArrayOutputStream(body.length / 4);
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzipBody)) {
+      gzipOutputStream.write(body);
+    }
+    return new CachedBody(eTag, body, gzipBody.toByteArray());
+  }
+
+  private void write(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final CachedBody cachedBody)
+      throws IOException {
+    final boolean isGzip =
+        cachedBody.gzipBody() != null
+            && isGzipAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    final byte[] body = isGzip ? cachedBody.gzipBody() : cachedBody.body();
+
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    if (cachedBody.gzipBody() != null && !response.containsHeader(HttpHeaders.VARY)) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    if (isGzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      response.setHeader(HttpHeaders.ETAG, getGzipETag(cachedBody.eTag()));
+    } else {
+      response.setHeader(HttpHeaders.ETAG, cachedBody.eTag());
+    }
+    response.getOutputStream().write(body);
+    response.flushBuffer();
+  }
+
+  // gzip, or *, with a q-value above 0, "gzip;q=0" refuses it
+  static boolean isGzipAccepted(final String acceptEncoding) {
+    if (!StringUtils.hasText(acceptEncoding)) {
+      return false;
+    }
+    Boolean isWildcardAccepted = null;
+    for (final String encoding : acceptEncoding.split(",")) {
+      final String[] parts = encoding.split(";");
+      final String coding = parts[0].trim().toLowerCase();
+      if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) {
+        continue;
+      }
+      double quality = 1.0;
+      for (int i = 1; i < parts.length; i++) {
+        final String parameter = parts[i].trim();
+        if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+          try {
+            quality = Double.parseDouble(parameter.substring(2).trim());
+          } catch (NumberFormatException ex) {
+            quality = 0;
+          }
+        }
+      }
+      if (!coding.equals("*")) {
+        return quality > 0;
+      }
+      isWildcardAccepted = quality > 0;
+    }
+    return Boolean.TRUE.equals(isWildcardAccepted);
+  }
+}
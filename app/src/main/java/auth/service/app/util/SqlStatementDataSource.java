@@ -0,0 +1,131 @@
+package auth.service.app.util;
+
+import auth.service.app.util.SqlStatementTracker.SqlStatementStats;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts statements, rows and execution time into the {@link SqlStatementTracker} of the current
+ * thread. Connections taken outside a tracked request are returned as they are. A batch is counted
+ * as one statement, rows are the rows read plus the rows updated.
+ */
+public class SqlStatementDataSource extends DelegatingDataSource {
+
+  public SqlStatementDataSource(final DataSource dataSource) {
+    super(dataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return trackingConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password)
+      throws SQLException {
+    return trackingConnection(super.getConnection(username, password));
+  }
+
+  private Connection trackingConnection(final Connection connection) {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.getCurrent();
+    if (sqlStatementStats == null) {
+      return connection;
+    }
+    return proxy(
+        Connection.class,
+        (proxy, method, args) -> {
+          final Object result = invoke(connection, method, args);
+          if (result instanceof Statement statement
+              && method.getName().matches("createStatement|prepareStatement|prepareCall")) {
+            return trackingStatement(statement, method.getReturnType(), sqlStatementStats);
+          }
+          return result;
+        });
+  }
+
+  private Object trackingStatement(
+      final Statement statement,
+      final Class<?> statementType,
+      final SqlStatementStats sqlStatementStats) {
+    return proxy(
+        statementType,
+        (proxy, method, args) -> {
+          final String methodName = method.getName();
+          if (methodName.startsWith("execute")) {
+            sqlStatementStats.beforeStatement();
+            final long startNanos = System.nanoTime();
+            final Object result;
+            try {
+              result = invoke(statement, method, args);
+            } finally {
+              sqlStatementStats.afterStatement(System.nanoTime() - startNanos);
+            }
+            addUpdatedRows(result, methodName, sqlStatementStats);
+            if (result instanceof ResultSet resultSet) {
+              return trackingResultSet(resultSet, sqlStatementStats);
+            }
+            return result;
+          }
+
+          final Object result = invoke(statement, method, args);
+          if (result instanceof ResultSet resultSet && "getResultSet".equals(methodName)) {
+            return trackingResultSet(resultSet, sqlStatementStats);
+          }
+          return result;
+        });
+  }
+
+  private ResultSet trackingResultSet(
+      final ResultSet resultSet, final SqlStatementStats sqlStatementStats) {
+    return proxy(
+        ResultSet.class,
+        (proxy, method, args) -> {
+          final Object result = invoke(resultSet, method, args);
+          if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+            sqlStatementStats.addRows(1);
+          }
+          return result;
+        });
+  }
+
+  private static void addUpdatedRows(
+      final Object result, final String methodName, final SqlStatementStats sqlStatementStats) {
+    if (!methodName.contains("Update") && !methodName.contains("Batch")) {
+      return;
+    }
+    if (result instanceof Number count && count.longValue() > 0) {
+      sqlStatementStats.addRows(count.longValue());
+    } else if (result instanceof int[] counts) {
+      for (final int count : counts) {
+        sqlStatementStats.addRows(Math.max(count, 0));
+      }
+    } else if (result instanceof long[] counts) {
+      for (final long count : counts) {
+        sqlStatementStats.addRows(Math.max(count, 0));
+      }
+    }
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(final Class<T> type, final InvocationHandler invocationHandler) {
+    return (T)
+        Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+  }
+}
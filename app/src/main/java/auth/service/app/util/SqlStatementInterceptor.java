@@ -0,0 +1,42 @@
+package auth.service.app.util;
+
+import auth.service.app.model.annotation.SqlBudget;
+import auth.service.app.util.SqlStatementTracker.SqlStatementStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements HandlerInterceptor {
+
+  private final boolean failOnBudgetExceeded;
+
+  @Override
+  public boolean preHandle(
+      @NotNull final HttpServletRequest request,
+      @NotNull final HttpServletResponse response,
+      @NotNull final Object handler) {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.getCurrent();
+    if (sqlStatementStats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+
+    SqlBudget sqlBudget =
+        AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), SqlBudget.class);
+    if (sqlBudget == null) {
+      sqlBudget =
+          AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+    }
+    if (sqlBudget != null) {
+      sqlStatementStats.setBudget(
+          sqlBudget.statements(),
+          request.getMethod() + " " + request.getRequestURI(),
+          failOnBudgetExceeded);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,45 @@
+package auth.service.app.util;
+
+import auth.service.app.util.SqlStatementTracker.SqlStatementStats;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the statements so far to the response, before the body is written and headers are committed.
+ * Not for production, the header tells callers about the queries behind an endpoint.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "sql-statements", name = "response-header", havingValue = "true")
+public class SqlStatementResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String SQL_STATEMENTS_HEADER = "X-Sql-Statements";
+
+  @Override
+  public boolean supports(
+      @NotNull final MethodParameter returnType,
+      @NotNull final Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      final Object body,
+      @NotNull final MethodParameter returnType,
+      @NotNull final MediaType selectedContentType,
+      @NotNull final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      @NotNull final ServerHttpRequest request,
+      @NotNull final ServerHttpResponse response) {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.getCurrent();
+    if (sqlStatementStats != null) {
+      response.getHeaders().set(SQL_STATEMENTS_HEADER, sqlStatementStats.toHeaderValue());
+    }
+    return body;
+  }
+}
@@ -0,0 +1,71 @@
+package auth.service.app.util;
+
+import java.sql.SQLException;
+import lombok.Getter;
+
+/**
+ * Statements, rows and JDBC time of the request running on the current thread, counted by {@link
+ * SqlStatementDataSource}. Work handed to other threads, like async audits, is not counted.
+ */
+public final class SqlStatementTracker {
+
+  private static final ThreadLocal<SqlStatementStats> CURRENT_STATS = new ThreadLocal<>();
+
+  private SqlStatementTracker() {}
+
+  public static SqlStatementStats start() {
+    final SqlStatementStats sqlStatementStats = new SqlStatementStats();
+    CURRENT_STATS.set(sqlStatementStats);
+    return sqlStatementStats;
+  }
+
+  public static SqlStatementStats getCurrent() {
+    return CURRENT_STATS.get();
+  }
+
+  public static void stop() {
+    CURRENT_STATS.remove();
+  }
+
+  @Getter
+  public static class SqlStatementStats {
+    private int statements;
+    private long rows;
+    private long nanos;
+    private int budget = -1;
+    private String endpoint;
+    private boolean failOnBudgetExceeded;
+
+    public void setBudget(
+        final int budget, final String endpoint, final boolean failOnBudgetExceeded) {
+      this.budget = budget;
+      this.endpoint = endpoint;
+      this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    public boolean isBudgetExceeded() {
+      return budget >= 0 && statements > budget;
+    }
+
+    // checked before executing, so the stack trace points at the statement over budget
+    void beforeStatement() throws SQLException {
+      if (failOnBudgetExceeded && budget >= 0 && statements >= budget) {
+        throw new SQLException(
+            String.format("SQL statement budget exceeded for [%s]: budget [%d]", endpoint, budget));
+      }
+    }
+
+    void afterStatement(final long elapsedNanos) {
+      statements++;
+      nanos += elapsedNanos;
+    }
+
+    void addRows(final long count) {
+      rows += count;
+    }
+
+    public String toHeaderValue() {
+      return String.format("statements=%d; rows=%d; time-ms=%.3f", statements, rows, nanos / 1e6);
+    }
+  }
+}
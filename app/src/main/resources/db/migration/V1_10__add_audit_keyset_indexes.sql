@@ -0,0 +1,26 @@
+-- keyset pages of the audit query api, ORDER BY created_at DESC, id DESC LIMIT n, see AuditQueryRepository
+-- these read the newest rows in page order and stop at the limit, every insert now also updates
+-- two B-trees per table, in place of the BRIN and single column ones of V1_5, which are dropped
+-- partitioned indexes cannot be built concurrently, so these are created only on the parents
+-- (V1_10__add_audit_keyset_indexes.sql.conf), AuditPartitionService builds each partition's own
+-- concurrently and attaches it, new month partitions get them when created
+DROP INDEX IF EXISTS idx_audit_apps_created_at;
+DROP INDEX IF EXISTS idx_audit_app_permission_created_at;
+DROP INDEX IF EXISTS idx_audit_app_role_created_at;
+DROP INDEX IF EXISTS idx_audit_app_user_created_at;
+
+CREATE INDEX IF NOT EXISTS idx_audit_apps_created_at_id ON ONLY audit_apps (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_permission_created_at_id ON ONLY audit_app_permission (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_role_created_at_id ON ONLY audit_app_role (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_user_created_at_id ON ONLY audit_app_user (created_at, id);
+
+-- these lead with the entity column, so they also cover its single column index
+CREATE INDEX IF NOT EXISTS idx_audit_apps_app_id_created_at_id ON ONLY audit_apps (app_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_permission_app_permission_id_created_at_id ON ONLY audit_app_permission (app_permission_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_role_app_role_id_created_at_id ON ONLY audit_app_role (app_role_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_app_user_app_user_id_created_at_id ON ONLY audit_app_user (app_user_id, created_at, id);
+
+DROP INDEX IF EXISTS idx_audit_apps_id;
+DROP INDEX IF EXISTS idx_audit_app_permission_id;
+DROP INDEX IF EXISTS idx_audit_app_role_role_id;
+DROP INDEX IF EXISTS idx_audit_app_user_user_id;
@@ -0,0 +1,13 @@
+-- user search, see AppUserSearchRepository
+-- trigram GIN indexes serve LIKE 'q%', LIKE '%q%' and similarity (%) on the same expressions
+-- built concurrently (V1_2__create_app_user_search_indexes.sql.conf) so app_user stays writable
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_first_name_trgm
+    ON app_user USING GIN (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_last_name_trgm
+    ON app_user USING GIN (LOWER(last_name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_email_trgm
+    ON app_user USING GIN (LOWER(email) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_phone_trgm
+    ON app_user USING GIN (phone gin_trgm_ops);
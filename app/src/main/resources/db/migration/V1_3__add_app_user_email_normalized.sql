@@ -0,0 +1,9 @@
+-- lowercased and trimmed email, written by AppUserEntity.setEmail, all email lookups use it
+-- the unique index fails if two users differ only by case, resolve those first:
+-- SELECT LOWER(TRIM(email)), COUNT(*) FROM app_user GROUP BY 1 HAVING COUNT(*) > 1;
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS email_normalized VARCHAR(250);
+
+UPDATE app_user SET email_normalized = LOWER(TRIM(email)) WHERE email_normalized IS NULL;
+
+ALTER TABLE app_user ALTER COLUMN email_normalized SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_app_user_email_normalized ON app_user (email_normalized);
@@ -0,0 +1,22 @@
+-- index review, built and dropped concurrently (V1_4__review_app_indexes.sql.conf)
+-- RepositoryQueryPlanTest checks the repository queries against these access paths
+
+-- never queried
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_user_password;
+-- same columns as the primary key
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_user_addresses_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_role_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_permission_id;
+-- same columns as the unique constraint
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_user_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_app_role_name;
+
+-- trailing primary key columns, the leading column covers the other direction
+-- apps of a user, findAllByAppUserIdOrderByAppNameAsc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_app_app_user_id ON app_user_app (app_user_id);
+-- users of a role, role deletes check this foreign key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_role_app_role_id ON app_user_role (app_role_id);
+-- roles of a permission, permission deletes check this foreign key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_role_permission_app_permission_id ON app_role_permission (app_permission_id);
+-- tokens of a user, user deletes check this foreign key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_token_app_user_id ON app_token (app_user_id);
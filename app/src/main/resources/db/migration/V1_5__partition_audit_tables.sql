@@ -0,0 +1,122 @@
+-- audit tables range partitioned by month on created_at, see AuditPartitionService for the
+-- partitions ahead and the retention, rows outside every month partition go to the default one
+-- the primary key has to include the partition key, ids still come from one identity per table
+-- created_at is append ordered so BRIN replaces its B-tree, created_by keeps its index
+-- the tables are rebuilt and copied in this transaction, writes to them wait until it commits
+ALTER TABLE audit_apps RENAME TO audit_apps_unpartitioned;
+ALTER TABLE audit_apps_unpartitioned RENAME CONSTRAINT audit_apps_pkey TO audit_apps_unpartitioned_pkey;
+ALTER TABLE audit_app_permission RENAME TO audit_app_permission_unpartitioned;
+ALTER TABLE audit_app_permission_unpartitioned RENAME CONSTRAINT audit_app_permission_pkey TO audit_app_permission_unpartitioned_pkey;
+ALTER TABLE audit_app_role RENAME TO audit_app_role_unpartitioned;
+ALTER TABLE audit_app_role_unpartitioned RENAME CONSTRAINT audit_app_role_pkey TO audit_app_role_unpartitioned_pkey;
+ALTER TABLE audit_app_user RENAME TO audit_app_user_unpartitioned;
+ALTER TABLE audit_app_user_unpartitioned RENAME CONSTRAINT audit_app_user_pkey TO audit_app_user_unpartitioned_pkey;
+
+CREATE TABLE audit_apps
+(
+    id         INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    app_id     VARCHAR(50)                              NOT NULL,
+    event_type VARCHAR(50)                              NOT NULL,
+    event_desc TEXT,
+    event_data JSONB,
+    created_at TIMESTAMP                                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by INTEGER,
+    ip_address VARCHAR(50)                              NOT NULL,
+    user_agent VARCHAR(100)                             NOT NULL,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (app_id) REFERENCES apps (id) ON DELETE SET NULL,
+    FOREIGN KEY (created_by) REFERENCES app_user (id) ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_app_permission
+(
+    id                INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    app_permission_id INTEGER,
+    event_type        VARCHAR(50)                              NOT NULL,
+    event_desc        TEXT,
+    event_data        JSONB,
+    created_at        TIMESTAMP                                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by        INTEGER,
+    ip_address        VARCHAR(50)                              NOT NULL,
+    user_agent        VARCHAR(100)                             NOT NULL,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (app_permission_id) REFERENCES app_permission (id) ON DELETE SET NULL,
+    FOREIGN KEY (created_by) REFERENCES app_user (id) ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_app_role
+(
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    app_role_id INTEGER,
+    event_type  VARCHAR(50)                              NOT NULL,
+    event_desc  TEXT,
+    event_data  JSONB,
+    created_at  TIMESTAMP                                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by  INTEGER,
+    ip_address  VARCHAR(50)                              NOT NULL,
+    user_agent  VARCHAR(250)                             NOT NULL,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (app_role_id) REFERENCES app_role (id) ON DELETE SET NULL,
+    FOREIGN KEY (created_by) REFERENCES app_user (id) ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_app_user
+(
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    app_user_id INTEGER,
+    event_type  VARCHAR(50)                              NOT NULL,
+    event_desc  TEXT,
+    event_data  JSONB,
+    created_at  TIMESTAMP                                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by  INTEGER,
+    ip_address  VARCHAR(50)                              NOT NULL,
+    user_agent  VARCHAR(100)                             NOT NULL,
+    PRIMARY KEY (id, created_at),
+    FOREIGN KEY (app_user_id) REFERENCES app_user (id) ON DELETE SET NULL,
+    FOREIGN KEY (created_by) REFERENCES app_user (id) ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+-- month partitions from the oldest row to three months ahead, then the rows and the identity
+DO
+$$
+    DECLARE
+        audit_table     TEXT;
+        partition_month DATE;
+    BEGIN
+        FOREACH audit_table IN ARRAY ARRAY ['audit_apps', 'audit_app_permission', 'audit_app_role', 'audit_app_user']
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', audit_table || '_default', audit_table);
+                EXECUTE format('SELECT date_trunc(''month'', COALESCE(MIN(created_at), CURRENT_TIMESTAMP))::DATE FROM %I',
+                               audit_table || '_unpartitioned') INTO partition_month;
+                WHILE partition_month <= date_trunc('month', CURRENT_DATE) + INTERVAL '3 months'
+                    LOOP
+                        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                                       audit_table || to_char(partition_month, '"_p"YYYY_MM'), audit_table,
+                                       partition_month, (partition_month + INTERVAL '1 month')::DATE);
+                        partition_month := partition_month + INTERVAL '1 month';
+                    END LOOP;
+                EXECUTE format('INSERT INTO %I SELECT * FROM %I', audit_table, audit_table || '_unpartitioned');
+                EXECUTE format('SELECT setval(pg_get_serial_sequence(%L, ''id''), COALESCE(MAX(id), 0) + 1, false) FROM %I',
+                               audit_table, audit_table);
+                EXECUTE format('DROP TABLE %I', audit_table || '_unpartitioned');
+            END LOOP;
+    END
+$$;
+
+-- created on the parents, every partition gets its own
+CREATE INDEX idx_audit_apps_created_at ON audit_apps USING BRIN (created_at);
+CREATE INDEX idx_audit_app_permission_created_at ON audit_app_permission USING BRIN (created_at);
+CREATE INDEX idx_audit_app_role_created_at ON audit_app_role USING BRIN (created_at);
+CREATE INDEX idx_audit_app_user_created_at ON audit_app_user USING BRIN (created_at);
+CREATE INDEX idx_audit_apps_id ON audit_apps (app_id);
+CREATE INDEX idx_audit_app_permission_id ON audit_app_permission (app_permission_id);
+CREATE INDEX idx_audit_app_role_role_id ON audit_app_role (app_role_id);
+CREATE INDEX idx_audit_app_user_user_id ON audit_app_user (app_user_id);
+-- actor lookups of the audit query api, created_at second so one actor reads newest first in order
+CREATE INDEX idx_audit_apps_created_by ON audit_apps (created_by, created_at);
+CREATE INDEX idx_audit_app_permission_created_by ON audit_app_permission (created_by, created_at);
+CREATE INDEX idx_audit_app_role_created_by ON audit_app_role (created_by, created_at);
+CREATE INDEX idx_audit_app_user_created_by ON audit_app_user (created_by, created_at);
+
+-- detached partitions past the retention are moved here when audit-partitions.archive-schema is set
+CREATE SCHEMA IF NOT EXISTS audit_archive;
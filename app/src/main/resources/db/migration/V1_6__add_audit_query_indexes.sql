@@ -0,0 +1,4 @@
+-- audit query api, see AuditQueryRepository, its created_by indexes are in V1_5
+INSERT INTO app_permission (app_id, name, description)
+SELECT '3e4567e89b12', 'AUDIT_READ', 'CAN VIEW AUDIT'
+WHERE NOT EXISTS (SELECT 1 FROM app_permission WHERE app_id = '3e4567e89b12' AND name = 'AUDIT_READ');
@@ -0,0 +1,13 @@
+-- per minute counts of the aggregated and sampled audit events, see AuditRollupService
+-- no foreign keys, counts outlive the users and apps they were counted for
+CREATE TABLE IF NOT EXISTS audit_app_user_rollup
+(
+    bucket_start TIMESTAMP   NOT NULL,
+    app_id       VARCHAR(50) NOT NULL,
+    app_user_id  INTEGER     NOT NULL,
+    event_type   VARCHAR(50) NOT NULL,
+    event_count  BIGINT      NOT NULL,
+    PRIMARY KEY (bucket_start, app_id, app_user_id, event_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_app_user_rollup_app_user_id ON audit_app_user_rollup (app_user_id, bucket_start);
@@ -0,0 +1,13 @@
+-- ES256/EdDSA key ring shared by all instances, see JwtSigningKeyService
+-- one key per algorithm and day, so instances rotating at the same time add only one
+-- private keys are encrypted with the secret key
+CREATE TABLE IF NOT EXISTS jwt_signing_key
+(
+    kid           VARCHAR(50) NOT NULL PRIMARY KEY,
+    algorithm     VARCHAR(10) NOT NULL,
+    rotation_date DATE        NOT NULL,
+    private_key   TEXT        NOT NULL,
+    public_key    TEXT        NOT NULL,
+    created_at    TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_jwt_signing_key_algorithm_rotation_date UNIQUE (algorithm, rotation_date)
+);
@@ -0,0 +1,11 @@
+-- reference data versions shared by all instances, the ETags of the list endpoints
+-- see DataVersionRegistry, one row per DataVersionEnums.DataCollection
+CREATE TABLE IF NOT EXISTS data_version
+(
+    data_collection VARCHAR(50) NOT NULL PRIMARY KEY,
+    version         BIGINT      NOT NULL DEFAULT 0
+);
+
+INSERT INTO data_version (data_collection)
+VALUES ('APPS'), ('ROLES'), ('PERMISSIONS'), ('ROLE_PERMISSIONS')
+ON CONFLICT DO NOTHING;
@@ -17,7 +17,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "sql-statements.response-header=true",
+      "sql-statements.fail-on-budget-exceeded=true",
+      "audit-policy.enabled=false",
+      "management.prometheus.metrics.export.enabled=true"
+    })
 @ActiveProfiles("springboottest")
 @ExtendWith(BaseTestExtension.class)
 @Import({TestDatasourceConfig.class, TestSecurityConfig.class, TestConfigs.class})
@@ -0,0 +1,107 @@
+package auth.service.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.UserLoginRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+public class JfrEndpointTest extends BaseTest {
+
+  @Test
+  void testJfrEndpoint_RecordLogin() throws Exception {
+    // starting and dumping a recording can take a while while the rest of the suite runs
+    final WebTestClient jfrWebTestClient =
+        webTestClient
+            .mutate()
+            .responseTimeout(Duration.ofSeconds(30))
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(64 * 1024 * 1024))
+            .build();
+    final Map<String, Object> started =
+        jfrWebTestClient
+            .post()
+            .uri("/actuator/jfr")
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("name", "jfr-endpoint-test", "settings", "default"))
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(new ParameterizedTypeReference<Map<String, Object>>() {})
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(started);
+    assertEquals("running", started.get("state"));
+    // bounded even when not asked for
+    assertEquals("PT1H", started.get("maxAge"));
+    assertEquals(256 * 1024 * 1024, ((Number) started.get("maxSize")).intValue());
+    final long id = ((Number) started.get("id")).longValue();
+
+    jfrWebTestClient
+        .post()
+        .uri("/api/v1/basic_app_users/user/app-99/login")
+        .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+        .bodyValue(new UserLoginRequest("jfr@test.com", "jfr-password"))
+        .exchange();
+
+    jfrWebTestClient
+        .post()
+        .uri("/actuator/jfr/" + id)
+        .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.state")
+        .isEqualTo("stopped");
+
+    final byte[] recording =
+        jfrWebTestClient
+            .get()
+            .uri("/actuator/jfr/" + id)
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(recording);
+
+    final Path path = Files.createTempFile("jfr-endpoint-test", ".jfr");
+    try {
+      Files.write(path, recording);
+      final Set<String> eventNames =
+          RecordingFile.readAllEvents(path).stream()
+              .map(RecordedEvent::getEventType)
+              .map(eventType -> eventType.getName())
+              .filter(eventName -> eventName.startsWith("auth.service."))
+              .collect(Collectors.toSet());
+      assertTrue(eventNames.contains("auth.service.Login"));
+      assertTrue(eventNames.contains("auth.service.HotPath"));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+
+    jfrWebTestClient
+        .delete()
+        .uri("/actuator/jfr/" + id)
+        .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+        .exchange()
+        .expectStatus()
+        .isNoContent();
+  }
+}
@@ -1,5 +1,8 @@
 package auth.service.app.config;
 
+import helper.CapturingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -9,6 +12,14 @@ import org.springframework.context.annotation.Primary;
 @TestConfiguration
 public class TestConfigs {
 
+  // repository SQL for the EXPLAIN checks, see RepositoryQueryPlanTest
+  @Bean
+  public HibernatePropertiesCustomizer capturingStatementInspector() {
+    return hibernateProperties ->
+        hibernateProperties.put(
+            AvailableSettings.STATEMENT_INSPECTOR, new CapturingStatementInspector());
+  }
+
   @Bean
   @Primary
   public ApplicationEventPublisher applicationEventPublisher() {
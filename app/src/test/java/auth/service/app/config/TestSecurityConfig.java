@@ -13,12 +13,9 @@ import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 @TestConfiguration
 public class TestSecurityConfig extends SecurityConfigBase {
 
-  private final BCryptPasswordEncoder bCryptPasswordEncoder;
-
   protected TestSecurityConfig(
       final AppUserService appUserService, final BCryptPasswordEncoder bCryptPasswordEncoder) {
-    super(appUserService);
-    this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+    super(appUserService, bCryptPasswordEncoder);
   }
 
   @Override
@@ -0,0 +1,51 @@
+package auth.service.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadPinningMonitorTest extends BaseTest {
+
+  private final Object lock = new Object();
+
+  private void blockWhileSynchronized() {
+    synchronized (lock) {
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Test
+  public void testPinnedVirtualThread_IsCounted() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+    monitor.start();
+    assertTrue(monitor.isRunning());
+
+    try {
+      Thread.sleep(500);
+      Thread.ofVirtual().start(this::blockWhileSynchronized).join();
+
+      Counter counter = null;
+      for (int i = 0; i < 100 && counter == null; i++) {
+        counter = meterRegistry.find("ums.virtual.pinned").counter();
+        Thread.sleep(100);
+      }
+      assertNotNull(counter);
+      assertTrue(counter.getId().getTag("frame").contains("VirtualThreadPinningMonitorTest"));
+    } finally {
+      monitor.stop();
+    }
+    assertFalse(monitor.isRunning());
+  }
+}
@@ -0,0 +1,46 @@
+package auth.service.app.controller;
+
+import auth.service.BaseTest;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+
+public class AppJwksControllerTest extends BaseTest {
+
+  @Test
+  public void testGetJwks() {
+    webTestClient
+        .get()
+        .uri("/.well-known/jwks.json")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+        .expectBody()
+        .jsonPath("$.keys")
+        .isArray();
+  }
+
+  @Test
+  public void testGetJwks_TraceIdHeader() {
+    webTestClient
+        .get()
+        .uri("/.well-known/jwks.json")
+        .header("X-Trace-Id", "trace-id-1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .valueEquals("X-Trace-Id", "trace-id-1");
+
+    webTestClient
+        .get()
+        .uri("/.well-known/jwks.json")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .exists("X-Trace-Id");
+  }
+}
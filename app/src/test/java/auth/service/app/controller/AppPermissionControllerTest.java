@@ -14,12 +14,12 @@ import auth.service.app.model.dto.AppPermissionDto;
 import auth.service.app.model.dto.AppPermissionRequest;
 import auth.service.app.model.dto.AppPermissionResponse;
 import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppPermissionEntity;
 import auth.service.app.repository.AppPermissionRepository;
 import auth.service.app.service.AuditService;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -490,11 +490,10 @@ public class AppPermissionControllerTest extends BaseTest {
     assertNotNull(appPermissionResponse.getResponseCrudInfo());
     assertEquals(1, appPermissionResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppPermissionDeleteSoft(requestCaptor.capture(), idCaptor.capture());
+        .auditAppPermissionDeleteSoft(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_PERMISSION_ID, idCaptor.getValue());
   }
 
@@ -520,11 +519,10 @@ public class AppPermissionControllerTest extends BaseTest {
     assertNotNull(appPermissionResponse.getResponseCrudInfo());
     assertEquals(1, appPermissionResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppPermissionDeleteSoft(requestCaptor.capture(), idCaptor.capture());
+        .auditAppPermissionDeleteSoft(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_PERMISSION_ID, idCaptor.getValue());
   }
 
@@ -579,11 +577,10 @@ public class AppPermissionControllerTest extends BaseTest {
     assertNotNull(appPermissionResponse.getResponseCrudInfo());
     assertEquals(1, appPermissionResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppPermissionDeleteHard(requestCaptor.capture(), idCaptor.capture());
+        .auditAppPermissionDeleteHard(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(appPermissionEntity.getId(), idCaptor.getValue());
   }
 
@@ -637,11 +634,10 @@ public class AppPermissionControllerTest extends BaseTest {
     assertNotNull(appPermissionResponse.getPermissions());
     assertEquals(1, appPermissionResponse.getPermissions().size());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppPermissionRestore(requestCaptor.capture(), idCaptor.capture());
+        .auditAppPermissionRestore(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_PERMISSION_ID, idCaptor.getValue());
   }
 
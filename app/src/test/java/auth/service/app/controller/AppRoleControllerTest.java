@@ -13,12 +13,12 @@ import auth.service.BaseTest;
 import auth.service.app.model.dto.AppRoleRequest;
 import auth.service.app.model.dto.AppRoleResponse;
 import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppRoleEntity;
 import auth.service.app.repository.AppRoleRepository;
 import auth.service.app.service.AuditService;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -401,11 +401,10 @@ public class AppRoleControllerTest extends BaseTest {
     assertNotNull(appRoleResponse.getResponseCrudInfo());
     assertEquals(1, appRoleResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppRoleDeleteSoft(requestCaptor.capture(), idCaptor.capture());
+        .auditAppRoleDeleteSoft(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_ROLE_ID, idCaptor.getValue());
   }
 
@@ -431,11 +430,10 @@ public class AppRoleControllerTest extends BaseTest {
     assertNotNull(appRoleResponse.getResponseCrudInfo());
     assertEquals(1, appRoleResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppRoleDeleteSoft(requestCaptor.capture(), idCaptor.capture());
+        .auditAppRoleDeleteSoft(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_ROLE_ID, idCaptor.getValue());
   }
 
@@ -487,11 +485,10 @@ public class AppRoleControllerTest extends BaseTest {
     assertNotNull(appRoleResponse.getResponseCrudInfo());
     assertEquals(1, appRoleResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppRoleDeleteHard(requestCaptor.capture(), idCaptor.capture());
+        .auditAppRoleDeleteHard(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(appRoleEntity.getId(), idCaptor.getValue());
   }
 
@@ -545,11 +542,10 @@ public class AppRoleControllerTest extends BaseTest {
     assertNotNull(appRoleResponse.getRoles());
     assertEquals(1, appRoleResponse.getRoles().size());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppRoleRestore(requestCaptor.capture(), idCaptor.capture());
+        .auditAppRoleRestore(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_ROLE_ID, idCaptor.getValue());
   }
 
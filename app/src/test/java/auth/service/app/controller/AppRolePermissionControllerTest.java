@@ -13,6 +13,7 @@ import auth.service.BaseTest;
 import auth.service.app.model.dto.AppRolePermissionRequest;
 import auth.service.app.model.dto.AppRolePermissionResponse;
 import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppPermissionEntity;
 import auth.service.app.model.entity.AppRoleEntity;
@@ -23,7 +24,6 @@ import auth.service.app.repository.AppRolePermissionRepository;
 import auth.service.app.repository.AppRoleRepository;
 import auth.service.app.service.AuditService;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -526,13 +526,12 @@ public class AppRolePermissionControllerTest extends BaseTest {
     assertNotNull(appRolePermissionResponse.getResponseCrudInfo());
     assertEquals(1, appRolePermissionResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> roleIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Integer> permissionIdCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
         .auditAppRoleUnassignPermission(
-            requestCaptor.capture(), roleIdCaptor.capture(), permissionIdCaptor.capture());
+            auditContextCaptor.capture(), roleIdCaptor.capture(), permissionIdCaptor.capture());
     assertEquals(appRoleEntity.getId(), roleIdCaptor.getValue());
     assertEquals(appPermissionEntity.getId(), permissionIdCaptor.getValue());
 
@@ -575,13 +574,12 @@ public class AppRolePermissionControllerTest extends BaseTest {
     assertNotNull(appRolePermissionResponse.getResponseCrudInfo());
     assertEquals(1, appRolePermissionResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> roleIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Integer> permissionIdCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
         .auditAppRoleUnassignPermission(
-            requestCaptor.capture(), roleIdCaptor.capture(), permissionIdCaptor.capture());
+            auditContextCaptor.capture(), roleIdCaptor.capture(), permissionIdCaptor.capture());
     assertEquals(appRoleEntity.getId(), roleIdCaptor.getValue());
     assertEquals(appPermissionEntity.getId(), permissionIdCaptor.getValue());
 
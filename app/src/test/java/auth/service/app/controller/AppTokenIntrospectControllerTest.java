@@ -0,0 +1,76 @@
+package auth.service.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.model.dto.TokenIntrospectRequest;
+import auth.service.app.model.dto.TokenIntrospectResponse;
+import helper.TestData;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AppTokenIntrospectControllerTest extends BaseTest {
+
+  private static final String INTROSPECT_URI = "/api/v1/basic_app_users/token/introspect";
+
+  @Test
+  void testIntrospectTokens() {
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, TestData.getAppUserDto());
+    TokenIntrospectRequest tokenIntrospectRequest =
+        new TokenIntrospectRequest(List.of(token, "invalid.token.string"), null);
+
+    TokenIntrospectResponse tokenIntrospectResponse =
+        webTestClient
+            .post()
+            .uri(INTROSPECT_URI)
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .bodyValue(tokenIntrospectRequest)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(TokenIntrospectResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(tokenIntrospectResponse);
+    assertEquals(2, tokenIntrospectResponse.getResults().size());
+    assertTrue(tokenIntrospectResponse.getResults().get(0).isActive());
+    assertEquals(APP_ID, tokenIntrospectResponse.getResults().get(0).getAppId());
+    assertFalse(tokenIntrospectResponse.getResults().get(1).isActive());
+  }
+
+  @Test
+  void testIntrospectTokens_FailureNoAuth() {
+    webTestClient
+        .post()
+        .uri(INTROSPECT_URI)
+        .bodyValue(new TokenIntrospectRequest(List.of("some-token"), null))
+        .exchange()
+        .expectStatus()
+        .isUnauthorized();
+  }
+
+  @Test
+  void testIntrospectTokens_FailureBadRequest() {
+    ResponseStatusInfo responseStatusInfo =
+        webTestClient
+            .post()
+            .uri(INTROSPECT_URI)
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .bodyValue(new TokenIntrospectRequest(Collections.emptyList(), null))
+            .exchange()
+            .expectStatus()
+            .isBadRequest()
+            .expectBody(ResponseStatusInfo.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(responseStatusInfo);
+    assertEquals("Tokens are required", responseStatusInfo.getErrMsg());
+  }
+}
@@ -17,6 +17,7 @@ import auth.service.app.model.dto.AppTokenRequest;
 import auth.service.app.model.dto.AppUserDto;
 import auth.service.app.model.dto.AppUserRequest;
 import auth.service.app.model.dto.AppUserResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserLoginResponse;
@@ -36,7 +37,6 @@ import auth.service.app.service.EmailService;
 import auth.service.app.util.JwtUtils;
 import auth.service.app.util.PasswordUtils;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -142,8 +142,7 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     // make sure password is not returned with DTO
     assertNull(appUserResponse.getUsers().getFirst().getPassword());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<AppUserEntity> appUserEntityCaptor =
         ArgumentCaptor.forClass(AppUserEntity.class);
@@ -151,7 +150,7 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
 
     verify(auditService, after(100).times(1))
         .auditAppUserCreate(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             appUserEntityCaptor.capture(),
             guestUserCaptor.capture());
@@ -220,6 +219,8 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
             .exchange()
             .expectStatus()
             .isOk()
+            .expectHeader()
+            .valueMatches("X-Sql-Statements", "statements=[1-5]; rows=\\d+; time-ms=.+")
             .expectBody(UserLoginResponse.class)
             .returnResult()
             .getResponseBody();
@@ -230,13 +231,39 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNotNull(userLoginResponse.getUser());
     assertEquals(userLoginRequest.getEmail(), userLoginResponse.getUser().getEmail());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
         .auditAppUserLoginSuccess(
-            requestCaptor.capture(), appIdCaptor.capture(), idCaptor.capture());
+            auditContextCaptor.capture(), appIdCaptor.capture(), idCaptor.capture());
+  }
+
+  @Test
+  void testLoginAppUser_Success_Lean() {
+    UserLoginRequest userLoginRequest =
+        new UserLoginRequest(NEW_USER_NEW_EMAIL, NEW_USER_NEW_PASSWORD);
+
+    UserLoginResponse userLoginResponse =
+        webTestClient
+            .post()
+            .uri(
+                String.format("/api/v1/basic_app_users/user/%s/login?include=", appsEntity.getId()))
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .bodyValue(userLoginRequest)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(UserLoginResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(userLoginResponse);
+    assertNotNull(userLoginResponse.getAToken());
+    assertNotNull(userLoginResponse.getUser());
+    assertEquals(userLoginRequest.getEmail(), userLoginResponse.getUser().getEmail());
+    assertNull(userLoginResponse.getUser().getRoles());
+    assertNull(userLoginResponse.getUser().getAddresses());
   }
 
   @Test
@@ -354,14 +381,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNull(userLoginResponse.getUser());
     assertTrue(userLoginResponse.getResponseStatusInfo().getErrMsg().contains("is Missing in"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserTokenRefreshFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -393,14 +419,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertTrue(
         userLoginResponse.getResponseStatusInfo().getErrMsg().contains("Invalid Auth Credentials"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserTokenRefreshFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -433,14 +458,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNull(userLoginResponse.getUser());
     assertTrue(userLoginResponse.getResponseStatusInfo().getErrMsg().contains("Token Not Found"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserTokenRefreshFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -477,14 +501,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNull(userLoginResponse.getUser());
     assertTrue(userLoginResponse.getResponseStatusInfo().getErrMsg().contains("Deleted Token"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserTokenRefreshFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -572,14 +595,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNotNull(responseStatusInfo);
     assertTrue(responseStatusInfo.getErrMsg().contains("is Missing in"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserLogoutFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -607,14 +629,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNotNull(responseStatusInfo);
     assertTrue(responseStatusInfo.getErrMsg().contains("Invalid Auth Credentials"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserLogoutFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -644,14 +665,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNotNull(responseStatusInfo);
     assertTrue(responseStatusInfo.getErrMsg().contains("Token Not Found"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserLogoutFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -685,14 +705,13 @@ public class AppUserBasicAuthControllerTest extends BaseTest {
     assertNotNull(responseStatusInfo);
     assertTrue(responseStatusInfo.getErrMsg().contains("Deleted Token"));
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<String> appIdCaptor = ArgumentCaptor.forClass(String.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
     verify(auditService, after(100).times(1))
         .auditAppUserLogoutFailure(
-            requestCaptor.capture(),
+            auditContextCaptor.capture(),
             appIdCaptor.capture(),
             userIdCaptor.capture(),
             exceptionCaptor.capture());
@@ -12,18 +12,23 @@ import static org.mockito.Mockito.verifyNoInteractions;
 
 import auth.service.BaseTest;
 import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AppUserMultiGetRequest;
 import auth.service.app.model.dto.AppUserRequest;
 import auth.service.app.model.dto.AppUserResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserUpdateEmailRequest;
 import auth.service.app.model.entity.AppUserEntity;
+import auth.service.app.model.enums.TokenEnums.TokenType;
 import auth.service.app.model.events.AppUserUpdatedEvent;
 import auth.service.app.repository.AppUserRepository;
 import auth.service.app.service.AuditService;
+import auth.service.app.util.JwtUtils;
 import auth.service.app.util.PasswordUtils;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -117,6 +122,165 @@ public class AppUserControllerTest extends BaseTest {
     webTestClient.get().uri("/api/v1/app_users").exchange().expectStatus().isUnauthorized();
   }
 
+  @Test
+  void testReadAppUsers_FailureWithRefreshToken() {
+    String refreshToken =
+        JwtUtils.encodeAuthCredentials(
+            APP_ID,
+            TestData.getAppUserDtoWithSuperUserRole(TestData.getAppUserDto()),
+            1000 * 60 * 15,
+            TokenType.REFRESH);
+    webTestClient
+        .get()
+        .uri("/api/v1/app_users")
+        .header("Authorization", "Bearer " + refreshToken)
+        .exchange()
+        .expectStatus()
+        .isUnauthorized();
+  }
+
+  @Test
+  void testReadAppUsersMultiGet_Success() {
+    AppUserResponse appUserResponse =
+        webTestClient
+            .get()
+            .uri(
+                String.format(
+                    "/api/v1/app_users/users?ids=%s,%s", APP_USER_ID, getOtherAppUserId()))
+            .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(1, appUserResponse.getUsers().size());
+    assertEquals(APP_USER_ID, appUserResponse.getUsers().getFirst().getId());
+  }
+
+  @Test
+  void testReadAppUsersMultiGet_Success_SuperUser() {
+    AppUserMultiGetRequest appUserMultiGetRequest =
+        new AppUserMultiGetRequest(
+            List.of(getOtherAppUserId()), List.of(appUserDtoNoPermission.getEmail()));
+    AppUserResponse appUserResponse =
+        webTestClient
+            .post()
+            .uri("/api/v1/app_users/users")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .bodyValue(appUserMultiGetRequest)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(2, appUserResponse.getUsers().size());
+    for (AppUserDto appUserDto : appUserResponse.getUsers()) {
+      assertNotNull(appUserDto.getRoles());
+      assertNull(appUserDto.getPassword());
+    }
+  }
+
+  @Test
+  void testReadAppUsersMultiGet_FailureWithMissingIds() {
+    webTestClient
+        .get()
+        .uri("/api/v1/app_users/users")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  @Test
+  void testReadAppUsersMultiGet_FailureWithTooManyIds() {
+    AppUserMultiGetRequest appUserMultiGetRequest =
+        new AppUserMultiGetRequest(IntStream.rangeClosed(1, 101).boxed().toList(), null);
+    webTestClient
+        .post()
+        .uri("/api/v1/app_users/users")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .bodyValue(appUserMultiGetRequest)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  @Test
+  void testSearchAppUsers_Success_SuperUser() {
+    AppUserResponse appUserResponse =
+        webTestClient
+            .get()
+            .uri("/api/v1/app_users/search?q=firstlast@ninetynine&limit=2&include=")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(2, appUserResponse.getUsers().size());
+    assertNotNull(appUserResponse.getResponsePageInfo());
+    final Integer nextCursor = appUserResponse.getResponsePageInfo().getNextCursor();
+    assertEquals(appUserResponse.getUsers().getLast().getId(), nextCursor);
+
+    appUserResponse =
+        webTestClient
+            .get()
+            .uri(
+                String.format(
+                    "/api/v1/app_users/search?q=firstlast@ninetynine&limit=2&cursor=%s",
+                    nextCursor))
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(1, appUserResponse.getUsers().size());
+    assertNull(appUserResponse.getResponsePageInfo().getNextCursor());
+  }
+
+  @Test
+  void testSearchAppUsers_Success_FilteredByAccess() {
+    AppUserResponse appUserResponse =
+        webTestClient
+            .get()
+            .uri("/api/v1/app_users/search?q=first&mode=FUZZY")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(1, appUserResponse.getUsers().size());
+    assertEquals(APP_USER_ID, appUserResponse.getUsers().getFirst().getId());
+  }
+
+  @Test
+  void testSearchAppUsers_FailureWithMissingQ() {
+    webTestClient
+        .get()
+        .uri("/api/v1/app_users/search?limit=500")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
   @Test
   void testReadAppUsersByAppId_Success() {
     AppUserResponse appUserResponse =
@@ -216,6 +380,127 @@ public class AppUserControllerTest extends BaseTest {
     assertNull(appUserResponse.getUsers().getFirst().getPassword());
   }
 
+  @Test
+  void testReadAppUser_Success_IncludeNone() {
+    final int statementsAll = readAppUserStatements("");
+    AppUserResponse appUserResponse =
+        webTestClient
+            .get()
+            .uri(String.format("/api/v1/app_users/user/%s?include=", APP_USER_ID))
+            .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(AppUserResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(appUserResponse);
+    assertEquals(1, appUserResponse.getUsers().size());
+    assertNull(appUserResponse.getUsers().getFirst().getRoles());
+    assertNull(appUserResponse.getUsers().getFirst().getAddresses());
+    assertTrue(readAppUserStatements("?include=") < statementsAll);
+  }
+
+  @Test
+  void testReadAppUser_Success_Fields() {
+    webTestClient
+        .get()
+        .uri(String.format("/api/v1/app_users/user/%s?fields=email&include=", APP_USER_ID))
+        .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.users[0].id")
+        .isEqualTo(APP_USER_ID)
+        .jsonPath("$.users[0].email")
+        .isEqualTo(appUserDtoNoPermission.getEmail())
+        .jsonPath("$.users[0].firstName")
+        .doesNotExist()
+        .jsonPath("$.users[0].status")
+        .doesNotExist();
+  }
+
+  @Test
+  void testReadAppUser_Success_FieldsWithInclude() {
+    webTestClient
+        .get()
+        .uri(String.format("/api/v1/app_users/user/%s?fields=email&include=roles", APP_USER_ID))
+        .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.users[0].email")
+        .isEqualTo(appUserDtoNoPermission.getEmail())
+        .jsonPath("$.users[0].roles")
+        .isArray()
+        .jsonPath("$.users[0].firstName")
+        .doesNotExist()
+        .jsonPath("$.users[0].addresses")
+        .doesNotExist();
+  }
+
+  // without include= the nested parts are only queried when fields= names them
+  @Test
+  void testReadAppUser_Success_FieldsWithoutInclude() {
+    webTestClient
+        .get()
+        .uri(String.format("/api/v1/app_users/user/%s?fields=email", APP_USER_ID))
+        .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.users[0].email")
+        .isEqualTo(appUserDtoNoPermission.getEmail())
+        .jsonPath("$.users[0].roles")
+        .doesNotExist()
+        .jsonPath("$.users[0].addresses")
+        .doesNotExist();
+    final int statementsCore = readAppUserStatements("?include=");
+    assertEquals(statementsCore, readAppUserStatements("?fields=email"));
+    assertTrue(statementsCore < readAppUserStatements(""));
+
+    webTestClient
+        .get()
+        .uri(String.format("/api/v1/app_users/user/%s?fields=email,roles", APP_USER_ID))
+        .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.users[0].roles")
+        .isArray()
+        .jsonPath("$.users[0].addresses")
+        .doesNotExist();
+  }
+
+  private int getOtherAppUserId() {
+    return appUserRepository.findAll().stream()
+        .map(AppUserEntity::getId)
+        .filter(id -> id != APP_USER_ID)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private int readAppUserStatements(final String query) {
+    final String sqlStatements =
+        webTestClient
+            .get()
+            .uri(String.format("/api/v1/app_users/user/%s%s", APP_USER_ID, query))
+            .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getFirst("X-Sql-Statements");
+    assertNotNull(sqlStatements);
+    return Integer.parseInt(sqlStatements.replaceAll("^statements=(\\d+);.*$", "$1"));
+  }
+
   @Test
   void testReadAppUser_FailureWithNoBearerAuth() {
     webTestClient
@@ -776,12 +1061,13 @@ public class AppUserControllerTest extends BaseTest {
     assertNotNull(appUserResponse.getResponseCrudInfo());
     assertEquals(1, appUserResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppUserDeleteSoft(requestCaptor.capture(), idCaptor.capture());
+        .auditAppUserDeleteSoft(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_USER_ID, idCaptor.getValue());
+    // read on the request thread, the audit runs after the request is done
+    assertEquals(appUserDtoWithPermission.getId(), auditContextCaptor.getValue().appUserId());
   }
 
   @Test
@@ -832,11 +1118,10 @@ public class AppUserControllerTest extends BaseTest {
     assertNotNull(appUserResponse.getResponseCrudInfo());
     assertEquals(1, appUserResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppUserDeleteHard(requestCaptor.capture(), idCaptor.capture());
+        .auditAppUserDeleteHard(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(appUserEntity.getId(), idCaptor.getValue());
   }
 
@@ -881,11 +1166,10 @@ public class AppUserControllerTest extends BaseTest {
     assertNotNull(appUserResponse.getUsers());
     assertEquals(1, appUserResponse.getUsers().size());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> idCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
-        .auditAppUserRestore(requestCaptor.capture(), idCaptor.capture());
+        .auditAppUserRestore(auditContextCaptor.capture(), idCaptor.capture());
     assertEquals(APP_USER_ID, idCaptor.getValue());
   }
 
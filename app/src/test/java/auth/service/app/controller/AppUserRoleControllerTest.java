@@ -13,6 +13,7 @@ import auth.service.BaseTest;
 import auth.service.app.model.dto.AppUserDto;
 import auth.service.app.model.dto.AppUserRoleRequest;
 import auth.service.app.model.dto.AppUserRoleResponse;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppRoleEntity;
 import auth.service.app.model.entity.AppUserEntity;
@@ -23,7 +24,6 @@ import auth.service.app.repository.AppUserRepository;
 import auth.service.app.repository.AppUserRoleRepository;
 import auth.service.app.service.AuditService;
 import helper.TestData;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -485,13 +485,12 @@ public class AppUserRoleControllerTest extends BaseTest {
     assertNotNull(appUserRoleResponse.getResponseCrudInfo());
     assertEquals(1, appUserRoleResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Integer> roleIdCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
         .auditAppUserUnassignRole(
-            requestCaptor.capture(), userIdCaptor.capture(), roleIdCaptor.capture());
+            auditContextCaptor.capture(), userIdCaptor.capture(), roleIdCaptor.capture());
     assertEquals(appUserEntity.getId(), userIdCaptor.getValue());
     assertEquals(appRoleEntity.getId(), roleIdCaptor.getValue());
 
@@ -532,13 +531,12 @@ public class AppUserRoleControllerTest extends BaseTest {
     assertNotNull(appUserRoleResponse.getResponseCrudInfo());
     assertEquals(1, appUserRoleResponse.getResponseCrudInfo().getDeletedRowsCount());
 
-    ArgumentCaptor<HttpServletRequest> requestCaptor =
-        ArgumentCaptor.forClass(HttpServletRequest.class);
+    ArgumentCaptor<AuditContext> auditContextCaptor = ArgumentCaptor.forClass(AuditContext.class);
     ArgumentCaptor<Integer> userIdCaptor = ArgumentCaptor.forClass(Integer.class);
     ArgumentCaptor<Integer> roleIdCaptor = ArgumentCaptor.forClass(Integer.class);
     verify(auditService, after(100).times(1))
         .auditAppUserUnassignRole(
-            requestCaptor.capture(), userIdCaptor.capture(), roleIdCaptor.capture());
+            auditContextCaptor.capture(), userIdCaptor.capture(), roleIdCaptor.capture());
     assertEquals(appUserEntity.getId(), userIdCaptor.getValue());
     assertEquals(appRoleEntity.getId(), roleIdCaptor.getValue());
 
@@ -1,6 +1,7 @@
 package auth.service.app.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,6 +17,7 @@ import auth.service.app.model.dto.AppsResponse;
 import auth.service.app.model.dto.ResponseStatusInfo;
 import auth.service.app.model.entity.AppsEntity;
 import auth.service.app.repository.AppsRepository;
+import auth.service.app.service.AppsService;
 import auth.service.app.service.AuditService;
 import helper.TestData;
 import org.junit.jupiter.api.AfterEach;
@@ -32,6 +34,7 @@ public class AppsControllerTest extends BaseTest {
   @MockitoBean private AuditService auditService;
 
   @Autowired private AppsRepository appsRepository;
+  @Autowired private AppsService appsService;
 
   @BeforeAll
   static void setUpBeforeAll() {
@@ -156,6 +159,57 @@ public class AppsControllerTest extends BaseTest {
     assertEquals(4, appsResponse.getApps().size());
   }
 
+  @Test
+  void testReadApps_NotModified() {
+    appUserDtoWithPermission = TestData.getAppUserDtoWithSuperUserRole(appUserDtoNoPermission);
+    String bearerAuthCredentialsWithPermission =
+        TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDtoWithPermission);
+
+    String eTag =
+        webTestClient
+            .get()
+            .uri("/api/v1/apps")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+    assertNotNull(eTag);
+
+    webTestClient
+        .get()
+        .uri("/api/v1/apps")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .header("If-None-Match", eTag)
+        .exchange()
+        .expectStatus()
+        .isNotModified()
+        .expectHeader()
+        .valueEquals("ETag", eTag)
+        .expectBody()
+        .isEmpty();
+
+    // any mutation bumps the version
+    appsService.restoreSoftDeletedApps(APP_ID);
+
+    String eTagAfterUpdate =
+        webTestClient
+            .get()
+            .uri("/api/v1/apps")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .header("If-None-Match", eTag)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+    assertNotNull(eTagAfterUpdate);
+    assertNotEquals(eTag, eTagAfterUpdate);
+  }
+
   @Test
   void testReadApps_FailureWithNoBearerAuth() {
     webTestClient.get().uri("/api/v1/apps").exchange().expectStatus().isUnauthorized();
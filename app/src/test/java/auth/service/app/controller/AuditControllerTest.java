@@ -0,0 +1,252 @@
+package auth.service.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AuditDto;
+import auth.service.app.model.dto.AuditResponse;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import auth.service.app.service.AuditService;
+import auth.service.app.util.BulkheadRegistry;
+import helper.TestData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+public class AuditControllerTest extends BaseTest {
+
+  private static final String EVENT_TYPE = "AUDIT_QUERY_TEST";
+
+  private static String bearerAuthCredentialsNoPermission;
+  private static String bearerAuthCredentialsWithPermission;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @MockitoSpyBean private AuditService auditService;
+
+  private List<Integer> seededIds;
+
+  @BeforeAll
+  static void setUpBeforeAll() {
+    AppUserDto appUserDtoNoPermission = TestData.getAppUserDto();
+    bearerAuthCredentialsNoPermission =
+        TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDtoNoPermission);
+    AppUserDto appUserDtoWithPermission =
+        TestData.getAppUserDtoWithPermission(APP_ID, "AUDIT_READ", appUserDtoNoPermission);
+    bearerAuthCredentialsWithPermission =
+        TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDtoWithPermission);
+  }
+
+  // five rows of user 1 in the last hours, two of them at the same time, and one of 40 days ago
+  @BeforeEach
+  void setUpEach() {
+    final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    List.of(
+            now.minusHours(1),
+            now.minusHours(2),
+            now.minusHours(2),
+            now.minusHours(3),
+            now.minusHours(4),
+            now.minusDays(40))
+        .forEach(
+            createdAt ->
+                jdbcTemplate.update(
+                    "INSERT INTO audit_app_user (app_user_id, event_type, event_desc, created_at, created_by, ip_address, user_agent) "
+                        + "VALUES (1, ?, 'Audit Query Test', ?, 2, '127.0.0.1', 'test')",
+                    EVENT_TYPE,
+                    Timestamp.valueOf(createdAt)));
+    seededIds =
+        jdbcTemplate.queryForList(
+            "SELECT id FROM audit_app_user WHERE event_type = ? ORDER BY created_at DESC, id DESC",
+            Integer.class,
+            EVENT_TYPE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM audit_app_user WHERE event_type = ?", EVENT_TYPE);
+  }
+
+  @Test
+  void testReadAudits_KeysetPages() {
+    List<Integer> pagedIds = new ArrayList<>();
+    String after = null;
+    do {
+      AuditResponse auditResponse =
+          readAudits("/api/v1/audits/users?eventType=" + EVENT_TYPE + "&entityId=1&limit=2", after);
+      assertNotNull(auditResponse);
+      assertTrue(auditResponse.getAudits().size() <= 2);
+      auditResponse.getAudits().forEach(auditDto -> pagedIds.add(auditDto.getId()));
+      after = auditResponse.getResponsePageInfo().getNextPageKey();
+    } while (after != null);
+
+    // the row of 40 days ago is outside the default window
+    assertEquals(seededIds.subList(0, 5), pagedIds);
+  }
+
+  @Test
+  void testReadAudits_Filters() {
+    AuditResponse auditResponse =
+        readAudits(
+            "/api/v1/audits/users?eventType="
+                + EVENT_TYPE
+                + "&from="
+                + LocalDateTime.now().minusDays(50),
+            null);
+    assertNotNull(auditResponse);
+    assertEquals(6, auditResponse.getAudits().size());
+    assertNull(auditResponse.getResponsePageInfo().getNextPageKey());
+    AuditDto auditDto = auditResponse.getAudits().getFirst();
+    assertEquals("1", auditDto.getEntityId());
+    assertEquals(2, auditDto.getCreatedBy());
+    assertEquals("127.0.0.1", auditDto.getIpAddress());
+
+    auditResponse =
+        readAudits("/api/v1/audits/users?eventType=" + EVENT_TYPE + "&appId=app-1", null);
+    assertNotNull(auditResponse);
+    assertEquals(5, auditResponse.getAudits().size());
+
+    auditResponse =
+        readAudits("/api/v1/audits/users?eventType=" + EVENT_TYPE + "&appId=app-2", null);
+    assertNotNull(auditResponse);
+    assertTrue(auditResponse.getAudits().isEmpty());
+
+    auditResponse =
+        readAudits("/api/v1/audits/users?eventType=" + EVENT_TYPE + "&createdBy=3", null);
+    assertNotNull(auditResponse);
+    assertTrue(auditResponse.getAudits().isEmpty());
+
+    auditResponse =
+        readAudits(
+            "/api/v1/audits/users?eventType="
+                + EVENT_TYPE
+                + "&to="
+                + LocalDateTime.now().minusMinutes(150),
+            null);
+    assertNotNull(auditResponse);
+    assertEquals(seededIds.subList(3, 5), getIds(auditResponse));
+  }
+
+  @Test
+  void testReadAudits_BadRequest() {
+    webTestClient
+        .get()
+        .uri("/api/v1/audits/tokens")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+    webTestClient
+        .get()
+        .uri("/api/v1/audits/users?entityId=one")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+    webTestClient
+        .get()
+        .uri("/api/v1/audits/users?after=not-a-key")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+    webTestClient
+        .get()
+        .uri("/api/v1/audits/users?limit=501")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
+  @Test
+  void testReadAudits_NoPermission() {
+    webTestClient
+        .get()
+        .uri("/api/v1/audits/users")
+        .header("Authorization", "Bearer " + bearerAuthCredentialsNoPermission)
+        .exchange()
+        .expectStatus()
+        .isForbidden();
+  }
+
+  @Test
+  void testStreamAudits() {
+    final List<RequestLane> streamLanes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              streamLanes.add(BulkheadRegistry.getCurrentLane());
+              return invocation.callRealMethod();
+            })
+        .when(auditService)
+        .streamAudits(any(), any(), any(), any());
+
+    String body =
+        webTestClient
+            .get()
+            .uri("/api/v1/audits/users/stream?eventType=" + EVENT_TYPE + "&limit=2")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(body);
+    // the pages after the first are read on the async thread, in the lane of the request
+    assertEquals(List.of(RequestLane.ADMIN), streamLanes);
+    List<String> lines = body.lines().toList();
+    assertEquals(5, lines.size());
+    assertTrue(lines.getFirst().contains("\"id\":" + seededIds.getFirst()));
+    assertTrue(lines.getLast().contains("\"id\":" + seededIds.get(4)));
+
+    AuditResponse auditResponse =
+        webTestClient
+            .get()
+            .uri("/api/v1/audits/users/stream?entityId=one")
+            .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+            .exchange()
+            .expectStatus()
+            .isBadRequest()
+            .expectBody(AuditResponse.class)
+            .returnResult()
+            .getResponseBody();
+    assertNotNull(auditResponse);
+    assertNotNull(auditResponse.getResponseStatusInfo().getErrMsg());
+  }
+
+  private AuditResponse readAudits(final String uri, final String after) {
+    return webTestClient
+        .get()
+        .uri(after == null ? uri : uri + "&after=" + after)
+        .header("Authorization", "Bearer " + bearerAuthCredentialsWithPermission)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(AuditResponse.class)
+        .returnResult()
+        .getResponseBody();
+  }
+
+  private static List<Integer> getIds(final AuditResponse auditResponse) {
+    return auditResponse.getAudits().stream().map(AuditDto::getId).toList();
+  }
+}
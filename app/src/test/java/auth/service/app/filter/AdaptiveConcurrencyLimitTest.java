@@ -0,0 +1,104 @@
+package auth.service.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.config.ConcurrencyLimitProperties.LaneLimit;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimitTest extends BaseTest {
+
+  private static final long FAST_NANOS = Duration.ofMillis(1).toNanos();
+  private static final long SLOW_NANOS = Duration.ofSeconds(5).toNanos();
+
+  private static LaneLimit getLaneLimit(final int initialLimit, final Duration latencyThreshold) {
+    LaneLimit laneLimit = new LaneLimit();
+    laneLimit.setInitialLimit(initialLimit);
+    laneLimit.setMinLimit(2);
+    laneLimit.setMaxLimit(10);
+    laneLimit.setLatencyThreshold(latencyThreshold);
+    laneLimit.setBackoffRatio(0.5);
+    return laneLimit;
+  }
+
+  @Test
+  void testTryAcquire_RejectsOverLimit() {
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        new AdaptiveConcurrencyLimit(getLaneLimit(3, Duration.ofSeconds(1)));
+
+    assertTrue(concurrencyLimit.tryAcquire());
+    assertTrue(concurrencyLimit.tryAcquire());
+    assertTrue(concurrencyLimit.tryAcquire());
+    assertFalse(concurrencyLimit.tryAcquire());
+    assertEquals(3, concurrencyLimit.getInflight());
+
+    concurrencyLimit.release(FAST_NANOS, false);
+    assertEquals(2, concurrencyLimit.getInflight());
+    assertTrue(concurrencyLimit.tryAcquire());
+  }
+
+  @Test
+  void testRelease_IncreasesWhenLimitInUse() {
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        new AdaptiveConcurrencyLimit(getLaneLimit(4, Duration.ofSeconds(1)));
+
+    IntStream.range(0, 50)
+        .forEach(
+            i -> {
+              IntStream.range(0, concurrencyLimit.getLimit())
+                  .forEach(j -> concurrencyLimit.tryAcquire());
+              IntStream.range(0, concurrencyLimit.getInflight())
+                  .forEach(j -> concurrencyLimit.release(FAST_NANOS, false));
+            });
+
+    assertEquals(10, concurrencyLimit.getLimit());
+  }
+
+  @Test
+  void testRelease_DoesNotIncreaseWhenIdle() {
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        new AdaptiveConcurrencyLimit(getLaneLimit(4, Duration.ofSeconds(1)));
+
+    IntStream.range(0, 50)
+        .forEach(
+            i -> {
+              concurrencyLimit.tryAcquire();
+              concurrencyLimit.release(FAST_NANOS, false);
+            });
+
+    assertEquals(4, concurrencyLimit.getLimit());
+  }
+
+  @Test
+  void testRelease_BacksOffWhenSlowOrDropped() {
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        new AdaptiveConcurrencyLimit(getLaneLimit(8, Duration.ZERO));
+
+    concurrencyLimit.tryAcquire();
+    concurrencyLimit.release(SLOW_NANOS, false);
+    assertEquals(4, concurrencyLimit.getLimit());
+
+    concurrencyLimit.tryAcquire();
+    concurrencyLimit.release(FAST_NANOS, true);
+    assertEquals(2, concurrencyLimit.getLimit());
+
+    concurrencyLimit.tryAcquire();
+    concurrencyLimit.release(SLOW_NANOS, true);
+    assertEquals(2, concurrencyLimit.getLimit());
+  }
+
+  @Test
+  void testRelease_BacksOffOncePerThreshold() {
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        new AdaptiveConcurrencyLimit(getLaneLimit(8, Duration.ofSeconds(1)));
+
+    IntStream.range(0, 4).forEach(i -> concurrencyLimit.tryAcquire());
+    IntStream.range(0, 4).forEach(i -> concurrencyLimit.release(SLOW_NANOS, false));
+
+    assertEquals(4, concurrencyLimit.getLimit());
+  }
+}
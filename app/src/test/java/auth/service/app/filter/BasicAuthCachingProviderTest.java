@@ -0,0 +1,100 @@
+package auth.service.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import auth.service.BaseTest;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+public class BasicAuthCachingProviderTest extends BaseTest {
+
+  private static final String USERNAME = "basic-user";
+  private static final String PASSWORD = "basic-password";
+
+  private BCryptPasswordEncoder bCryptPasswordEncoder;
+  private InMemoryUserDetailsManager userDetailsManager;
+
+  @BeforeEach
+  void setUpEach() {
+    bCryptPasswordEncoder = spy(new BCryptPasswordEncoder(4));
+    userDetailsManager =
+        new InMemoryUserDetailsManager(
+            User.builder()
+                .username(USERNAME)
+                .password(bCryptPasswordEncoder.encode(PASSWORD))
+                .build());
+  }
+
+  private Authentication authenticate(
+      final BasicAuthCachingProvider basicAuthCachingProvider, final String password) {
+    return basicAuthCachingProvider.authenticate(
+        UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password));
+  }
+
+  @Test
+  void testAuthenticate_VerifiesOnce() {
+    BasicAuthCachingProvider basicAuthCachingProvider =
+        new BasicAuthCachingProvider(userDetailsManager, bCryptPasswordEncoder);
+
+    Authentication first = authenticate(basicAuthCachingProvider, PASSWORD);
+    Authentication second = authenticate(basicAuthCachingProvider, PASSWORD);
+
+    assertTrue(first.isAuthenticated());
+    assertTrue(second.isAuthenticated());
+    assertEquals(USERNAME, second.getName());
+    verify(bCryptPasswordEncoder, times(1)).matches(any(), anyString());
+  }
+
+  @Test
+  void testAuthenticate_WrongPasswordIsNotCached() {
+    BasicAuthCachingProvider basicAuthCachingProvider =
+        new BasicAuthCachingProvider(userDetailsManager, bCryptPasswordEncoder);
+    authenticate(basicAuthCachingProvider, PASSWORD);
+
+    assertThrows(
+        BadCredentialsException.class, () -> authenticate(basicAuthCachingProvider, "wrong"));
+    assertThrows(
+        BadCredentialsException.class, () -> authenticate(basicAuthCachingProvider, "wrong"));
+    verify(bCryptPasswordEncoder, times(3)).matches(any(), anyString());
+
+    // correct credentials are still cached
+    authenticate(basicAuthCachingProvider, PASSWORD);
+    verify(bCryptPasswordEncoder, times(3)).matches(any(), anyString());
+  }
+
+  @Test
+  void testAuthenticate_CacheExpires() {
+    BasicAuthCachingProvider basicAuthCachingProvider =
+        new BasicAuthCachingProvider(userDetailsManager, bCryptPasswordEncoder, Duration.ZERO);
+
+    authenticate(basicAuthCachingProvider, PASSWORD);
+    authenticate(basicAuthCachingProvider, PASSWORD);
+
+    verify(bCryptPasswordEncoder, times(2)).matches(any(), anyString());
+  }
+
+  @Test
+  void testAuthenticate_UnknownUser() {
+    BasicAuthCachingProvider basicAuthCachingProvider =
+        new BasicAuthCachingProvider(userDetailsManager, bCryptPasswordEncoder);
+    assertThrows(
+        BadCredentialsException.class,
+        () ->
+            basicAuthCachingProvider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("unknown", PASSWORD)));
+  }
+}
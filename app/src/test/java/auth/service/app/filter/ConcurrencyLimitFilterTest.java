@@ -0,0 +1,94 @@
+package auth.service.app.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import auth.service.BaseTest;
+import auth.service.app.config.ConcurrencyLimitProperties;
+import auth.service.app.config.ConcurrencyLimitProperties.LaneLimit;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ConcurrencyLimitFilterTest extends BaseTest {
+
+  @Test
+  void testGetRequestLane() {
+    assertEquals(
+        RequestLane.AUTH,
+        ConcurrencyLimitFilter.getRequestLane("/ums/api/v1/basic_app_users/user/app-1/login"));
+    assertEquals(
+        RequestLane.TOKEN,
+        ConcurrencyLimitFilter.getRequestLane("/ums/api/v1/basic_app_users/token/introspect"));
+    assertEquals(RequestLane.TOKEN, ConcurrencyLimitFilter.getRequestLane("/ums/token/app-1"));
+    assertEquals(
+        RequestLane.TOKEN, ConcurrencyLimitFilter.getRequestLane("/ums/.well-known/jwks.json"));
+    assertEquals(
+        RequestLane.NO_AUTH,
+        ConcurrencyLimitFilter.getRequestLane("/ums/api/v1/na_app_users/user/app-1/validate"));
+    assertEquals(
+        RequestLane.ADMIN, ConcurrencyLimitFilter.getRequestLane("/ums/api/v1/app_users/user"));
+    assertEquals(RequestLane.OTHER, ConcurrencyLimitFilter.getRequestLane("/ums/actuator/health"));
+    assertEquals(RequestLane.OTHER, ConcurrencyLimitFilter.getRequestLane("/ums/tests/ping"));
+  }
+
+  @Test
+  void testDoFilter_ShedsOverLimit() throws Exception {
+    LaneLimit laneLimit = new LaneLimit();
+    laneLimit.setInitialLimit(2);
+    laneLimit.setMinLimit(2);
+    laneLimit.setRejectStatus(429);
+    ConcurrencyLimitProperties concurrencyLimitProperties = new ConcurrencyLimitProperties();
+    concurrencyLimitProperties.setRetryAfterSeconds(3);
+    concurrencyLimitProperties.getLanes().put(RequestLane.AUTH, laneLimit);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ConcurrencyLimitFilter concurrencyLimitFilter =
+        new ConcurrencyLimitFilter(concurrencyLimitProperties, meterRegistry);
+
+    // fill the lane as if two requests were in flight
+    AdaptiveConcurrencyLimit concurrencyLimit =
+        concurrencyLimitFilter.getConcurrencyLimit(RequestLane.AUTH);
+    IntStream.range(0, 2).forEach(i -> concurrencyLimit.tryAcquire());
+
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", "/ums/api/v1/basic_app_users/user/app-1/login");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+    concurrencyLimitFilter.doFilter(request, response, filterChain);
+
+    assertEquals(429, response.getStatus());
+    assertEquals("3", response.getHeader("Retry-After"));
+    assertNull(filterChain.getRequest());
+    assertEquals(
+        1.0, meterRegistry.get("ums.concurrency.rejected").tag("lane", "auth").counter().count());
+    assertEquals(
+        2.0, meterRegistry.get("ums.concurrency.inflight").tag("lane", "auth").gauge().value());
+
+    // other lanes are not affected
+    request = new MockHttpServletRequest("GET", "/ums/api/v1/app_users/user");
+    response = new MockHttpServletResponse();
+    filterChain = new MockFilterChain();
+    concurrencyLimitFilter.doFilter(request, response, filterChain);
+    assertEquals(200, response.getStatus());
+    assertEquals(request, filterChain.getRequest());
+  }
+
+  @Test
+  void testDoFilter_ReleasesAfterRequest() throws Exception {
+    ConcurrencyLimitProperties concurrencyLimitProperties = new ConcurrencyLimitProperties();
+    concurrencyLimitProperties.getLanes().put(RequestLane.ADMIN, new LaneLimit());
+    ConcurrencyLimitFilter concurrencyLimitFilter =
+        new ConcurrencyLimitFilter(concurrencyLimitProperties, new SimpleMeterRegistry());
+
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ums/api/v1/apps/app");
+    MockFilterChain filterChain = new MockFilterChain();
+    concurrencyLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    assertEquals(request, filterChain.getRequest());
+    assertEquals(0, concurrencyLimitFilter.getConcurrencyLimit(RequestLane.ADMIN).getInflight());
+  }
+}
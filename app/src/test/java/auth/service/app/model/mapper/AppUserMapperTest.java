@@ -0,0 +1,115 @@
+package auth.service.app.model.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.AppUserAddressDto;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.AppUserRequest;
+import auth.service.app.model.entity.AppUserAddressEntity;
+import auth.service.app.model.entity.AppUserEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class AppUserMapperTest extends BaseTest {
+
+  @Autowired private AppUserMapper appUserMapper;
+
+  @Test
+  void testToAppUserDto() {
+    final AppUserEntity appUserEntity = getAppUserEntity();
+    final AppUserAddressEntity appUserAddressEntity = new AppUserAddressEntity();
+    appUserAddressEntity.setId(7);
+    appUserAddressEntity.setAppUser(appUserEntity);
+    appUserAddressEntity.setCity("City");
+    appUserEntity.setAddresses(List.of(appUserAddressEntity));
+
+    final AppUserDto appUserDto = appUserMapper.toAppUserDto(appUserEntity);
+
+    assertEquals(1, appUserDto.getId());
+    assertEquals("First", appUserDto.getFirstName());
+    assertEquals("mapper@test.com", appUserDto.getEmail());
+    assertEquals("ACTIVE", appUserDto.getStatus());
+    assertEquals(appUserEntity.getCreatedDate(), appUserDto.getCreatedDate());
+    assertNull(appUserDto.getPassword());
+    assertNull(appUserDto.getAddresses());
+    assertNull(appUserDto.getRoles());
+
+    final AppUserAddressDto appUserAddressDto =
+        appUserMapper.toAppUserAddressDto(appUserAddressEntity);
+    assertEquals(7, appUserAddressDto.getId());
+    assertEquals("City", appUserAddressDto.getCity());
+  }
+
+  @Test
+  void testToAppUserEntity() {
+    final AppUserAddressDto appUserAddressDto =
+        new AppUserAddressDto(7, "HOME", "Street", "City", "ST", "US", "12345");
+    final AppUserRequest appUserRequest =
+        new AppUserRequest(
+            "First",
+            "Last",
+            "mapper@test.com",
+            null,
+            "password",
+            "ACTIVE",
+            false,
+            List.of(appUserAddressDto));
+
+    final AppUserEntity appUserEntity = appUserMapper.toAppUserEntity(appUserRequest);
+
+    assertEquals("First", appUserEntity.getFirstName());
+    assertEquals("mapper@test.com", appUserEntity.getEmail());
+    assertNull(appUserEntity.getId());
+    assertNull(appUserEntity.getPassword());
+    assertNull(appUserEntity.getAddresses());
+
+    final AppUserAddressEntity appUserAddressEntity =
+        appUserMapper.toAppUserAddressEntity(appUserAddressDto);
+    assertEquals(7, appUserAddressEntity.getId());
+    assertEquals("12345", appUserAddressEntity.getPostalCode());
+    assertNull(appUserAddressEntity.getAppUser());
+  }
+
+  @Test
+  void testUpdateAppUserEntity() {
+    final AppUserEntity appUserEntity = getAppUserEntity();
+    final AppUserRequest appUserRequest =
+        new AppUserRequest(
+            "First Updated",
+            "Last Updated",
+            "updated@test.com",
+            null,
+            "password-updated",
+            "INACTIVE",
+            false,
+            List.of());
+
+    appUserMapper.updateAppUserEntity(appUserRequest, appUserEntity);
+
+    assertEquals(1, appUserEntity.getId());
+    assertEquals("First Updated", appUserEntity.getFirstName());
+    assertEquals("INACTIVE", appUserEntity.getStatus());
+    assertNull(appUserEntity.getPhone());
+    assertEquals("mapper@test.com", appUserEntity.getEmail());
+    assertEquals("password-hash", appUserEntity.getPassword());
+    assertNull(appUserEntity.getAddresses());
+  }
+
+  private AppUserEntity getAppUserEntity() {
+    final AppUserEntity appUserEntity = new AppUserEntity();
+    appUserEntity.setId(1);
+    appUserEntity.setFirstName("First");
+    appUserEntity.setLastName("Last");
+    appUserEntity.setEmail("mapper@test.com");
+    appUserEntity.setPhone("1234567890");
+    appUserEntity.setPassword("password-hash");
+    appUserEntity.setStatus("ACTIVE");
+    appUserEntity.setIsValidated(true);
+    appUserEntity.setCreatedDate(LocalDateTime.now());
+    return appUserEntity;
+  }
+}
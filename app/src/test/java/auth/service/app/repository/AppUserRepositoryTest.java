@@ -19,7 +19,7 @@ public class AppUserRepositoryTest extends BaseTest {
   @Test
   public void testFindByEmail() {
     Optional<AppUserEntity> appUserEntityOptional =
-        appUserRepository.findByEmail("firstlast@ninetynine1.com");
+        appUserRepository.findByEmailNormalized("firstlast@ninetynine1.com");
 
     assertTrue(appUserEntityOptional.isPresent());
     assertEquals("password-ninetynine1", appUserEntityOptional.get().getPassword());
@@ -33,6 +33,12 @@ public class AppUserRepositoryTest extends BaseTest {
     assertThrows(
         DataIntegrityViolationException.class, () -> appUserRepository.save(appUserEntity));
 
+    // create (email cannot differ only by case)
+    appUserEntity.setEmail(" " + appUserEntity.getEmail().toUpperCase() + " ");
+    assertEquals("firstlast@one.com", appUserEntity.getEmailNormalized());
+    assertThrows(
+        DataIntegrityViolationException.class, () -> appUserRepository.save(appUserEntity));
+
     // partial index not supported in H2 database used for testing
     // update (phone number cannot be duplicate if entered)
     // appUserEntity.setId(1);
@@ -0,0 +1,56 @@
+package auth.service.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.enums.RequestEnums.SearchMode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class AppUserSearchRepositoryTest extends BaseTest {
+
+  @Autowired private AppUserSearchRepository appUserSearchRepository;
+
+  @Test
+  void testSearchAppUserIds_Prefix() {
+    assertEquals(
+        List.of(2, 3),
+        appUserSearchRepository.searchAppUserIds("FirstLast@T", null, SearchMode.PREFIX, null, 10));
+    assertEquals(
+        List.of(6),
+        appUserSearchRepository.searchAppUserIds("9876", null, SearchMode.PREFIX, null, 10));
+    assertTrue(
+        appUserSearchRepository
+            .searchAppUserIds("one", null, SearchMode.PREFIX, null, 10)
+            .isEmpty());
+  }
+
+  @Test
+  void testSearchAppUserIds_Fuzzy() {
+    assertEquals(
+        List.of(1),
+        appUserSearchRepository.searchAppUserIds("one", null, SearchMode.FUZZY, null, 10));
+  }
+
+  @Test
+  void testSearchAppUserIds_WildcardsAreEscaped() {
+    assertTrue(
+        appUserSearchRepository
+            .searchAppUserIds("first_", null, SearchMode.PREFIX, null, 10)
+            .isEmpty());
+    assertTrue(
+        appUserSearchRepository.searchAppUserIds("%", null, SearchMode.FUZZY, null, 10).isEmpty());
+  }
+
+  @Test
+  void testSearchAppUserIds_AppAndKeyset() {
+    assertEquals(
+        List.of(4, 5, 6),
+        appUserSearchRepository.searchAppUserIds("first", "app-99", SearchMode.PREFIX, null, 10));
+    assertEquals(
+        List.of(5),
+        appUserSearchRepository.searchAppUserIds("first", "app-99", SearchMode.PREFIX, 4, 1));
+  }
+}
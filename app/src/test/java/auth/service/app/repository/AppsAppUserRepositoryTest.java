@@ -19,7 +19,8 @@ public class AppsAppUserRepositoryTest extends BaseTest {
   @Test
   public void testFindByAppIdAndAppUserEmail() {
     Optional<AppsAppUserEntity> appsAppUserEntityOptional =
-        appsAppUserRepository.findByAppIdAndAppUserEmail("app-99", "firstlast@ninetynine1.com");
+        appsAppUserRepository.findByAppIdAndAppUserEmailNormalized(
+            "app-99", "firstlast@ninetynine1.com");
 
     assertTrue(appsAppUserEntityOptional.isPresent());
     assertEquals("app-99", appsAppUserEntityOptional.get().getApp().getId());
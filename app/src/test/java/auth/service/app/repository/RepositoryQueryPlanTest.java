@@ -0,0 +1,246 @@
+package auth.service.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import helper.CapturingStatementInspector;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs EXPLAIN on the SQL of each repository query against the seeded test database and fails when
+ * a table with more than {@link #SCAN_MAX_ROWS} rows is scanned. Reads H2 and PostgreSQL plans, the
+ * search queries are left out as their trigram indexes only exist on PostgreSQL. The test schema
+ * mirrors the indexes of V1_4, so the foreign key checks also assert those are the ones used.
+ */
+public class RepositoryQueryPlanTest extends BaseTest {
+
+  private static final int SCAN_MAX_ROWS = 100;
+  private static final int SEEDED_ROWS = 250;
+  private static final String SEEDED_APP_ID = "app-query-plan";
+  private static final String SEEDED_ROLE_NAME = "Role Query Plan";
+
+  private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan");
+  private static final Pattern POSTGRES_SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private AppUserRepository appUserRepository;
+  @Autowired private AppsAppUserRepository appsAppUserRepository;
+  @Autowired private AppUserRoleRepository appUserRoleRepository;
+  @Autowired private AppRolePermissionRepository appRolePermissionRepository;
+  @Autowired private AppPermissionRepository appPermissionRepository;
+  @Autowired private AppRoleRepository appRoleRepository;
+  @Autowired private AppTokenRepository appTokenRepository;
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.update(
+        "INSERT INTO apps (id, name, description) VALUES (?, ?, ?)",
+        SEEDED_APP_ID,
+        SEEDED_APP_ID,
+        SEEDED_APP_ID);
+    jdbcTemplate.update(
+        "INSERT INTO app_role (name, description) VALUES (?, ?)",
+        SEEDED_ROLE_NAME,
+        SEEDED_ROLE_NAME);
+    final int roleId =
+        jdbcTemplate.queryForObject(
+            "SELECT id FROM app_role WHERE name = ?", Integer.class, SEEDED_ROLE_NAME);
+
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO app_user (first_name, last_name, email, email_normalized, password, status, is_validated) "
+            + "VALUES (?, ?, ?, ?, 'password', 'ACTIVE', TRUE)",
+        IntStream.range(0, SEEDED_ROWS)
+            .mapToObj(i -> new Object[] {"Plan" + i, "Plan" + i, getEmail(i), getEmail(i)})
+            .toList());
+    jdbcTemplate.update(
+        "INSERT INTO app_user_app (app_id, app_user_id) SELECT ?, id FROM app_user WHERE first_name LIKE 'Plan%'",
+        SEEDED_APP_ID);
+    jdbcTemplate.update(
+        "INSERT INTO app_user_role (app_user_id, app_role_id) SELECT id, ? FROM app_user WHERE first_name LIKE 'Plan%'",
+        roleId);
+    jdbcTemplate.update(
+        "INSERT INTO app_token (app_user_id, access_token, refresh_token) "
+            + "SELECT id, CONCAT('plan-access-', id), CONCAT('plan-refresh-', id) FROM app_user WHERE first_name LIKE 'Plan%'");
+
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO app_permission (app_id, name, description) VALUES (?, ?, ?)",
+        IntStream.range(0, SEEDED_ROWS)
+            .mapToObj(i -> new Object[] {SEEDED_APP_ID, "PLAN_" + i, "PLAN_" + i})
+            .toList());
+    jdbcTemplate.update(
+        "INSERT INTO app_role_permission (app_role_id, app_permission_id) SELECT ?, id FROM app_permission WHERE app_id = ?",
+        roleId,
+        SEEDED_APP_ID);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    jdbcTemplate.update(
+        "DELETE FROM app_role_permission WHERE app_permission_id IN (SELECT id FROM app_permission WHERE app_id = ?)",
+        SEEDED_APP_ID);
+    jdbcTemplate.update("DELETE FROM app_permission WHERE app_id = ?", SEEDED_APP_ID);
+    final String seededUsers = "(SELECT id FROM app_user WHERE first_name LIKE 'Plan%')";
+    jdbcTemplate.update("DELETE FROM app_token WHERE app_user_id IN " + seededUsers);
+    jdbcTemplate.update("DELETE FROM app_user_role WHERE app_user_id IN " + seededUsers);
+    jdbcTemplate.update("DELETE FROM app_user_app WHERE app_user_id IN " + seededUsers);
+    jdbcTemplate.update("DELETE FROM app_user WHERE first_name LIKE 'Plan%'");
+    jdbcTemplate.update("DELETE FROM app_role WHERE name = ?", SEEDED_ROLE_NAME);
+    jdbcTemplate.update("DELETE FROM apps WHERE id = ?", SEEDED_APP_ID);
+  }
+
+  @Test
+  void testAppUserRepository() {
+    assertNoLargeTableScans(
+        () -> {
+          appUserRepository.findById(1);
+          appUserRepository.findByEmailNormalized(getEmail(1));
+          appUserRepository.findByIdInOrEmailIn(List.of(1, 2), List.of(getEmail(3)));
+        });
+  }
+
+  @Test
+  void testAppsAppUserRepository() {
+    assertNoLargeTableScans(
+        () -> {
+          appsAppUserRepository.findByAppIdAndAppUserEmailNormalized(SEEDED_APP_ID, getEmail(1));
+          appsAppUserRepository.findAllByAppIdOrderByAppUserLastNameDesc("app-1");
+          appsAppUserRepository.findAllByAppUserIdOrderByAppNameAsc(1);
+        });
+  }
+
+  @Test
+  void testAppUserRoleRepository() {
+    assertNoLargeTableScans(
+        () -> {
+          appUserRoleRepository.findByIdAppUserIdOrderByAppRoleNameAsc(1);
+          appUserRoleRepository.findByIdAppUserIdInOrderByAppRoleNameAsc(List.of(1, 4));
+        });
+  }
+
+  @Test
+  void testAppRolePermissionRepository() {
+    assertNoLargeTableScans(
+        () -> {
+          appRolePermissionRepository.findByAppRoleIdOrderByAppPermissionNameAsc(1);
+          appRolePermissionRepository.findByAppRoleIdInOrderByAppPermissionNameAsc(List.of(1, 2));
+          appRolePermissionRepository
+              .findByAppPermissionAppIdAndAppRoleIdInOrderByAppPermissionNameAsc(
+                  "app-1", List.of(1, 2));
+        });
+  }
+
+  @Test
+  void testAppPermissionAppRoleAndAppTokenRepositories() {
+    assertNoLargeTableScans(
+        () -> {
+          appPermissionRepository.findByAppIdOrderByNameAsc("app-1");
+          appRoleRepository.findByName("Role One");
+          appTokenRepository.findByAccessToken("plan-access-1");
+          appTokenRepository.findByRefreshToken("plan-refresh-1");
+        });
+  }
+
+  // deletes of a role, permission or user probe the referencing rows by these columns, with the
+  // indexes of V1_4 (test V6)
+  @Test
+  void testForeignKeyChecks() {
+    Map.of(
+            "SELECT 1 FROM app_user_role WHERE app_role_id = ?",
+            "idx_app_user_role_app_role_id",
+            "SELECT 1 FROM app_role_permission WHERE app_permission_id = ?",
+            "idx_app_role_permission_app_permission_id",
+            "SELECT 1 FROM app_token WHERE app_user_id = ?",
+            "idx_app_token_app_user_id",
+            "SELECT 1 FROM app_user_app WHERE app_user_id = ?",
+            "idx_app_user_app_app_user_id")
+        .forEach(
+            (sql, index) -> {
+              assertNoLargeTableScan(sql);
+              final String plan = explain(sql).toLowerCase(Locale.ROOT);
+              assertTrue(
+                  plan.contains(index), String.format("Not using %s%n%s%n%s", index, sql, plan));
+            });
+  }
+
+  private void assertNoLargeTableScans(final Runnable repositoryCalls) {
+    final List<String> statements;
+    CapturingStatementInspector.start();
+    try {
+      repositoryCalls.run();
+    } finally {
+      statements = CapturingStatementInspector.stop();
+    }
+    assertFalse(statements.isEmpty());
+    statements.forEach(this::assertNoLargeTableScan);
+  }
+
+  private void assertNoLargeTableScan(final String sql) {
+    final String plan = explain(sql);
+    final List<String> largeScannedTables =
+        getScannedTables(plan).stream()
+            .filter(
+                table ->
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class)
+                        > SCAN_MAX_ROWS)
+            .toList();
+    assertTrue(
+        largeScannedTables.isEmpty(),
+        String.format("Scans %s%n%s%n%s", largeScannedTables, sql, plan));
+  }
+
+  // parameters only need a type the planner accepts, the plan is what is checked
+  private String explain(final String sql) {
+    return jdbcTemplate.execute(
+        (final java.sql.Connection connection) -> {
+          try (PreparedStatement preparedStatement =
+              connection.prepareStatement("EXPLAIN " + sql)) {
+            final ParameterMetaData parameterMetaData = preparedStatement.getParameterMetaData();
+            for (int i = 1; i <= parameterMetaData.getParameterCount(); i++) {
+              switch (parameterMetaData.getParameterType(i)) {
+                case Types.INTEGER, Types.BIGINT, Types.SMALLINT, Types.NUMERIC ->
+                    preparedStatement.setInt(i, 1);
+                default -> preparedStatement.setString(i, "1");
+              }
+            }
+            final StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+              while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append(System.lineSeparator());
+              }
+            }
+            return plan.toString();
+          }
+        });
+  }
+
+  private static List<String> getScannedTables(final String plan) {
+    final List<String> tables = new ArrayList<>();
+    for (final Pattern pattern : List.of(H2_TABLE_SCAN, POSTGRES_SEQ_SCAN)) {
+      final Matcher matcher = pattern.matcher(plan);
+      while (matcher.find()) {
+        tables.add(matcher.group(1).toLowerCase(Locale.ROOT));
+      }
+    }
+    return tables;
+  }
+
+  private static String getEmail(final int index) {
+    return "plan-user-" + index + "@query-plan.local";
+  }
+}
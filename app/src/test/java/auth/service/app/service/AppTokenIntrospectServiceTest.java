@@ -0,0 +1,134 @@
+package auth.service.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.AppUserDto;
+import auth.service.app.model.dto.TokenIntrospectResult;
+import auth.service.app.model.enums.TokenEnums.TokenType;
+import auth.service.app.util.JwtUtils;
+import helper.TestData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class AppTokenIntrospectServiceTest extends BaseTest {
+
+  @Autowired private AppTokenIntrospectService appTokenIntrospectService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private static AppUserDto appUserDto;
+  private static String permissionName;
+
+  @BeforeAll
+  static void setUp() {
+    appUserDto = TestData.getAppUserDto();
+    permissionName = TestData.getAppPermissionEntities().getFirst().getName();
+  }
+
+  @Test
+  void testIntrospectToken() {
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDto);
+    TokenIntrospectResult result = appTokenIntrospectService.introspectToken(token, null);
+
+    assertTrue(result.isActive());
+    assertEquals(appUserDto.getId(), result.getUserId());
+    assertEquals(APP_ID, result.getAppId());
+    assertEquals(1, result.getPermissions().size());
+    assertTrue(result.getPermissions().contains(permissionName));
+    assertNotNull(result.getExp());
+    assertTrue(result.getExp() > System.currentTimeMillis() / 1000);
+    assertNull(result.getPermitted());
+  }
+
+  @Test
+  void testIntrospectToken_Permitted() {
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDto);
+
+    TokenIntrospectResult result =
+        appTokenIntrospectService.introspectToken(token, List.of("SOMETHING", permissionName));
+    assertTrue(result.getPermitted());
+
+    result = appTokenIntrospectService.introspectToken(token, List.of("SOMETHING"));
+    assertTrue(result.isActive());
+    assertFalse(result.getPermitted());
+  }
+
+  @Test
+  void testIntrospectToken_PermittedSuperUser() {
+    String token =
+        TestData.getBearerAuthCredentialsForTest(
+            APP_ID, TestData.getAppUserDtoWithSuperUserRole(appUserDto));
+    TokenIntrospectResult result =
+        appTokenIntrospectService.introspectToken(token, List.of("SOMETHING"));
+    assertTrue(result.getPermitted());
+  }
+
+  @Test
+  void testIntrospectToken_Inactive() {
+    TokenIntrospectResult result =
+        appTokenIntrospectService.introspectToken("invalid.token.string", List.of("SOMETHING"));
+    assertFalse(result.isActive());
+    assertNull(result.getUserId());
+    assertNull(result.getPermissions());
+    assertNull(result.getPermitted());
+
+    result = appTokenIntrospectService.introspectToken("", Collections.emptyList());
+    assertFalse(result.isActive());
+  }
+
+  @Test
+  void testIntrospectToken_RefreshToken() {
+    String token =
+        JwtUtils.encodeAuthCredentials(APP_ID, appUserDto, 1000 * 60 * 15, TokenType.REFRESH);
+    assertFalse(appTokenIntrospectService.introspectToken(token, null).isActive());
+  }
+
+  @Test
+  void testIntrospectToken_UserNotFound() {
+    AppUserDto unknownAppUserDto = TestData.getAppUserDto();
+    unknownAppUserDto.setEmail("unknown@user.com");
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, unknownAppUserDto);
+    assertFalse(appTokenIntrospectService.introspectToken(token, null).isActive());
+  }
+
+  @Test
+  void testIntrospectToken_UserNotActive() {
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDto);
+    try {
+      jdbcTemplate.update(
+          "UPDATE app_user SET status = 'INACTIVE' WHERE id = ?", appUserDto.getId());
+      assertFalse(appTokenIntrospectService.introspectToken(token, null).isActive());
+      jdbcTemplate.update(
+          "UPDATE app_user SET status = 'ACTIVE', deleted_date = CURRENT_TIMESTAMP WHERE id = ?",
+          appUserDto.getId());
+      assertFalse(appTokenIntrospectService.introspectToken(token, null).isActive());
+    } finally {
+      jdbcTemplate.update(
+          "UPDATE app_user SET status = 'ACTIVE', deleted_date = NULL WHERE id = ?",
+          appUserDto.getId());
+    }
+    assertTrue(appTokenIntrospectService.introspectToken(token, null).isActive());
+  }
+
+  @Test
+  void testIntrospectTokens_KeepsOrder() {
+    String token = TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDto);
+    List<String> tokens = new ArrayList<>();
+    IntStream.range(0, 64).forEach(i -> tokens.add(i % 2 == 0 ? token : "invalid-" + i));
+
+    List<TokenIntrospectResult> results = appTokenIntrospectService.introspectTokens(tokens, null);
+
+    assertEquals(64, results.size());
+    IntStream.range(0, 64).forEach(i -> assertEquals(i % 2 == 0, results.get(i).isActive()));
+  }
+}
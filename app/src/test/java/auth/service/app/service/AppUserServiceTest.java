@@ -18,16 +18,19 @@ import auth.service.app.exception.ElementMissingException;
 import auth.service.app.exception.ElementNotFoundException;
 import auth.service.app.model.dto.AppUserAddressDto;
 import auth.service.app.model.dto.AppUserRequest;
+import auth.service.app.model.dto.AppUserSearchRequest;
 import auth.service.app.model.dto.UserLoginRequest;
 import auth.service.app.model.dto.UserUpdateEmailRequest;
 import auth.service.app.model.entity.AppUserEntity;
 import auth.service.app.model.entity.AppUserRoleEntity;
 import auth.service.app.model.entity.AppsAppUserEntity;
 import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.model.enums.RequestEnums.SearchMode;
 import auth.service.app.model.events.AppUserCreatedEvent;
 import auth.service.app.model.events.AppUserUpdatedEvent;
 import auth.service.app.repository.AppUserRoleRepository;
 import auth.service.app.repository.AppsAppUserRepository;
+import auth.service.app.service.AppUserService.AppUserSearchResult;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -117,8 +120,8 @@ public class AppUserServiceTest extends BaseTest {
 
     // verify apps app user entity created
     Optional<AppsAppUserEntity> appsAppUserEntityOptional =
-        appsAppUserRepository.findByAppIdAndAppUserEmail(
-            appsEntity.getId(), appUserEntity.getEmail());
+        appsAppUserRepository.findByAppIdAndAppUserEmailNormalized(
+            appsEntity.getId(), appUserEntity.getEmailNormalized());
     assertTrue(appsAppUserEntityOptional.isPresent());
     assertEquals("app-99", appsAppUserEntityOptional.get().getApp().getId());
 
@@ -205,4 +208,42 @@ public class AppUserServiceTest extends BaseTest {
   void testReadAppUsers() {
     assertEquals(6, appUserService.readAppUsers().size());
   }
+
+  @Test
+  void testReadAppUser_EmailIsCaseInsensitive() {
+    assertEquals(1, appUserService.readAppUser(" FirstLast@ONE.com ").getId());
+    assertEquals(
+        List.of(1),
+        appUserService.readAppUsers(null, List.of("FIRSTLAST@one.COM")).stream()
+            .map(AppUserEntity::getId)
+            .toList());
+  }
+
+  @Test
+  void testReadAppUsers_ByIdsOrEmails() {
+    final List<AppUserEntity> appUserEntities = appUserService.readAppUsers();
+    final AppUserEntity first = appUserEntities.getFirst();
+    final AppUserEntity last = appUserEntities.getLast();
+
+    assertEquals(
+        2, appUserService.readAppUsers(List.of(first.getId()), List.of(last.getEmail())).size());
+    assertEquals(1, appUserService.readAppUsers(List.of(first.getId()), null).size());
+    assertThrows(ElementMissingException.class, () -> appUserService.readAppUsers(null, null));
+  }
+
+  @Test
+  void testSearchAppUsers() {
+    AppUserSearchRequest appUserSearchRequest =
+        new AppUserSearchRequest("firstlast@ninetynine", null, SearchMode.PREFIX, null, 2);
+
+    AppUserSearchResult appUserSearchResult = appUserService.searchAppUsers(appUserSearchRequest);
+    assertEquals(2, appUserSearchResult.appUsers().size());
+    assertEquals(
+        appUserSearchResult.appUsers().getLast().getId(), appUserSearchResult.nextCursor());
+
+    appUserSearchRequest.setCursor(appUserSearchResult.nextCursor());
+    appUserSearchResult = appUserService.searchAppUsers(appUserSearchRequest);
+    assertEquals(1, appUserSearchResult.appUsers().size());
+    assertNull(appUserSearchResult.nextCursor());
+  }
 }
@@ -0,0 +1,209 @@
+package auth.service.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import auth.service.BaseTest;
+import auth.service.app.config.AuditPartitionProperties;
+import auth.service.app.util.DatabaseProduct;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class AuditPartitionServiceTest extends BaseTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+  @Autowired private AuditPartitionService auditPartitionService;
+
+  private JdbcTemplate jdbcTemplate;
+  private AuditPartitionProperties auditPartitionProperties;
+  private TransactionTemplate transactionTemplate;
+  private DatabaseProduct databaseProduct;
+
+  @BeforeEach
+  void setUpEach() {
+    databaseProduct = mock(DatabaseProduct.class);
+    when(databaseProduct.isPostgres()).thenReturn(true);
+
+    jdbcTemplate = mock(JdbcTemplate.class);
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyString()))
+        .thenAnswer(
+            invocation -> {
+              String auditTable = invocation.getArgument(2);
+              if (auditTable.startsWith("idx_")) {
+                // every partition index already attached
+                return List.of();
+              }
+              return List.of(
+                  auditTable + "_default",
+                  auditTable + "_p2025_08",
+                  auditTable + "_p2025_09",
+                  auditTable + "_p2025_10",
+                  auditTable + "_p2026_10");
+            });
+    auditPartitionProperties = new AuditPartitionProperties();
+    transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void testManagePartitions_NotPostgres() {
+    // the test database is H2, without partitioned audit tables
+    assertDoesNotThrow(() -> auditPartitionService.managePartitions(TODAY));
+  }
+
+  @Test
+  void testManagePartitions_Disabled() {
+    auditPartitionProperties.setEnabled(false);
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void testManagePartitions_CreatesAheadAndDropsExpired() {
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+
+    verify(jdbcTemplate)
+        .execute(
+            "CREATE TABLE IF NOT EXISTS audit_app_user_p2026_10 PARTITION OF audit_app_user FOR VALUES FROM ('2026-10-01') TO ('2026-11-01')");
+    verify(jdbcTemplate)
+        .execute(
+            "CREATE TABLE IF NOT EXISTS audit_apps_p2027_01 PARTITION OF audit_apps FOR VALUES FROM ('2027-01-01') TO ('2027-02-01')");
+    verify(jdbcTemplate, never())
+        .execute(
+            "CREATE TABLE IF NOT EXISTS audit_apps_p2027_02 PARTITION OF audit_apps FOR VALUES FROM ('2027-02-01') TO ('2027-03-01')");
+
+    verify(jdbcTemplate).execute("DROP TABLE audit_app_user_p2025_08");
+    verify(jdbcTemplate).execute("DROP TABLE audit_app_user_p2025_09");
+    verify(jdbcTemplate, never()).execute("DROP TABLE audit_app_user_p2025_10");
+    verify(jdbcTemplate, never()).execute("DROP TABLE audit_app_user_default");
+    verify(jdbcTemplate, times(2 * AuditPartitionService.AUDIT_TABLES.size()))
+        .execute(startsWith("DROP TABLE"));
+  }
+
+  @Test
+  void testManagePartitions_ArchivesExpired() {
+    auditPartitionProperties.setArchiveSchema("audit_archive");
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+
+    verify(jdbcTemplate)
+        .execute("ALTER TABLE audit_app_role DETACH PARTITION audit_app_role_p2025_08");
+    verify(jdbcTemplate).execute("ALTER TABLE audit_app_role_p2025_08 SET SCHEMA audit_archive");
+    verify(jdbcTemplate, never()).execute("DROP TABLE audit_app_role_p2025_08");
+  }
+
+  @Test
+  void testManagePartitions_MovesDefaultRows() {
+    when(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM audit_apps_default WHERE created_at >= ? AND created_at < ?)",
+            Boolean.class,
+            Timestamp.valueOf("2026-11-01 00:00:00"),
+            Timestamp.valueOf("2026-12-01 00:00:00")))
+        .thenReturn(true);
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder
+        .verify(jdbcTemplate)
+        .execute("ALTER TABLE audit_apps DETACH PARTITION audit_apps_default");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "CREATE TABLE IF NOT EXISTS audit_apps_p2026_11 PARTITION OF audit_apps FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "INSERT INTO audit_apps SELECT * FROM audit_apps_default WHERE created_at >= '2026-11-01' AND created_at < '2026-12-01'");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "DELETE FROM audit_apps_default WHERE created_at >= '2026-11-01' AND created_at < '2026-12-01'");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute("ALTER TABLE audit_apps ATTACH PARTITION audit_apps_default DEFAULT");
+    // the other months and tables had nothing in their default partition
+    verify(jdbcTemplate, times(1)).execute(startsWith("ALTER TABLE audit_apps DETACH"));
+    verify(jdbcTemplate, never())
+        .execute("ALTER TABLE audit_app_user DETACH PARTITION audit_app_user_default");
+  }
+
+  @Test
+  void testManagePartitions_CreateErrorStillRemovesExpired() {
+    doThrow(new DataAccessResourceFailureException("create"))
+        .when(jdbcTemplate)
+        .execute(startsWith("CREATE TABLE IF NOT EXISTS audit_apps_"));
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+
+    verify(jdbcTemplate).execute("DROP TABLE audit_apps_p2025_08");
+    verify(jdbcTemplate).execute("DROP TABLE audit_apps_p2025_09");
+  }
+
+  @Test
+  void testManagePartitions_CreatesPartitionIndexes() {
+    when(jdbcTemplate.queryForList(
+            anyString(), eq(String.class), eq("idx_audit_app_role_app_role_id_created_at_id")))
+        .thenReturn(List.of("audit_app_role_p2026_10"));
+    new AuditPartitionService(
+            jdbcTemplate, auditPartitionProperties, transactionTemplate, databaseProduct)
+        .managePartitions(TODAY);
+
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "DROP INDEX CONCURRENTLY IF EXISTS audit_app_role_p2026_10_entity_created_at_id_idx");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "CREATE INDEX CONCURRENTLY audit_app_role_p2026_10_entity_created_at_id_idx ON audit_app_role_p2026_10 (app_role_id, created_at, id)");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "ALTER INDEX idx_audit_app_role_app_role_id_created_at_id ATTACH PARTITION audit_app_role_p2026_10_entity_created_at_id_idx");
+    // the other indexes had every partition index attached
+    verify(jdbcTemplate, times(1)).execute(startsWith("CREATE INDEX CONCURRENTLY"));
+  }
+
+  @Test
+  void testGetPartitionMonth() {
+    assertEquals(
+        YearMonth.of(2025, 8),
+        AuditPartitionService.getPartitionMonth("audit_app_user", "audit_app_user_p2025_08"));
+    assertEquals(
+        "audit_app_user_p2025_08",
+        AuditPartitionService.getPartitionName("audit_app_user", YearMonth.of(2025, 8)));
+    assertNull(AuditPartitionService.getPartitionMonth("audit_app_user", "audit_app_user_default"));
+    assertNull(AuditPartitionService.getPartitionMonth("audit_apps", "audit_app_user_p2025_08"));
+  }
+}
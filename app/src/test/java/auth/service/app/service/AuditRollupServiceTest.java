@@ -0,0 +1,173 @@
+package auth.service.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import auth.service.BaseTest;
+import auth.service.app.config.AuditPartitionProperties;
+import auth.service.app.config.AuditPolicyProperties;
+import auth.service.app.model.enums.AuditEnums.AuditPolicy;
+import auth.service.app.model.enums.AuditEnums.AuditUsers;
+import auth.service.app.util.DatabaseProduct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class AuditRollupServiceTest extends BaseTest {
+
+  private static final String APP_ID = "app-rollup-test";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private DatabaseProduct databaseProduct;
+  @Autowired private AuditPolicyProperties configuredAuditPolicyProperties;
+
+  private AuditPolicyProperties auditPolicyProperties;
+  private AuditRollupService auditRollupService;
+
+  @BeforeEach
+  void setUpEach() {
+    auditPolicyProperties = new AuditPolicyProperties();
+    auditPolicyProperties.getEvents().put(AuditUsers.TOKEN_REFRESH, AuditPolicy.AGGREGATED);
+    auditPolicyProperties.getEvents().put(AuditUsers.USER_LOGIN, AuditPolicy.SAMPLED);
+    auditPolicyProperties.getEvents().put(AuditUsers.USER_LOGIN_ERROR, AuditPolicy.AGGREGATED);
+    auditPolicyProperties.setSampleRate(1.0);
+    AuditPartitionProperties auditPartitionProperties = new AuditPartitionProperties();
+    auditPartitionProperties.setRetentionMonths(1);
+    auditRollupService =
+        new AuditRollupService(
+            jdbcTemplate,
+            transactionTemplate,
+            auditPolicyProperties,
+            auditPartitionProperties,
+            databaseProduct);
+  }
+
+  @AfterEach
+  void tearDownEach() {
+    jdbcTemplate.update("DELETE FROM audit_app_user_rollup WHERE app_id = ?", APP_ID);
+  }
+
+  @Test
+  void testGetAuditPolicy() {
+    assertEquals(
+        Map.of(
+            AuditUsers.USER_LOGIN,
+            AuditPolicy.SAMPLED,
+            AuditUsers.USER_LOGOUT,
+            AuditPolicy.AGGREGATED,
+            AuditUsers.TOKEN_REFRESH,
+            AuditPolicy.AGGREGATED),
+        configuredAuditPolicyProperties.getEvents());
+
+    assertEquals(
+        AuditPolicy.AGGREGATED, auditRollupService.getAuditPolicy(AuditUsers.TOKEN_REFRESH));
+    assertEquals(AuditPolicy.SAMPLED, auditRollupService.getAuditPolicy(AuditUsers.USER_LOGIN));
+    assertEquals(AuditPolicy.FULL, auditRollupService.getAuditPolicy(AuditUsers.USER_LOGOUT));
+    // failures are never tiered
+    assertEquals(AuditPolicy.FULL, auditRollupService.getAuditPolicy(AuditUsers.USER_LOGIN_ERROR));
+
+    auditPolicyProperties.setEnabled(false);
+    assertEquals(AuditPolicy.FULL, auditRollupService.getAuditPolicy(AuditUsers.TOKEN_REFRESH));
+  }
+
+  @Test
+  void testIsFullAudit() {
+    assertTrue(auditRollupService.isFullAudit(AuditUsers.USER_LOGOUT, APP_ID, 1));
+    assertFalse(auditRollupService.isFullAudit(AuditUsers.TOKEN_REFRESH, APP_ID, 1));
+    assertTrue(auditRollupService.isFullAudit(AuditUsers.USER_LOGIN, APP_ID, 1));
+    auditPolicyProperties.setSampleRate(0);
+    assertFalse(auditRollupService.isFullAudit(AuditUsers.USER_LOGIN, APP_ID, 1));
+
+    auditRollupService.flushAllRollups();
+    // sampled events are counted whether they get their full row or not
+    assertEquals(List.of("1:TOKEN_REFRESH=1", "1:USER_LOGIN=2"), getRollups());
+  }
+
+  @Test
+  void testFlushRollups() {
+    for (int i = 0; i < 3; i++) {
+      auditRollupService.isFullAudit(AuditUsers.TOKEN_REFRESH, APP_ID, 1);
+    }
+    auditRollupService.isFullAudit(AuditUsers.TOKEN_REFRESH, APP_ID, 2);
+
+    // minutes not yet passed are kept
+    auditRollupService.flushRollups(LocalDateTime.now().minusHours(1));
+    assertTrue(getRollups().isEmpty());
+
+    auditRollupService.flushAllRollups();
+    assertEquals(List.of("1:TOKEN_REFRESH=3", "2:TOKEN_REFRESH=1"), getRollups());
+
+    // added to the rows already flushed
+    auditRollupService.isFullAudit(AuditUsers.TOKEN_REFRESH, APP_ID, 1);
+    auditRollupService.flushAllRollups();
+    auditRollupService.flushAllRollups();
+    assertEquals(List.of("1:TOKEN_REFRESH=4", "2:TOKEN_REFRESH=1"), getRollups());
+  }
+
+  @Test
+  void testFlushRollups_Postgres() {
+    DatabaseProduct postgresDatabaseProduct = mock(DatabaseProduct.class);
+    when(postgresDatabaseProduct.isPostgres()).thenReturn(true);
+    JdbcTemplate postgresJdbcTemplate = mock(JdbcTemplate.class);
+    AuditRollupService postgresAuditRollupService =
+        new AuditRollupService(
+            postgresJdbcTemplate,
+            transactionTemplate,
+            auditPolicyProperties,
+            new AuditPartitionProperties(),
+            postgresDatabaseProduct);
+
+    postgresAuditRollupService.isFullAudit(AuditUsers.TOKEN_REFRESH, APP_ID, 1);
+    postgresAuditRollupService.flushAllRollups();
+
+    // one upsert, never the update then insert of other databases
+    verify(postgresJdbcTemplate).batchUpdate(eq(AuditRollupService.UPSERT_SQL), anyList());
+    verify(postgresJdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  void testDeleteExpiredRollups() {
+    final LocalDateTime now = LocalDateTime.now();
+    List.of(now.minusMonths(3), now)
+        .forEach(
+            bucketStart ->
+                jdbcTemplate.update(
+                    "INSERT INTO audit_app_user_rollup (bucket_start, app_id, app_user_id, event_type, event_count) "
+                        + "VALUES (?, ?, 1, 'TOKEN_REFRESH', 1)",
+                    Timestamp.valueOf(bucketStart),
+                    APP_ID));
+
+    auditRollupService.deleteExpiredRollups();
+    assertEquals(List.of("1:TOKEN_REFRESH=1"), getRollups());
+  }
+
+  // summed over the minutes, the counts of one test can cross a minute
+  private List<String> getRollups() {
+    return jdbcTemplate.query(
+        "SELECT app_user_id, event_type, SUM(event_count) AS event_count FROM audit_app_user_rollup "
+            + "WHERE app_id = ? GROUP BY app_user_id, event_type ORDER BY app_user_id, event_type",
+        (resultSet, rowNum) ->
+            resultSet.getInt("app_user_id")
+                + ":"
+                + resultSet.getString("event_type")
+                + "="
+                + resultSet.getLong("event_count"),
+        APP_ID);
+  }
+}
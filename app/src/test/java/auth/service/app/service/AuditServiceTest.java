@@ -2,12 +2,16 @@ package auth.service.app.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import auth.service.BaseTest;
+import auth.service.app.config.AuditPolicyProperties;
+import auth.service.app.model.dto.AuditContext;
 import auth.service.app.model.entity.AppPermissionEntity;
 import auth.service.app.model.entity.AppRoleEntity;
 import auth.service.app.model.entity.AppRolePermissionEntity;
@@ -60,6 +64,9 @@ public class AuditServiceTest extends BaseTest {
   @MockitoBean private AuditAppsRepository auditAppsRepository;
 
   @Autowired private AuditService auditService;
+  @Autowired private AuditPolicyProperties auditPolicyProperties;
+
+  private AuditContext auditContext;
 
   @BeforeAll
   public static void setUpBeforeAll() {
@@ -84,6 +91,7 @@ public class AuditServiceTest extends BaseTest {
         .thenReturn(
             new TestingAuthenticationToken(
                 appUserEntity.getEmail(), authToken, Collections.emptyList()));
+    auditContext = AuditContext.of(request);
   }
 
   @AfterEach
@@ -96,12 +104,21 @@ public class AuditServiceTest extends BaseTest {
     reset(auditAppsRepository);
   }
 
+  @Test
+  void testAuditContext() {
+    assertEquals(new AuditContext("localhost", "agent", authToken.getUser().getId()), auditContext);
+
+    when(request.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1");
+    when(securityContext.getAuthentication()).thenReturn(null);
+    assertEquals(new AuditContext("10.0.0.1", "agent", null), AuditContext.of(request));
+  }
+
   @Test
   void testAuditAppPermissionCreate() {
     assertDoesNotThrow(
         () ->
             auditService.auditAppPermissionCreate(
-                request, appsEntity.getId(), appPermissionEntity));
+                auditContext, appsEntity.getId(), appPermissionEntity));
 
     ArgumentCaptor<AuditAppPermissionEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppPermissionEntity.class);
@@ -114,7 +131,8 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppPermissionUpdate() {
-    assertDoesNotThrow(() -> auditService.auditAppPermissionUpdate(request, appPermissionEntity));
+    assertDoesNotThrow(
+        () -> auditService.auditAppPermissionUpdate(auditContext, appPermissionEntity));
 
     ArgumentCaptor<AuditAppPermissionEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppPermissionEntity.class);
@@ -128,7 +146,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppPermissionDeleteSoft() {
     assertDoesNotThrow(
-        () -> auditService.auditAppPermissionDeleteSoft(request, appPermissionEntity.getId()));
+        () -> auditService.auditAppPermissionDeleteSoft(auditContext, appPermissionEntity.getId()));
 
     ArgumentCaptor<AuditAppPermissionEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppPermissionEntity.class);
@@ -143,7 +161,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppPermissionDeleteHard() {
     assertDoesNotThrow(
-        () -> auditService.auditAppPermissionDeleteHard(request, appPermissionEntity.getId()));
+        () -> auditService.auditAppPermissionDeleteHard(auditContext, appPermissionEntity.getId()));
 
     ArgumentCaptor<AuditAppPermissionEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppPermissionEntity.class);
@@ -158,7 +176,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppPermissionRestore() {
     assertDoesNotThrow(
-        () -> auditService.auditAppPermissionRestore(request, appPermissionEntity.getId()));
+        () -> auditService.auditAppPermissionRestore(auditContext, appPermissionEntity.getId()));
 
     ArgumentCaptor<AuditAppPermissionEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppPermissionEntity.class);
@@ -172,7 +190,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppRoleCreate() {
-    assertDoesNotThrow(() -> auditService.auditAppRoleCreate(request, appRoleEntity));
+    assertDoesNotThrow(() -> auditService.auditAppRoleCreate(auditContext, appRoleEntity));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -185,7 +203,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppRoleUpdate() {
-    assertDoesNotThrow(() -> auditService.auditAppRoleUpdate(request, appRoleEntity));
+    assertDoesNotThrow(() -> auditService.auditAppRoleUpdate(auditContext, appRoleEntity));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -198,7 +216,8 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppRoleDeleteSoft() {
-    assertDoesNotThrow(() -> auditService.auditAppRoleDeleteSoft(request, appRoleEntity.getId()));
+    assertDoesNotThrow(
+        () -> auditService.auditAppRoleDeleteSoft(auditContext, appRoleEntity.getId()));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -211,7 +230,8 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppRoleDeleteHard() {
-    assertDoesNotThrow(() -> auditService.auditAppRoleDeleteHard(request, appRoleEntity.getId()));
+    assertDoesNotThrow(
+        () -> auditService.auditAppRoleDeleteHard(auditContext, appRoleEntity.getId()));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -224,7 +244,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppRoleRestore() {
-    assertDoesNotThrow(() -> auditService.auditAppRoleRestore(request, appRoleEntity.getId()));
+    assertDoesNotThrow(() -> auditService.auditAppRoleRestore(auditContext, appRoleEntity.getId()));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -238,7 +258,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppRoleAssignPermission() {
     assertDoesNotThrow(
-        () -> auditService.auditAppRoleAssignPermission(request, appRolePermissionEntity));
+        () -> auditService.auditAppRoleAssignPermission(auditContext, appRolePermissionEntity));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -254,7 +274,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppRoleUnassignPermission(
-                request, appRoleEntity.getId(), appPermissionEntity.getId()));
+                auditContext, appRoleEntity.getId(), appPermissionEntity.getId()));
 
     ArgumentCaptor<AuditAppRoleEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppRoleEntity.class);
@@ -267,7 +287,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppsCreate() {
-    assertDoesNotThrow(() -> auditService.auditAppsCreate(request, appsEntity));
+    assertDoesNotThrow(() -> auditService.auditAppsCreate(auditContext, appsEntity));
 
     ArgumentCaptor<AuditAppsEntity> entityCaptor = ArgumentCaptor.forClass(AuditAppsEntity.class);
     verify(auditAppsRepository, times(1)).save(entityCaptor.capture());
@@ -279,7 +299,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppsUpdate() {
-    assertDoesNotThrow(() -> auditService.auditAppsUpdate(request, appsEntity));
+    assertDoesNotThrow(() -> auditService.auditAppsUpdate(auditContext, appsEntity));
 
     ArgumentCaptor<AuditAppsEntity> entityCaptor = ArgumentCaptor.forClass(AuditAppsEntity.class);
     verify(auditAppsRepository, times(1)).save(entityCaptor.capture());
@@ -291,7 +311,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppsDeleteSoft() {
-    assertDoesNotThrow(() -> auditService.auditAppsDeleteSoft(request, appsEntity.getId()));
+    assertDoesNotThrow(() -> auditService.auditAppsDeleteSoft(auditContext, appsEntity.getId()));
 
     ArgumentCaptor<AuditAppsEntity> entityCaptor = ArgumentCaptor.forClass(AuditAppsEntity.class);
     verify(auditAppsRepository, times(1)).save(entityCaptor.capture());
@@ -303,7 +323,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppsDeleteHard() {
-    assertDoesNotThrow(() -> auditService.auditAppsDeleteHard(request, appsEntity.getId()));
+    assertDoesNotThrow(() -> auditService.auditAppsDeleteHard(auditContext, appsEntity.getId()));
 
     ArgumentCaptor<AuditAppsEntity> entityCaptor = ArgumentCaptor.forClass(AuditAppsEntity.class);
     verify(auditAppsRepository, times(1)).save(entityCaptor.capture());
@@ -315,7 +335,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppsRestore() {
-    assertDoesNotThrow(() -> auditService.auditAppsRestore(request, appsEntity.getId()));
+    assertDoesNotThrow(() -> auditService.auditAppsRestore(auditContext, appsEntity.getId()));
 
     ArgumentCaptor<AuditAppsEntity> entityCaptor = ArgumentCaptor.forClass(AuditAppsEntity.class);
     verify(auditAppsRepository, times(1)).save(entityCaptor.capture());
@@ -328,12 +348,14 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserCreate() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserCreate(request, appsEntity.getId(), appUserEntity, true));
+        () ->
+            auditService.auditAppUserCreate(auditContext, appsEntity.getId(), appUserEntity, true));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
     verify(auditAppUserRepository, times(4)).save(entityCaptor.capture());
-    verify(securityContext, times(4)).getAuthentication();
+    // once, for the audit context
+    verify(securityContext, times(1)).getAuthentication();
 
     List<AuditAppUserEntity> actualEntities = entityCaptor.getAllValues();
     assertEquals(4, actualEntities.size());
@@ -346,7 +368,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserUpdate() {
-    assertDoesNotThrow(() -> auditService.auditAppUserUpdate(request, appUserEntity));
+    assertDoesNotThrow(() -> auditService.auditAppUserUpdate(auditContext, appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -360,12 +382,14 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserUpdateEmail() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserUpdateEmail(request, appUserEntity, appsEntity.getId()));
+        () ->
+            auditService.auditAppUserUpdateEmail(auditContext, appUserEntity, appsEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
     verify(auditAppUserRepository, times(2)).save(entityCaptor.capture());
-    verify(securityContext, times(2)).getAuthentication();
+    // once, for the audit context
+    verify(securityContext, times(1)).getAuthentication();
 
     List<AuditAppUserEntity> actualEntities = entityCaptor.getAllValues();
     assertEquals(2, actualEntities.size());
@@ -377,7 +401,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserUpdatePassword() {
-    assertDoesNotThrow(() -> auditService.auditAppUserUpdatePassword(request, appUserEntity));
+    assertDoesNotThrow(() -> auditService.auditAppUserUpdatePassword(auditContext, appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -390,7 +414,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserDeleteAddress() {
-    assertDoesNotThrow(() -> auditService.auditAppUserDeleteAddress(request, appUserEntity));
+    assertDoesNotThrow(() -> auditService.auditAppUserDeleteAddress(auditContext, appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -404,7 +428,8 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserDeleteSoft() {
-    assertDoesNotThrow(() -> auditService.auditAppUserDeleteSoft(request, appUserEntity.getId()));
+    assertDoesNotThrow(
+        () -> auditService.auditAppUserDeleteSoft(auditContext, appUserEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -417,7 +442,8 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserDeleteHard() {
-    assertDoesNotThrow(() -> auditService.auditAppUserDeleteHard(request, appUserEntity.getId()));
+    assertDoesNotThrow(
+        () -> auditService.auditAppUserDeleteHard(auditContext, appUserEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -430,7 +456,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserRestore() {
-    assertDoesNotThrow(() -> auditService.auditAppUserRestore(request, appUserEntity.getId()));
+    assertDoesNotThrow(() -> auditService.auditAppUserRestore(auditContext, appUserEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -446,7 +472,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserLoginSuccess(
-                request, appsEntity.getId(), appUserEntity.getId()));
+                auditContext, appsEntity.getId(), appUserEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -462,7 +488,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserLoginFailure(
-                request,
+                auditContext,
                 appsEntity.getId(),
                 appUserEntity.getEmail(),
                 new Exception("login exception")));
@@ -481,7 +507,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserTokenRefreshSuccess(
-                request, appsEntity.getId(), appUserEntity));
+                auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -492,12 +518,26 @@ public class AuditServiceTest extends BaseTest {
     assertEquals(AuditEnums.AuditUsers.TOKEN_REFRESH.name(), actualEntity.getEventType());
   }
 
+  @Test
+  void testAuditAppUserTokenRefreshSuccess_Aggregated() {
+    auditPolicyProperties.setEnabled(true);
+    try {
+      assertDoesNotThrow(
+          () ->
+              auditService.auditAppUserTokenRefreshSuccess(
+                  auditContext, appsEntity.getId(), appUserEntity));
+      verify(auditAppUserRepository, never()).save(any());
+    } finally {
+      auditPolicyProperties.setEnabled(false);
+    }
+  }
+
   @Test
   void testAuditAppUserTokenRefreshFailure() {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserTokenRefreshFailure(
-                request,
+                auditContext,
                 appsEntity.getId(),
                 appUserEntity.getId(),
                 new Exception("token refresh exception")));
@@ -514,7 +554,9 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserLogoutSuccess() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserLogoutSuccess(request, appsEntity.getId(), appUserEntity));
+        () ->
+            auditService.auditAppUserLogoutSuccess(
+                auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -530,7 +572,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserLogoutFailure(
-                request,
+                auditContext,
                 appsEntity.getId(),
                 appUserEntity.getId(),
                 new Exception("logout exception")));
@@ -547,7 +589,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserResetInit() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserResetInit(request, appsEntity.getId(), appUserEntity));
+        () -> auditService.auditAppUserResetInit(auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -561,7 +603,7 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserResetExit() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserResetExit(request, appsEntity.getId(), appUserEntity));
+        () -> auditService.auditAppUserResetExit(auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -575,7 +617,8 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserResetSuccess() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserResetSuccess(request, appsEntity.getId(), appUserEntity));
+        () ->
+            auditService.auditAppUserResetSuccess(auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -591,7 +634,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserResetFailure(
-                request,
+                auditContext,
                 appsEntity.getId(),
                 appUserEntity.getEmail(),
                 new Exception("reset exception")));
@@ -608,7 +651,8 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserValidateInit() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserValidateInit(request, appsEntity.getId(), appUserEntity));
+        () ->
+            auditService.auditAppUserValidateInit(auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -622,7 +666,8 @@ public class AuditServiceTest extends BaseTest {
   @Test
   void testAuditAppUserValidateExit() {
     assertDoesNotThrow(
-        () -> auditService.auditAppUserValidateExit(request, appsEntity.getId(), appUserEntity));
+        () ->
+            auditService.auditAppUserValidateExit(auditContext, appsEntity.getId(), appUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -638,7 +683,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserValidateFailure(
-                request,
+                auditContext,
                 appsEntity.getId(),
                 appUserEntity.getEmail(),
                 new Exception("validate exception")));
@@ -654,7 +699,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserAssignRole() {
-    assertDoesNotThrow(() -> auditService.auditAppUserAssignRole(request, appUserRoleEntity));
+    assertDoesNotThrow(() -> auditService.auditAppUserAssignRole(auditContext, appUserRoleEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -670,7 +715,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserUnassignRole(
-                request, appUserEntity.getId(), appRoleEntity.getId()));
+                auditContext, appUserEntity.getId(), appRoleEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -683,7 +728,7 @@ public class AuditServiceTest extends BaseTest {
 
   @Test
   void testAuditAppUserAssignApp() {
-    assertDoesNotThrow(() -> auditService.auditAppUserAssignApp(request, appsAppUserEntity));
+    assertDoesNotThrow(() -> auditService.auditAppUserAssignApp(auditContext, appsAppUserEntity));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -699,7 +744,7 @@ public class AuditServiceTest extends BaseTest {
     assertDoesNotThrow(
         () ->
             auditService.auditAppUserUnassignApp(
-                request, appUserEntity.getEmail(), appsEntity.getId()));
+                auditContext, appUserEntity.getEmail(), appsEntity.getId()));
 
     ArgumentCaptor<AuditAppUserEntity> entityCaptor =
         ArgumentCaptor.forClass(AuditAppUserEntity.class);
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -74,7 +75,7 @@ public class EmailServiceTest extends BaseTest {
                 html,
                 attachmentFileName,
                 attachment));
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
   }
 
   @Test
@@ -102,7 +103,7 @@ public class EmailServiceTest extends BaseTest {
                 html,
                 attachmentFileName,
                 attachment));
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
   }
 
   @Test
@@ -116,7 +117,7 @@ public class EmailServiceTest extends BaseTest {
         new AppUserCreatedEvent(this, appUserEntity, appsEntity, BASE_URL_FOR_EMAIL);
     emailService.handleUserCreated(appUserCreatedEvent);
 
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
     verify(fileReaderUtils, times(1)).readFileContents(anyString());
   }
 
@@ -130,7 +131,7 @@ public class EmailServiceTest extends BaseTest {
     AppUserUpdatedEvent appUserUpdatedEvent =
         new AppUserUpdatedEvent(this, appUserEntity, appsEntity, BASE_URL_FOR_EMAIL);
     emailService.handleUserEmailUpdated(appUserUpdatedEvent);
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
     verify(fileReaderUtils, times(1)).readFileContents(anyString());
   }
 
@@ -142,7 +143,7 @@ public class EmailServiceTest extends BaseTest {
         .thenReturn("{app_name} : {activation_link}");
 
     emailService.sendUserValidationEmail(appsEntity, appUserEntity, BASE_URL_FOR_EMAIL);
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
     verify(fileReaderUtils, times(1))
         .readFileContents(eq("email/templates/email_validate_user.html"));
   }
@@ -154,7 +155,7 @@ public class EmailServiceTest extends BaseTest {
     when(fileReaderUtils.readFileContents(anyString())).thenReturn("{app_name} : {reset_link}");
 
     emailService.sendUserResetEmail(appsEntity, appUserEntity, BASE_URL_FOR_EMAIL);
-    verify(mailjetClient, times(1)).post(any(MailjetRequest.class));
+    verify(mailjetClient, timeout(1000).times(1)).post(any(MailjetRequest.class));
     verify(fileReaderUtils, times(1)).readFileContents(eq("email/templates/email_reset_user.html"));
   }
 }
@@ -0,0 +1,115 @@
+package auth.service.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import auth.service.BaseTest;
+import auth.service.app.util.JwtKeyRing;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JwtSigningKeyServiceTest extends BaseTest {
+
+  private static final String SECRET = "test_secret_key_for_jwt_testing_purposes_only";
+  private static final SecretKey SECRET_KEY =
+      Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDownEach() {
+    jdbcTemplate.update("DELETE FROM jwt_signing_key");
+  }
+
+  @Test
+  void testLoadSigningKeys_SharedByInstances() {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    JwtKeyRing otherKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    new JwtSigningKeyService(jdbcTemplate, jwtKeyRing, SECRET).loadSigningKeys();
+    new JwtSigningKeyService(jdbcTemplate, otherKeyRing, SECRET).loadSigningKeys();
+
+    assertEquals(2, countSigningKeys());
+    assertEquals(jwtKeyRing.getJwksJson(), otherKeyRing.getJwksJson());
+    assertEquals(APP_USER_EMAIL, parseToken(otherKeyRing, signToken(jwtKeyRing)));
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, signToken(otherKeyRing)));
+
+    // a restart keeps the keys
+    JwtKeyRing restartedKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    new JwtSigningKeyService(jdbcTemplate, restartedKeyRing, SECRET).loadSigningKeys();
+    assertEquals(jwtKeyRing.getJwksJson(), restartedKeyRing.getJwksJson());
+  }
+
+  @Test
+  void testRotateSigningKeys() {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_EDDSA);
+    JwtKeyRing otherKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_EDDSA);
+    JwtSigningKeyService jwtSigningKeyService =
+        new JwtSigningKeyService(jdbcTemplate, jwtKeyRing, SECRET);
+    JwtSigningKeyService otherSigningKeyService =
+        new JwtSigningKeyService(jdbcTemplate, otherKeyRing, SECRET);
+    jwtSigningKeyService.loadSigningKeys();
+    otherSigningKeyService.loadSigningKeys();
+    String token = signToken(jwtKeyRing);
+
+    // both instances rotate, one key is added
+    LocalDate tomorrow = LocalDate.now().plusDays(1);
+    jwtSigningKeyService.rotateSigningKeys(tomorrow);
+    otherSigningKeyService.rotateSigningKeys(tomorrow);
+    assertEquals(3, countSigningKeys());
+    jwtSigningKeyService.reloadSigningKeys();
+    assertEquals(jwtKeyRing.getJwksJson(), otherKeyRing.getJwksJson());
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, signToken(otherKeyRing)));
+    assertEquals(APP_USER_EMAIL, parseToken(otherKeyRing, token));
+
+    for (int i = 2; i <= 4; i++) {
+      jwtSigningKeyService.rotateSigningKeys(LocalDate.now().plusDays(i));
+    }
+    assertEquals(JwtKeyRing.RING_SIZE, countSigningKeys());
+  }
+
+  @Test
+  void testLoadSigningKeys_OtherSecret() {
+    new JwtSigningKeyService(
+            jdbcTemplate, new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256), SECRET)
+        .loadSigningKeys();
+    JwtSigningKeyService jwtSigningKeyService =
+        new JwtSigningKeyService(
+            jdbcTemplate,
+            new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256),
+            "some_other_secret_key");
+    assertThrows(IllegalStateException.class, jwtSigningKeyService::loadSigningKeys);
+  }
+
+  @Test
+  void testLoadSigningKeys_Hmac() {
+    new JwtSigningKeyService(jdbcTemplate, new JwtKeyRing(SECRET_KEY, null), SECRET)
+        .loadSigningKeys();
+    assertEquals(0, countSigningKeys());
+  }
+
+  private int countSigningKeys() {
+    Integer count =
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM jwt_signing_key", Integer.class);
+    return count == null ? 0 : count;
+  }
+
+  private String signToken(final JwtKeyRing jwtKeyRing) {
+    return jwtKeyRing.signWith(Jwts.builder().subject(APP_USER_EMAIL)).compact();
+  }
+
+  private String parseToken(final JwtKeyRing jwtKeyRing, final String token) {
+    return Jwts.parser()
+        .keyLocator(jwtKeyRing)
+        .build()
+        .parseSignedClaims(token)
+        .getPayload()
+        .getSubject();
+  }
+}
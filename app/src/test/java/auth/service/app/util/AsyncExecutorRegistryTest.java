@@ -0,0 +1,178 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.config.AsyncExecutorProperties;
+import auth.service.app.model.enums.AsyncEnums.ExecutorName;
+import auth.service.app.model.enums.AsyncEnums.RejectionPolicy;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class AsyncExecutorRegistryTest extends BaseTest {
+
+  private AsyncExecutorRegistry asyncExecutorRegistry;
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+    SecurityContextHolder.clearContext();
+    if (asyncExecutorRegistry != null) {
+      asyncExecutorRegistry.shutdown();
+    }
+  }
+
+  private AsyncExecutorRegistry getAsyncExecutorRegistry(
+      final SimpleMeterRegistry meterRegistry,
+      final RejectionPolicy rejectionPolicy,
+      final boolean virtualThreads) {
+    AsyncExecutorProperties.ExecutorPool executorPool = new AsyncExecutorProperties.ExecutorPool();
+    executorPool.setPoolSize(1);
+    executorPool.setQueueCapacity(1);
+    executorPool.setRejectionPolicy(rejectionPolicy);
+    AsyncExecutorProperties asyncExecutorProperties = new AsyncExecutorProperties();
+    asyncExecutorProperties.getPools().put(ExecutorName.AUDIT, executorPool);
+    asyncExecutorRegistry =
+        new AsyncExecutorRegistry(asyncExecutorProperties, meterRegistry, virtualThreads);
+    return asyncExecutorRegistry;
+  }
+
+  @Test
+  public void testRunAsync_PropagatesContext() throws Exception {
+    AsyncExecutorRegistry registry =
+        getAsyncExecutorRegistry(new SimpleMeterRegistry(), RejectionPolicy.CALLER_RUNS, false);
+    Authentication authentication =
+        UsernamePasswordAuthenticationToken.authenticated(APP_USER_EMAIL, null, null);
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+    MDC.put("traceId", "trace-id-1");
+
+    AtomicReference<String> threadName = new AtomicReference<>();
+    AtomicReference<String> traceId = new AtomicReference<>();
+    AtomicReference<Authentication> asyncAuthentication = new AtomicReference<>();
+    registry
+        .runAsync(
+            ExecutorName.AUDIT,
+            () -> {
+              threadName.set(Thread.currentThread().getName());
+              traceId.set(MDC.get("traceId"));
+              asyncAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+            })
+        .get(5, TimeUnit.SECONDS);
+
+    assertTrue(threadName.get().startsWith("ums-audit-"));
+    assertEquals("trace-id-1", traceId.get());
+    assertEquals(authentication, asyncAuthentication.get());
+  }
+
+  @Test
+  public void testRunAsync_DoesNotLeakContext() throws Exception {
+    AsyncExecutorRegistry registry =
+        getAsyncExecutorRegistry(new SimpleMeterRegistry(), RejectionPolicy.CALLER_RUNS, true);
+    MDC.put("traceId", "trace-id-1");
+    registry.runAsync(ExecutorName.AUDIT, () -> {}).get(5, TimeUnit.SECONDS);
+    MDC.clear();
+
+    AtomicReference<String> traceId = new AtomicReference<>("not-cleared");
+    AtomicReference<Boolean> virtual = new AtomicReference<>();
+    registry
+        .runAsync(
+            ExecutorName.AUDIT,
+            () -> {
+              traceId.set(MDC.get("traceId"));
+              virtual.set(Thread.currentThread().isVirtual());
+            })
+        .get(5, TimeUnit.SECONDS);
+    assertNull(traceId.get());
+    assertTrue(virtual.get());
+  }
+
+  @Test
+  public void testRunAsync_Metrics() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AsyncExecutorRegistry registry =
+        getAsyncExecutorRegistry(meterRegistry, RejectionPolicy.CALLER_RUNS, false);
+    registry.runAsync(ExecutorName.AUDIT, () -> {}).get(5, TimeUnit.SECONDS);
+
+    for (String name : new String[] {"audit", "email", "cache-refresh"}) {
+      assertNotNull(meterRegistry.find("ums.executor.queued").tag("name", name).gauge());
+      assertNotNull(meterRegistry.find("ums.executor.active").tag("name", name).gauge());
+      assertNotNull(meterRegistry.find("ums.executor").tag("name", name).timer());
+      assertNotNull(meterRegistry.find("ums.executor.rejected").tag("name", name).counter());
+    }
+    // timer is recorded after the future completes
+    Timer timer = meterRegistry.find("ums.executor").tag("name", "audit").timer();
+    for (int i = 0; i < 50 && timer.count() == 0; i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(1, timer.count());
+  }
+
+  @Test
+  public void testRunAsync_Discard() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AsyncExecutorRegistry registry =
+        getAsyncExecutorRegistry(meterRegistry, RejectionPolicy.DISCARD, false);
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    registry.runAsync(
+        ExecutorName.AUDIT,
+        () -> {
+          running.countDown();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    assertTrue(running.await(5, TimeUnit.SECONDS));
+    CompletableFuture<Void> queued = registry.runAsync(ExecutorName.AUDIT, () -> {});
+    CompletableFuture<Void> discarded = registry.runAsync(ExecutorName.AUDIT, () -> {});
+    release.countDown();
+
+    queued.get(5, TimeUnit.SECONDS);
+    assertFalse(discarded.isDone());
+    assertEquals(
+        1, meterRegistry.find("ums.executor.rejected").tag("name", "audit").counter().count());
+  }
+
+  @Test
+  public void testRunAsync_Abort() throws Exception {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    AsyncExecutorRegistry registry =
+        getAsyncExecutorRegistry(meterRegistry, RejectionPolicy.ABORT, false);
+    CountDownLatch release = new CountDownLatch(1);
+
+    registry.runAsync(
+        ExecutorName.AUDIT,
+        () -> {
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    registry.runAsync(ExecutorName.AUDIT, () -> {});
+    CompletableFuture<Void> rejected = registry.runAsync(ExecutorName.AUDIT, () -> {});
+    release.countDown();
+
+    assertTrue(rejected.isCompletedExceptionally());
+    assertThrows(ExecutionException.class, rejected::get);
+  }
+}
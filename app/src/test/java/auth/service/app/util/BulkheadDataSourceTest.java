@@ -0,0 +1,89 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import auth.service.BaseTest;
+import auth.service.app.config.BulkheadProperties;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkheadDataSourceTest extends BaseTest {
+
+  private DataSource dataSource;
+  private Connection connection;
+  private BulkheadRegistry bulkheadRegistry;
+  private BulkheadDataSource bulkheadDataSource;
+
+  @BeforeEach
+  void setUpEach() throws Exception {
+    BulkheadProperties.LaneBulkhead laneProperties = new BulkheadProperties.LaneBulkhead();
+    laneProperties.setMaxDbConnections(1);
+    laneProperties.setDbMaxWait(Duration.ZERO);
+    BulkheadProperties bulkheadProperties = new BulkheadProperties();
+    bulkheadProperties.getLanes().put(RequestLane.ADMIN, laneProperties);
+    bulkheadRegistry = new BulkheadRegistry(bulkheadProperties, new SimpleMeterRegistry());
+
+    dataSource = mock(DataSource.class);
+    connection = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    bulkheadDataSource = new BulkheadDataSource(dataSource, () -> bulkheadRegistry);
+  }
+
+  @AfterEach
+  void tearDownEach() {
+    BulkheadRegistry.clearCurrentLane();
+  }
+
+  @Test
+  void testGetConnection_EnforcesLaneBudget() throws Exception {
+    BulkheadRegistry.setCurrentLane(RequestLane.ADMIN);
+
+    Connection first = bulkheadDataSource.getConnection();
+    assertEquals(1, bulkheadRegistry.getLaneBulkhead(RequestLane.ADMIN).getDbActive());
+    assertThrows(SQLTransientConnectionException.class, bulkheadDataSource::getConnection);
+
+    first.close();
+    // closing again must not release the budget twice
+    first.close();
+    verify(connection, times(2)).close();
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.ADMIN).getDbActive());
+
+    Connection second = bulkheadDataSource.getConnection();
+    second.isValid(1);
+    verify(connection).isValid(1);
+    second.close();
+  }
+
+  @Test
+  void testGetConnection_NoLane() throws Exception {
+    bulkheadDataSource.getConnection();
+    bulkheadDataSource.getConnection();
+    verify(dataSource, times(2)).getConnection();
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.ADMIN).getDbActive());
+
+    BulkheadRegistry.setCurrentLane(RequestLane.TOKEN);
+    bulkheadDataSource.getConnection();
+    verify(dataSource, times(3)).getConnection();
+  }
+
+  @Test
+  void testGetConnection_ReleasesWhenPoolFails() throws Exception {
+    BulkheadRegistry.setCurrentLane(RequestLane.ADMIN);
+    when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+
+    assertThrows(SQLTransientConnectionException.class, bulkheadDataSource::getConnection);
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.ADMIN).getDbActive());
+  }
+}
@@ -0,0 +1,128 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.config.BulkheadProperties;
+import auth.service.app.controller.AppJwksController;
+import auth.service.app.controller.AppTestController;
+import auth.service.app.model.enums.RequestEnums.RequestLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+public class BulkheadInterceptorTest extends BaseTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private BulkheadRegistry bulkheadRegistry;
+  private BulkheadInterceptor bulkheadInterceptor;
+  private HandlerMethod tokenHandlerMethod;
+
+  @BeforeEach
+  void setUpEach() throws Exception {
+    BulkheadProperties.LaneBulkhead laneProperties = new BulkheadProperties.LaneBulkhead();
+    laneProperties.setMaxConcurrent(1);
+    BulkheadProperties bulkheadProperties = new BulkheadProperties();
+    bulkheadProperties.setRetryAfterSeconds(2);
+    bulkheadProperties.getLanes().put(RequestLane.TOKEN, laneProperties);
+
+    meterRegistry = new SimpleMeterRegistry();
+    bulkheadRegistry = new BulkheadRegistry(bulkheadProperties, meterRegistry);
+    bulkheadInterceptor = new BulkheadInterceptor(bulkheadRegistry);
+    tokenHandlerMethod =
+        new HandlerMethod(new AppJwksController(), AppJwksController.class.getMethod("getJwks"));
+  }
+
+  @AfterEach
+  void tearDownEach() {
+    BulkheadRegistry.clearCurrentLane();
+  }
+
+  @Test
+  void testPreHandle_RejectsWhenLaneFull() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    assertTrue(bulkheadInterceptor.preHandle(request, response, tokenHandlerMethod));
+    assertEquals(RequestLane.TOKEN, BulkheadRegistry.getCurrentLane());
+    assertEquals(1, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+
+    MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+    assertFalse(
+        bulkheadInterceptor.preHandle(
+            new MockHttpServletRequest(), rejectedResponse, tokenHandlerMethod));
+    assertEquals(503, rejectedResponse.getStatus());
+    assertEquals("2", rejectedResponse.getHeader("Retry-After"));
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("ums.bulkhead.rejected")
+            .tag("lane", "token")
+            .tag("resource", "execution")
+            .counter()
+            .count());
+
+    bulkheadInterceptor.afterCompletion(request, response, tokenHandlerMethod, null);
+    assertNull(BulkheadRegistry.getCurrentLane());
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+    assertTrue(
+        bulkheadInterceptor.preHandle(
+            new MockHttpServletRequest(), new MockHttpServletResponse(), tokenHandlerMethod));
+  }
+
+  @Test
+  void testPreHandle_AsyncDispatch() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    assertTrue(bulkheadInterceptor.preHandle(request, response, tokenHandlerMethod));
+    bulkheadInterceptor.afterConcurrentHandlingStarted(request, response, tokenHandlerMethod);
+    assertNull(BulkheadRegistry.getCurrentLane());
+    assertEquals(1, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+
+    // the async dispatch keeps the permit of the request dispatch
+    assertTrue(bulkheadInterceptor.preHandle(request, response, tokenHandlerMethod));
+    assertEquals(RequestLane.TOKEN, BulkheadRegistry.getCurrentLane());
+    assertEquals(1, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+    bulkheadInterceptor.afterCompletion(request, response, tokenHandlerMethod, null);
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+  }
+
+  @Test
+  void testPreHandle_NoBulkhead() throws Exception {
+    HandlerMethod handlerMethod =
+        new HandlerMethod(
+            new AppTestController(null), AppTestController.class.getMethod("pingTest"));
+    MockHttpServletRequest request = new MockHttpServletRequest();
+
+    assertTrue(
+        bulkheadInterceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod));
+    assertNull(BulkheadRegistry.getCurrentLane());
+    bulkheadInterceptor.afterCompletion(
+        request, new MockHttpServletResponse(), handlerMethod, null);
+    assertEquals(0, bulkheadRegistry.getLaneBulkhead(RequestLane.TOKEN).getActive());
+  }
+
+  @Test
+  void testBulkheadsEndpoint() {
+    webTestClient
+        .get()
+        .uri("/actuator/bulkheads")
+        .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.auth.maxConcurrent")
+        .isEqualTo(80)
+        .jsonPath("$.token.maxDbConnections")
+        .isEqualTo(2)
+        .jsonPath("$.admin.active")
+        .isEqualTo(0);
+  }
+}
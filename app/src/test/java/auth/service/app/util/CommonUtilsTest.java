@@ -18,7 +18,9 @@ import auth.service.app.exception.UserNotActiveException;
 import auth.service.app.exception.UserNotAuthorizedException;
 import auth.service.app.exception.UserNotValidatedException;
 import auth.service.app.model.dto.ResponseStatusInfo;
+import auth.service.app.model.enums.RequestEnums.AppUserInclude;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.EnumSet;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -95,6 +97,27 @@ public class CommonUtilsTest extends BaseTest {
     assertNull(responseStatusInfo);
   }
 
+  @Test
+  void testGetAppUserIncludes() {
+    assertEquals(EnumSet.allOf(AppUserInclude.class), CommonUtils.getAppUserIncludes(null));
+    assertEquals(EnumSet.noneOf(AppUserInclude.class), CommonUtils.getAppUserIncludes(""));
+    assertEquals(
+        EnumSet.of(AppUserInclude.ADDRESSES), CommonUtils.getAppUserIncludes("Addresses,unknown"));
+    assertEquals(
+        EnumSet.of(AppUserInclude.ROLES, AppUserInclude.PERMISSIONS),
+        CommonUtils.getAppUserIncludes(" permissions "));
+
+    // fields only narrows what is included when include is not given
+    assertEquals(
+        EnumSet.noneOf(AppUserInclude.class), CommonUtils.getAppUserIncludes(null, "email"));
+    assertEquals(
+        EnumSet.of(AppUserInclude.ADDRESSES),
+        CommonUtils.getAppUserIncludes(null, "email,addresses"));
+    assertEquals(
+        EnumSet.of(AppUserInclude.ROLES), CommonUtils.getAppUserIncludes("roles", "email"));
+    assertEquals(EnumSet.allOf(AppUserInclude.class), CommonUtils.getAppUserIncludes(null, null));
+  }
+
   @Test
   void testConvertResponseStatusInfoToJson() {
     ResponseStatusInfo responseStatusInfo =
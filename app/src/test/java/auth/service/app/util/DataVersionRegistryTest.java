@@ -0,0 +1,74 @@
+package auth.service.app.util;
+
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.APPS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.PERMISSIONS;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLES;
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.service.AppsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class DataVersionRegistryTest extends BaseTest {
+
+  @Autowired private DataVersionRegistry dataVersionRegistry;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private AppsService appsService;
+
+  @Test
+  void testGetETag() {
+    final String eTag = dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS);
+    assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+    assertEquals(eTag, dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS));
+
+    dataVersionRegistry.bump(APPS);
+    assertEquals(eTag, dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS));
+
+    dataVersionRegistry.bump(PERMISSIONS);
+    assertNotEquals(eTag, dataVersionRegistry.getETag(ROLES, PERMISSIONS, ROLE_PERMISSIONS));
+  }
+
+  @Test
+  void testBump_WithTransaction() {
+    final long version = dataVersionRegistry.getVersion(ROLES);
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              dataVersionRegistry.bump(ROLES);
+              status.setRollbackOnly();
+            });
+    assertEquals(version, dataVersionRegistry.getVersion(ROLES));
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> dataVersionRegistry.bump(ROLES));
+    assertEquals(version + 1, dataVersionRegistry.getVersion(ROLES));
+  }
+
+  @Test
+  void testGetETag_BumpedByOtherInstance() {
+    final String eTag = dataVersionRegistry.getETag(APPS);
+    appsService.readApps();
+    assertNotNull(cacheManager.getCache("apps").get(SimpleKey.EMPTY));
+
+    jdbcTemplate.update(
+        "UPDATE data_version SET version = version + 1 WHERE data_collection = 'APPS'");
+
+    // the new version is seen here too, and the apps cached before it are dropped
+    assertNotEquals(eTag, dataVersionRegistry.getETag(APPS));
+    assertNull(cacheManager.getCache("apps").get(SimpleKey.EMPTY));
+  }
+}
@@ -0,0 +1,46 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import auth.service.BaseTest;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class DatabaseProductTest extends BaseTest {
+
+  @Autowired private DatabaseProduct databaseProduct;
+
+  @Test
+  void testIsPostgres_NotPostgres() {
+    // the test database is H2
+    assertFalse(databaseProduct.isPostgres());
+  }
+
+  @Test
+  void testIsPostgres_RetriedAfterFailure() throws Exception {
+    DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+    when(databaseMetaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    Connection connection = mock(Connection.class);
+    when(connection.getMetaData()).thenReturn(databaseMetaData);
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection())
+        .thenThrow(new SQLException("Connection refused"))
+        .thenReturn(connection);
+    DatabaseProduct postgresDatabaseProduct = new DatabaseProduct(dataSource);
+
+    assertFalse(postgresDatabaseProduct.isPostgres());
+    assertTrue(postgresDatabaseProduct.isPostgres());
+    // read once it succeeded
+    assertTrue(postgresDatabaseProduct.isPostgres());
+    verify(dataSource, times(2)).getConnection();
+  }
+}
@@ -0,0 +1,108 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import auth.service.BaseTest;
+import auth.service.app.config.AccessLogProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class InterceptorLoggingUtilsIncomingTest extends BaseTest {
+
+  private static final long FAST_NANOS = Duration.ofMillis(5).toNanos();
+
+  @AfterEach
+  void tearDownEach() {
+    MDC.clear();
+  }
+
+  @Test
+  void testGetLogReason() {
+    final AccessLogProperties accessLogProperties = new AccessLogProperties();
+    accessLogProperties.setSampleRate(0.0);
+    accessLogProperties.setSlowThreshold(Duration.ofMillis(100));
+    final InterceptorLoggingUtilsIncoming interceptor =
+        new InterceptorLoggingUtilsIncoming(accessLogProperties);
+
+    assertNull(interceptor.getLogReason(200, FAST_NANOS, null));
+    assertEquals("error", interceptor.getLogReason(500, FAST_NANOS, null));
+    assertEquals("error", interceptor.getLogReason(404, FAST_NANOS, null));
+    assertEquals("error", interceptor.getLogReason(200, FAST_NANOS, new RuntimeException()));
+    assertEquals("slow", interceptor.getLogReason(200, Duration.ofSeconds(1).toNanos(), null));
+
+    accessLogProperties.setSampleRate(1.0);
+    assertEquals("sampled", interceptor.getLogReason(200, FAST_NANOS, null));
+  }
+
+  @Test
+  void testBuildAccessLog() {
+    final InterceptorLoggingUtilsIncoming interceptor =
+        new InterceptorLoggingUtilsIncoming(new AccessLogProperties());
+    final MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/ums/api/v1/app_users/user/\"1\"");
+    request.setAttribute(
+        HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/app_users/user/{id}");
+    request.setRemoteAddr("10.0.0.1");
+    MDC.put(InterceptorLoggingUtilsIncoming.TRACE_ID_MDC_KEY, "trace-1");
+
+    final String accessLog =
+        interceptor.buildAccessLog(request, 200, Duration.ofMillis(12).toNanos(), "sampled");
+    assertEquals(
+        accessLog.substring(accessLog.indexOf(",\"traceId\"")),
+        ",\"traceId\":\"trace-1\",\"method\":\"GET\",\"uri\":\"/ums/api/v1/app_users/user/\\\"1\\\"\""
+            + ",\"endpoint\":\"/api/v1/app_users/user/{id}\",\"status\":200,\"durationMs\":12"
+            + ",\"ip\":\"10.0.0.1\",\"reason\":\"sampled\"}");
+
+    // the buffer is reused, nothing from the previous line is left
+    final String secondAccessLog =
+        interceptor.buildAccessLog(
+            new MockHttpServletRequest("POST", "/ums/x"), 500, FAST_NANOS, "error");
+    assertEquals(
+        secondAccessLog.substring(secondAccessLog.indexOf(",\"traceId\"")),
+        ",\"traceId\":\"trace-1\",\"method\":\"POST\",\"uri\":\"/ums/x\",\"status\":500"
+            + ",\"durationMs\":5,\"ip\":\"127.0.0.1\",\"reason\":\"error\"}");
+  }
+
+  @Test
+  void testDoFilter() throws Exception {
+    final InterceptorLoggingUtilsIncoming filter =
+        new InterceptorLoggingUtilsIncoming(new AccessLogProperties());
+    final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ums/x");
+    request.addHeader(InterceptorLoggingUtilsIncoming.TRACE_ID_HEADER, "trace-2");
+    final MockHttpServletResponse response = new MockHttpServletResponse();
+    final AtomicReference<String> traceId = new AtomicReference<>();
+
+    // rejected by a later filter, never reaches a handler
+    filter.doFilter(
+        request,
+        response,
+        (filterRequest, filterResponse) -> {
+          traceId.set(MDC.get(InterceptorLoggingUtilsIncoming.TRACE_ID_MDC_KEY));
+          ((HttpServletResponse) filterResponse).setStatus(429);
+        });
+
+    assertEquals("trace-2", traceId.get());
+    assertEquals("trace-2", response.getHeader(InterceptorLoggingUtilsIncoming.TRACE_ID_HEADER));
+    assertNull(MDC.get(InterceptorLoggingUtilsIncoming.TRACE_ID_MDC_KEY));
+  }
+
+  @Test
+  void testTraceId_RejectedBySecurity() {
+    webTestClient
+        .get()
+        .uri("/api/v1/app_users/user")
+        .exchange()
+        .expectStatus()
+        .isUnauthorized()
+        .expectHeader()
+        .exists(InterceptorLoggingUtilsIncoming.TRACE_ID_HEADER);
+  }
+}
@@ -0,0 +1,155 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.util.JwtKeyRing.EncodedSigningKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Test;
+
+public class JwtKeyRingTest extends BaseTest {
+
+  private static final SecretKey SECRET_KEY =
+      Keys.hmacShaKeyFor(
+          "test_secret_key_for_jwt_testing_purposes_only".getBytes(StandardCharsets.UTF_8));
+
+  private String signToken(final JwtKeyRing jwtKeyRing) {
+    return jwtKeyRing.signWith(Jwts.builder().subject(APP_USER_EMAIL)).compact();
+  }
+
+  private String parseToken(final JwtKeyRing jwtKeyRing, final String token) {
+    final JwtParser jwtParser = Jwts.parser().keyLocator(jwtKeyRing).build();
+    return jwtParser.parseSignedClaims(token).getPayload().getSubject();
+  }
+
+  @Test
+  public void testHmacKeyRing() throws Exception {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, null);
+    assertFalse(jwtKeyRing.isAsymmetric());
+    assertEquals(JwtKeyRing.ALGORITHM_HMAC, jwtKeyRing.getAlgorithm());
+
+    String token = signToken(jwtKeyRing);
+    assertNull(Jwts.parser().keyLocator(jwtKeyRing).build().parse(token).getHeader().get("kid"));
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, token));
+
+    JsonNode jwks = new ObjectMapper().readTree(jwtKeyRing.getJwksJson());
+    assertTrue(jwks.get("keys").isEmpty());
+  }
+
+  @Test
+  public void testEs256KeyRing() throws Exception {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "es256");
+    assertTrue(jwtKeyRing.isAsymmetric());
+    assertEquals(JwtKeyRing.ALGORITHM_ES256, jwtKeyRing.getAlgorithm());
+
+    String token = signToken(jwtKeyRing);
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, token));
+
+    JsonNode jwks = new ObjectMapper().readTree(jwtKeyRing.getJwksJson());
+    assertEquals(2, jwks.get("keys").size());
+    jwks.get("keys")
+        .forEach(
+            jwk -> {
+              assertEquals("EC", jwk.get("kty").asText());
+              assertEquals("ES256", jwk.get("alg").asText());
+              assertEquals("sig", jwk.get("use").asText());
+              assertNotNull(jwk.get("kid"));
+              assertNull(jwk.get("d"));
+            });
+  }
+
+  @Test
+  public void testEdDsaKeyRing() throws Exception {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "Ed25519");
+    assertEquals(JwtKeyRing.ALGORITHM_EDDSA, jwtKeyRing.getAlgorithm());
+
+    String token = signToken(jwtKeyRing);
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, token));
+
+    JsonNode jwks = new ObjectMapper().readTree(jwtKeyRing.getJwksJson());
+    assertEquals("OKP", jwks.get("keys").get(0).get("kty").asText());
+    assertEquals("Ed25519", jwks.get("keys").get(0).get("crv").asText());
+    assertNull(jwks.get("keys").get(0).get("d"));
+  }
+
+  @Test
+  public void testAsymmetricKeyRing_AcceptsHmacToken() {
+    JwtKeyRing hmacKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_HMAC);
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    String token = signToken(hmacKeyRing);
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, token));
+  }
+
+  @Test
+  public void testAsymmetricKeyRing_RejectsUnknownKey() {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    JwtKeyRing otherKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    String token = signToken(otherKeyRing);
+    assertThrows(JwtException.class, () -> parseToken(jwtKeyRing, token));
+  }
+
+  // rotated as JwtSigningKeyService does, a new key first and the ring set from the newest
+  @Test
+  public void testSetSigningKeys_Rotation() throws Exception {
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_EDDSA);
+    List<EncodedSigningKey> encodedSigningKeys = new ArrayList<>();
+    encodedSigningKeys.add(jwtKeyRing.newEncodedSigningKey());
+    encodedSigningKeys.addFirst(jwtKeyRing.newEncodedSigningKey());
+    jwtKeyRing.setSigningKeys(encodedSigningKeys);
+    String nextKid = encodedSigningKeys.getFirst().kid();
+    String token = signToken(jwtKeyRing);
+
+    rotate(jwtKeyRing, encodedSigningKeys);
+    // previously published next key is now the active signing key
+    String rotatedToken = signToken(jwtKeyRing);
+    assertEquals(
+        nextKid,
+        Jwts.parser().keyLocator(jwtKeyRing).build().parse(rotatedToken).getHeader().get("kid"));
+    assertEquals(3, new ObjectMapper().readTree(jwtKeyRing.getJwksJson()).get("keys").size());
+
+    rotate(jwtKeyRing, encodedSigningKeys);
+    assertDoesNotThrow(() -> parseToken(jwtKeyRing, token));
+    assertEquals(4, new ObjectMapper().readTree(jwtKeyRing.getJwksJson()).get("keys").size());
+
+    rotate(jwtKeyRing, encodedSigningKeys);
+    assertThrows(JwtException.class, () -> parseToken(jwtKeyRing, token));
+    assertEquals(APP_USER_EMAIL, parseToken(jwtKeyRing, rotatedToken));
+    assertEquals(4, new ObjectMapper().readTree(jwtKeyRing.getJwksJson()).get("keys").size());
+  }
+
+  @Test
+  public void testSetSigningKeys_Invalid() {
+    JwtKeyRing hmacKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_HMAC);
+    assertThrows(IllegalStateException.class, () -> hmacKeyRing.setSigningKeys(List.of()));
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, JwtKeyRing.ALGORITHM_ES256);
+    assertThrows(
+        IllegalStateException.class,
+        () -> jwtKeyRing.setSigningKeys(List.of(jwtKeyRing.newEncodedSigningKey())));
+  }
+
+  private void rotate(
+      final JwtKeyRing jwtKeyRing, final List<EncodedSigningKey> encodedSigningKeys) {
+    encodedSigningKeys.addFirst(jwtKeyRing.newEncodedSigningKey());
+    jwtKeyRing.setSigningKeys(encodedSigningKeys);
+  }
+
+  @Test
+  public void testUnsupportedAlgorithm() {
+    assertThrows(IllegalStateException.class, () -> new JwtKeyRing(SECRET_KEY, "RS256"));
+  }
+}
@@ -0,0 +1,108 @@
+package auth.service.app.util;
+
+import static auth.service.app.util.MetricsUtils.TIMER_JWT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.UserLoginRequest;
+import auth.service.app.model.entity.AppsEntity;
+import auth.service.app.repository.AppsRepository;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class MetricsUtilsTest extends BaseTest {
+
+  @Autowired private AppsRepository appsRepository;
+
+  @Test
+  void testRecordTimer_Outcome() {
+    MetricsUtils.recordTimer(TIMER_JWT, "MetricsUtilsTest.success", () -> "done");
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            MetricsUtils.recordTimer(
+                TIMER_JWT,
+                "MetricsUtilsTest.error",
+                () -> {
+                  throw new IllegalStateException("failed");
+                }));
+
+    final Timer success =
+        Metrics.globalRegistry
+            .find(TIMER_JWT)
+            .tags("method", "MetricsUtilsTest.success", "outcome", "success")
+            .tags("endpoint", "none", "app", "none")
+            .timer();
+    final Timer error =
+        Metrics.globalRegistry
+            .find(TIMER_JWT)
+            .tags("method", "MetricsUtilsTest.error", "outcome", "error")
+            .timer();
+    assertNotNull(success);
+    assertNotNull(error);
+    assertEquals(1, success.count());
+    assertEquals(1, error.count());
+  }
+
+  @Test
+  void testGetAppTag() {
+    MetricsUtils.setKnownAppIds(appsRepository.findAll().stream().map(AppsEntity::getId).toList());
+
+    assertEquals("app-1", MetricsUtils.getAppTag(getRequest("app-1")));
+    // made up app ids do not take a tag
+    assertEquals("other", MetricsUtils.getAppTag(getRequest("not-an-app")));
+    assertEquals("none", MetricsUtils.getAppTag(new MockHttpServletRequest()));
+    assertEquals("none", MetricsUtils.getAppTag(null));
+  }
+
+  @Test
+  void testPrometheusEndpoint_HotPathTimers() {
+    webTestClient
+        .post()
+        .uri("/api/v1/basic_app_users/user/app-99/login")
+        .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+        .bodyValue(new UserLoginRequest("metrics@test.com", "metrics-password"))
+        .exchange();
+
+    final String prometheus =
+        webTestClient
+            .mutate()
+            .responseTimeout(Duration.ofSeconds(30))
+            // the scrape grows with every endpoint the suite has called
+            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+            .build()
+            .get()
+            .uri("/actuator/prometheus")
+            .header("Authorization", "Basic " + basicAuthCredentialsForTest)
+            .accept(MediaType.TEXT_PLAIN)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(String.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(prometheus);
+    assertTrue(prometheus.contains("ums_service_seconds_bucket"));
+    assertTrue(
+        prometheus.contains(
+            "ums_repository_seconds_count{app=\"app-99\",endpoint=\"/api/v1/basic_app_users/user/{appId}/login\""));
+    assertTrue(prometheus.contains("method=\"AppUserRepository.findByEmailNormalized\""));
+  }
+
+  private MockHttpServletRequest getRequest(final String appId) {
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("appId", appId));
+    return request;
+  }
+}
@@ -0,0 +1,130 @@
+package auth.service.app.util;
+
+import static auth.service.app.model.enums.DataVersionEnums.DataCollection.ROLE_PERMISSIONS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.model.dto.AppUserDto;
+import helper.TestData;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+
+public class ResponseBodyCacheTest extends BaseTest {
+
+  @Autowired private DataVersionRegistry dataVersionRegistry;
+
+  @Test
+  void testRespond_CachedAndGzip() throws Exception {
+    final AppUserDto appUserDto = TestData.getAppUserDtoWithSuperUserRole(TestData.getAppUserDto());
+    final String bearerAuthCredentials =
+        TestData.getBearerAuthCredentialsForTest(APP_ID, appUserDto);
+
+    final byte[] body = getRolesPermissions(bearerAuthCredentials).getResponseBodyContent();
+    assertNotNull(body);
+    assertArrayEquals(body, getRolesPermissions(bearerAuthCredentials).getResponseBodyContent());
+
+    // the webTestClient connector decompresses, so check the raw bytes with the jdk client
+    final HttpResponse<byte[]> gzipResponse =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(
+                        URI.create(
+                            "http://localhost:"
+                                + localServerPort
+                                + "/ums/api/v1/app_roles_permissions"))
+                    .header("Authorization", "Bearer " + bearerAuthCredentials)
+                    .header("Accept-Encoding", "gzip")
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    assertEquals(200, gzipResponse.statusCode());
+    assertEquals("gzip", gzipResponse.headers().firstValue("Content-Encoding").orElse(null));
+    try (GZIPInputStream gzipInputStream =
+        new GZIPInputStream(new ByteArrayInputStream(gzipResponse.body()))) {
+      assertArrayEquals(body, gzipInputStream.readAllBytes());
+    }
+
+    // the gzip representation has its own strong tag, both revalidate with vary on the 304 too
+    final HttpResponse<byte[]> identityResponse =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(
+                        URI.create(
+                            "http://localhost:"
+                                + localServerPort
+                                + "/ums/api/v1/app_roles_permissions"))
+                    .header("Authorization", "Bearer " + bearerAuthCredentials)
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    assertArrayEquals(body, identityResponse.body());
+    final String eTag = identityResponse.headers().firstValue("ETag").orElse(null);
+    final String gzipETag = gzipResponse.headers().firstValue("ETag").orElse(null);
+    assertEquals(ResponseBodyCache.getGzipETag(eTag), gzipETag);
+    assertNotEquals(eTag, gzipETag);
+    for (final String notModifiedETag : List.of(eTag, gzipETag)) {
+      webTestClient
+          .get()
+          .uri("/api/v1/app_roles_permissions")
+          .header("Authorization", "Bearer " + bearerAuthCredentials)
+          .header("If-None-Match", notModifiedETag)
+          .exchange()
+          .expectStatus()
+          .isNotModified()
+          .expectHeader()
+          .valueEquals("ETag", notModifiedETag)
+          .expectHeader()
+          .valueEquals("Vary", "Accept-Encoding");
+    }
+
+    // a new version rebuilds the entry, with the same content here
+    dataVersionRegistry.bump(ROLE_PERMISSIONS);
+    assertArrayEquals(body, getRolesPermissions(bearerAuthCredentials).getResponseBodyContent());
+  }
+
+  @Test
+  void testGetGzipETag() {
+    assertEquals("\"v-1-2-gzip\"", ResponseBodyCache.getGzipETag("\"v-1-2\""));
+  }
+
+  @Test
+  void testIsGzipAccepted() {
+    assertTrue(ResponseBodyCache.isGzipAccepted("gzip"));
+    assertTrue(ResponseBodyCache.isGzipAccepted("deflate, gzip;q=0.5"));
+    assertTrue(ResponseBodyCache.isGzipAccepted("br;q=1.0, *;q=0.1"));
+    assertTrue(ResponseBodyCache.isGzipAccepted("GZIP; Q=1"));
+    assertFalse(ResponseBodyCache.isGzipAccepted(null));
+    assertFalse(ResponseBodyCache.isGzipAccepted("identity"));
+    assertFalse(ResponseBodyCache.isGzipAccepted("gzip;q=0"));
+    assertFalse(ResponseBodyCache.isGzipAccepted("gzip;q=0.000, deflate"));
+    assertFalse(ResponseBodyCache.isGzipAccepted("gzip;q=bad"));
+    // refused by name, even when anything else is fine
+    assertFalse(ResponseBodyCache.isGzipAccepted("gzip;q=0, *"));
+    assertFalse(ResponseBodyCache.isGzipAccepted("*;q=0"));
+  }
+
+  private EntityExchangeResult<byte[]> getRolesPermissions(final String bearerAuthCredentials) {
+    return webTestClient
+        .get()
+        .uri("/api/v1/app_roles_permissions")
+        .header("Authorization", "Bearer " + bearerAuthCredentials)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectHeader()
+        .contentType("application/json")
+        .expectBody(byte[].class)
+        .returnResult();
+  }
+}
@@ -0,0 +1,86 @@
+package auth.service.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import auth.service.BaseTest;
+import auth.service.app.util.SqlStatementTracker.SqlStatementStats;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SqlStatementDataSourceTest extends BaseTest {
+
+  @Autowired private DataSource dataSource;
+
+  @AfterEach
+  void tearDownEach() {
+    SqlStatementTracker.stop();
+  }
+
+  @Test
+  void testDataSource_IsWrapped() {
+    assertInstanceOf(SqlStatementDataSource.class, dataSource);
+  }
+
+  @Test
+  void testGetConnection_CountsStatementsAndRows() {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.start();
+    final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    final List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM app_role", Integer.class);
+    jdbcTemplate.update("UPDATE app_role SET updated_date = updated_date WHERE id = ?", ids.get(0));
+    jdbcTemplate.batchUpdate(
+        "UPDATE app_role SET updated_date = updated_date WHERE id = ?",
+        List.of(new Object[] {ids.get(0)}, new Object[] {ids.get(1)}));
+
+    assertEquals(3, sqlStatementStats.getStatements());
+    assertEquals(ids.size() + 3, sqlStatementStats.getRows());
+    assertTrue(sqlStatementStats.getNanos() > 0);
+  }
+
+  @Test
+  void testGetConnection_NotTracked() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      assertFalse(Proxy.isProxyClass(connection.getClass()));
+    }
+    assertNull(SqlStatementTracker.getCurrent());
+  }
+
+  @Test
+  void testGetConnection_BudgetExceeded() {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.start();
+    sqlStatementStats.setBudget(1, "GET /test", true);
+    final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_role", Integer.class);
+    final DataAccessException exception =
+        assertThrows(
+            DataAccessException.class,
+            () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_role", Integer.class));
+    assertTrue(exception.getMessage().contains("SQL statement budget exceeded for [GET /test]"));
+    assertEquals(1, sqlStatementStats.getStatements());
+  }
+
+  @Test
+  void testGetConnection_BudgetExceeded_NotFailing() {
+    final SqlStatementStats sqlStatementStats = SqlStatementTracker.start();
+    sqlStatementStats.setBudget(1, "GET /test", false);
+    final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_role", Integer.class);
+    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_role", Integer.class);
+    assertEquals(2, sqlStatementStats.getStatements());
+    assertTrue(sqlStatementStats.isBudgetExceeded());
+  }
+}
@@ -3,6 +3,7 @@ package auth.service.app.util;
 import static auth.service.app.util.ConstantUtils.ENV_DB_PASSWORD;
 import static auth.service.app.util.ConstantUtils.ENV_DB_USERNAME;
 import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES;
+import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES_OPTIONAL;
 import static auth.service.app.util.ConstantUtils.ENV_SERVER_PORT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -34,7 +35,7 @@ public class SystemEnvPropertyUtilsTest extends BaseTest {
   @Test
   public void testGetAllSystemEnvProperties() {
     Map<String, String> properties = SystemEnvPropertyUtils.getAllSystemEnvProperties();
-    assertEquals(ENV_KEY_NAMES.size() - 1, properties.size()); // -1 for PORT
+    assertEquals(ENV_KEY_NAMES.size() - ENV_KEY_NAMES_OPTIONAL.size(), properties.size());
     assertEquals(ENV_DB_USERNAME, properties.get(ENV_DB_USERNAME));
     assertEquals(ENV_DB_PASSWORD, properties.get(ENV_DB_PASSWORD));
   }
@@ -0,0 +1,33 @@
+package helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Keeps the SQL Hibernate prepares on the current thread between {@link #start()} and {@link
+ * #stop()}, outside of that it only passes the SQL through.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+  public static void start() {
+    CAPTURED.set(new ArrayList<>());
+  }
+
+  public static List<String> stop() {
+    final List<String> captured = CAPTURED.get();
+    CAPTURED.remove();
+    return captured == null ? List.of() : captured;
+  }
+
+  @Override
+  public String inspect(final String sql) {
+    final List<String> captured = CAPTURED.get();
+    if (captured != null) {
+      captured.add(sql);
+    }
+    return sql;
+  }
+}
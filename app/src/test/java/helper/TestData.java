@@ -2,8 +2,8 @@ package helper;
 
 import static auth.service.app.util.ConstantUtils.APP_ROLE_NAME_SUPERUSER;
 import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES;
+import static auth.service.app.util.ConstantUtils.ENV_KEY_NAMES_OPTIONAL;
 import static auth.service.app.util.ConstantUtils.ENV_SECRET_KEY;
-import static auth.service.app.util.ConstantUtils.ENV_SERVER_PORT;
 
 import auth.service.app.model.client.EnvDetails;
 import auth.service.app.model.dto.AppPermissionDto;
@@ -46,7 +46,7 @@ public class TestData {
   public static void setSystemEnvPropertyTestData() {
     ENV_KEY_NAMES.forEach(
         env -> {
-          if (!ENV_SERVER_PORT.equals(env)) {
+          if (!ENV_KEY_NAMES_OPTIONAL.contains(env)) {
             System.setProperty(env, env);
           }
         });
@@ -46,7 +46,7 @@ CREATE TABLE app_token
     created_date  TIMESTAMP                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_date  TIMESTAMP                                            NOT NULL DEFAULT CURRENT_TIMESTAMP,
     deleted_date  TIMESTAMP,
-    FOREIGN KEY (app_user_id) REFERENCES app_user (id)
+    CONSTRAINT fk_app_token_app_user_id FOREIGN KEY (app_user_id) REFERENCES app_user (id)
 );
 
 CREATE TABLE app_role
@@ -79,7 +79,7 @@ CREATE TABLE app_user_app
     assigned_date TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (app_id, app_user_id),
     FOREIGN KEY (app_id) REFERENCES apps (id),
-    FOREIGN KEY (app_user_id) REFERENCES app_user (id)
+    CONSTRAINT fk_app_user_app_app_user_id FOREIGN KEY (app_user_id) REFERENCES app_user (id)
 );
 
 CREATE TABLE app_user_role
@@ -89,7 +89,7 @@ CREATE TABLE app_user_role
     assigned_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (app_user_id, app_role_id),
     FOREIGN KEY (app_user_id) REFERENCES app_user (id),
-    FOREIGN KEY (app_role_id) REFERENCES app_role (id)
+    CONSTRAINT fk_app_user_role_app_role_id FOREIGN KEY (app_role_id) REFERENCES app_role (id)
 );
 
 CREATE TABLE app_role_permission
@@ -99,7 +99,7 @@ CREATE TABLE app_role_permission
     assigned_date     TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (app_role_id, app_permission_id),
     FOREIGN KEY (app_role_id) REFERENCES app_role (id),
-    FOREIGN KEY (app_permission_id) REFERENCES app_permission (id)
+    CONSTRAINT fk_app_role_permission_app_permission_id FOREIGN KEY (app_permission_id) REFERENCES app_permission (id)
 );
 
 CREATE TABLE audit_apps
@@ -0,0 +1,7 @@
+-- same as db/migration/V1_3__add_app_user_email_normalized.sql
+ALTER TABLE app_user ADD COLUMN email_normalized VARCHAR(250);
+
+UPDATE app_user SET email_normalized = LOWER(TRIM(email)) WHERE email_normalized IS NULL;
+
+ALTER TABLE app_user ALTER COLUMN email_normalized SET NOT NULL;
+CREATE UNIQUE INDEX uk_app_user_email_normalized ON app_user (email_normalized);
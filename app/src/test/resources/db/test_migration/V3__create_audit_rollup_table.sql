@@ -0,0 +1,12 @@
+-- same as db/migration/V1_7__create_audit_rollup_table.sql
+CREATE TABLE audit_app_user_rollup
+(
+    bucket_start TIMESTAMP   NOT NULL,
+    app_id       VARCHAR(50) NOT NULL,
+    app_user_id  INTEGER     NOT NULL,
+    event_type   VARCHAR(50) NOT NULL,
+    event_count  BIGINT      NOT NULL,
+    PRIMARY KEY (bucket_start, app_id, app_user_id, event_type)
+);
+
+CREATE INDEX idx_audit_app_user_rollup_app_user_id ON audit_app_user_rollup (app_user_id, bucket_start);
@@ -0,0 +1,11 @@
+-- same as db/migration/V1_8__create_jwt_signing_key_table.sql
+CREATE TABLE jwt_signing_key
+(
+    kid           VARCHAR(50) NOT NULL PRIMARY KEY,
+    algorithm     VARCHAR(10) NOT NULL,
+    rotation_date DATE        NOT NULL,
+    private_key   TEXT        NOT NULL,
+    public_key    TEXT        NOT NULL,
+    created_at    TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_jwt_signing_key_algorithm_rotation_date UNIQUE (algorithm, rotation_date)
+);
@@ -0,0 +1,9 @@
+-- same as db/migration/V1_9__create_data_version_table.sql
+CREATE TABLE data_version
+(
+    data_collection VARCHAR(50) NOT NULL PRIMARY KEY,
+    version         BIGINT      NOT NULL DEFAULT 0
+);
+
+INSERT INTO data_version (data_collection)
+VALUES ('APPS'), ('ROLES'), ('PERMISSIONS'), ('ROLE_PERMISSIONS');
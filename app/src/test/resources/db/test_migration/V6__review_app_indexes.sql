@@ -0,0 +1,32 @@
+-- same as db/migration/V1_4__review_app_indexes.sql, without CONCURRENTLY
+-- RepositoryQueryPlanTest checks the foreign key probes use these indexes, H2 indexes every
+-- foreign key on its own, so those are re-added below to take these indexes instead, as on PostgreSQL
+
+-- never queried
+DROP INDEX IF EXISTS idx_app_user_password;
+-- same columns as the primary key
+DROP INDEX IF EXISTS idx_app_user_addresses_id;
+DROP INDEX IF EXISTS idx_app_role_id;
+DROP INDEX IF EXISTS idx_app_permission_id;
+-- same columns as the unique constraint
+DROP INDEX IF EXISTS idx_app_user_email;
+DROP INDEX IF EXISTS idx_app_role_name;
+
+-- trailing primary key columns, the leading column covers the other direction
+-- apps of a user, findAllByAppUserIdOrderByAppNameAsc
+CREATE INDEX IF NOT EXISTS idx_app_user_app_app_user_id ON app_user_app (app_user_id);
+-- users of a role, role deletes check this foreign key
+CREATE INDEX IF NOT EXISTS idx_app_user_role_app_role_id ON app_user_role (app_role_id);
+-- roles of a permission, permission deletes check this foreign key
+CREATE INDEX IF NOT EXISTS idx_app_role_permission_app_permission_id ON app_role_permission (app_permission_id);
+-- tokens of a user, user deletes check this foreign key
+CREATE INDEX IF NOT EXISTS idx_app_token_app_user_id ON app_token (app_user_id);
+
+ALTER TABLE app_user_app DROP CONSTRAINT fk_app_user_app_app_user_id;
+ALTER TABLE app_user_app ADD CONSTRAINT fk_app_user_app_app_user_id FOREIGN KEY (app_user_id) REFERENCES app_user (id);
+ALTER TABLE app_user_role DROP CONSTRAINT fk_app_user_role_app_role_id;
+ALTER TABLE app_user_role ADD CONSTRAINT fk_app_user_role_app_role_id FOREIGN KEY (app_role_id) REFERENCES app_role (id);
+ALTER TABLE app_role_permission DROP CONSTRAINT fk_app_role_permission_app_permission_id;
+ALTER TABLE app_role_permission ADD CONSTRAINT fk_app_role_permission_app_permission_id FOREIGN KEY (app_permission_id) REFERENCES app_permission (id);
+ALTER TABLE app_token DROP CONSTRAINT fk_app_token_app_user_id;
+ALTER TABLE app_token ADD CONSTRAINT fk_app_token_app_user_id FOREIGN KEY (app_user_id) REFERENCES app_user (id);